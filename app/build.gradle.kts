@@ -45,6 +45,10 @@ android {
     buildFeatures {
         compose = true
     }
+    androidResources {
+        // LAppMinimumAssetLoader가 AssetFileDescriptor 영역으로 직접 읽을 수 있도록 모델 파일은 압축하지 않는다
+        noCompress += listOf("moc3", "json", "png")
+    }
 }
 
 dependencies {
@@ -0,0 +1,25 @@
+package org.comon.livemotion.di
+
+import dagger.Module
+import dagger.Provides
+import dagger.hilt.InstallIn
+import dagger.hilt.components.SingletonComponent
+import org.comon.live2d.LAppMinimumModelBundle
+import org.comon.storage.ModelBundleCompiler
+import javax.inject.Singleton
+
+/**
+ * Hilt Module - Live2D 구현이 필요한 storage 의존성을 제공합니다.
+ */
+@Module
+@InstallIn(SingletonComponent::class)
+object Live2DModule {
+
+    @Provides
+    @Singleton
+    fun provideModelBundleCompiler(): ModelBundleCompiler {
+        return ModelBundleCompiler { modelDir, modelJsonName ->
+            LAppMinimumModelBundle.compile(modelDir, modelJsonName)
+        }
+    }
+}
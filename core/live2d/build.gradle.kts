@@ -38,6 +38,10 @@ android {
     buildFeatures {
         compose = true
     }
+    testOptions {
+        // 단위 테스트에서 android.util.Log 등의 호출이 예외 없이 기본값을 반환하도록 합니다.
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -238,6 +238,10 @@ public class LAppDefine {
      * Enable/Disable premultiplied alpha.
      */
     public static final boolean PREMULTIPLIED_ALPHA_ENABLE = true;
+    /**
+     * Enable/Disable the approximated math functions for motions and physics.
+     */
+    public static final boolean FAST_MATH_ENABLE = false;
 
     /**
      * Flag whether to draw to the target held by LAppView. (If both USE_RENDER_TARGET and USE_MODEL_RENDER_TARGET are true, this variable is given priority over USE_MODEL_RENDER_TARGET.)
@@ -247,4 +251,75 @@ public class LAppDefine {
      * Flag whether to draw to the target that each LAppModel has.
      */
     public static final boolean USE_MODEL_RENDER_TARGET = false;
+
+    /**
+     * Enable/Disable the level-of-detail mode of physics. Sub-rigs are updated less often when the model is small on screen or physics exceeds its budget.
+     */
+    public static final boolean PHYSICS_LOD_ENABLE = true;
+    /**
+     * Budget of the physics evaluation time per frame[s].
+     */
+    public static final float PHYSICS_FRAME_TIME_BUDGET = 0.002f;
+
+    /**
+     * Enable/Disable loading the model bundle compiled at import time. If it is disabled or stale, the JSON files of the model are parsed.
+     */
+    public static final boolean MODEL_BUNDLE_ENABLE = true;
+
+    /**
+     * Enable/Disable baking the motion curves into sample tables. The motions are baked into the model bundle at import time, or when they are loaded.
+     */
+    public static final boolean MOTION_BAKE_ENABLE = false;
+    /**
+     * Number of samples per second of the baked motion curves.
+     */
+    public static final float MOTION_BAKE_SAMPLE_RATE = 60.0f;
+    /**
+     * Tolerance of the compression of the baked motion curves, relative to the value range of each curve.
+     */
+    public static final float MOTION_BAKE_TOLERANCE = 0.001f;
+
+    /**
+     * VRAM budget in bytes for the textures that no model references. They are kept for reuse and evicted in least-recently-used order when the total texture memory exceeds the budget.
+     * This is the default; LAppMinimumDelegate.setTextureMemoryBudget() changes it at runtime.
+     */
+    public static final long TEXTURE_MEMORY_BUDGET = 128L * 1024L * 1024L;
+
+    /**
+     * Enable/Disable keeping the vertex data of the models in GPU buffer objects. Only the vertex positions changed by each update are transferred.
+     */
+    public static final boolean VERTEX_BUFFER_OBJECT_ENABLE = true;
+
+    /**
+     * Enable/Disable saving and restoring the GL state around each model drawing. The sprites set the state they need by themselves, so this app does not need it.
+     */
+    public static final boolean GL_STATE_SAVE_ENABLE = false;
+
+    /**
+     * Enable/Disable drawing the consecutive drawables which share the texture and the other states by one draw call. Requires VERTEX_BUFFER_OBJECT_ENABLE.
+     */
+    public static final boolean DRAW_BATCHING_ENABLE = true;
+
+    /**
+     * Enable/Disable keeping the clipping masks between frames. A mask is drawn again only when its source drawables have changed.
+     */
+    public static final boolean CLIPPING_MASK_CACHE_ENABLE = true;
+
+    /**
+     * Duration in seconds of the cross-fade when the background image is switched.
+     */
+    public static final float BACKGROUND_FADE_DURATION = 0.25f;
+    /**
+     * Number of the recently used background textures kept in VRAM so that switching back to them does not decode the file again.
+     */
+    public static final int BACKGROUND_TEXTURE_CACHE_SIZE = 3;
+
+    /**
+     * Enable/Disable drawing one frame per vsync requested by Choreographer. The predicted present time of the frame is used as the animation clock.
+     */
+    public static final boolean FRAME_PACING_ENABLE = true;
+    /**
+     * Interval in seconds between the frame metrics logs. The logs are written only when DEBUG_LOG_ENABLE is true.
+     */
+    public static final float FRAME_METRICS_LOG_INTERVAL = 10.0f;
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+package org.comon.live2d;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * 모델 파일을 읽는 I/O 계층입니다.
+ * <p>
+ * 캐시 디렉토리의 파일은 FileChannel로, APK assets는 압축되지 않은 AssetFileDescriptor 영역으로 직접 읽습니다.
+ * ByteBuffer를 받을 수 있는 곳(모델 번들 등)에는 파일을 메모리 매핑한 뷰를 그대로 넘겨 힙 복사를 하지 않고,
+ * byte[]가 필요한 곳(moc3, JSON)에는 파일 크기만큼의 배열을 한 번만 할당합니다.
+ * <p>
+ * assets를 AssetFileDescriptor로 열려면 app 모듈의 androidResources.noCompress에 확장자가 등록되어 있어야 합니다.
+ * 압축된 asset은 스트림으로 끝까지 읽는 방식으로 대체합니다.
+ * <p>
+ * 로드 통계는 호출자가 넘긴 {@link LoadStatistics}에 기록합니다.
+ * 모델 로드와 임포트 시 번들 컴파일은 서로 다른 스레드에서 파일을 읽으므로 전역 카운터를 두지 않습니다.
+ */
+public final class LAppMinimumAssetLoader {
+    /**
+     * 한 번의 로드에서 읽은 파일의 통계입니다.
+     * <p>
+     * 로드를 수행하는 스레드 하나에서만 기록합니다.
+     */
+    public static final class LoadStatistics {
+        /**
+         * 읽은 파일 수를 반환합니다.
+         */
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        /**
+         * 파일 내용을 담기 위해 힙에 할당한 바이트 수를 반환합니다.
+         */
+        public long getHeapByteCount() {
+            return heapByteCount;
+        }
+
+        /**
+         * 메모리 매핑한 바이트 수를 반환합니다.
+         */
+        public long getMappedByteCount() {
+            return mappedByteCount;
+        }
+
+        private void addHeapLoad(long byteCount) {
+            loadCount++;
+            heapByteCount += byteCount;
+        }
+
+        private void addMappedLoad(long byteCount) {
+            loadCount++;
+            mappedByteCount += byteCount;
+        }
+
+        private long loadCount;
+        private long heapByteCount;
+        private long mappedByteCount;
+    }
+
+    /**
+     * 파일을 읽기 전용으로 메모리 매핑합니다.
+     *
+     * @param file 파일
+     * @param statistics 통계를 기록할 객체. null이면 기록하지 않습니다
+     * @return 파일 전체를 가리키는 읽기 전용 뷰
+     * @throws IOException 파일을 열 수 없거나 2GB를 넘는 경우
+     */
+    public static ByteBuffer mapFile(File file, LoadStatistics statistics) throws IOException {
+        try (FileInputStream input = new FileInputStream(file)) {
+            final FileChannel channel = input.getChannel();
+            final long size = checkSize(channel.size(), file.getPath());
+
+            if (statistics != null) {
+                statistics.addMappedLoad(size);
+            }
+            // 매핑은 채널을 닫은 후에도 유효합니다.
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * 파일 전체를 byte[]로 읽습니다.
+     *
+     * @param file 파일
+     * @param statistics 통계를 기록할 객체. null이면 기록하지 않습니다
+     * @return 파일 크기와 같은 길이의 배열
+     * @throws IOException 파일을 읽을 수 없거나 2GB를 넘는 경우
+     */
+    public static byte[] readFile(File file, LoadStatistics statistics) throws IOException {
+        try (FileInputStream input = new FileInputStream(file)) {
+            final FileChannel channel = input.getChannel();
+            return readFully(channel, 0, channel.size(), file.getPath(), statistics);
+        }
+    }
+
+    /**
+     * assets 또는 외부 기본 경로 기준의 파일을 byte[]로 읽습니다.
+     * 외부 경로가 설정되어 있으면 파일 시스템에서, 아니면 assets에서 읽습니다.
+     *
+     * @param path 파일 경로
+     * @param statistics 통계를 기록할 객체. null이면 기록하지 않습니다
+     * @return 파일 내용. 파일이 없거나 읽을 수 없는 경우 길이 0의 배열
+     */
+    public static byte[] loadBytes(String path, LoadStatistics statistics) {
+        try {
+            final String basePath = LAppMinimumPal.getExternalBasePath();
+            if (basePath != null) {
+                final File file = resolveExternalFile(basePath, path);
+                if (file == null) {
+                    if (LAppDefine.DEBUG_LOG_ENABLE) {
+                        LAppMinimumPal.printLog("File not found: " + path);
+                    }
+                    return new byte[0];
+                }
+                return readFile(file, statistics);
+            }
+            return readAsset(LAppMinimumDelegate.getInstance().getActivity().getAssets(), path, statistics);
+        } catch (IOException e) {
+            e.printStackTrace();
+
+            if (LAppDefine.DEBUG_LOG_ENABLE) {
+                LAppMinimumPal.printLog("File open error: " + path);
+            }
+            return new byte[0];
+        }
+    }
+
+    // 외부 기본 경로 기준으로 찾고, 없으면 절대 경로로 시도합니다.
+    private static File resolveExternalFile(String basePath, String path) {
+        File file = new File(basePath, path);
+        if (!file.exists()) {
+            file = new File(path);
+        }
+        return file.exists() ? file : null;
+    }
+
+    private static byte[] readAsset(AssetManager assetManager, String path, LoadStatistics statistics) throws IOException {
+        final AssetFileDescriptor descriptor;
+        try {
+            descriptor = assetManager.openFd(path);
+        } catch (FileNotFoundException e) {
+            // 압축된 asset은 파일 영역을 열 수 없으므로 스트림으로 읽습니다.
+            try (InputStream input = assetManager.open(path)) {
+                return readStream(input, statistics);
+            }
+        }
+
+        try (FileInputStream input = descriptor.createInputStream()) {
+            return readFully(input.getChannel(), descriptor.getStartOffset(), descriptor.getLength(), path, statistics);
+        } finally {
+            descriptor.close();
+        }
+    }
+
+    // 채널의 [offset, offset + length) 영역을 읽습니다. read()가 한 번에 다 읽지 못해도 끝까지 반복합니다.
+    private static byte[] readFully(FileChannel channel, long offset, long length, String path, LoadStatistics statistics) throws IOException {
+        final byte[] bytes = new byte[(int) checkSize(length, path)];
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file: " + path);
+            }
+        }
+
+        if (statistics != null) {
+            statistics.addHeapLoad(bytes.length);
+        }
+        return bytes;
+    }
+
+    // 크기를 알 수 없는 스트림을 끝까지 읽습니다. available()은 크기 추정에만 사용합니다.
+    private static byte[] readStream(InputStream input, LoadStatistics statistics) throws IOException {
+        byte[] bytes = new byte[Math.max(input.available(), MINIMUM_STREAM_BUFFER_SIZE)];
+        int length = 0;
+        long allocated = bytes.length;
+
+        while (true) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                allocated += bytes.length;
+            }
+            final int read = input.read(bytes, length, bytes.length - length);
+            if (read < 0) {
+                break;
+            }
+            length += read;
+        }
+
+        if (length != bytes.length) {
+            bytes = Arrays.copyOf(bytes, length);
+            allocated += length;
+        }
+
+        if (statistics != null) {
+            statistics.addHeapLoad(allocated);
+        }
+        return bytes;
+    }
+
+    private static long checkSize(long size, String path) throws IOException {
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            throw new IOException("Invalid file size " + size + ": " + path);
+        }
+        return size;
+    }
+
+    private LAppMinimumAssetLoader() {}
+
+    private static final int MINIMUM_STREAM_BUFFER_SIZE = 8 * 1024;
+}
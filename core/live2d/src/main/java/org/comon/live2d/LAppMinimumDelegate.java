@@ -8,9 +8,11 @@
 package org.comon.live2d;
 
 import android.app.Activity;
+import android.content.res.AssetManager;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import android.opengl.GLES20;
+import android.opengl.GLSurfaceView;
 import android.opengl.GLUtils;
 import android.os.Build;
 import com.live2d.sdk.cubism.framework.CubismFramework;
@@ -21,6 +23,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.comon.live2d.LAppDefine;
 
@@ -41,24 +49,28 @@ public class LAppMinimumDelegate {
         }
     }
 
-    public void onStart(Activity activity) {
-        textureManager = new LAppMinimumTextureManager();
+    /**
+     * @param activity 액티비티
+     * @param glView 이 델리게이트로 그리는 뷰. 종료 시 GL 스레드에서 텍스처를 삭제하는 데 사용합니다.
+     */
+    public void onStart(Activity activity, GLSurfaceView glView) {
+        textureManager = new LAppMinimumTextureManager(textureMemoryBudget);
         view = new LAppMinimumView();
 
         LAppMinimumPal.updateTime();
         this.activity = activity;
+        this.glView = glView;
     }
 
     public void onStop() {
-        // 배경 텍스처 정리
-        clearBackgroundImage();
+        // 모델/배경 텍스처 정리 (최근 사용 캐시와 디코딩 스레드 포함)
+        releaseTextures();
 
-        // View와 TextureManager 정리
+        // View 정리
         if (view != null) {
             view.close();
             view = null;
         }
-        textureManager = null;
 
         // 모델 매니저 정리 (모델 리소스 해제)
         LAppMinimumLive2DManager.releaseInstance();
@@ -68,10 +80,11 @@ public class LAppMinimumDelegate {
     }
 
     public void onDestroy() {
+        releaseTextures();
+
         if (view != null) {
             view.close();
         }
-        textureManager = null;
 
         LAppMinimumLive2DManager.releaseInstance();
         CubismFramework.dispose();
@@ -89,6 +102,14 @@ public class LAppMinimumDelegate {
 
         // Initialize Cubism SDK framework
         CubismFramework.initialize();
+
+        // 새 GL 컨텍스트에서는 이전 배경 텍스처가 무효이므로 삭제하지 않고 잊은 뒤 다시 읽습니다.
+        forgetBackgroundTextures();
+        backgroundFadeProgress = 1.0f;
+        maxTextureSize = 0;
+        if (backgroundPath != null) {
+            requestBackgroundDecode(backgroundPath);
+        }
     }
 
     public void onSurfaceChanged(int width, int height) {
@@ -114,40 +135,40 @@ public class LAppMinimumDelegate {
 
     public void run() {
         // 時間更新
-        LAppMinimumPal.updateTime();
+        // vsync에 맞춰 그리는 경우 이 프레임이 화면에 표시될 예상 시각을 기준으로 함
+        LAppMinimumPal.updateTime(framePacer.beginFrame());
 
         // 画面初期化
         glClearColor(backgroundColor[0], backgroundColor[1], backgroundColor[2], backgroundColor[3]);
         glClear(GL_COLOR_BUFFER_BIT | GL_DEPTH_BUFFER_BIT);
         glClearDepthf(1.0f);
 
-        // 배경 이미지 렌더링 (원본 크기, 확대/이동 가능)
-        if (backgroundTextureId > 0 && backgroundSprite != null
-                && backgroundImageWidth > 0 && backgroundImageHeight > 0) {
-            // 원본 픽셀 크기에 scale 적용
-            float spriteW = backgroundImageWidth * backgroundScale;
-            float spriteH = backgroundImageHeight * backgroundScale;
-
-            // 화면 중앙 + 오프셋 (오프셋은 픽셀 단위)
-            float centerX = windowWidth * 0.5f + backgroundOffsetX;
-            float centerY = windowHeight * 0.5f + backgroundOffsetY;
-
-            backgroundSprite.resize(centerX, centerY, spriteW, spriteH);
+        // 워커 스레드에서 디코딩이 끝난 배경을 텍스처로 올림
+        uploadDecodedBackground();
 
-            final float[] uvVertex = {
-                1f, 0f,
-                0f, 0f,
-                0f, 1f,
-                1f, 1f
-            };
-            backgroundSprite.setColor(1.0f, 1.0f, 1.0f, 1.0f);
-            backgroundSprite.setWindowSize(windowWidth, windowHeight);
-            backgroundSprite.renderImmediate(backgroundTextureId, uvVertex);
+        // 배경 이미지 렌더링 (원본 크기, 확대/이동 가능)
+        // 전환 중에는 이전 배경 위에 새 배경을 점점 불투명하게 겹쳐 그립니다.
+        if (backgroundFadeProgress < 1.0f) {
+            backgroundFadeProgress += LAppMinimumPal.getDeltaTime() / LAppDefine.BACKGROUND_FADE_DURATION;
+            if (backgroundFadeProgress >= 1.0f) {
+                backgroundFadeProgress = 1.0f;
+                fadingOutBackground = null;
+            }
+        }
+        if (fadingOutBackground != null) {
+            // 새 배경이 없으면(배경 해제) 이전 배경만 사라지게 합니다.
+            float alpha = currentBackground != null ? 1.0f : 1.0f - backgroundFadeProgress;
+            drawBackground(fadingOutBackground, alpha);
+        }
+        if (currentBackground != null) {
+            drawBackground(currentBackground, backgroundFadeProgress);
         }
 
         if (view != null) {
             view.render();
         }
+
+        framePacer.endFrame();
     }
 
     public void setBackgroundColor(float r, float g, float b, float a) {
@@ -157,65 +178,108 @@ public class LAppMinimumDelegate {
         backgroundColor[3] = a;
     }
 
+    /**
+     * 배경 이미지를 설정합니다. GL 스레드에서 호출해야 합니다.
+     * 최근에 사용한 배경이면 캐시된 텍스처로 바로 전환하고, 그렇지 않으면 워커 스레드에서
+     * 화면 크기에 맞게 줄여 디코딩한 뒤 준비되는 대로 크로스페이드로 전환합니다.
+     * 디코딩이 끝날 때까지는 현재 배경을 계속 그립니다.
+     *
+     * @param filePath 절대 경로(외부 배경) 또는 Asset 경로
+     */
     public void setBackgroundImage(String filePath) {
-        // 이전 배경 텍스처 해제
-        clearBackgroundImage();
+        setBackgroundImage(filePath, 0, 0);
+    }
 
+    /**
+     * 배경 이미지를 설정합니다. GL 스레드에서 호출해야 합니다.
+     * 파일이 원본을 축소한 렌디션인 경우, 원본 크기를 넘겨 원본을 그릴 때와 같은 크기로 배치합니다.
+     *
+     * @param filePath 절대 경로(외부 배경) 또는 Asset 경로
+     * @param imageWidth 배율 1.0에서의 배경 너비(px). 0이면 파일의 픽셀 크기를 사용
+     * @param imageHeight 배율 1.0에서의 배경 높이(px). 0이면 파일의 픽셀 크기를 사용
+     */
+    public void setBackgroundImage(String filePath, int imageWidth, int imageHeight) {
         if (filePath == null) {
+            clearBackgroundImage();
+            return;
+        }
+        if (filePath.equals(backgroundPath)) {
             return;
         }
+        backgroundPath = filePath;
+        backgroundImageWidth = imageWidth;
+        backgroundImageHeight = imageHeight;
+
+        BackgroundTexture cached = backgroundTextureCache.get(filePath);
+        if (cached != null) {
+            // 진행 중인 디코딩은 더 이상 필요 없음
+            backgroundRequestSerial.incrementAndGet();
+            requestedSampleSize = 0;
+            switchBackground(cached);
+            return;
+        }
+        requestBackgroundDecode(filePath);
+    }
 
-        try {
-            InputStream stream;
-            if (filePath.startsWith("/")) {
-                // 절대 경로 (외부 배경)
-                File file = new File(filePath);
-                if (!file.exists()) return;
-                stream = new FileInputStream(file);
-            } else {
-                // Asset 경로
-                stream = activity.getAssets().open(filePath);
-            }
+    /**
+     * 배경 이미지를 해제합니다. 최근 사용한 텍스처는 다시 선택될 때를 위해 캐시에 남겨둡니다.
+     */
+    public void clearBackgroundImage() {
+        backgroundPath = null;
+        backgroundRequestSerial.incrementAndGet();
+        requestedSampleSize = 0;
+        switchBackground(null);
+    }
 
-            Bitmap bitmap = BitmapFactory.decodeStream(stream);
-            stream.close();
-            if (bitmap == null) return;
+    /**
+     * 텍스처 매니저와 배경 캐시를 비우고, 가지고 있던 텍스처를 GL 스레드에서 삭제하도록 요청합니다.
+     * onStop()/onDestroy()는 메인 스레드에서 불리므로 GL 함수를 직접 호출하지 않습니다.
+     * GL 스레드가 이미 종료되었다면 텍스처는 EGL 컨텍스트와 함께 해제되어 있습니다.
+     */
+    private void releaseTextures() {
+        final LAppMinimumTextureManager releasedTextureManager = textureManager;
+        final int[] backgroundTextures = releaseBackgroundImages();
+        textureManager = null;
 
-            // GL 텍스처 생성
-            int[] textureId = new int[1];
-            GLES20.glGenTextures(1, textureId, 0);
-            GLES20.glBindTexture(GL_TEXTURE_2D, textureId[0]);
-            GLES20.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-            GLES20.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
-            GLUtils.texImage2D(GL_TEXTURE_2D, 0, bitmap, 0);
+        if (glView != null) {
+            glView.queueEvent(() -> {
+                if (releasedTextureManager != null) {
+                    releasedTextureManager.releaseAllTextures();
+                }
+                if (backgroundTextures.length > 0) {
+                    GLES20.glDeleteTextures(backgroundTextures.length, backgroundTextures, 0);
+                }
+            });
+            glView = null;
+        }
+    }
 
-            backgroundTextureId = textureId[0];
-            backgroundImageWidth = bitmap.getWidth();
-            backgroundImageHeight = bitmap.getHeight();
-            bitmap.recycle();
+    /**
+     * 모든 배경 텍스처와 디코딩 중인 이미지를 해제하고 디코딩 스레드를 종료합니다.
+     * 텍스처는 GL 스레드에서 삭제해야 하므로 이름만 반환합니다.
+     *
+     * @return 삭제해야 할 배경 텍스처 이름
+     */
+    private int[] releaseBackgroundImages() {
+        backgroundPath = null;
+        backgroundRequestSerial.incrementAndGet();
+        DecodedBackground pending = pendingBackground.getAndSet(null);
+        if (pending != null) {
+            pending.bitmap.recycle();
+        }
 
-            // 배경 스프라이트 생성 (화면 전체 크기)
-            if (view != null && view.getSpriteShader() != null) {
-                float x = windowWidth * 0.5f;
-                float y = windowHeight * 0.5f;
-                backgroundSprite = new LAppMinimumSprite(
-                    x, y, windowWidth, windowHeight,
-                    backgroundTextureId,
-                    view.getSpriteShader().getShaderId()
-                );
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
+        final int[] textures = new int[backgroundTextureCache.size()];
+        int count = 0;
+        for (BackgroundTexture texture : backgroundTextureCache.values()) {
+            textures[count++] = texture.id;
         }
-    }
+        forgetBackgroundTextures();
 
-    public void clearBackgroundImage() {
-        if (backgroundTextureId > 0) {
-            int[] textures = {backgroundTextureId};
-            GLES20.glDeleteTextures(1, textures, 0);
-            backgroundTextureId = -1;
+        if (backgroundDecodeExecutor != null) {
+            backgroundDecodeExecutor.shutdownNow();
+            backgroundDecodeExecutor = null;
         }
-        backgroundSprite = null;
+        return textures;
     }
 
     public void onTouchBegan(float x, float y) {
@@ -252,6 +316,39 @@ public class LAppMinimumDelegate {
         return textureManager;
     }
 
+    /**
+     * 참조가 없는 모델 텍스처를 남겨 둘 VRAM 예산을 설정합니다.
+     * 어느 스레드에서든 호출할 수 있습니다. 예산이 줄면 GL 스레드에서 바로 넘는 만큼의 텍스처를 삭제합니다.
+     *
+     * @param budget 예산(바이트). 0이면 참조가 없어진 텍스처를 바로 삭제합니다.
+     */
+    public void setTextureMemoryBudget(long budget) {
+        final long memoryBudget = Math.max(budget, 0L);
+        textureMemoryBudget = memoryBudget;
+
+        final LAppMinimumTextureManager manager = textureManager;
+        final GLSurfaceView surfaceView = glView;
+        if (manager != null && surfaceView != null) {
+            surfaceView.queueEvent(() -> {
+                manager.setMemoryBudget(memoryBudget);
+                trimBackgroundTextures();
+            });
+        }
+    }
+
+    public long getTextureMemoryBudget() {
+        return textureMemoryBudget;
+    }
+
+    /**
+     * 현재 생성되어 있는 모델 텍스처와 캐시된 배경 텍스처의 VRAM 사용량 추정치(바이트)를 반환합니다.
+     * 어느 스레드에서든 호출할 수 있습니다.
+     */
+    public long getTextureMemoryUsage() {
+        final LAppMinimumTextureManager manager = textureManager;
+        return (manager != null ? manager.getMemoryUsage() : 0L) + backgroundMemoryUsage;
+    }
+
     public LAppMinimumView getView() {
         return view;
     }
@@ -268,23 +365,386 @@ public class LAppMinimumDelegate {
         return activity;
     }
 
+    public LAppMinimumFramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    // 현재 배율에서 선명하게 보이는 크기로 배경 디코딩을 워커 스레드에 요청합니다.
+    private void requestBackgroundDecode(final String filePath) {
+        if (activity == null) {
+            return;
+        }
+        if (maxTextureSize == 0) {
+            int[] size = new int[1];
+            GLES20.glGetIntegerv(GL_MAX_TEXTURE_SIZE, size, 0);
+            maxTextureSize = size[0];
+        }
+        if (backgroundDecodeExecutor == null) {
+            backgroundDecodeExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        final int serial = backgroundRequestSerial.incrementAndGet();
+        final AssetManager assets = activity.getAssets();
+        final float scale = backgroundScale;
+        final int maxSize = maxTextureSize;
+        final int imageWidth = backgroundImageWidth;
+        final int imageHeight = backgroundImageHeight;
+
+        backgroundDecodeExecutor.execute(() -> {
+            // 대기 중에 다른 배경이 요청되었으면 디코딩하지 않음
+            if (serial != backgroundRequestSerial.get()) {
+                return;
+            }
+            DecodedBackground decoded = decodeBackground(assets, filePath, imageWidth, imageHeight, scale, maxSize);
+            if (decoded == null) {
+                return;
+            }
+            // 디코딩하는 동안 다른 배경이 요청되었으면 버림
+            if (serial != backgroundRequestSerial.get()) {
+                decoded.bitmap.recycle();
+                return;
+            }
+            decoded.serial = serial;
+
+            DecodedBackground previous = pendingBackground.getAndSet(decoded);
+            if (previous != null) {
+                previous.bitmap.recycle();
+            }
+        });
+    }
+
+    // 워커 스레드에서 실행됩니다. 주어진 배율에서 화면 픽셀당 텍셀이 하나 이상 남는 가장 큰 2의 거듭제곱으로 줄여 디코딩합니다.
+    // imageWidth, imageHeight가 0이면 파일의 픽셀 크기로 배치합니다.
+    private static DecodedBackground decodeBackground(
+        AssetManager assets,
+        String filePath,
+        int imageWidth,
+        int imageHeight,
+        float scale,
+        int maxSize
+    ) {
+        try {
+            // 1단계: 픽셀을 디코딩하지 않고 크기만 읽음
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            try (InputStream stream = openBackgroundStream(assets, filePath)) {
+                if (stream == null) {
+                    return null;
+                }
+                BitmapFactory.decodeStream(stream, null, options);
+            }
+
+            final int width = options.outWidth;
+            final int height = options.outHeight;
+            if (width <= 0 || height <= 0) {
+                return null;
+            }
+
+            // 렌디션이면 원본 크기를 기준으로 배치
+            if (imageWidth <= 0 || imageHeight <= 0) {
+                imageWidth = width;
+                imageHeight = height;
+            }
+
+            // 2단계: 줄인 크기로 디코딩
+            final int sampleSize = computeSampleSize(width, height, imageWidth, imageHeight, scale, maxSize);
+            options = new BitmapFactory.Options();
+            options.inSampleSize = sampleSize;
+            Bitmap bitmap;
+            try (InputStream stream = openBackgroundStream(assets, filePath)) {
+                if (stream == null) {
+                    return null;
+                }
+                bitmap = BitmapFactory.decodeStream(stream, null, options);
+            }
+            if (bitmap == null) {
+                return null;
+            }
+
+            DecodedBackground decoded = new DecodedBackground();
+            decoded.path = filePath;
+            decoded.bitmap = bitmap;
+            decoded.fileWidth = width;
+            decoded.fileHeight = height;
+            decoded.sampleSize = sampleSize;
+            // 화면 배치는 원본 픽셀 크기를 기준으로 유지
+            decoded.imageWidth = imageWidth;
+            decoded.imageHeight = imageHeight;
+            return decoded;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * 배경을 디코딩할 inSampleSize를 구합니다.
+     * 배율 scale로 그렸을 때 화면 픽셀당 텍셀이 하나 이상 남는 가장 큰 2의 거듭제곱이며, GL 텍스처 크기 한도를 넘지 않도록 합니다.
+     *
+     * @param width 파일의 픽셀 너비
+     * @param height 파일의 픽셀 높이
+     * @param imageWidth 배율 1.0에서의 배경 너비(px)
+     * @param imageHeight 배율 1.0에서의 배경 높이(px)
+     * @param scale 배경 배율
+     * @param maxSize GL_MAX_TEXTURE_SIZE. 0이면 한도를 적용하지 않음
+     * @return inSampleSize
+     */
+    private static int computeSampleSize(int width, int height, int imageWidth, int imageHeight, float scale, int maxSize) {
+        final float targetWidth = imageWidth * scale;
+        final float targetHeight = imageHeight * scale;
+        int sampleSize = 1;
+        while (width / (sampleSize * 2) >= targetWidth && height / (sampleSize * 2) >= targetHeight) {
+            sampleSize *= 2;
+        }
+        // GL이 만들 수 있는 텍스처 크기를 넘지 않도록 함
+        while (maxSize > 0 && (width / sampleSize > maxSize || height / sampleSize > maxSize)) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    // 현재 배율이 그리고 있는 배경의 디코딩 해상도를 넘으면 더 높은 해상도로 다시 디코딩하도록 요청합니다.
+    // 배율을 줄일 때는 다시 디코딩하지 않고 가진 텍스처를 밉맵으로 축소해 그립니다.
+    private void requestSharperBackgroundIfNeeded() {
+        final BackgroundTexture texture = currentBackground;
+        if (texture == null || !texture.path.equals(backgroundPath)) {
+            return;
+        }
+        final int sampleSize = computeSampleSize(
+            texture.fileWidth,
+            texture.fileHeight,
+            texture.imageWidth,
+            texture.imageHeight,
+            backgroundScale,
+            maxTextureSize
+        );
+        // 이미 같은 해상도 이상을 디코딩하고 있으면 다시 요청하지 않음
+        if (sampleSize >= texture.sampleSize || (requestedSampleSize > 0 && sampleSize >= requestedSampleSize)) {
+            return;
+        }
+        requestedSampleSize = sampleSize;
+        requestBackgroundDecode(texture.path);
+    }
+
+    // This is only used by 'decodeBackground' method.
+    private static InputStream openBackgroundStream(AssetManager assets, String filePath) throws IOException {
+        if (filePath.startsWith("/")) {
+            // 절대 경로 (외부 배경)
+            File file = new File(filePath);
+            if (!file.exists()) {
+                return null;
+            }
+            return new FileInputStream(file);
+        }
+        // Asset 경로
+        return assets.open(filePath);
+    }
+
+    // 디코딩이 끝난 배경을 GL 스레드에서 텍스처로 만들고 전환합니다.
+    private void uploadDecodedBackground() {
+        DecodedBackground decoded = pendingBackground.getAndSet(null);
+        if (decoded == null) {
+            return;
+        }
+        // 그 사이에 다른 배경이 요청된 경우 버림
+        if (decoded.serial != backgroundRequestSerial.get()) {
+            decoded.bitmap.recycle();
+            return;
+        }
+        requestedSampleSize = 0;
+
+        // GL 텍스처 생성
+        int[] textureId = new int[1];
+        GLES20.glActiveTexture(GL_TEXTURE0);
+        GLES20.glGenTextures(1, textureId, 0);
+        GLES20.glBindTexture(GL_TEXTURE_2D, textureId[0]);
+        GLUtils.texImage2D(GL_TEXTURE_2D, 0, decoded.bitmap, 0);
+        final int textureWidth = decoded.bitmap.getWidth();
+        final int textureHeight = decoded.bitmap.getHeight();
+        decoded.bitmap.recycle();
+
+        // 축소해서 보여줄 때 깜빡이지 않도록 밉맵 생성
+        GLES20.glGenerateMipmap(GL_TEXTURE_2D);
+        GLES20.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR_MIPMAP_LINEAR);
+        GLES20.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+
+        BackgroundTexture texture = new BackgroundTexture();
+        texture.path = decoded.path;
+        texture.id = textureId[0];
+        texture.imageWidth = decoded.imageWidth;
+        texture.imageHeight = decoded.imageHeight;
+        texture.fileWidth = decoded.fileWidth;
+        texture.fileHeight = decoded.fileHeight;
+        texture.sampleSize = decoded.sampleSize;
+        // RGBA8888 + 밉맵(약 1/3)
+        texture.memorySize = (long) textureWidth * textureHeight * 4L * 4L / 3L;
+        backgroundMemoryUsage += texture.memorySize;
+
+        BackgroundTexture replaced = backgroundTextureCache.put(texture.path, texture);
+        if (replaced != null) {
+            // 확대되어 같은 배경을 더 높은 해상도로 다시 디코딩한 경우 크로스페이드 없이 바꿈
+            if (currentBackground == replaced) {
+                currentBackground = texture;
+            }
+            if (fadingOutBackground == replaced) {
+                fadingOutBackground = texture;
+            }
+            deleteBackgroundTexture(replaced);
+        }
+
+        switchBackground(texture);
+        trimBackgroundTextures();
+        // 디코딩하는 동안 더 확대되었을 수 있음
+        requestSharperBackgroundIfNeeded();
+    }
+
+    // 현재 배경을 페이드아웃 대상으로 돌리고 새 배경으로 전환합니다. null이면 배경을 지웁니다.
+    private void switchBackground(BackgroundTexture texture) {
+        if (texture == currentBackground) {
+            return;
+        }
+        // 배경이 없던 상태에서 전환하면 새 배경만 서서히 나타남
+        fadingOutBackground = currentBackground;
+        currentBackground = texture;
+        backgroundFadeProgress = 0.0f;
+
+        // 캐시된 텍스처가 현재 배율보다 낮은 해상도로 디코딩되어 있을 수 있음
+        requestSharperBackgroundIfNeeded();
+    }
+
+    // 최근 사용 캐시가 개수 한도나 모델 텍스처와 합친 VRAM 예산을 넘으면 그리고 있지 않은 오래된 텍스처부터 삭제합니다.
+    // 남은 사용량은 텍스처 매니저에 알려 참조가 없는 모델 텍스처도 같은 예산으로 정리되도록 합니다.
+    private void trimBackgroundTextures() {
+        final LAppMinimumTextureManager manager = textureManager;
+        final long modelMemoryUsage = manager != null ? manager.getMemoryUsage() : 0L;
+
+        Iterator<BackgroundTexture> iterator = backgroundTextureCache.values().iterator();
+        while ((backgroundTextureCache.size() > LAppDefine.BACKGROUND_TEXTURE_CACHE_SIZE
+            || modelMemoryUsage + backgroundMemoryUsage > textureMemoryBudget) && iterator.hasNext()) {
+            BackgroundTexture texture = iterator.next();
+            if (texture == currentBackground || texture == fadingOutBackground) {
+                continue;
+            }
+            iterator.remove();
+            deleteBackgroundTexture(texture);
+        }
+
+        if (manager != null) {
+            manager.setExternalMemoryUsage(backgroundMemoryUsage);
+        }
+    }
+
+    // This is only used by 'uploadDecodedBackground' and 'trimBackgroundTextures' methods.
+    private void deleteBackgroundTexture(BackgroundTexture texture) {
+        int[] textures = {texture.id};
+        GLES20.glDeleteTextures(1, textures, 0);
+        backgroundMemoryUsage -= texture.memorySize;
+    }
+
+    // 텍스처를 삭제하지 않고 참조만 버립니다. GL 컨텍스트가 다시 만들어진 경우에 사용합니다.
+    private void forgetBackgroundTextures() {
+        backgroundTextureCache.clear();
+        backgroundMemoryUsage = 0;
+        requestedSampleSize = 0;
+        currentBackground = null;
+        fadingOutBackground = null;
+        backgroundSprite = null;
+    }
+
+    // 배경을 현재 확대/이동 상태로 그립니다.
+    private void drawBackground(BackgroundTexture texture, float alpha) {
+        if (backgroundSprite == null) {
+            // 배경 스프라이트 생성 (화면 전체 크기)
+            if (view == null || view.getSpriteShader() == null) {
+                return;
+            }
+            backgroundSprite = new LAppMinimumSprite(
+                windowWidth * 0.5f, windowHeight * 0.5f, windowWidth, windowHeight,
+                texture.id,
+                view.getSpriteShader().getShaderId()
+            );
+        }
+
+        // 원본 픽셀 크기에 scale 적용
+        float spriteW = texture.imageWidth * backgroundScale;
+        float spriteH = texture.imageHeight * backgroundScale;
+
+        // 화면 중앙 + 오프셋 (오프셋은 픽셀 단위)
+        float centerX = windowWidth * 0.5f + backgroundOffsetX;
+        float centerY = windowHeight * 0.5f + backgroundOffsetY;
+
+        backgroundSprite.resize(centerX, centerY, spriteW, spriteH);
+
+        backgroundSprite.setColor(1.0f, 1.0f, 1.0f, alpha);
+        backgroundSprite.setWindowSize(windowWidth, windowHeight);
+        backgroundSprite.renderImmediate(texture.id, BACKGROUND_UV_VERTEX);
+    }
+
 
     private LAppMinimumDelegate() {
         // Set up Cubism SDK framework.
         cubismOption.logFunction = new LAppMinimumPal.PrintLogFunction();
         cubismOption.loggingLevel = LAppDefine.cubismLoggingLevel;
+        cubismOption.useFastMath = LAppDefine.FAST_MATH_ENABLE;
 
         CubismFramework.cleanUp();
         CubismFramework.startUp(cubismOption);
     }
 
+    /**
+     * GL 텍스처로 올라간 배경 이미지
+     */
+    private static final class BackgroundTexture {
+        public String path;
+        public int id;
+        // 원본 이미지의 픽셀 크기 (텍스처는 축소되어 있을 수 있음)
+        public int imageWidth;
+        public int imageHeight;
+        // 파일의 픽셀 크기와 디코딩에 사용한 inSampleSize
+        public int fileWidth;
+        public int fileHeight;
+        public int sampleSize;
+        // 밉맵을 포함한 VRAM 사용량 추정치(바이트)
+        public long memorySize;
+    }
+
+    /**
+     * 워커 스레드에서 디코딩되어 GL 스레드의 업로드를 기다리는 배경 이미지
+     */
+    private static final class DecodedBackground {
+        public String path;
+        public Bitmap bitmap;
+        public int imageWidth;
+        public int imageHeight;
+        public int fileWidth;
+        public int fileHeight;
+        public int sampleSize;
+        public int serial;
+    }
+
+    /**
+     * 배경 스프라이트의 UV 좌표. 매 프레임 배열을 만들지 않도록 공유합니다.
+     */
+    private static final float[] BACKGROUND_UV_VERTEX = {
+        1f, 0f,
+        0f, 0f,
+        0f, 1f,
+        1f, 1f
+    };
+
     private static LAppMinimumDelegate s_instance;
     private Activity activity;
+    private GLSurfaceView glView;
 
     private final CubismFramework.Option cubismOption = new CubismFramework.Option();
 
     private LAppMinimumTextureManager textureManager;
+    private volatile long textureMemoryBudget = LAppDefine.TEXTURE_MEMORY_BUDGET;
     private LAppMinimumView view;
+    /**
+     * vsync 기반 프레임 요청과 프레임 지표
+     */
+    private final LAppMinimumFramePacer framePacer = new LAppMinimumFramePacer();
     private int windowWidth;
     private int windowHeight;
 
@@ -302,18 +762,71 @@ public class LAppMinimumDelegate {
     private float mouseY;
 
     private final float[] backgroundColor = {1f, 1f, 1f, 1f};
-    private int backgroundTextureId = -1;
     private LAppMinimumSprite backgroundSprite;
+
+    /**
+     * 마지막으로 요청된 배경 경로. 디코딩 중이면 아직 그려지지 않음
+     */
+    private String backgroundPath;
+    /**
+     * 배율 1.0에서의 배경 크기(px). 0이면 파일의 픽셀 크기를 사용
+     */
     private int backgroundImageWidth;
     private int backgroundImageHeight;
+    /**
+     * 그리고 있는 배경
+     */
+    private BackgroundTexture currentBackground;
+    /**
+     * 크로스페이드로 사라지고 있는 이전 배경
+     */
+    private BackgroundTexture fadingOutBackground;
+    /**
+     * 크로스페이드 진행도 (0 ~ 1)
+     */
+    private float backgroundFadeProgress = 1.0f;
+    /**
+     * 최근 사용한 배경 텍스처. 접근 순서로 정렬되어 가장 오래 쓰지 않은 것이 앞에 옴
+     */
+    private final LinkedHashMap<String, BackgroundTexture> backgroundTextureCache = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * 캐시된 배경 텍스처의 VRAM 사용량 추정치(바이트). GL 스레드에서만 바뀌고, 다른 스레드에서 읽을 수 있도록 volatile로 둠
+     */
+    private volatile long backgroundMemoryUsage;
+    /**
+     * 확대되어 다시 요청한 디코딩의 inSampleSize. 0이면 요청하지 않음
+     */
+    private int requestedSampleSize;
+
+    /**
+     * 배경 디코딩 전용 워커 스레드
+     */
+    private ExecutorService backgroundDecodeExecutor;
+    /**
+     * 배경 요청 번호. 디코딩 결과가 가장 최근 요청의 것인지 판별하는 데 사용
+     */
+    private final AtomicInteger backgroundRequestSerial = new AtomicInteger();
+    /**
+     * 워커 스레드가 디코딩을 마치고 GL 스레드에 넘기는 배경
+     */
+    private final AtomicReference<DecodedBackground> pendingBackground = new AtomicReference<>();
+    /**
+     * GL_MAX_TEXTURE_SIZE. 0이면 아직 조회하지 않음
+     */
+    private int maxTextureSize;
 
     // 배경 확대/이동 변환
     private float backgroundScale = 1.0f;
     private float backgroundOffsetX = 0f;
     private float backgroundOffsetY = 0f;
 
+    /**
+     * 배경 배율을 설정합니다. 1.0이 원본 이미지의 픽셀 크기이며, 0.1 ~ 10 사이로 제한됩니다.
+     * 배경이 디코딩된 해상도보다 크게 확대되면 더 높은 해상도로 다시 디코딩합니다. GL 스레드에서 호출해야 합니다.
+     */
     public void setBackgroundScale(float scale) {
         backgroundScale = Math.max(0.1f, Math.min(10.0f, scale));
+        requestSharperBackgroundIfNeeded();
     }
 
     public float getBackgroundScale() {
@@ -0,0 +1,385 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package org.comon.live2d;
+
+import android.os.Build;
+import android.view.Choreographer;
+import android.view.Display;
+
+import androidx.annotation.RequiresApi;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Choreographer의 vsync에 맞춰 프레임을 요청하고, 예상 표시 시각을 애니메이션 시계로 제공하는 클래스.
+ * <p>
+ * vsync 콜백은 메인 스레드에서, beginFrame()부터 endFrame()까지는 GL 스레드에서 호출된다.
+ * 프레임마다 모델 업데이트 CPU 시간, 그리기 명령 제출 시간, 프레임 간격을 히스토그램에 기록하고
+ * 놓친 vsync 수를 jank로 집계한다.
+ * </p>
+ */
+public class LAppMinimumFramePacer {
+    /**
+     * 프레임 시간 히스토그램. 0.25ms 단위 구간과 마지막 초과 구간으로 이루어진다.
+     */
+    public static final class FrameTimeHistogram {
+        /**
+         * 시간을 기록한다.
+         *
+         * @param nanos 시간 (나노초)
+         */
+        public synchronized void record(long nanos) {
+            int bucket = (int) (Math.max(0L, nanos) / BUCKET_NANOS);
+            buckets[Math.min(bucket, buckets.length - 1)]++;
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public synchronized void reset() {
+            Arrays.fill(buckets, 0);
+            count = 0;
+            totalNanos = 0;
+            maxNanos = 0;
+        }
+
+        public synchronized int getCount() {
+            return count;
+        }
+
+        /**
+         * 백분위수를 구한다. 값이 속한 구간의 상한을 반환한다.
+         *
+         * @param percentile 0 ~ 100
+         * @return 시간 (밀리초). 기록이 없으면 0
+         */
+        public synchronized float getPercentileMillis(float percentile) {
+            if (count == 0) {
+                return 0.0f;
+            }
+            long threshold = (long) Math.ceil(count * percentile / 100.0);
+            long accumulated = 0;
+            for (int i = 0; i < buckets.length - 1; i++) {
+                accumulated += buckets[i];
+                if (accumulated >= Math.max(1L, threshold)) {
+                    return (i + 1) * BUCKET_NANOS / 1000000.0f;
+                }
+            }
+            // 초과 구간은 최댓값으로 대신한다.
+            return maxNanos / 1000000.0f;
+        }
+
+        public synchronized float getAverageMillis() {
+            return count == 0 ? 0.0f : totalNanos / (float) count / 1000000.0f;
+        }
+
+        public synchronized float getMaxMillis() {
+            return maxNanos / 1000000.0f;
+        }
+
+        /**
+         * 구간별 기록 수를 복사해 반환한다. i번째 구간은 [i * 0.25ms, (i + 1) * 0.25ms), 마지막 구간은 그 이상.
+         *
+         * @return 구간별 기록 수
+         */
+        public synchronized int[] getBuckets() {
+            return buckets.clone();
+        }
+
+        /**
+         * 구간 폭 (나노초)
+         */
+        public static final long BUCKET_NANOS = 250000L;
+        /**
+         * 구간 수. 100ms까지 나누고 마지막 구간은 그 이상을 모은다.
+         */
+        private static final int BUCKET_COUNT = 400 + 1;
+
+        private final int[] buckets = new int[BUCKET_COUNT];
+        private int count;
+        private long totalNanos;
+        private long maxNanos;
+    }
+
+    /**
+     * vsync마다 프레임 요청을 시작한다. 메인 스레드에서 호출해야 한다.
+     *
+     * @param display 주사율을 얻을 디스플레이. null이면 60Hz로 간주한다.
+     * @param requestRender vsync마다 호출되어 GL 스레드에 그리기를 요청하는 콜백
+     */
+    public void start(Display display, Runnable requestRender) {
+        this.display = display;
+        this.requestRender = requestRender;
+        // 멈춰 있던 동안의 간격은 jank로 세지 않는다.
+        isResyncRequested = true;
+
+        if (isRunning) {
+            return;
+        }
+        isRunning = true;
+        choreographer = Choreographer.getInstance();
+        postCallback();
+    }
+
+    /**
+     * 프레임 요청을 멈춘다. 메인 스레드에서 호출해야 한다.
+     *
+     * @param requestRender start()에 전달한 콜백. 다른 뷰가 다시 시작한 경우에는 멈추지 않는다.
+     */
+    public void stop(Runnable requestRender) {
+        if (!isRunning || this.requestRender != requestRender) {
+            return;
+        }
+        isRunning = false;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+            choreographer.removeVsyncCallback(getVsyncCallback());
+        } else {
+            choreographer.removeFrameCallback(frameCallback);
+        }
+        this.requestRender = null;
+        display = null;
+        latestPresentTimeNanos = 0;
+        // vsync 없이 그려진 프레임과의 간격도 jank로 세지 않는다.
+        isResyncRequested = true;
+    }
+
+    /**
+     * 프레임을 시작한다. GL 스레드에서 그리기 전에 호출한다.
+     * vsync가 아직 없으면 현재 시각을 사용한다.
+     *
+     * @return 이 프레임의 애니메이션 시각 (나노초, System.nanoTime()과 같은 기준)
+     */
+    public long beginFrame() {
+        frameStartNanos = System.nanoTime();
+        updateNanos = 0;
+
+        long presentTime = latestPresentTimeNanos;
+        if (presentTime == 0) {
+            presentTime = frameStartNanos;
+        }
+
+        if (isResyncRequested) {
+            isResyncRequested = false;
+            lastPresentTimeNanos = 0;
+        }
+        // 같은 vsync에서 두 번 그린 경우는 간격으로 세지 않는다.
+        if (lastPresentTimeNanos != 0 && presentTime > lastPresentTimeNanos) {
+            recordInterval(presentTime - lastPresentTimeNanos);
+        }
+        if (presentTime > lastPresentTimeNanos) {
+            lastPresentTimeNanos = presentTime;
+        }
+        // 시계가 되돌아가지 않도록 한다. (vsync 기준에서 현재 시각으로 바뀐 경우)
+        clockNanos = Math.max(clockNanos, presentTime);
+        return clockNanos;
+    }
+
+    /**
+     * 모델 업데이트 시작. GL 스레드에서 호출한다.
+     */
+    public void beginUpdate() {
+        updateStartNanos = System.nanoTime();
+    }
+
+    /**
+     * 모델 업데이트 끝. GL 스레드에서 호출한다.
+     */
+    public void endUpdate() {
+        updateNanos += System.nanoTime() - updateStartNanos;
+    }
+
+    /**
+     * 프레임을 끝낸다. GL 스레드에서 그리기 명령을 모두 제출한 뒤 호출한다.
+     * 프레임 전체 CPU 시간에서 모델 업데이트 시간을 뺀 나머지를 그리기 제출 시간으로 기록한다.
+     */
+    public void endFrame() {
+        long frameNanos = System.nanoTime() - frameStartNanos;
+        updateTimeHistogram.record(updateNanos);
+        drawTimeHistogram.record(frameNanos - updateNanos);
+
+        if (LAppDefine.DEBUG_LOG_ENABLE && frameStartNanos - lastLogNanos >= (long) (LAppDefine.FRAME_METRICS_LOG_INTERVAL * 1000000000L)) {
+            if (lastLogNanos != 0) {
+                LAppMinimumPal.printLog(getSummary());
+            }
+            lastLogNanos = frameStartNanos;
+        }
+    }
+
+    /**
+     * 기록한 프레임 지표를 모두 지운다.
+     */
+    public synchronized void resetMetrics() {
+        updateTimeHistogram.reset();
+        drawTimeHistogram.reset();
+        frameIntervalHistogram.reset();
+        jankFrameCount = 0;
+        missedVsyncCount = 0;
+    }
+
+    /**
+     * 모델 업데이트 CPU 시간의 히스토그램
+     */
+    public FrameTimeHistogram getUpdateTimeHistogram() {
+        return updateTimeHistogram;
+    }
+
+    /**
+     * 그리기 명령 제출 CPU 시간의 히스토그램
+     */
+    public FrameTimeHistogram getDrawTimeHistogram() {
+        return drawTimeHistogram;
+    }
+
+    /**
+     * 연속한 프레임의 예상 표시 시각 간격의 히스토그램
+     */
+    public FrameTimeHistogram getFrameIntervalHistogram() {
+        return frameIntervalHistogram;
+    }
+
+    /**
+     * 하나 이상의 vsync를 놓친 프레임 수
+     */
+    public synchronized int getJankFrameCount() {
+        return jankFrameCount;
+    }
+
+    /**
+     * 놓친 vsync의 총 수
+     */
+    public synchronized int getMissedVsyncCount() {
+        return missedVsyncCount;
+    }
+
+    /**
+     * 지표를 한 줄로 정리한다.
+     *
+     * @return 요약 문자열
+     */
+    public synchronized String getSummary() {
+        return String.format(
+            Locale.US,
+            "frames=%d jank=%d missedVsync=%d interval(p50=%.2f p95=%.2f max=%.2f) update(p50=%.2f p95=%.2f) draw(p50=%.2f p95=%.2f) ms",
+            frameIntervalHistogram.getCount(),
+            jankFrameCount,
+            missedVsyncCount,
+            frameIntervalHistogram.getPercentileMillis(50.0f),
+            frameIntervalHistogram.getPercentileMillis(95.0f),
+            frameIntervalHistogram.getMaxMillis(),
+            updateTimeHistogram.getPercentileMillis(50.0f),
+            updateTimeHistogram.getPercentileMillis(95.0f),
+            drawTimeHistogram.getPercentileMillis(50.0f),
+            drawTimeHistogram.getPercentileMillis(95.0f)
+        );
+    }
+
+    // This is only used by 'beginFrame' method.
+    private synchronized void recordInterval(long intervalNanos) {
+        frameIntervalHistogram.record(intervalNanos);
+
+        // 간격이 vsync 주기의 몇 배인지로 놓친 vsync를 센다.
+        long period = vsyncPeriodNanos;
+        int missed = (int) ((intervalNanos + period / 2) / period) - 1;
+        if (missed > 0) {
+            jankFrameCount++;
+            missedVsyncCount += missed;
+        }
+    }
+
+    // vsync마다 메인 스레드에서 호출된다.
+    private void onVsync(long frameTimeNanos, long expectedPresentTimeNanos) {
+        if (!isRunning) {
+            return;
+        }
+        final float refreshRate = display != null ? display.getRefreshRate() : DEFAULT_REFRESH_RATE;
+        vsyncPeriodNanos = (long) (1000000000L / (refreshRate > 0.0f ? refreshRate : DEFAULT_REFRESH_RATE));
+        latestPresentTimeNanos = expectedPresentTimeNanos != 0
+            ? expectedPresentTimeNanos
+            : frameTimeNanos + vsyncPeriodNanos;
+
+        postCallback();
+        requestRender.run();
+    }
+
+    // This is only used by 'start' and 'onVsync' method.
+    private void postCallback() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+            choreographer.postVsyncCallback(getVsyncCallback());
+        } else {
+            choreographer.postFrameCallback(frameCallback);
+        }
+    }
+
+    // API 33 미만에서 VsyncCallback 클래스를 불러오지 않도록 처음 사용할 때 만든다.
+    @RequiresApi(Build.VERSION_CODES.TIRAMISU)
+    private Choreographer.VsyncCallback getVsyncCallback() {
+        if (vsyncCallback == null) {
+            vsyncCallback = new VsyncCallbackApi33();
+        }
+        return (Choreographer.VsyncCallback) vsyncCallback;
+    }
+
+    /**
+     * API 33 이상에서 사용하는 vsync 콜백. 시스템이 예측한 표시 시각을 얻을 수 있다.
+     */
+    @RequiresApi(Build.VERSION_CODES.TIRAMISU)
+    private final class VsyncCallbackApi33 implements Choreographer.VsyncCallback {
+        @Override
+        public void onVsync(Choreographer.FrameData data) {
+            LAppMinimumFramePacer.this.onVsync(
+                data.getFrameTimeNanos(),
+                data.getPreferredFrameTimeline().getExpectedPresentationTimeNanos()
+            );
+        }
+    }
+
+    /**
+     * API 33 미만에서 사용하는 vsync 콜백. 다음 vsync에 표시된다고 예측한다.
+     */
+    private final Choreographer.FrameCallback frameCallback = frameTimeNanos -> onVsync(frameTimeNanos, 0L);
+
+    /**
+     * API 33 이상에서 사용하는 vsync 콜백 (VsyncCallbackApi33)
+     */
+    private Object vsyncCallback;
+
+    private static final float DEFAULT_REFRESH_RATE = 60.0f;
+
+    private Choreographer choreographer;
+    private Display display;
+    private Runnable requestRender;
+    private boolean isRunning;
+
+    /**
+     * 메인 스레드가 마지막 vsync에서 예측한 표시 시각. 0이면 vsync를 받지 못함
+     */
+    private volatile long latestPresentTimeNanos;
+    /**
+     * 마지막 vsync 시점의 디스플레이 주기
+     */
+    private volatile long vsyncPeriodNanos = (long) (1000000000L / DEFAULT_REFRESH_RATE);
+    /**
+     * 다음 프레임에서 직전 표시 시각을 잊어야 하는지
+     */
+    private volatile boolean isResyncRequested;
+
+    // 이하 GL 스레드에서만 사용
+    private long lastPresentTimeNanos;
+    private long clockNanos;
+    private long frameStartNanos;
+    private long updateStartNanos;
+    private long updateNanos;
+    private long lastLogNanos;
+
+    private final FrameTimeHistogram updateTimeHistogram = new FrameTimeHistogram();
+    private final FrameTimeHistogram drawTimeHistogram = new FrameTimeHistogram();
+    private final FrameTimeHistogram frameIntervalHistogram = new FrameTimeHistogram();
+    private int jankFrameCount;
+    private int missedVsyncCount;
+}
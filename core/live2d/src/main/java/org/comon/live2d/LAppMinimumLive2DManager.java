@@ -8,6 +8,7 @@
 package org.comon.live2d;
 
 import com.live2d.sdk.cubism.framework.math.CubismMatrix44;
+import com.live2d.sdk.cubism.framework.math.CubismModelMatrix;
 
 /**
  * サンプルアプリケーションにおいてCubismModelを管理するクラス。
@@ -183,13 +184,53 @@ public class LAppMinimumLive2DManager {
         // 描画前コール
         LAppMinimumDelegate.getInstance().getView().preModelDraw(model);
 
+        // 화면에 작게 보이거나 화면 밖으로 나간 모델은 물리 연산 LOD를 낮춘다
+        model.setPhysicsScreenCoverage(getScreenCoverage(model));
+
+        LAppMinimumFramePacer framePacer = LAppMinimumDelegate.getInstance().getFramePacer();
+        framePacer.beginUpdate();
         model.update();
+        framePacer.endUpdate();
         model.draw(projection);     // 参照渡しなのでprojectionは変質する
 
         // 描画後コール
         LAppMinimumDelegate.getInstance().getView().postModelDraw(model);
     }
 
+    /**
+     * 모델 캔버스를 현재 projection으로 투영했을 때 뷰 안에 보이는 크기의 비율을 구한다.
+     * 보이는 면적 비율의 제곱근(길이의 비율)이며, 1.0이면 모델이 뷰를 채운다. 뷰 밖으로 나간 부분은 제외한다.
+     *
+     * @param model 대상 모델
+     * @return 뷰에 대한 모델의 크기 비율 (0 ~ 1)
+     */
+    private float getScreenCoverage(LAppMinimumModel model) {
+        final com.live2d.sdk.cubism.framework.model.CubismModel cubismModel = model.getModel();
+        final float pixelsPerUnit = cubismModel.getPixelPerUnit();
+        if (pixelsPerUnit <= 0.0f) {
+            return 1.0f;
+        }
+        final float[] origin = cubismModel.getModel().getCanvasInfo().getOriginInPixels();
+
+        // 모델 좌표계의 캔버스 범위 (y는 위쪽이 양수)
+        final float left = -origin[0] / pixelsPerUnit;
+        final float right = (cubismModel.getCanvasWidthPixel() - origin[0]) / pixelsPerUnit;
+        final float top = origin[1] / pixelsPerUnit;
+        final float bottom = (origin[1] - cubismModel.getCanvasHeightPixel()) / pixelsPerUnit;
+
+        // 모델 행렬과 projection은 확대와 이동만 하므로 모서리 좌표만 변환하면 된다
+        final CubismModelMatrix modelMatrix = model.getModelMatrix();
+        final float x0 = projection.transformX(modelMatrix.transformX(left));
+        final float x1 = projection.transformX(modelMatrix.transformX(right));
+        final float y0 = projection.transformY(modelMatrix.transformY(bottom));
+        final float y1 = projection.transformY(modelMatrix.transformY(top));
+
+        // 정규화 장치 좌표에서 뷰는 -1 ~ 1
+        final float visibleWidth = Math.max(0.0f, Math.min(1.0f, Math.max(x0, x1)) - Math.max(-1.0f, Math.min(x0, x1)));
+        final float visibleHeight = Math.max(0.0f, Math.min(1.0f, Math.max(y0, y1)) - Math.max(-1.0f, Math.min(y0, y1)));
+        return (float) Math.sqrt(visibleWidth * visibleHeight * 0.25f);
+    }
+
     /**
      * 画面をドラッグした時の処理
      *
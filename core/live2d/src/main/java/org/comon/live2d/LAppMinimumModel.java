@@ -19,11 +19,13 @@ import com.live2d.sdk.cubism.framework.model.CubismUserModel;
 import com.live2d.sdk.cubism.framework.motion.ACubismMotion;
 import com.live2d.sdk.cubism.framework.motion.CubismExpressionMotion;
 import com.live2d.sdk.cubism.framework.motion.CubismMotion;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysics;
 import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
 import com.live2d.sdk.cubism.framework.rendering.android.CubismOffscreenSurfaceAndroid;
 import com.live2d.sdk.cubism.framework.rendering.android.CubismRendererAndroid;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -53,6 +55,14 @@ public class LAppMinimumModel extends CubismUserModel {
         // Setup renderer.
         CubismRenderer renderer = CubismRendererAndroid.create();
         setupRenderer(renderer);
+        // 모델 갱신 1회당 그리기 1회이므로 변경된 정점만 GPU 버퍼에 다시 전송합니다.
+        this.<CubismRendererAndroid>getRenderer().isUsingVertexBufferObject(LAppDefine.VERTEX_BUFFER_OBJECT_ENABLE);
+        // 앱이 GL 컨텍스트를 소유하므로 그리기 전후의 glGet 기반 상태 저장/복원을 생략합니다.
+        this.<CubismRendererAndroid>getRenderer().isSavingGLState(LAppDefine.GL_STATE_SAVE_ENABLE);
+        // 같은 텍스처와 상태를 쓰는 연속된 Drawable을 한 번의 draw call로 그립니다. 그리기 순서는 바뀌지 않습니다.
+        this.<CubismRendererAndroid>getRenderer().isUsingBatching(LAppDefine.DRAW_BATCHING_ENABLE);
+        // 마스크의 원본 Drawable이 변하지 않은 프레임에는 클리핑 마스크를 다시 그리지 않습니다.
+        this.<CubismRendererAndroid>getRenderer().isUsingClippingMaskCache(LAppDefine.CLIPPING_MASK_CACHE_ENABLE);
 
         setupTextures();
     }
@@ -61,6 +71,7 @@ public class LAppMinimumModel extends CubismUserModel {
      * Delete the model which LAppModel has.
      */
     public void deleteModel() {
+        releaseTextures();
         delete();
     }
 
@@ -212,7 +223,7 @@ public class LAppMinimumModel extends CubismUserModel {
                 String path = modelHomeDirectory + fileName;
 
                 byte[] buffer;
-                buffer = LAppMinimumPal.loadFileAsBytes(path);
+                buffer = LAppMinimumPal.loadFileAsBytes(path, loadStatistics);
 
                 CubismMotion tmpMotion = loadMotion(buffer);
                 if (tmpMotion != null) {
@@ -254,7 +265,7 @@ public class LAppMinimumModel extends CubismUserModel {
             CubismFramework.coreLogFunction("[APP] startMotionFromFile: " + path);
         }
 
-        byte[] buffer = LAppMinimumPal.loadFileAsBytes(path);
+        byte[] buffer = LAppMinimumPal.loadFileAsBytes(path, loadStatistics);
         if (buffer == null) {
              CubismFramework.coreLogFunction("[APP] Failed to load motion file: " + path);
              return -1;
@@ -282,11 +293,7 @@ public class LAppMinimumModel extends CubismUserModel {
         }
         // 모든 파라미터를 기본값으로 리셋
         if (model != null) {
-            int parameterCount = model.getParameterCount();
-            for (int i = 0; i < parameterCount; i++) {
-                float defaultValue = model.getParameterDefaultValue(i);
-                model.setParameterValue(i, defaultValue);
-            }
+            model.loadDefaultParameters();
             // 리셋된 상태를 저장하여 다음 프레임의 loadParameters()에서 유지되도록 함
             model.saveParameters();
         }
@@ -308,7 +315,7 @@ public class LAppMinimumModel extends CubismUserModel {
             CubismFramework.coreLogFunction("[APP] startExpressionFromFile: " + path);
         }
         
-        byte[] buffer = LAppMinimumPal.loadFileAsBytes(path);
+        byte[] buffer = LAppMinimumPal.loadFileAsBytes(path, loadStatistics);
          if (buffer == null) {
              CubismFramework.coreLogFunction("[APP] Failed to load expression file: " + path);
              return -1;
@@ -354,6 +361,35 @@ public class LAppMinimumModel extends CubismUserModel {
         return renderingBuffer;
     }
 
+    /**
+     * 물리 연산 LOD에 모델의 화면상 크기를 전달한다.
+     *
+     * @param coverage 뷰 크기에 대한 모델 크기의 비율. 1.0이면 모델이 뷰를 채운다.
+     */
+    public void setPhysicsScreenCoverage(float coverage) {
+        if (physics != null) {
+            physics.setScreenCoverage(coverage);
+        }
+    }
+
+    /**
+     * 물리 연산 LOD의 판단 결과를 반환한다.
+     *
+     * @return LOD 메트릭. 물리 연산이 없으면 null
+     */
+    public CubismPhysics.LodMetrics getPhysicsLodMetrics() {
+        return physics != null ? physics.getLodMetrics() : null;
+    }
+
+    /**
+     * 이 모델이 읽은 파일의 통계를 반환한다.
+     *
+     * @return 마지막 setupModel() 이후의 로드 통계
+     */
+    public LAppMinimumAssetLoader.LoadStatistics getLoadStatistics() {
+        return loadStatistics;
+    }
+
     /**
      * .moc3ファイルの整合性をチェックする。
      *
@@ -366,7 +402,7 @@ public class LAppMinimumModel extends CubismUserModel {
         String path = mocFileName;
         path = modelHomeDirectory + path;
 
-        byte[] buffer = LAppMinimumPal.loadFileAsBytes(path);
+        byte[] buffer = LAppMinimumPal.loadFileAsBytes(path, loadStatistics);
         boolean consistency = CubismMoc.hasMocConsistency(buffer);
 
         if (!consistency) {
@@ -380,7 +416,9 @@ public class LAppMinimumModel extends CubismUserModel {
 
     // model3.jsonからモデルを生成する
     private boolean setupModel(String model3JsonPath) {
-        byte[] model3Json = LAppMinimumPal.loadFileAsBytes(model3JsonPath);
+        loadStatistics = new LAppMinimumAssetLoader.LoadStatistics();
+
+        byte[] model3Json = LAppMinimumPal.loadFileAsBytes(model3JsonPath, loadStatistics);
 
         CubismModelSettingJson modelSetting = null;
         modelSetting = new CubismModelSettingJson(model3Json);
@@ -397,12 +435,15 @@ public class LAppMinimumModel extends CubismUserModel {
             throw new IllegalStateException("Failed to load model3.json: " + model3JsonPath);
         }
 
+        // 임포트 시 컴파일된 번들이 있으면 JSON 대신 번들에서 읽는다
+        final LAppMinimumModelBundle bundle = openModelBundle(model3JsonPath);
+
         // Load Cubism Model
         {
             String path = this.modelSetting.getModelFileName();
             if (!path.equals("")) {
                 String modelPath = modelHomeDirectory + path;
-                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath);
+                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath, loadStatistics);
 
                 loadModel(buffer, mocConsistency);
             }
@@ -419,9 +460,15 @@ public class LAppMinimumModel extends CubismUserModel {
                 String path = this.modelSetting.getExpressionFileName(i);
                 String modelPath = modelHomeDirectory + path;
 
-                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath);
+                CubismExpressionMotion motion = null;
+                if (bundle != null) {
+                    motion = loadExpression(bundle.getSection(LAppMinimumModelBundle.SectionType.EXPRESSION, path));
+                }
+                if (motion == null) {
+                    byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath, loadStatistics);
 
-                CubismExpressionMotion motion = loadExpression(buffer);
+                    motion = loadExpression(buffer);
+                }
 
                 expressions.put(name, motion);
             }
@@ -432,9 +479,20 @@ public class LAppMinimumModel extends CubismUserModel {
             String path = this.modelSetting.getPhysicsFileName();
             if (!path.equals("")) {
                 String modelPath = modelHomeDirectory + path;
-                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath);
 
-                loadPhysics(buffer);
+                if (bundle != null) {
+                    loadPhysics(bundle.getSection(LAppMinimumModelBundle.SectionType.PHYSICS, path));
+                }
+                if (physics == null) {
+                    byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath, loadStatistics);
+
+                    loadPhysics(buffer);
+                }
+
+                if (physics != null) {
+                    physics.setLodEnabled(LAppDefine.PHYSICS_LOD_ENABLE);
+                    physics.setFrameTimeBudget(LAppDefine.PHYSICS_FRAME_TIME_BUDGET);
+                }
             }
         }
 
@@ -444,9 +502,14 @@ public class LAppMinimumModel extends CubismUserModel {
             if (!path.equals("")) {
                 String modelPath = modelHomeDirectory + path;
 
-                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath);
+                if (bundle != null) {
+                    loadPose(bundle.getSection(LAppMinimumModelBundle.SectionType.POSE, path));
+                }
+                if (pose == null) {
+                    byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath, loadStatistics);
 
-                loadPose(buffer);
+                    loadPose(buffer);
+                }
             }
         }
 
@@ -455,7 +518,7 @@ public class LAppMinimumModel extends CubismUserModel {
             String path = this.modelSetting.getUserDataFile();
             if (!path.equals("")) {
                 String modelPath = modelHomeDirectory + path;
-                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath);
+                byte[] buffer = LAppMinimumPal.loadFileAsBytes(modelPath, loadStatistics);
 
                 loadUserData(buffer);
             }
@@ -490,21 +553,50 @@ public class LAppMinimumModel extends CubismUserModel {
         // Load motions
         for (int i = 0; i < modelSetting.getMotionGroupCount(); i++) {
             String group = modelSetting.getMotionGroupName(i);
-            preLoadMotionGroup(group);
+            preLoadMotionGroup(group, bundle);
         }
 
         motionManager.stopAllMotions();
 
+        if (LAppDefine.DEBUG_LOG_ENABLE) {
+            final long loadCount = loadStatistics.getLoadCount();
+            CubismFramework.coreLogFunction("[APP]model files: " + loadCount + " loads, "
+                + loadStatistics.getHeapByteCount() + " heap bytes ("
+                + (loadCount > 0 ? loadStatistics.getHeapByteCount() / loadCount : 0) + " per load), "
+                + loadStatistics.getMappedByteCount() + " mapped bytes");
+        }
+
         return true;
     }
 
+    /**
+     * 외부 모델이면 임포트 시 생성된 번들을 연다.
+     *
+     * @param model3JsonPath model3.json 경로
+     * @return 번들. assets의 모델이거나, 번들이 없거나 오래된 경우 null
+     */
+    private LAppMinimumModelBundle openModelBundle(String model3JsonPath) {
+        if (!LAppDefine.MODEL_BUNDLE_ENABLE || !LAppMinimumPal.isExternalLoading()) {
+            return null;
+        }
+
+        File modelDir = new File(LAppMinimumPal.getExternalBasePath(), modelHomeDirectory);
+        LAppMinimumModelBundle bundle = LAppMinimumModelBundle.open(modelDir, model3JsonPath.substring(modelHomeDirectory.length()), loadStatistics);
+
+        if (bundle != null && LAppDefine.DEBUG_LOG_ENABLE) {
+            CubismFramework.coreLogFunction("[APP]load model bundle: " + bundle.getSectionCount() + " sections");
+        }
+        return bundle;
+    }
+
     /**
      * モーションデータをグループ名から一括でロードする。
      * モーションデータの名前はModelSettingから取得する。
      *
      * @param group モーションデータのグループ名
+     * @param bundle コンパイル済みのモデルバンドル。nullならmotion3.jsonを読み込む
      **/
-    private void preLoadMotionGroup(final String group) {
+    private void preLoadMotionGroup(final String group, final LAppMinimumModelBundle bundle) {
         final int count = modelSetting.getMotionCount(group);
 
         for (int i = 0; i < count; i++) {
@@ -519,15 +611,30 @@ public class LAppMinimumModel extends CubismUserModel {
                     CubismFramework.coreLogFunction("[APP]load motion: " + path + " ==>[" + group + "_" + i + "]");
                 }
 
-                byte[] buffer;
-                buffer = LAppMinimumPal.loadFileAsBytes(modelPath);
+                CubismMotion tmp = null;
+                if (bundle != null) {
+                    tmp = loadMotion(bundle.getSection(LAppMinimumModelBundle.SectionType.MOTION, path), null, null);
+                }
+                if (tmp == null) {
+                    byte[] buffer;
+                    buffer = LAppMinimumPal.loadFileAsBytes(modelPath, loadStatistics);
 
-                CubismMotion tmp = loadMotion(buffer);
+                    tmp = loadMotion(buffer);
+                }
                 if (tmp == null) {
                     continue;
                 }
                 CubismMotion motion = tmp;
 
+                // 번들에 구워 둔 테이블이 없으면 로드할 때 굽습니다.
+                if (LAppDefine.MOTION_BAKE_ENABLE && !motion.isBaked()) {
+                    motion.bake(LAppDefine.MOTION_BAKE_SAMPLE_RATE, LAppDefine.MOTION_BAKE_TOLERANCE);
+                }
+                if (LAppDefine.DEBUG_LOG_ENABLE && motion.isBaked()) {
+                    final CubismMotion.BakeReport report = motion.getBakeReport();
+                    CubismFramework.coreLogFunction("[APP]baked motion: " + path + " " + report.getMemorySize() + " bytes, max error " + report.getMaxError());
+                }
+
                 final float fadeInTime = modelSetting.getMotionFadeInTimeValue(group, i);
                 if (fadeInTime != -1.0f) {
                     motion.setFadeInTime(fadeInTime);
@@ -563,6 +670,7 @@ public class LAppMinimumModel extends CubismUserModel {
                 LAppMinimumDelegate.getInstance()
                     .getTextureManager()
                     .createTextureFromPngFile(texturePath);
+            textures.add(texture);
             final int glTextureNumber = texture.id;
 
             ((CubismRendererAndroid) getRenderer()).bindTexture(modelTextureNumber, glTextureNumber);
@@ -572,6 +680,21 @@ public class LAppMinimumModel extends CubismUserModel {
         }
     }
 
+    /**
+     * 모델이 사용하던 텍스처의 참조를 텍스처 매니저에 반환한다.
+     */
+    private void releaseTextures() {
+        final LAppMinimumTextureManager textureManager = LAppMinimumDelegate.getInstance().getTextureManager();
+
+        // 앱 종료 중에는 텍스처 매니저가 먼저 정리되어 GL 컨텍스트와 함께 해제된다
+        if (textureManager != null) {
+            for (LAppMinimumTextureManager.TextureInfo texture : textures) {
+                textureManager.releaseTexture(texture);
+            }
+        }
+        textures.clear();
+    }
+
     private ICubismModelSetting modelSetting;
     /**
      * モデルのホームディレクトリ
@@ -581,6 +704,10 @@ public class LAppMinimumModel extends CubismUserModel {
      * デルタ時間の積算値[秒]
      */
     private float _userTimeSeconds;
+    /**
+     * 이 모델이 읽은 파일의 통계. setupModel()마다 새로 만든다
+     */
+    private LAppMinimumAssetLoader.LoadStatistics loadStatistics = new LAppMinimumAssetLoader.LoadStatistics();
 
     private final List<CubismId> eyeBlinkIds = new ArrayList<CubismId>();
     private final List<CubismId> lipSyncIds = new ArrayList<CubismId>();
@@ -592,6 +719,10 @@ public class LAppMinimumModel extends CubismUserModel {
      * 読み込まれている表情のマップ
      */
     private final Map<String, ACubismMotion> expressions = new HashMap<String, ACubismMotion>();
+    /**
+     * 모델이 참조하고 있는 텍스처
+     */
+    private final List<LAppMinimumTextureManager.TextureInfo> textures = new ArrayList<LAppMinimumTextureManager.TextureInfo>();
 
     /**
      * 얼굴 트래킹 파라미터 캐시
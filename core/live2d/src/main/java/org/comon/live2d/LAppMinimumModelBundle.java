@@ -0,0 +1,354 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+package org.comon.live2d;
+
+import com.live2d.sdk.cubism.core.Live2DCubismCore;
+import com.live2d.sdk.cubism.framework.CubismModelSettingJson;
+import com.live2d.sdk.cubism.framework.effect.CubismPose;
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
+import com.live2d.sdk.cubism.framework.motion.CubismExpressionMotion;
+import com.live2d.sdk.cubism.framework.motion.CubismMotion;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysics;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 외부 모델의 exp3/physics3/pose3/motion3.json을 미리 파싱해 둔 바이너리 번들.
+ *
+ * 임포트 시 compile()로 모델 캐시 디렉토리에 한 번 생성하고,
+ * 모델을 열 때 open()으로 읽어 JSON 파싱 없이 모션, 표정, 물리, 포즈를 생성합니다.
+ * 번들 포맷 버전, Cubism Core 버전, 모션 굽기 설정, 원본 파일의 크기와 수정 시각 중 하나라도 다르면 번들을 무시하고 JSON을 읽습니다.
+ * 모션 굽기가 켜져 있으면 모션은 샘플 테이블까지 구워서 저장합니다.
+ *
+ * 파일 구조 (리틀 엔디언):
+ *   매직 넘버, 번들 포맷 버전, Cubism Core 버전, 모션 굽기 설정(샘플레이트, 허용 오차), model3.json 파일 이름
+ *   원본 파일 목록 (상대 경로, 크기, 수정 시각)
+ *   섹션 목록 (종류, 상대 경로, 컴파일된 데이터)
+ */
+public class LAppMinimumModelBundle {
+    /**
+     * 섹션의 종류
+     */
+    public enum SectionType {
+        EXPRESSION,
+        PHYSICS,
+        POSE,
+        MOTION
+    }
+
+    /**
+     * 모델 디렉토리의 JSON 파일들을 컴파일하여 번들 파일을 생성합니다.
+     * CubismFramework의 초기화 여부와 관계없이 어느 스레드에서든 호출할 수 있습니다.
+     * 컴파일할 수 없는 파일은 번들에서 제외되며, 모델을 열 때 해당 파일만 JSON으로 읽습니다.
+     *
+     * @param modelDir 모델 디렉토리
+     * @param model3FileName 모델 디렉토리 기준 model3.json의 상대 경로
+     * @return 번들에 포함된 섹션 수
+     * @throws IOException model3.json을 읽을 수 없거나 번들 파일을 쓸 수 없는 경우
+     */
+    public static int compile(File modelDir, String model3FileName) throws IOException {
+        return compile(modelDir, model3FileName, getCoreVersion());
+    }
+
+    /**
+     * Cubism Core 버전을 지정하여 번들 파일을 생성합니다.
+     * 네이티브 라이브러리를 로드할 수 없는 단위 테스트에서 사용합니다.
+     */
+    static int compile(File modelDir, String model3FileName, int coreVersion) throws IOException {
+        final CubismModelSettingJson setting = new CubismModelSettingJson(readFile(new File(modelDir, model3FileName)));
+        if (setting.getJson() == null) {
+            throw new IOException("Failed to parse " + model3FileName);
+        }
+
+        final Compiler compiler = new Compiler(modelDir);
+        compiler.addSource(model3FileName);
+
+        for (int i = 0; i < setting.getExpressionCount(); i++) {
+            compiler.addSection(SectionType.EXPRESSION, setting.getExpressionFileName(i));
+        }
+        compiler.addSection(SectionType.PHYSICS, setting.getPhysicsFileName());
+        compiler.addSection(SectionType.POSE, setting.getPoseFileName());
+
+        for (int i = 0; i < setting.getMotionGroupCount(); i++) {
+            final String group = setting.getMotionGroupName(i);
+
+            for (int j = 0; j < setting.getMotionCount(group); j++) {
+                compiler.addSection(SectionType.MOTION, setting.getMotionFileName(group, j));
+            }
+        }
+
+        final CubismBinaryWriter writer = new CubismBinaryWriter();
+        writer.writeInt(MAGIC);
+        writer.writeInt(FORMAT_VERSION);
+        writer.writeInt(coreVersion);
+        writer.writeFloat(getBakeSampleRate());
+        writer.writeFloat(LAppDefine.MOTION_BAKE_TOLERANCE);
+        writer.writeString(model3FileName);
+
+        writer.writeInt(compiler.sourcePaths.size());
+        for (int i = 0; i < compiler.sourcePaths.size(); i++) {
+            writer.writeString(compiler.sourcePaths.get(i));
+            writer.writeLong(compiler.sourceLengths.get(i));
+            writer.writeLong(compiler.sourceLastModified.get(i));
+        }
+
+        writer.writeInt(compiler.sectionCount);
+        final byte[] sections = compiler.sections.toByteArray();
+        final byte[] header = writer.toByteArray();
+
+        // 쓰는 도중에 종료되어도 불완전한 번들이 남지 않도록 임시 파일에 쓴 후 이름을 바꿉니다.
+        final File temporaryFile = new File(modelDir, FILE_NAME + ".tmp");
+        try (FileOutputStream output = new FileOutputStream(temporaryFile)) {
+            output.write(header);
+            output.write(sections);
+        }
+        final File bundleFile = new File(modelDir, FILE_NAME);
+        if (!temporaryFile.renameTo(bundleFile)) {
+            temporaryFile.delete();
+            throw new IOException("Failed to write " + bundleFile);
+        }
+
+        if (LAppDefine.DEBUG_LOG_ENABLE) {
+            LAppMinimumPal.printLog("Model bundle compiled: " + compiler.sectionCount + " sections, " + (header.length + sections.length) + " bytes");
+        }
+        return compiler.sectionCount;
+    }
+
+    /**
+     * 모델 디렉토리의 번들 파일을 엽니다.
+     *
+     * @param modelDir 모델 디렉토리
+     * @param model3FileName 모델 디렉토리 기준 model3.json의 상대 경로
+     * @param statistics 번들 파일의 매핑을 기록할 로드 통계. null이면 기록하지 않습니다
+     * @return 번들. 번들이 없거나, 원본 파일이 변경되었거나, 버전이 다르거나, 손상된 경우 null
+     */
+    public static LAppMinimumModelBundle open(File modelDir, String model3FileName, LAppMinimumAssetLoader.LoadStatistics statistics) {
+        return open(modelDir, model3FileName, getCoreVersion(), statistics);
+    }
+
+    /**
+     * Cubism Core 버전을 지정하여 번들 파일을 엽니다.
+     * 네이티브 라이브러리를 로드할 수 없는 단위 테스트에서 사용합니다.
+     */
+    static LAppMinimumModelBundle open(File modelDir, String model3FileName, int coreVersion, LAppMinimumAssetLoader.LoadStatistics statistics) {
+        final File bundleFile = new File(modelDir, FILE_NAME);
+        if (!bundleFile.isFile() || bundleFile.length() > MAX_BUNDLE_SIZE) {
+            return null;
+        }
+
+        try {
+            // 섹션은 매핑된 파일의 뷰로 보관되므로 힙으로 복사하지 않습니다.
+            // compile()은 임시 파일의 이름을 바꿔 교체하므로 매핑 중인 파일이 덮어써지지 않습니다.
+            final CubismBinaryReader reader = new CubismBinaryReader(LAppMinimumAssetLoader.mapFile(bundleFile, statistics));
+
+            if (reader.readInt() != MAGIC
+                || reader.readInt() != FORMAT_VERSION
+                || reader.readInt() != coreVersion
+                || reader.readFloat() != getBakeSampleRate()
+                || reader.readFloat() != LAppDefine.MOTION_BAKE_TOLERANCE
+                || !model3FileName.equals(reader.readString())) {
+                printStaleLog("version mismatch");
+                return null;
+            }
+
+            // 상대 경로(4바이트 이상), 크기, 수정 시각
+            final int sourceCount = reader.readCount(20);
+            for (int i = 0; i < sourceCount; i++) {
+                final String path = reader.readString();
+                final long length = reader.readLong();
+                final long lastModified = reader.readLong();
+
+                final File source = new File(modelDir, path);
+                if (getLength(source) != length || source.lastModified() != lastModified) {
+                    printStaleLog(path + " has been changed");
+                    return null;
+                }
+            }
+
+            // 종류, 상대 경로, 데이터 길이
+            final int sectionCount = reader.readCount(12);
+            final Map<String, ByteBuffer> sections = new HashMap<String, ByteBuffer>(sectionCount * 2);
+            final SectionType[] types = SectionType.values();
+            for (int i = 0; i < sectionCount; i++) {
+                final int type = reader.readInt();
+                final String path = reader.readString();
+
+                if (type < 0 || types.length <= type) {
+                    throw new CubismBinaryFormatException("Invalid section type: " + type);
+                }
+                sections.put(getSectionKey(types[type], path), reader.readByteBuffer());
+            }
+
+            return new LAppMinimumModelBundle(sections);
+        } catch (IOException | RuntimeException e) {
+            printStaleLog(e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * 섹션의 컴파일된 데이터를 읽는 reader를 반환합니다.
+     * 같은 섹션을 여러 번 읽을 수 있도록 호출할 때마다 새로운 reader를 생성합니다.
+     *
+     * @param type 섹션의 종류
+     * @param path model3.json에 기재된 파일의 상대 경로
+     * @return reader. 번들에 해당 섹션이 없으면 null
+     */
+    public CubismBinaryReader getSection(SectionType type, String path) {
+        final ByteBuffer section = sections.get(getSectionKey(type, path));
+
+        if (section == null) {
+            return null;
+        }
+        return new CubismBinaryReader(section);
+    }
+
+    /**
+     * 번들에 포함된 섹션 수를 반환합니다.
+     */
+    public int getSectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * 컴파일 중인 번들의 원본 파일 목록과 섹션을 보관합니다.
+     * (compile()에서만 사용)
+     */
+    private static class Compiler {
+        Compiler(File modelDir) {
+            this.modelDir = modelDir;
+        }
+
+        void addSource(String path) {
+            if (!sourcePathSet.add(path)) {
+                return;
+            }
+            final File file = new File(modelDir, path);
+
+            sourcePaths.add(path);
+            sourceLengths.add(getLength(file));
+            sourceLastModified.add(file.lastModified());
+        }
+
+        void addSection(SectionType type, String path) {
+            if (path == null || path.isEmpty() || !sectionKeys.add(getSectionKey(type, path))) {
+                return;
+            }
+            // 파일이 없어도 나중에 추가되면 번들이 무효화되도록 원본 파일 목록에는 기록합니다.
+            addSource(path);
+
+            final CubismBinaryWriter writer = new CubismBinaryWriter();
+            try {
+                final byte[] json = readFile(new File(modelDir, path));
+
+                switch (type) {
+                    case EXPRESSION:
+                        CubismExpressionMotion.compile(json, writer);
+                        break;
+                    case PHYSICS:
+                        CubismPhysics.compile(json, writer);
+                        break;
+                    case POSE:
+                        CubismPose.compile(json, writer);
+                        break;
+                    case MOTION:
+                        if (LAppDefine.MOTION_BAKE_ENABLE) {
+                            CubismMotion.compile(json, writer, LAppDefine.MOTION_BAKE_SAMPLE_RATE, LAppDefine.MOTION_BAKE_TOLERANCE);
+                        } else {
+                            CubismMotion.compile(json, writer);
+                        }
+                        break;
+                }
+            } catch (IOException | RuntimeException e) {
+                if (LAppDefine.DEBUG_LOG_ENABLE) {
+                    LAppMinimumPal.printLog("Model bundle: skipped " + path + " (" + e.getMessage() + ")");
+                }
+                return;
+            }
+
+            sections.writeInt(type.ordinal());
+            sections.writeString(path);
+            sections.writeBytes(writer.toByteArray());
+            sectionCount++;
+        }
+
+        private final File modelDir;
+        private final List<String> sourcePaths = new ArrayList<String>();
+        private final List<Long> sourceLengths = new ArrayList<Long>();
+        private final List<Long> sourceLastModified = new ArrayList<Long>();
+        private final Set<String> sourcePathSet = new HashSet<String>();
+        private final Set<String> sectionKeys = new HashSet<String>();
+        private final CubismBinaryWriter sections = new CubismBinaryWriter(64 * 1024);
+        private int sectionCount;
+    }
+
+    private LAppMinimumModelBundle(Map<String, ByteBuffer> sections) {
+        this.sections = sections;
+    }
+
+    private static String getSectionKey(SectionType type, String path) {
+        return type.ordinal() + ":" + path;
+    }
+
+    // 존재하지 않는 파일은 -1
+    private static long getLength(File file) {
+        return file.isFile() ? file.length() : -1L;
+    }
+
+    private static int getCoreVersion() {
+        return Live2DCubismCore.getVersion().getVersionNumber();
+    }
+
+    // 모션 굽기가 꺼져 있으면 0
+    private static float getBakeSampleRate() {
+        return LAppDefine.MOTION_BAKE_ENABLE ? LAppDefine.MOTION_BAKE_SAMPLE_RATE : 0.0f;
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        final long length = file.length();
+        if (length > MAX_BUNDLE_SIZE) {
+            throw new IOException("File too large: " + file);
+        }
+
+        // 컴파일은 임포트 스레드에서 실행되므로 모델의 로드 통계에 기록하지 않습니다.
+        return LAppMinimumAssetLoader.readFile(file, null);
+    }
+
+    private static void printStaleLog(String reason) {
+        if (LAppDefine.DEBUG_LOG_ENABLE) {
+            LAppMinimumPal.printLog("Model bundle ignored: " + reason);
+        }
+    }
+
+    /**
+     * 모델 디렉토리 안의 번들 파일 이름
+     */
+    public static final String FILE_NAME = ".model.bundle";
+    /**
+     * 번들 포맷 버전. 파일 구조가 바뀌면 올립니다.
+     * 각 섹션의 데이터는 프레임워크 쪽에서 따로 버전을 확인합니다.
+     */
+    private static final int FORMAT_VERSION = 2;
+    private static final int MAGIC = 0x424d324c; // "L2MB"
+    private static final long MAX_BUNDLE_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * 종류와 상대 경로를 키로 하는 섹션 데이터
+     */
+    private final Map<String, ByteBuffer> sections;
+}
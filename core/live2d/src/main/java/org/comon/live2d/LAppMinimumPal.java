@@ -11,11 +11,6 @@ import com.live2d.sdk.cubism.core.ICubismLogger;
 
 import org.comon.live2d.LAppDefine;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-
 public class LAppMinimumPal {
     // 외부 모델 로딩을 위한 기본 경로
     private static String externalBasePath = null;
@@ -66,60 +61,29 @@ public class LAppMinimumPal {
 
     // デルタタイムの更新
     public static void updateTime() {
-        s_currentFrame = getSystemNanoTime();
+        updateTime(getSystemNanoTime());
+    }
+
+    /**
+     * 지정한 시각으로 델타 타임을 갱신합니다.
+     *
+     * @param frameTimeNanos 이번 프레임의 시각 (System.nanoTime()과 같은 기준). 프레임 페이서의 예상 표시 시각
+     */
+    public static void updateTime(long frameTimeNanos) {
+        s_currentFrame = frameTimeNanos;
         deltaNanoTime = s_currentFrame - lastNanoTime;
         lastNanoTime = s_currentFrame;
     }
 
     // ファイルをバイト列として読み込む (assets 또는 파일 시스템에서)
+    // 파일 크기만큼 한 번에 할당해 끝까지 읽습니다. 자세한 방식은 LAppMinimumAssetLoader 참고
     public static byte[] loadFileAsBytes(final String path) {
-        InputStream fileData = null;
-        try {
-            if (externalBasePath != null) {
-                // 파일 시스템에서 로드
-                File file = new File(externalBasePath, path);
-                if (!file.exists()) {
-                    // 절대 경로로 시도
-                    file = new File(path);
-                }
-                if (!file.exists()) {
-                    if (LAppDefine.DEBUG_LOG_ENABLE) {
-                        printLog("File not found: " + path);
-                    }
-                    return new byte[0];
-                }
-                fileData = new FileInputStream(file);
-            } else {
-                // assets에서 로드
-                fileData = LAppMinimumDelegate.getInstance().getActivity().getAssets().open(path);
-            }
-
-            int fileSize = fileData.available();
-            byte[] fileBuffer = new byte[fileSize];
-            fileData.read(fileBuffer, 0, fileSize);
-
-            return fileBuffer;
-        } catch (IOException e) {
-            e.printStackTrace();
-
-            if (LAppDefine.DEBUG_LOG_ENABLE) {
-                printLog("File open error: " + path);
-            }
-
-            return new byte[0];
-        } finally {
-            try {
-                if (fileData != null) {
-                    fileData.close();
-                }
-            } catch (IOException e) {
-                e.printStackTrace();
-
-                if (LAppDefine.DEBUG_LOG_ENABLE) {
-                    printLog("File close error.");
-                }
-            }
-        }
+        return LAppMinimumAssetLoader.loadBytes(path, null);
+    }
+
+    // 읽은 파일을 지정한 로드 통계에 기록한다
+    public static byte[] loadFileAsBytes(final String path, final LAppMinimumAssetLoader.LoadStatistics statistics) {
+        return LAppMinimumAssetLoader.loadBytes(path, statistics);
     }
 
     // デルタタイム(前回フレームとの差分)を取得する
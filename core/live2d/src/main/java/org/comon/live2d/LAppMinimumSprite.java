@@ -9,9 +9,13 @@ package org.comon.live2d;
 
 import android.opengl.GLES20;
 
+import com.live2d.sdk.cubism.framework.rendering.android.CubismRendererAndroid;
+import com.live2d.sdk.cubism.framework.rendering.android.ICubismGL;
+
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
+import java.util.Arrays;
 
 import static android.opengl.GLES20.GL_FLOAT;
 import static android.opengl.GLES20.GL_TEXTURE_2D;
@@ -31,17 +35,22 @@ public class LAppMinimumSprite {
         rect.down = y - height * 0.5f;
 
         this.textureId = textureId;
+        this.programId = programId;
 
         // 何番目のattribute変数か
-        positionLocation = GLES20.glGetAttribLocation(programId, "position");
-        uvLocation = GLES20.glGetAttribLocation(programId, "uv");
-        textureLocation = GLES20.glGetUniformLocation(programId, "texture");
-        colorLocation = GLES20.glGetUniformLocation(programId, "baseColor");
+        positionLocation = gl.glGetAttribLocation(programId, "position");
+        uvLocation = gl.glGetAttribLocation(programId, "uv");
+        textureLocation = gl.glGetUniformLocation(programId, "texture");
+        colorLocation = gl.glGetUniformLocation(programId, "baseColor");
 
         spriteColor[0] = 1.0f;
         spriteColor[1] = 1.0f;
         spriteColor[2] = 1.0f;
         spriteColor[3] = 1.0f;
+
+        // 정점 버퍼는 한 번만 할당하고 이후에는 내용만 다시 씁니다.
+        positionBuffer = createFloatBuffer(8);
+        uvBuffer = createFloatBuffer(8);
     }
 
     /**
@@ -51,54 +60,71 @@ public class LAppMinimumSprite {
      * @param uvVertex uv頂点座標
      */
     public void renderImmediate(int textureId, final float[] uvVertex) {
+        // 모델 렌더러가 GL 상태를 복원하지 않으므로 스프라이트에 필요한 상태를 직접 설정합니다.
+        gl.glUseProgram(programId);
+        gl.glActiveTexture(GLES20.GL_TEXTURE0);
+        gl.glBlendFunc(GLES20.GL_SRC_ALPHA, GLES20.GL_ONE_MINUS_SRC_ALPHA);
+
         // attribute属性を有効にする
-        GLES20.glEnableVertexAttribArray(positionLocation);
-        GLES20.glEnableVertexAttribArray(uvLocation);
+        gl.glEnableVertexAttribArray(positionLocation);
+        gl.glEnableVertexAttribArray(uvLocation);
 
         // uniform属性の登録
-        GLES20.glUniform1i(textureLocation, 0);
+        gl.glUniform1i(textureLocation, 0);
 
         // 頂点データ
-        float[] positionVertex = {
-            (rect.right - maxWidth * 0.5f) / (maxWidth * 0.5f), (rect.up - maxHeight * 0.5f) / (maxHeight * 0.5f),
-            (rect.left - maxWidth * 0.5f) / (maxWidth * 0.5f), (rect.up - maxHeight * 0.5f) / (maxHeight * 0.5f),
-            (rect.left - maxWidth * 0.5f) / (maxWidth * 0.5f), (rect.down - maxHeight * 0.5f) / (maxHeight * 0.5f),
-            (rect.right - maxWidth * 0.5f) / (maxWidth * 0.5f), (rect.down - maxHeight * 0.5f) / (maxHeight * 0.5f)
-        };
-
-        // attribute属性を登録
-        {
-            ByteBuffer bb = ByteBuffer.allocateDirect(positionVertex.length * 4);
-            bb.order(ByteOrder.nativeOrder());
-            FloatBuffer buffer = bb.asFloatBuffer();
-            buffer.put(positionVertex);
-            buffer.position(0);
-
-            GLES20.glVertexAttribPointer(positionLocation, 2, GL_FLOAT, false, 0, buffer);
+        // rect나 화면 크기가 바뀐 경우에만 정점 좌표를 다시 계산합니다.
+        if (isPositionDirty) {
+            positionVertex[0] = (rect.right - maxWidth * 0.5f) / (maxWidth * 0.5f);
+            positionVertex[1] = (rect.up - maxHeight * 0.5f) / (maxHeight * 0.5f);
+            positionVertex[2] = (rect.left - maxWidth * 0.5f) / (maxWidth * 0.5f);
+            positionVertex[3] = (rect.up - maxHeight * 0.5f) / (maxHeight * 0.5f);
+            positionVertex[4] = (rect.left - maxWidth * 0.5f) / (maxWidth * 0.5f);
+            positionVertex[5] = (rect.down - maxHeight * 0.5f) / (maxHeight * 0.5f);
+            positionVertex[6] = (rect.right - maxWidth * 0.5f) / (maxWidth * 0.5f);
+            positionVertex[7] = (rect.down - maxHeight * 0.5f) / (maxHeight * 0.5f);
+
+            positionBuffer.clear();
+            positionBuffer.put(positionVertex);
+            positionBuffer.position(0);
+            isPositionDirty = false;
         }
-        {
-            ByteBuffer bb = ByteBuffer.allocateDirect(uvVertex.length * 4);
-            bb.order(ByteOrder.nativeOrder());
-            FloatBuffer buffer = bb.asFloatBuffer();
-            buffer.put(uvVertex);
-            buffer.position(0);
-
-            GLES20.glVertexAttribPointer(uvLocation, 2, GL_FLOAT, false, 0, buffer);
+        // UV도 이전과 다른 경우에만 다시 씁니다.
+        if (!Arrays.equals(uvVertex, uvVertexCache)) {
+            System.arraycopy(uvVertex, 0, uvVertexCache, 0, uvVertexCache.length);
+
+            uvBuffer.clear();
+            uvBuffer.put(uvVertexCache);
+            uvBuffer.position(0);
         }
 
-        GLES20.glUniform4f(colorLocation, spriteColor[0], spriteColor[1], spriteColor[2], spriteColor[3]);
+        // attribute属性を登録
+        gl.glVertexAttribPointer(positionLocation, 2, GL_FLOAT, false, 0, positionBuffer);
+        gl.glVertexAttribPointer(uvLocation, 2, GL_FLOAT, false, 0, uvBuffer);
+
+        gl.glUniform4f(colorLocation, spriteColor[0], spriteColor[1], spriteColor[2], spriteColor[3]);
 
         // モデルの描画
-        GLES20.glBindTexture(GLES20.GL_TEXTURE_2D, textureId);
-        GLES20.glDrawArrays(GLES20.GL_TRIANGLE_FAN, 0, 4);
+        gl.glBindTexture(GLES20.GL_TEXTURE_2D, textureId);
+        gl.glDrawArrays(GLES20.GL_TRIANGLE_FAN, 0, 4);
     }
 
     // リサイズする
     public void resize(float x, float y, float width, float height) {
-        rect.left = x - width * 0.5f;
-        rect.right = x + width * 0.5f;
-        rect.up = y + height * 0.5f;
-        rect.down = y - height * 0.5f;
+        final float left = x - width * 0.5f;
+        final float right = x + width * 0.5f;
+        final float up = y + height * 0.5f;
+        final float down = y - height * 0.5f;
+
+        // 매 프레임 같은 크기로 호출되므로 실제로 바뀐 경우에만 정점을 갱신합니다.
+        if (left == rect.left && right == rect.right && up == rect.up && down == rect.down) {
+            return;
+        }
+        rect.left = left;
+        rect.right = right;
+        rect.up = up;
+        rect.down = down;
+        isPositionDirty = true;
     }
 
     public void setColor(float r, float g, float b, float a) {
@@ -115,8 +141,19 @@ public class LAppMinimumSprite {
      * @param height 高さ
      */
     public void setWindowSize(int width, int height) {
+        if (maxWidth == width && maxHeight == height) {
+            return;
+        }
         maxWidth = width;
         maxHeight = height;
+        isPositionDirty = true;
+    }
+
+    // 네이티브 메모리에 정점 버퍼를 할당합니다.
+    private static FloatBuffer createFloatBuffer(int length) {
+        ByteBuffer bb = ByteBuffer.allocateDirect(length * 4);
+        bb.order(ByteOrder.nativeOrder());
+        return bb.asFloatBuffer();
     }
 
     /**
@@ -135,6 +172,7 @@ public class LAppMinimumSprite {
 
     private final Rect rect = new Rect();
     private final int textureId;
+    private final int programId;
 
     private final int positionLocation;  // 位置アトリビュート
     private final int uvLocation; // UVアトリビュート
@@ -144,4 +182,13 @@ public class LAppMinimumSprite {
 
     private int maxWidth;   // ウィンドウ幅
     private int maxHeight;  // ウィンドウ高さ
+
+    private final float[] positionVertex = new float[8];   // 정점 좌표
+    private final float[] uvVertexCache = new float[8];    // 마지막으로 버퍼에 쓴 UV 좌표
+    private final FloatBuffer positionBuffer;   // 정점 좌표 버퍼
+    private final FloatBuffer uvBuffer;         // UV 좌표 버퍼
+    private boolean isPositionDirty = true;     // 정점 좌표를 다시 계산해야 하는지
+
+    // 모델 렌더러와 같은 GL 구현을 사용합니다. GPU 없이 기록용 구현으로 실행할 수 있습니다.
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
 }
@@ -17,10 +17,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 // テクスチャの管理を行うクラス
+// 모델이 참조하는 텍스처는 참조 카운트로 관리하고, 참조가 없어진 텍스처는 VRAM 예산을 넘을 때까지 재사용을 위해 남겨 둡니다.
 public class LAppMinimumTextureManager {
     // 画像情報データクラス
     public static class TextureInfo {
@@ -28,16 +30,34 @@ public class LAppMinimumTextureManager {
         public int width;   // 横幅
         public int height;  // 高さ
         public String filePath; // ファイル名
+        public long memorySize; // 밉맵을 포함한 VRAM 사용량 추정치(바이트)
+
+        private String key;   // 캐시 키 (외부 기본 경로를 포함한 경로)
+        private int referenceCount; // 이 텍스처를 사용 중인 모델 수
+    }
+
+    public LAppMinimumTextureManager() {
+        this(LAppDefine.TEXTURE_MEMORY_BUDGET);
+    }
+
+    /**
+     * @param memoryBudget 참조가 없는 텍스처를 남겨 둘 VRAM 예산(바이트)
+     */
+    public LAppMinimumTextureManager(long memoryBudget) {
+        this.memoryBudget = Math.max(memoryBudget, 0L);
     }
 
     // 画像読み込み (assets 또는 파일 시스템에서)
     // imageFileOffset: glGenTexturesで作成したテクスチャの保存場所
+    // 반환된 텍스처는 사용이 끝나면 releaseTexture()로 반환해야 합니다.
     public TextureInfo createTextureFromPngFile(String filePath) {
         // search loaded texture already
-        for (TextureInfo textureInfo : textures) {
-            if (textureInfo.filePath.equals(filePath)) {
-                return textureInfo;
-            }
+        // 외부 모델은 상대 경로가 같을 수 있으므로 기본 경로를 포함해 찾는다
+        final String key = getCacheKey(filePath);
+        TextureInfo cachedTexture = textures.get(key);
+        if (cachedTexture != null) {
+            cachedTexture.referenceCount++;
+            return cachedTexture;
         }
 
         // 외부 경로 또는 assets에서 이미지 로드
@@ -92,13 +112,139 @@ public class LAppMinimumTextureManager {
         textureInfo.width = bitmap.getWidth();
         textureInfo.height = bitmap.getHeight();
         textureInfo.id = textureId[0];
-        textures.add(textureInfo);
+        // RGBA8888 + 밉맵(약 1/3)
+        textureInfo.memorySize = (long) textureInfo.width * textureInfo.height * 4L * 4L / 3L;
+        textureInfo.key = key;
+        textureInfo.referenceCount = 1;
+        textures.put(key, textureInfo);
+        textureCount = textures.size();
+        memoryUsage += textureInfo.memorySize;
 
         // bitmap解放
         bitmap.recycle();
 
+        // 새 텍스처가 들어갈 자리를 만든다
+        trimToBudget();
+
+        if (LAppDefine.DEBUG_LOG_ENABLE) {
+            LAppMinimumPal.printLog("Texture loaded: " + filePath + " (" + textures.size() + " textures, " + memoryUsage + " bytes)");
+        }
+
         return textureInfo;
     }
 
-    private final List<TextureInfo> textures = new ArrayList<TextureInfo>();        // 画像情報のリスト
+    /**
+     * 텍스처의 참조를 반환합니다.
+     * 참조가 없어진 텍스처는 바로 삭제하지 않고, VRAM 예산을 넘는 경우 오래 사용하지 않은 순서로 삭제합니다.
+     * GL 스레드에서 호출해야 합니다.
+     *
+     * @param textureInfo createTextureFromPngFile()이 반환한 텍스처
+     */
+    public void releaseTexture(TextureInfo textureInfo) {
+        if (textureInfo == null || textures.get(textureInfo.key) != textureInfo || textureInfo.referenceCount == 0) {
+            return;
+        }
+        textureInfo.referenceCount--;
+
+        trimToBudget();
+    }
+
+    /**
+     * 모든 텍스처를 참조 여부와 상관없이 삭제합니다.
+     * GL 스레드에서 호출해야 합니다.
+     */
+    public void releaseAllTextures() {
+        for (TextureInfo textureInfo : textures.values()) {
+            deleteTexture(textureInfo);
+        }
+        textures.clear();
+        textureCount = 0;
+        memoryUsage = 0;
+    }
+
+    /**
+     * 참조가 없는 텍스처를 남겨 둘 VRAM 예산을 설정합니다.
+     * 예산이 줄어 사용량이 넘으면 그 자리에서 오래 사용하지 않은 텍스처부터 삭제합니다.
+     * 0이면 참조가 없어진 텍스처를 바로 삭제합니다. 참조 중인 텍스처는 예산을 넘어도 삭제하지 않습니다.
+     * GL 스레드에서 호출해야 합니다. 다른 스레드에서는 LAppMinimumDelegate.setTextureMemoryBudget()을 사용합니다.
+     *
+     * @param budget 예산(바이트)
+     */
+    public void setMemoryBudget(long budget) {
+        memoryBudget = Math.max(budget, 0L);
+        trimToBudget();
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * 이 매니저 밖에서 만든 텍스처(배경 등)의 VRAM 사용량을 알려 예산에 함께 계산하도록 합니다.
+     * 사용량이 늘어 예산을 넘으면 참조가 없는 텍스처를 오래 사용하지 않은 순서로 삭제합니다.
+     * GL 스레드에서 호출해야 합니다.
+     *
+     * @param usage 사용량(바이트)
+     */
+    public void setExternalMemoryUsage(long usage) {
+        externalMemoryUsage = Math.max(usage, 0L);
+        trimToBudget();
+    }
+
+    /**
+     * 현재 생성되어 있는 텍스처의 VRAM 사용량 추정치(바이트)를 반환합니다. setExternalMemoryUsage()로 알린 사용량은 포함하지 않습니다.
+     * 어느 스레드에서든 호출할 수 있습니다.
+     */
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * 현재 생성되어 있는 텍스처 수를 반환합니다.
+     * 어느 스레드에서든 호출할 수 있습니다.
+     */
+    public int getTextureCount() {
+        return textureCount;
+    }
+
+    // 예산을 넘는 동안 참조가 없는 텍스처를 오래 사용하지 않은 순서로 삭제한다
+    private void trimToBudget() {
+        final Iterator<TextureInfo> iterator = textures.values().iterator();
+
+        while (memoryUsage + externalMemoryUsage > memoryBudget && iterator.hasNext()) {
+            final TextureInfo textureInfo = iterator.next();
+            if (textureInfo.referenceCount > 0) {
+                continue;
+            }
+
+            iterator.remove();
+            textureCount = textures.size();
+            deleteTexture(textureInfo);
+
+            if (LAppDefine.DEBUG_LOG_ENABLE) {
+                LAppMinimumPal.printLog("Texture evicted: " + textureInfo.filePath + " (" + memoryUsage + " bytes)");
+            }
+        }
+    }
+
+    private void deleteTexture(TextureInfo textureInfo) {
+        final int[] textureId = {textureInfo.id};
+        GLES20.glDeleteTextures(1, textureId, 0);
+        memoryUsage -= textureInfo.memorySize;
+        textureInfo.referenceCount = 0;
+    }
+
+    private static String getCacheKey(String filePath) {
+        final String basePath = LAppMinimumPal.getExternalBasePath();
+        return basePath != null ? basePath + File.separator + filePath : filePath;
+    }
+
+    // 画像情報のマップ。접근 순서로 정렬되어 맨 앞이 가장 오래 사용하지 않은 텍스처
+    private final Map<String, TextureInfo> textures = new LinkedHashMap<String, TextureInfo>(16, 0.75f, true);
+    // 사용량과 텍스처 수는 GL 스레드에서만 바뀌고, 다른 스레드에서 읽을 수 있도록 volatile로 둔다
+    private volatile long memoryUsage;
+    private volatile int textureCount;
+    private long memoryBudget;
+    // 이 매니저 밖에서 만든 텍스처의 사용량 (GL 스레드 전용)
+    private long externalMemoryUsage;
 }
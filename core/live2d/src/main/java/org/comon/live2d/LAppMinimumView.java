@@ -108,13 +108,6 @@ public class LAppMinimumView implements AutoCloseable {
 
         // 各モデルが持つ描画ターゲットをテクスチャとする場合
         if (renderingTarget == RenderingTarget.MODEL_FRAME_BUFFER && renderingSprite != null) {
-            final float[] uvVertex = {
-                1.0f, 1.0f,
-                0.0f, 1.0f,
-                0.0f, 0.0f,
-                1.0f, 0.0f
-            };
-
             LAppMinimumModel model = LAppMinimumLive2DManager.getInstance().getModel(0);
             float alpha = getSpriteAlpha(2);    // 片方のみ不透明度を取得できるようにする。
 
@@ -122,7 +115,7 @@ public class LAppMinimumView implements AutoCloseable {
 
             if (model != null) {
                 renderingSprite.setWindowSize(maxWidth, maxHeight);
-                renderingSprite.renderImmediate(model.getRenderingBuffer().getColorBuffer()[0], uvVertex);
+                renderingSprite.renderImmediate(model.getRenderingBuffer().getColorBuffer()[0], RENDERING_SPRITE_UV_VERTEX);
             }
         }
     }
@@ -178,12 +171,6 @@ public class LAppMinimumView implements AutoCloseable {
 
             // LAppViewの持つフレームバッファを使うなら、スプライトへの描画はこことなる
             if (renderingTarget == RenderingTarget.VIEW_FRAME_BUFFER && renderingSprite != null) {
-                final float[] uvVertex = {
-                    1.0f, 1.0f,
-                    0.0f, 1.0f,
-                    0.0f, 0.0f,
-                    1.0f, 0.0f
-                };
                 renderingSprite.setColor(1.0f, 1.0f, 1.0f, getSpriteAlpha(0));
 
                 // 画面サイズを取得する。
@@ -191,7 +178,7 @@ public class LAppMinimumView implements AutoCloseable {
                 int maxHeight = LAppMinimumDelegate.getInstance().getWindowHeight();
 
                 renderingSprite.setWindowSize(maxWidth, maxHeight);
-                renderingSprite.renderImmediate(useTarget.getColorBuffer()[0], uvVertex);
+                renderingSprite.renderImmediate(useTarget.getColorBuffer()[0], RENDERING_SPRITE_UV_VERTEX);
             }
         }
     }
@@ -320,6 +307,16 @@ public class LAppMinimumView implements AutoCloseable {
         return spriteShader;
     }
 
+    /**
+     * 렌더링 타깃 스프라이트의 UV 좌표. 매 프레임 배열을 만들지 않도록 공유합니다.
+     */
+    private static final float[] RENDERING_SPRITE_UV_VERTEX = {
+        1.0f, 1.0f,
+        0.0f, 1.0f,
+        0.0f, 0.0f,
+        1.0f, 0.0f
+    };
+
     private final CubismMatrix44 deviceToScreen = CubismMatrix44.create(); // デバイス座標からスクリーン座標に変換するための行列
     private final CubismViewMatrix viewMatrix = new CubismViewMatrix();   // 画面表示の拡縮や移動の変換を行う行列
 
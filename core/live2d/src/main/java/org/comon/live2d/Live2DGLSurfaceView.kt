@@ -19,6 +19,12 @@ class Live2DGLSurfaceView(context: Context): GLSurfaceView(context) {
     // 렌더러 참조 (녹화용)
     private val glRenderer = GLRendererMinimum()
 
+    // 프레임 페이서가 vsync마다 호출하는 렌더링 요청
+    private val requestRenderCallback = Runnable { requestRender() }
+
+    // onResume()~onPause() 사이인지 여부 (분리 후 다시 붙을 때 페이서 재시작용)
+    private var isResumed = false
+
     /** GL Surface 너비 (녹화 해상도 결정용) */
     val surfaceWidth: Int get() = glRenderer.recordWidth
 
@@ -62,13 +68,44 @@ class Live2DGLSurfaceView(context: Context): GLSurfaceView(context) {
         preserveEGLContextOnPause = true
 
         // 뷰 생성 시 델리게이트 초기화 (재진입 시 리소스 갱신 위해)
-        LAppMinimumDelegate.getInstance().onStart(context as android.app.Activity)
+        LAppMinimumDelegate.getInstance().onStart(context as android.app.Activity, this)
 
         // Live2D minimum renderer
         setRenderer(glRenderer)
 
-        // 계속 렌더링(테스트용)
-        renderMode = RENDERMODE_CONTINUOUSLY
+        // vsync마다 프레임 페이서가 렌더링을 요청 (비활성화 시 계속 렌더링)
+        renderMode = if (LAppDefine.FRAME_PACING_ENABLE) RENDERMODE_WHEN_DIRTY else RENDERMODE_CONTINUOUSLY
+    }
+
+    override fun onResume() {
+        super.onResume()
+        isResumed = true
+        startFramePacer()
+    }
+
+    override fun onPause() {
+        isResumed = false
+        LAppMinimumDelegate.getInstance().framePacer.stop(requestRenderCallback)
+        super.onPause()
+    }
+
+    override fun onAttachedToWindow() {
+        super.onAttachedToWindow()
+        // resume 상태에서 분리됐다가 다시 붙은 경우, 페이서가 멈춘 채로 남지 않도록 재시작
+        if (isResumed) {
+            startFramePacer()
+        }
+    }
+
+    override fun onDetachedFromWindow() {
+        LAppMinimumDelegate.getInstance().framePacer.stop(requestRenderCallback)
+        super.onDetachedFromWindow()
+    }
+
+    private fun startFramePacer() {
+        if (LAppDefine.FRAME_PACING_ENABLE) {
+            LAppMinimumDelegate.getInstance().framePacer.start(display, requestRenderCallback)
+        }
     }
 
     /**
@@ -24,6 +24,8 @@ fun Live2DScreen(
     isGestureEnabled: Boolean = false,
     isBackgroundGestureEnabled: Boolean = false,
     backgroundPath: String? = null,
+    backgroundImageWidth: Int = 0,
+    backgroundImageHeight: Int = 0,
     effectFlow: Flow<Live2DUiEffect>? = null,
     onModelLoaded: (() -> Unit)? = null,
     onModelLoadError: ((String) -> Unit)? = null,
@@ -113,7 +115,11 @@ fun Live2DScreen(
     LaunchedEffect(backgroundPath) {
         glView.queueEvent {
             if (backgroundPath != null) {
-                LAppMinimumDelegate.getInstance().setBackgroundImage(backgroundPath)
+                LAppMinimumDelegate.getInstance().setBackgroundImage(
+                    backgroundPath,
+                    backgroundImageWidth,
+                    backgroundImageHeight
+                )
             } else {
                 LAppMinimumDelegate.getInstance().clearBackgroundImage()
             }
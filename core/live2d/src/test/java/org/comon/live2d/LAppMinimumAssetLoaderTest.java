@@ -0,0 +1,104 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+package org.comon.live2d;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * LAppMinimumAssetLoader의 읽기와 로드 통계 테스트.
+ */
+public class LAppMinimumAssetLoaderTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void readFileRecordsTheHeapBytes() throws IOException {
+        final File file = writeFile("model.moc3", 1000);
+        final LAppMinimumAssetLoader.LoadStatistics statistics = new LAppMinimumAssetLoader.LoadStatistics();
+
+        assertArrayEquals(Files.readAllBytes(file.toPath()), LAppMinimumAssetLoader.readFile(file, statistics));
+
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(1000, statistics.getHeapByteCount());
+        assertEquals(0, statistics.getMappedByteCount());
+    }
+
+    @Test
+    public void mapFileRecordsTheMappedBytes() throws IOException {
+        final File file = writeFile(".model.bundle", 300);
+        final LAppMinimumAssetLoader.LoadStatistics statistics = new LAppMinimumAssetLoader.LoadStatistics();
+
+        final ByteBuffer buffer = LAppMinimumAssetLoader.mapFile(file, statistics);
+        assertEquals(300, buffer.remaining());
+        LAppMinimumAssetLoader.readFile(file, statistics);
+
+        assertEquals(2, statistics.getLoadCount());
+        assertEquals(300, statistics.getHeapByteCount());
+        assertEquals(300, statistics.getMappedByteCount());
+    }
+
+    @Test
+    public void loadsWithoutStatisticsAreNotRecorded() throws IOException {
+        final File file = writeFile("model.moc3", 100);
+
+        assertEquals(100, LAppMinimumAssetLoader.readFile(file, null).length);
+        assertEquals(100, LAppMinimumAssetLoader.mapFile(file, null).remaining());
+    }
+
+    @Test
+    public void concurrentLoadsKeepTheirOwnStatistics() throws Exception {
+        // 모델 로드와 임포트 시 번들 컴파일이 동시에 파일을 읽는 경우
+        final File modelFile = writeFile("model.moc3", 1000);
+        final File importedFile = writeFile("imported.motion3.json", 10);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final Future<LAppMinimumAssetLoader.LoadStatistics> model = executor.submit(() -> load(modelFile));
+            final Future<LAppMinimumAssetLoader.LoadStatistics> imported = executor.submit(() -> load(importedFile));
+
+            assertEquals(LOAD_COUNT, model.get().getLoadCount());
+            assertEquals(LOAD_COUNT * 1000L, model.get().getHeapByteCount());
+            assertEquals(LOAD_COUNT, imported.get().getLoadCount());
+            assertEquals(LOAD_COUNT * 10L, imported.get().getHeapByteCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static LAppMinimumAssetLoader.LoadStatistics load(File file) throws IOException {
+        final LAppMinimumAssetLoader.LoadStatistics statistics = new LAppMinimumAssetLoader.LoadStatistics();
+        for (int i = 0; i < LOAD_COUNT; i++) {
+            LAppMinimumAssetLoader.readFile(file, statistics);
+        }
+        return statistics;
+    }
+
+    private File writeFile(String name, int length) throws IOException {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        final File file = temporaryFolder.newFile(name);
+        Files.write(file.toPath(), data);
+        return file;
+    }
+
+    private static final int LOAD_COUNT = 200;
+}
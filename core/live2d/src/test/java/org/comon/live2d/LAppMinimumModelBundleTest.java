@@ -0,0 +1,272 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+package org.comon.live2d;
+
+import com.live2d.sdk.cubism.framework.effect.CubismPose;
+import com.live2d.sdk.cubism.framework.motion.CubismExpressionMotion;
+import com.live2d.sdk.cubism.framework.motion.CubismMotion;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysics;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * LAppMinimumModelBundle의 생성, 읽기, 무효화 테스트.
+ * 단위 테스트에서는 Cubism Core의 네이티브 라이브러리를 로드할 수 없으므로 Core 버전을 지정하는 오버로드를 사용합니다.
+ */
+public class LAppMinimumModelBundleTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() throws IOException {
+        modelDir = temporaryFolder.newFolder("model");
+
+        writeFile(MODEL3_FILE_NAME, MODEL3_JSON);
+        writeFile(EXPRESSION_FILE_NAME, EXPRESSION_JSON);
+        writeFile(PHYSICS_FILE_NAME, PHYSICS_JSON);
+        writeFile(POSE_FILE_NAME, POSE_JSON);
+        writeFile(MOTION_FILE_NAME, MOTION_JSON);
+    }
+
+    @Test
+    public void compiledSectionsMatchTheJsonFiles() throws IOException {
+        assertEquals(4, LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION));
+
+        final LAppMinimumAssetLoader.LoadStatistics statistics = new LAppMinimumAssetLoader.LoadStatistics();
+        final LAppMinimumModelBundle bundle = LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, statistics);
+        assertNotNull(bundle);
+        assertEquals(4, bundle.getSectionCount());
+
+        // 번들 파일은 힙으로 읽지 않고 매핑합니다.
+        assertEquals(1, statistics.getLoadCount());
+        assertEquals(0, statistics.getHeapByteCount());
+        assertEquals(new File(modelDir, LAppMinimumModelBundle.FILE_NAME).length(), statistics.getMappedByteCount());
+
+        final CubismBinaryWriter expression = new CubismBinaryWriter();
+        CubismExpressionMotion.compile(EXPRESSION_JSON.getBytes(StandardCharsets.UTF_8), expression);
+        assertSection(expression, bundle.getSection(LAppMinimumModelBundle.SectionType.EXPRESSION, EXPRESSION_FILE_NAME));
+
+        final CubismBinaryWriter physics = new CubismBinaryWriter();
+        CubismPhysics.compile(PHYSICS_JSON.getBytes(StandardCharsets.UTF_8), physics);
+        assertSection(physics, bundle.getSection(LAppMinimumModelBundle.SectionType.PHYSICS, PHYSICS_FILE_NAME));
+
+        final CubismBinaryWriter pose = new CubismBinaryWriter();
+        CubismPose.compile(POSE_JSON.getBytes(StandardCharsets.UTF_8), pose);
+        assertSection(pose, bundle.getSection(LAppMinimumModelBundle.SectionType.POSE, POSE_FILE_NAME));
+
+        final CubismBinaryWriter motion = new CubismBinaryWriter();
+        if (LAppDefine.MOTION_BAKE_ENABLE) {
+            CubismMotion.compile(MOTION_JSON.getBytes(StandardCharsets.UTF_8), motion, LAppDefine.MOTION_BAKE_SAMPLE_RATE, LAppDefine.MOTION_BAKE_TOLERANCE);
+        } else {
+            CubismMotion.compile(MOTION_JSON.getBytes(StandardCharsets.UTF_8), motion);
+        }
+        assertSection(motion, bundle.getSection(LAppMinimumModelBundle.SectionType.MOTION, MOTION_FILE_NAME));
+
+        // 섹션 종류가 다르면 같은 경로라도 찾지 않습니다.
+        assertNull(bundle.getSection(LAppMinimumModelBundle.SectionType.MOTION, EXPRESSION_FILE_NAME));
+        assertFalse(new File(modelDir, LAppMinimumModelBundle.FILE_NAME + ".tmp").exists());
+    }
+
+    @Test
+    public void brokenJsonFileIsLeftOutOfTheBundle() throws IOException {
+        writeFile(POSE_FILE_NAME, "{\"Groups\":");
+
+        assertEquals(3, LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION));
+
+        final LAppMinimumModelBundle bundle = LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null);
+        assertNotNull(bundle);
+        assertNull(bundle.getSection(LAppMinimumModelBundle.SectionType.POSE, POSE_FILE_NAME));
+    }
+
+    @Test
+    public void missingBundleIsNotOpened() {
+        assertNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+    }
+
+    @Test
+    public void otherCoreVersionMakesTheBundleStale() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+
+        assertNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION + 1, null));
+    }
+
+    @Test
+    public void otherModel3FileMakesTheBundleStale() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+
+        assertNull(LAppMinimumModelBundle.open(modelDir, "other.model3.json", CORE_VERSION, null));
+    }
+
+    @Test
+    public void changedSourceFileMakesTheBundleStale() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+
+        writeFile(MOTION_FILE_NAME, MOTION_JSON + " ");
+
+        assertNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+    }
+
+    @Test
+    public void touchedSourceFileMakesTheBundleStale() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+
+        final File physics = new File(modelDir, PHYSICS_FILE_NAME);
+        assertEquals(true, physics.setLastModified(physics.lastModified() - 60_000L));
+
+        assertNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+    }
+
+    @Test
+    public void addedSourceFileMakesTheBundleStale() throws IOException {
+        // model3.json에 기재되어 있지만 아직 없는 파일
+        new File(modelDir, EXPRESSION_FILE_NAME).delete();
+        assertEquals(3, LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION));
+        assertNotNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+
+        writeFile(EXPRESSION_FILE_NAME, EXPRESSION_JSON);
+
+        assertNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+    }
+
+    @Test
+    public void recompiledBundleReplacesTheStaleBundle() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+        writeFile(MOTION_FILE_NAME, MOTION_JSON + " ");
+        assertNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+
+        assertNotNull(LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+    }
+
+    @Test
+    public void truncatedBundleIsNotOpened() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+        final File bundleFile = new File(modelDir, LAppMinimumModelBundle.FILE_NAME);
+        final byte[] data = Files.readAllBytes(bundleFile.toPath());
+
+        // 번들은 끝까지 읽으므로 어디에서 잘려도 무시됩니다.
+        for (int length = 0; length < data.length; length += Math.max(1, length / 64)) {
+            writeBundle(bundleFile, data, length);
+
+            assertNull("length " + length, LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null));
+        }
+    }
+
+    @Test
+    public void corruptedBundleNeverThrows() throws IOException {
+        LAppMinimumModelBundle.compile(modelDir, MODEL3_FILE_NAME, CORE_VERSION);
+        final File bundleFile = new File(modelDir, LAppMinimumModelBundle.FILE_NAME);
+        final byte[] data = Files.readAllBytes(bundleFile.toPath());
+        final Random random = new Random(1234L);
+
+        // 섹션 데이터 안의 손상은 열 때가 아니라 섹션을 읽을 때 CubismBinaryFormatException으로 드러나므로,
+        // 여기에서는 열기가 예외 없이 끝나는지만 확인합니다.
+        for (int i = 0; i < CORRUPTION_COUNT; i++) {
+            final byte[] corrupted = data.clone();
+            final int index = random.nextInt(corrupted.length);
+            if (i % 2 == 0) {
+                corrupted[index] ^= (byte) (1 << random.nextInt(8));
+            } else {
+                corrupted[index] = (byte) 0xff;
+            }
+            writeBundle(bundleFile, corrupted, corrupted.length);
+
+            LAppMinimumModelBundle.open(modelDir, MODEL3_FILE_NAME, CORE_VERSION, null);
+        }
+    }
+
+    private void writeFile(String path, String content) throws IOException {
+        final File file = new File(modelDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBundle(File bundleFile, byte[] data, int length) throws IOException {
+        // compile()과 같이 이름을 바꿔 교체하여, 이전에 매핑한 파일을 덮어쓰지 않습니다.
+        final File temporaryFile = new File(bundleFile.getPath() + ".test");
+        try (FileOutputStream output = new FileOutputStream(temporaryFile)) {
+            output.write(data, 0, length);
+        }
+        assertEquals(true, temporaryFile.renameTo(bundleFile));
+    }
+
+    // CubismBinaryReader는 원시 바이트를 읽는 메서드가 없으므로 4바이트씩 비교하고, 나머지는 1바이트씩 비교합니다.
+    private static void assertSection(CubismBinaryWriter expected, CubismBinaryReader actual) {
+        assertNotNull(actual);
+
+        final CubismBinaryReader expectedReader = new CubismBinaryReader(expected.toByteArray());
+        assertEquals(expected.size(), actual.remaining());
+        while (expectedReader.remaining() >= 4) {
+            assertEquals(expectedReader.readInt(), actual.readInt());
+        }
+        while (expectedReader.remaining() > 0) {
+            assertEquals(expectedReader.readBoolean(), actual.readBoolean());
+        }
+    }
+
+    private static final int CORE_VERSION = 0x05000000;
+    private static final int CORRUPTION_COUNT = 500;
+
+    private static final String MODEL3_FILE_NAME = "test.model3.json";
+    private static final String EXPRESSION_FILE_NAME = "expressions/smile.exp3.json";
+    private static final String PHYSICS_FILE_NAME = "test.physics3.json";
+    private static final String POSE_FILE_NAME = "test.pose3.json";
+    private static final String MOTION_FILE_NAME = "motions/idle.motion3.json";
+
+    private static final String MODEL3_JSON = "{\"Version\":3,\"FileReferences\":{"
+        + "\"Moc\":\"test.moc3\",\"Textures\":[],"
+        + "\"Physics\":\"" + PHYSICS_FILE_NAME + "\","
+        + "\"Pose\":\"" + POSE_FILE_NAME + "\","
+        + "\"Expressions\":[{\"Name\":\"smile\",\"File\":\"" + EXPRESSION_FILE_NAME + "\"}],"
+        + "\"Motions\":{\"Idle\":[{\"File\":\"" + MOTION_FILE_NAME + "\"}],"
+        + "\"Tap\":[{\"File\":\"" + MOTION_FILE_NAME + "\"}]}}}";
+
+    private static final String EXPRESSION_JSON = "{\"Type\":\"Live2D Expression\",\"FadeInTime\":0.3,"
+        + "\"Parameters\":[{\"Id\":\"ParamMouthForm\",\"Value\":1,\"Blend\":\"Add\"},"
+        + "{\"Id\":\"ParamEyeLOpen\",\"Value\":0.5,\"Blend\":\"Multiply\"}]}";
+
+    private static final String PHYSICS_JSON = "{\"Version\":3,\"Meta\":{\"PhysicsSettingCount\":1,\"TotalInputCount\":1,"
+        + "\"TotalOutputCount\":1,\"VertexCount\":2,"
+        + "\"EffectiveForces\":{\"Gravity\":{\"X\":0,\"Y\":-1},\"Wind\":{\"X\":0,\"Y\":0}}},"
+        + "\"PhysicsSettings\":[{\"Id\":\"PhysicsSetting1\","
+        + "\"Input\":[{\"Source\":{\"Target\":\"Parameter\",\"Id\":\"ParamAngleX\"},\"Weight\":100,\"Type\":\"X\",\"Reflect\":false}],"
+        + "\"Output\":[{\"Destination\":{\"Target\":\"Parameter\",\"Id\":\"ParamHairFront\"},\"VertexIndex\":1,\"Scale\":1,\"Weight\":100,\"Type\":\"Angle\",\"Reflect\":false}],"
+        + "\"Vertices\":[{\"Position\":{\"X\":0,\"Y\":0},\"Mobility\":1,\"Delay\":1,\"Acceleration\":1,\"Radius\":0},"
+        + "{\"Position\":{\"X\":0,\"Y\":3},\"Mobility\":0.95,\"Delay\":0.9,\"Acceleration\":1.5,\"Radius\":3}],"
+        + "\"Normalization\":{\"Position\":{\"Minimum\":-10,\"Default\":0,\"Maximum\":10},"
+        + "\"Angle\":{\"Minimum\":-10,\"Default\":0,\"Maximum\":10}}}]}";
+
+    private static final String POSE_JSON = "{\"Type\":\"Live2D Pose\",\"FadeInTime\":0.5,"
+        + "\"Groups\":[[{\"Id\":\"PartArmA\",\"Link\":[]},{\"Id\":\"PartArmB\",\"Link\":[]}]]}";
+
+    private static final String MOTION_JSON = "{\"Version\":3,\"Meta\":{\"Duration\":2.0,\"Fps\":30.0,\"Loop\":true,"
+        + "\"AreBeziersRestricted\":true,\"CurveCount\":2,\"TotalSegmentCount\":3,\"TotalPointCount\":7,"
+        + "\"UserDataCount\":1,\"TotalUserDataSize\":5},"
+        + "\"Curves\":[{\"Target\":\"Parameter\",\"Id\":\"ParamAngleX\",\"Segments\":[0,0,1,0.33,10,0.67,-10,1,0,0,2,0]},"
+        + "{\"Target\":\"PartOpacity\",\"Id\":\"PartArmA\",\"Segments\":[0,1,0,2,1]}],"
+        + "\"UserData\":[{\"Time\":1.0,\"Value\":\"event\"}]}";
+
+    private File modelDir;
+}
@@ -36,6 +36,10 @@ android {
             jvmTarget.set(JvmTarget.JVM_11)
         }
     }
+    testOptions {
+        // 단위 테스트에서 android.jar 스텁이 예외 없이 기본값을 반환하도록 합니다.
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
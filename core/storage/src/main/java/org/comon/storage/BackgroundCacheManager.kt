@@ -1,12 +1,21 @@
 package org.comon.storage
 
 import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.graphics.Matrix
+import android.media.ExifInterface
 import android.net.Uri
+import android.os.Build
 import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
 import kotlinx.coroutines.withContext
 import java.io.File
 import java.io.FileOutputStream
 import java.security.MessageDigest
+import kotlin.math.max
+import kotlin.math.min
 
 class BackgroundCacheManager(private val context: Context) {
 
@@ -16,6 +25,28 @@ class BackgroundCacheManager(private val context: Context) {
     companion object {
         private const val CACHE_DIR_NAME = "external_backgrounds"
         private const val MAX_FILE_SIZE = 50 * 1024 * 1024L // 50MB
+
+        /** 스튜디오 렌더링용 렌디션 파일명 */
+        private const val DISPLAY_FILE_NAME = "display.webp"
+        /** 선택 그리드용 썸네일 파일명 */
+        private const val THUMBNAIL_FILE_NAME = "thumbnail.webp"
+        private val RENDITION_FILE_NAMES = setOf(DISPLAY_FILE_NAME, THUMBNAIL_FILE_NAME)
+
+        /**
+         * 스튜디오 배경을 선명하게 저장할 확대 배율.
+         * 화면을 덮는 배율의 이 배수까지는 어느 방향의 화면이든 선명하도록 저장하며, 그 이상 확대하면 렌디션이 늘어나 보임
+         */
+        private const val DISPLAY_ZOOM = 2
+        /** 대부분의 기기에서 만들 수 있는 최대 텍스처 크기 (px) */
+        private const val MAX_DISPLAY_SIZE = 4096
+        /** 썸네일의 짧은 변 (px). BackgroundCard의 디코딩 해상도와 동일 */
+        private const val THUMBNAIL_SIZE = 512
+        private const val DISPLAY_QUALITY = 90
+        private const val THUMBNAIL_QUALITY = 80
+
+        /** 렌디션 생성 동시 실행 수. 큰 비트맵을 한꺼번에 너무 많이 메모리에 올리지 않도록 제한 */
+        private const val RENDITION_PARALLELISM = 2
+        private val renditionDispatcher = Dispatchers.IO.limitedParallelism(RENDITION_PARALLELISM)
     }
 
     fun generateBackgroundId(fileUri: Uri): String {
@@ -45,7 +76,9 @@ class BackgroundCacheManager(private val context: Context) {
         }
         targetDir.mkdirs()
 
-        val targetFile = File(targetDir, fileName)
+        // 렌디션 파일명과 겹치지 않도록 함
+        val originalName = if (fileName in RENDITION_FILE_NAMES) "original_$fileName" else fileName
+        val targetFile = File(targetDir, originalName)
 
         val inputStream = context.contentResolver.openInputStream(Uri.parse(fileUri.toString()))
             ?: throw IllegalArgumentException("Cannot open file")
@@ -72,12 +105,157 @@ class BackgroundCacheManager(private val context: Context) {
         return@withContext copiedSize
     }
 
+    /**
+     * 캐시된 원본으로 스튜디오 렌더링용 WebP와 선택 그리드용 썸네일을 생성합니다.
+     * 두 렌디션은 동시 실행 수가 제한된 풀에서 병렬로 만들어집니다.
+     * 렌디션이 없어도 원본으로 표시되므로 실패해도 예외를 던지지 않습니다.
+     * @return 생성된 렌디션의 총 바이트 수
+     */
+    suspend fun createRenditions(backgroundId: String): Long = withContext(Dispatchers.IO) {
+        val bgDir = getBackgroundCacheDir(backgroundId)
+        val original = getOriginalFile(backgroundId) ?: return@withContext 0L
+
+        // 크기만 먼저 읽어 각 렌디션의 배율을 정함
+        val bounds = BitmapFactory.Options().apply { inJustDecodeBounds = true }
+        BitmapFactory.decodeFile(original.path, bounds)
+        val width = bounds.outWidth
+        val height = bounds.outHeight
+        if (width <= 0 || height <= 0) return@withContext 0L
+
+        val metrics = context.resources.displayMetrics
+        // 스튜디오용은 짧은 변이 화면 긴 변을 덮는 배율의 DISPLAY_ZOOM배로 (화면 방향과 상관없이 그 배율까지 선명),
+        // 긴 변은 MAX_DISPLAY_SIZE를 넘지 않도록 축소
+        // 썸네일은 정사각형 카드를 채우도록 짧은 변을 기준으로 축소 (둘 다 확대하지 않음)
+        val screenLongSide = max(metrics.widthPixels, metrics.heightPixels)
+        val displayScale = minOf(
+            1f,
+            screenLongSide * DISPLAY_ZOOM.toFloat() / min(width, height),
+            MAX_DISPLAY_SIZE.toFloat() / max(width, height),
+        )
+        val thumbnailScale = min(1f, THUMBNAIL_SIZE.toFloat() / min(width, height))
+
+        listOf(
+            async(renditionDispatcher) {
+                writeRendition(original, File(bgDir, DISPLAY_FILE_NAME), displayScale, DISPLAY_QUALITY)
+            },
+            async(renditionDispatcher) {
+                writeRendition(original, File(bgDir, THUMBNAIL_FILE_NAME), thumbnailScale, THUMBNAIL_QUALITY)
+            },
+        ).awaitAll().sum()
+    }
+
+    private fun writeRendition(source: File, target: File, scale: Float, quality: Int): Long {
+        return try {
+            // 필요한 크기 이상이 되는 가장 큰 2의 거듭제곱으로 줄여 디코딩한 뒤 정확한 크기로 조정
+            var sampleSize = 1
+            while (sampleSize * 2 * scale <= 1f) {
+                sampleSize *= 2
+            }
+            val options = BitmapFactory.Options().apply { inSampleSize = sampleSize }
+            val decoded = BitmapFactory.decodeFile(source.path, options) ?: return 0L
+
+            val matrix = Matrix()
+            val decodedScale = scale * sampleSize
+            matrix.setScale(decodedScale, decodedScale)
+            // 사진의 회전 정보를 픽셀에 반영 (렌디션은 EXIF를 갖지 않음)
+            matrix.postRotate(getExifRotation(source).toFloat())
+
+            val bitmap = if (matrix.isIdentity) {
+                decoded
+            } else {
+                Bitmap.createBitmap(decoded, 0, 0, decoded.width, decoded.height, matrix, true).also {
+                    if (it !== decoded) decoded.recycle()
+                }
+            }
+
+            try {
+                FileOutputStream(target).use { output ->
+                    bitmap.compress(webpFormat(), quality, output)
+                }
+            } finally {
+                bitmap.recycle()
+            }
+            target.length()
+        } catch (e: Exception) {
+            target.delete()
+            0L
+        } catch (e: OutOfMemoryError) {
+            target.delete()
+            0L
+        }
+    }
+
+    private fun getExifRotation(file: File): Int {
+        return try {
+            when (ExifInterface(file.path).getAttributeInt(
+                ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL
+            )) {
+                ExifInterface.ORIENTATION_ROTATE_90 -> 90
+                ExifInterface.ORIENTATION_ROTATE_180 -> 180
+                ExifInterface.ORIENTATION_ROTATE_270 -> 270
+                else -> 0
+            }
+        } catch (e: Exception) {
+            0
+        }
+    }
+
+    @Suppress("DEPRECATION")
+    private fun webpFormat(): Bitmap.CompressFormat {
+        return if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
+            Bitmap.CompressFormat.WEBP_LOSSY
+        } else {
+            Bitmap.CompressFormat.WEBP
+        }
+    }
+
     fun deleteCache(backgroundId: String): Boolean {
         return getBackgroundCacheDir(backgroundId).deleteRecursively()
     }
 
+    /**
+     * 스튜디오에서 그릴 이미지 경로를 반환합니다.
+     * 렌디션이 없으면(생성 실패 또는 이전 버전에서 가져온 배경) 원본을 반환합니다.
+     */
     fun getCachedImagePath(backgroundId: String): String? {
-        val bgDir = getBackgroundCacheDir(backgroundId)
-        return bgDir.listFiles()?.firstOrNull()?.absolutePath
+        val display = File(getBackgroundCacheDir(backgroundId), DISPLAY_FILE_NAME)
+        if (display.exists()) {
+            return display.absolutePath
+        }
+        return getOriginalFile(backgroundId)?.absolutePath
+    }
+
+    /**
+     * 스튜디오 렌디션을 배치할 때 기준이 되는 원본 이미지 크기(px)를 반환합니다.
+     * 렌디션은 원본보다 작게 저장될 수 있으므로, 스튜디오는 이 크기를 배율 1.0으로 삼아
+     * 원본을 그리던 이전 배경과 같은 크기로 배치합니다. 렌디션에 반영된 EXIF 회전도 반영합니다.
+     * 렌디션이 없으면(원본을 그대로 그림) null
+     */
+    fun getDisplayImageSize(backgroundId: String): Pair<Int, Int>? {
+        if (!File(getBackgroundCacheDir(backgroundId), DISPLAY_FILE_NAME).exists()) return null
+        val original = getOriginalFile(backgroundId) ?: return null
+
+        val bounds = BitmapFactory.Options().apply { inJustDecodeBounds = true }
+        BitmapFactory.decodeFile(original.path, bounds)
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) return null
+
+        return if (getExifRotation(original) % 180 == 0) {
+            bounds.outWidth to bounds.outHeight
+        } else {
+            bounds.outHeight to bounds.outWidth
+        }
+    }
+
+    /**
+     * 선택 그리드용 썸네일 경로를 반환합니다. 없으면 null
+     */
+    fun getThumbnailPath(backgroundId: String): String? {
+        val thumbnail = File(getBackgroundCacheDir(backgroundId), THUMBNAIL_FILE_NAME)
+        return if (thumbnail.exists()) thumbnail.absolutePath else null
+    }
+
+    private fun getOriginalFile(backgroundId: String): File? {
+        return getBackgroundCacheDir(backgroundId).listFiles()
+            ?.firstOrNull { it.isFile && it.name !in RENDITION_FILE_NAMES }
     }
 }
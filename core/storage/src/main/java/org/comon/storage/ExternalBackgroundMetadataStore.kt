@@ -25,6 +25,9 @@ class ExternalBackgroundMetadataStore(context: Context) {
         val cachePath: String,
         val sizeBytes: Long,
         val cachedAt: Long,
+        /** 스튜디오 배치 기준이 되는 원본 이미지 크기(px). 이전 버전에서 저장했거나 모르면 0 */
+        val imageWidth: Int = 0,
+        val imageHeight: Int = 0,
     )
 
     suspend fun saveBackground(metadata: BackgroundMetadata) = withContext(Dispatchers.IO) {
@@ -46,6 +49,8 @@ class ExternalBackgroundMetadataStore(context: Context) {
                 cachePath = obj.getString("cachePath"),
                 sizeBytes = obj.getLong("sizeBytes"),
                 cachedAt = obj.getLong("cachedAt"),
+                imageWidth = obj.optInt("imageWidth", 0),
+                imageHeight = obj.optInt("imageHeight", 0),
             )
         }
     }
@@ -65,6 +70,8 @@ class ExternalBackgroundMetadataStore(context: Context) {
                 put("cachePath", bg.cachePath)
                 put("sizeBytes", bg.sizeBytes)
                 put("cachedAt", bg.cachedAt)
+                put("imageWidth", bg.imageWidth)
+                put("imageHeight", bg.imageHeight)
             })
         }
         prefs.edit().putString(KEY_BACKGROUNDS, array.toString()).apply()
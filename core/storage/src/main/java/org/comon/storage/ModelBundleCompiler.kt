@@ -0,0 +1,18 @@
+package org.comon.storage
+
+import java.io.File
+
+/**
+ * 임포트된 모델의 JSON 파일들을 바이너리 번들로 미리 컴파일하는 인터페이스
+ *
+ * storage 모듈은 Live2D에 의존하지 않으므로 구현은 앱 모듈에서 주입합니다.
+ */
+fun interface ModelBundleCompiler {
+
+    /**
+     * 모델 디렉토리 안에 번들 파일을 생성합니다.
+     * @param modelDir 모델 캐시 디렉토리
+     * @param modelJsonName 모델 디렉토리 기준 model3.json 파일명
+     */
+    fun compile(modelDir: File, modelJsonName: String)
+}
@@ -3,6 +3,7 @@ package org.comon.storage
 import android.content.Context
 import android.net.Uri
 import androidx.documentfile.provider.DocumentFile
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.withContext
 import org.comon.domain.model.ModelValidationResult
@@ -19,9 +20,13 @@ import java.security.MessageDigest
  *   │   ├── model.model3.json
  *   │   ├── model.moc3
  *   │   ├── textures/
+ *   │   ├── .model.bundle  (임포트 시 컴파일된 번들)
  *   │   └── ...
  */
-class ModelCacheManager(private val context: Context) {
+class ModelCacheManager(
+    private val context: Context,
+    private val bundleCompiler: ModelBundleCompiler
+) {
 
     private val cacheDir: File
         get() = File(context.cacheDir, CACHE_DIR_NAME).apply { mkdirs() }
@@ -172,6 +177,22 @@ class ModelCacheManager(private val context: Context) {
         return@withContext copiedSize
     }
 
+    /**
+     * 캐시된 모델의 JSON 파일들을 번들로 미리 컴파일합니다.
+     * 번들이 없어도 모델은 JSON으로 로드되므로 실패해도 예외를 던지지 않습니다. 코루틴이 취소되면 취소를 그대로 전파합니다.
+     * @return 번들 생성 성공 여부
+     */
+    suspend fun compileBundle(modelId: String, modelJsonName: String): Boolean = withContext(Dispatchers.IO) {
+        try {
+            bundleCompiler.compile(getModelCacheDir(modelId), modelJsonName)
+            true
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Exception) {
+            false
+        }
+    }
+
     private fun collectFiles(
         dir: DocumentFile,
         basePath: String,
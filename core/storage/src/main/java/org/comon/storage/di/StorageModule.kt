@@ -10,6 +10,7 @@ import org.comon.storage.BackgroundCacheManager
 import org.comon.storage.ConsentLocalDataSource
 import org.comon.storage.ExternalBackgroundMetadataStore
 import org.comon.storage.ExternalModelMetadataStore
+import org.comon.storage.ModelBundleCompiler
 import org.comon.storage.ModelCacheManager
 import org.comon.storage.SAFPermissionManager
 import org.comon.storage.SelectedBackgroundStore
@@ -27,9 +28,10 @@ object StorageModule {
     @Provides
     @Singleton
     fun provideModelCacheManager(
-        @ApplicationContext context: Context
+        @ApplicationContext context: Context,
+        bundleCompiler: ModelBundleCompiler
     ): ModelCacheManager {
-        return ModelCacheManager(context)
+        return ModelCacheManager(context, bundleCompiler)
     }
 
     @Provides
@@ -0,0 +1,102 @@
+package org.comon.storage
+
+import android.content.ContextWrapper
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.async
+import kotlinx.coroutines.runBlocking
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Assert.fail
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.TemporaryFolder
+import java.io.File
+import java.io.IOException
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * [ModelCacheManager.compileBundle]의 결과와 취소 처리를 확인합니다.
+ */
+class ModelCacheManagerTest {
+
+    @get:Rule
+    val temporaryFolder = TemporaryFolder()
+
+    @Test
+    fun compileBundle_returnsTrueAfterCompilingTheModelDirectory() = runBlocking {
+        var compiledDir: File? = null
+        var compiledJsonName: String? = null
+        val manager = createManager { modelDir, modelJsonName ->
+            compiledDir = modelDir
+            compiledJsonName = modelJsonName
+        }
+
+        assertTrue(manager.compileBundle(MODEL_ID, MODEL_JSON_NAME))
+        assertEquals(manager.getModelCacheDir(MODEL_ID), compiledDir)
+        assertEquals(MODEL_JSON_NAME, compiledJsonName)
+    }
+
+    @Test
+    fun compileBundle_returnsFalseWhenTheCompilerFails() = runBlocking {
+        val failures = listOf(IOException("disk full"), IllegalStateException("broken model"))
+        for (failure in failures) {
+            val manager = createManager { _, _ -> throw failure }
+            assertFalse(failure.toString(), manager.compileBundle(MODEL_ID, MODEL_JSON_NAME))
+        }
+    }
+
+    @Test
+    fun compileBundle_propagatesCancellationFromTheCompiler() = runBlocking {
+        val manager = createManager { _, _ -> throw CancellationException("import cancelled") }
+
+        try {
+            manager.compileBundle(MODEL_ID, MODEL_JSON_NAME)
+            fail("CancellationException was not rethrown")
+        } catch (e: CancellationException) {
+            assertEquals("import cancelled", e.message)
+        }
+    }
+
+    @Test
+    fun compileBundle_doesNotReportAResultWhenTheImportIsCancelled() = runBlocking {
+        val compileStarted = CountDownLatch(1)
+        val compileReleased = CountDownLatch(1)
+        val manager = createManager { _, _ ->
+            compileStarted.countDown()
+            compileReleased.await(5, TimeUnit.SECONDS)
+        }
+        val result = CompletableDeferred<Boolean>()
+
+        val import = async(Dispatchers.Default) {
+            result.complete(manager.compileBundle(MODEL_ID, MODEL_JSON_NAME))
+        }
+        assertTrue(compileStarted.await(5, TimeUnit.SECONDS))
+        import.cancel()
+        compileReleased.countDown()
+
+        try {
+            import.await()
+            fail("the cancelled import completed")
+        } catch (e: CancellationException) {
+            // 취소된 임포트는 결과 없이 끝나야 합니다.
+        }
+        assertFalse(result.isCompleted)
+    }
+
+    private fun createManager(compiler: ModelBundleCompiler): ModelCacheManager {
+        val cacheRoot = temporaryFolder.root
+        val context = object : ContextWrapper(null) {
+            override fun getCacheDir(): File = cacheRoot
+        }
+        return ModelCacheManager(context, compiler)
+    }
+
+    private companion object {
+        const val MODEL_ID = "0123456789abcdef"
+        const val MODEL_JSON_NAME = "model.model3.json"
+    }
+}
@@ -32,8 +32,11 @@ class BackgroundRepositoryImpl(
                         name = metadata.name,
                         originalUri = metadata.originalUri,
                         cachePath = cacheManager.getCachedImagePath(metadata.id) ?: metadata.cachePath,
+                        thumbnailPath = cacheManager.getThumbnailPath(metadata.id),
                         sizeBytes = metadata.sizeBytes,
                         cachedAt = metadata.cachedAt,
+                        imageWidth = metadata.imageWidth,
+                        imageHeight = metadata.imageHeight,
                     )
                 } else {
                     metadataStore.deleteBackground(metadata.id)
@@ -60,9 +63,14 @@ class BackgroundRepositoryImpl(
                 ?.substringAfterLast(':')
                 ?: "background.png"
 
-            val sizeBytes = cacheManager.copyToCache(uri, id, fileName, onProgress)
+            val copiedBytes = cacheManager.copyToCache(uri, id, fileName, onProgress)
+
+            // 스튜디오용 WebP와 썸네일 생성 (실패하면 원본으로 표시)
+            val sizeBytes = copiedBytes + cacheManager.createRenditions(id)
             val cachePath = cacheManager.getCachedImagePath(id)
                 ?: throw IllegalStateException("Cache file not found after copy")
+            // 렌디션은 축소되어 있을 수 있으므로 원본 크기를 기준으로 배치
+            val (imageWidth, imageHeight) = cacheManager.getDisplayImageSize(id) ?: (0 to 0)
 
             val metadata = ExternalBackgroundMetadataStore.BackgroundMetadata(
                 id = id,
@@ -71,6 +79,8 @@ class BackgroundRepositoryImpl(
                 cachePath = cachePath,
                 sizeBytes = sizeBytes,
                 cachedAt = System.currentTimeMillis(),
+                imageWidth = imageWidth,
+                imageHeight = imageHeight,
             )
             metadataStore.saveBackground(metadata)
 
@@ -79,8 +89,11 @@ class BackgroundRepositoryImpl(
                 name = fileName,
                 originalUri = fileUri,
                 cachePath = cachePath,
+                thumbnailPath = cacheManager.getThumbnailPath(id),
                 sizeBytes = sizeBytes,
                 cachedAt = metadata.cachedAt,
+                imageWidth = imageWidth,
+                imageHeight = imageHeight,
             )
             Result.success(background)
         } catch (e: OutOfMemoryError) {
@@ -87,6 +87,9 @@ class ExternalModelRepositoryImpl(
             // 캐시로 복사
             val sizeBytes = cacheManager.copyToCache(uri, modelId, onProgress)
 
+            // JSON 파일들을 번들로 미리 컴파일 (실패하면 모델을 열 때 JSON을 읽음)
+            cacheManager.compileBundle(modelId, modelJsonName)
+
             // model3.json 파일명에서 이름 추출
             val name = modelJsonName.removeSuffix(".model3.json")
 
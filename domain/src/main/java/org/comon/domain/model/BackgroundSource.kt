@@ -5,8 +5,12 @@ data class ExternalBackground(
     val name: String,
     val originalUri: String,
     val cachePath: String,
+    val thumbnailPath: String?,
     val sizeBytes: Long,
     val cachedAt: Long,
+    // 배율 1.0 기준이 되는 원본 이미지 크기 (px). 0이면 cachePath 이미지의 크기를 사용
+    val imageWidth: Int = 0,
+    val imageHeight: Int = 0,
 )
 
 sealed class BackgroundSource {
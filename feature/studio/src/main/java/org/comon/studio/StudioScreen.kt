@@ -163,6 +163,8 @@ fun StudioScreen(
                 isGestureEnabled = uiState.isGestureEnabled,
                 isBackgroundGestureEnabled = uiState.isBackgroundGestureEnabled,
                 backgroundPath = uiState.backgroundPath,
+                backgroundImageWidth = uiState.backgroundImageWidth,
+                backgroundImageHeight = uiState.backgroundImageHeight,
                 effectFlow = viewModel.live2dEffect,
                 onModelLoaded = { viewModel.onIntent(StudioUiIntent.OnModelLoaded) },
                 onModelLoadError = onError,
@@ -25,6 +25,7 @@ import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.withContext
 import org.comon.domain.model.BackgroundSource
+import org.comon.domain.model.ExternalBackground
 import org.comon.domain.model.FacePose
 import org.comon.domain.model.FacePoseSmoothingState
 import org.comon.domain.model.ModelSource
@@ -113,7 +114,14 @@ class StudioViewModel @Inject constructor(
             // 선택된 배경 ID 구독
             selectedBackgroundStore.selectedBackgroundIdFlow.collect { selectedId ->
                 val path = resolveBackgroundPath(selectedId)
-                _uiState.update { it.copy(backgroundPath = path) }
+                val external = findExternalBackground(selectedId)
+                _uiState.update {
+                    it.copy(
+                        backgroundPath = path,
+                        backgroundImageWidth = external?.imageWidth ?: 0,
+                        backgroundImageHeight = external?.imageHeight ?: 0,
+                    )
+                }
             }
         }
     }
@@ -125,16 +133,18 @@ class StudioViewModel @Inject constructor(
                 val fileName = selectedId.removePrefix("asset_")
                 "backgrounds/$fileName"
             }
-            else -> {
-                // External background — find from cached sources
-                val external = backgroundSources.firstOrNull {
-                    it is BackgroundSource.External && it.id == selectedId
-                } as? BackgroundSource.External
-                external?.background?.cachePath
-            }
+            else -> findExternalBackground(selectedId)?.cachePath
         }
     }
 
+    // External background — find from cached sources
+    private fun findExternalBackground(selectedId: String): ExternalBackground? {
+        val external = backgroundSources.firstOrNull {
+            it is BackgroundSource.External && it.id == selectedId
+        } as? BackgroundSource.External
+        return external?.background
+    }
+
     // ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
     // FaceTracker (configuration change에서 생존)
     // ━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━
@@ -192,6 +202,9 @@ class StudioViewModel @Inject constructor(
 
         // 배경
         val backgroundPath: String? = null,
+        // 배경 배치 기준 크기 (px). 0이면 이미지 파일의 크기를 사용
+        val backgroundImageWidth: Int = 0,
+        val backgroundImageHeight: Int = 0,
 
         // 녹화
         val isRecordingMode: Boolean = false,
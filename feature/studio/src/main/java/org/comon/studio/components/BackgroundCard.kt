@@ -95,9 +95,11 @@ internal fun BackgroundCard(
                     )
                 }
                 is BackgroundSource.External -> {
+                    // 가져올 때 만든 썸네일 사용 (없으면 스튜디오용 이미지)
+                    val background = backgroundSource.background
                     AsyncImage(
                         model = ImageRequest.Builder(context)
-                            .data(File(backgroundSource.background.cachePath))
+                            .data(File(background.thumbnailPath ?: background.cachePath))
                             .bitmapConfig(Bitmap.Config.RGB_565)
                             .size(THUMBNAIL_SIZE)
                             .build(),
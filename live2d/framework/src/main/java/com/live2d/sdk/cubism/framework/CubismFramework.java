@@ -12,6 +12,7 @@ import com.live2d.sdk.cubism.core.ICubismLogger;
 import com.live2d.sdk.cubism.core.Live2DCubismCore;
 import com.live2d.sdk.cubism.framework.CubismFrameworkConfig.LogLevel;
 import com.live2d.sdk.cubism.framework.id.CubismIdManager;
+import com.live2d.sdk.cubism.framework.math.CubismMath;
 import com.live2d.sdk.cubism.framework.rendering.android.CubismRendererAndroid;
 
 import java.util.Locale;
@@ -50,6 +51,11 @@ public class CubismFramework {
          * (Default value is OFF(Log outputting is not executed.))
          */
         public LogLevel loggingLevel = LogLevel.OFF;
+        /**
+         * Whether to use the approximated math functions of CubismFastMath for motions and physics.
+         * (Default value is false. The maximum errors of the approximations are documented in CubismFastMath.)
+         */
+        public boolean useFastMath;
     }
 
     /**
@@ -81,6 +87,7 @@ public class CubismFramework {
 
         if (s_option != null) {
             Live2DCubismCore.setLogger(option.logFunction);
+            CubismMath.setFastMathEnabled(option.useFastMath);
         }
 
         s_isStarted = true;
@@ -104,6 +111,7 @@ public class CubismFramework {
         s_isInitialized = false;
         s_option = null;
         s_cubismIdManager = null;
+        CubismMath.setFastMathEnabled(false);
     }
 
     /**
@@ -23,7 +23,7 @@ import java.util.Map;
 public class CubismModelSettingJson implements ICubismModelSetting {
     public CubismModelSettingJson(byte[] buffer) {
         CubismJson json;
-        json = CubismJson.create(buffer);
+        json = CubismJson.createLazy(buffer);
 
         this.json = json;
 
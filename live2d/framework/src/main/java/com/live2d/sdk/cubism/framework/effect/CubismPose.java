@@ -8,8 +8,12 @@
 package com.live2d.sdk.cubism.framework.effect;
 
 import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
 import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.ACubismJsonValue;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJson;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJsonString;
@@ -76,6 +80,84 @@ public class CubismPose {
      * @return the created instance
      */
     public static CubismPose create(byte[] pose3json) {
+        return create(pose3json, CubismFramework.getIdManager());
+    }
+
+    /**
+     * Parse pose3.json and write the parts groups as the compiled binary data.
+     * This method does not use the ID manager of CubismFramework, so it can be called before the framework is initialized.
+     *
+     * @param pose3json the byte data of pose3.json
+     * @param writer writer of the compiled data
+     */
+    public static void compile(byte[] pose3json, CubismBinaryWriter writer) {
+        final CubismPose pose = create(pose3json, new CubismIdManager());
+
+        writer.writeInt(COMPILED_DATA_VERSION);
+        writer.writeFloat(pose.fadeTimeSeconds);
+        writer.writeInt(pose.partGroupCounts.size());
+
+        int partIndex = 0;
+        for (int i = 0; i < pose.partGroupCounts.size(); i++) {
+            final int groupCount = pose.partGroupCounts.get(i);
+            writer.writeInt(groupCount);
+
+            for (int j = 0; j < groupCount; j++) {
+                final PartData partData = pose.partGroups.get(partIndex++);
+
+                writer.writeString(partData.partId.getString());
+                writer.writeInt(partData.linkedParameter.size());
+                for (int k = 0; k < partData.linkedParameter.size(); k++) {
+                    writer.writeString(partData.linkedParameter.get(k).partId.getString());
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a CubismPose instance from the data written by {@link #compile(byte[], CubismBinaryWriter)}.
+     *
+     * @param reader reader of the compiled data
+     * @return the created instance
+     *
+     * @throws CubismBinaryFormatException if the compiled data is broken.
+     */
+    public static CubismPose create(CubismBinaryReader reader) {
+        final int version = reader.readInt();
+        if (version != COMPILED_DATA_VERSION) {
+            throw new CubismBinaryFormatException("Unsupported compiled pose version: " + version);
+        }
+
+        final CubismIdManager idManager = CubismFramework.getIdManager();
+        final CubismPose pose = new CubismPose();
+        pose.fadeTimeSeconds = reader.readFloat();
+
+        // A group count and a part are at least 4 bytes.
+        final int poseCount = reader.readCount(4);
+        for (int poseIndex = 0; poseIndex < poseCount; poseIndex++) {
+            final int groupCount = reader.readCount(4);
+
+            for (int groupIndex = 0; groupIndex < groupCount; groupIndex++) {
+                final PartData partData = new PartData();
+                partData.partId = idManager.getId(reader.readString());
+
+                final int linkCount = reader.readCount(4);
+                for (int index = 0; index < linkCount; index++) {
+                    PartData linkedPart = new PartData();
+                    linkedPart.partId = idManager.getId(reader.readString());
+
+                    partData.linkedParameter.add(linkedPart);
+                }
+                pose.partGroups.add(partData);
+            }
+            pose.partGroupCounts.add(groupCount);
+        }
+
+        return pose;
+    }
+
+    // This is only used by 'create' and 'compile' methods.
+    private static CubismPose create(byte[] pose3json, CubismIdManager idManager) {
         CubismPose pose = new CubismPose();
         final CubismJson json;
         json = CubismJson.create(pose3json);
@@ -103,7 +185,7 @@ public class CubismPose {
 
             for (int groupIndex = 0; groupIndex < idCount; groupIndex++) {
                 ACubismJsonValue partInfo = idListInfo.get(groupIndex);
-                PartData partData = setupPartGroup(partInfo);
+                PartData partData = setupPartGroup(partInfo, idManager);
                 pose.partGroups.add(partData);
                 groupCount++;
             }
@@ -143,15 +225,15 @@ public class CubismPose {
         copyPartOpacities(model);
     }
 
-    private static PartData setupPartGroup(ACubismJsonValue partInfo) {
-        final CubismId parameterId = CubismFramework.getIdManager().getId(partInfo.get(JsonTag.ID.tag).getString());
+    private static PartData setupPartGroup(ACubismJsonValue partInfo, CubismIdManager idManager) {
+        final CubismId parameterId = idManager.getId(partInfo.get(JsonTag.ID.tag).getString());
 
         final PartData partData = new PartData();
-        partData.partId = CubismFramework.getIdManager().getId(parameterId);
+        partData.partId = idManager.getId(parameterId);
 
         ACubismJsonValue link = partInfo.get(JsonTag.LINK.tag);
         if (link != null) {
-            setupLinkedPart(partData, link);
+            setupLinkedPart(partData, link, idManager);
         }
         return partData;
     }
@@ -161,12 +243,13 @@ public class CubismPose {
      *
      * @param partData part data to be done setting
      * @param linkedListInfo linked parts list information
+     * @param idManager ID manager which creates the part IDs
      */
-    private static void setupLinkedPart(PartData partData, ACubismJsonValue linkedListInfo) {
+    private static void setupLinkedPart(PartData partData, ACubismJsonValue linkedListInfo, CubismIdManager idManager) {
         final int linkCount = linkedListInfo.size();
 
         for (int index = 0; index < linkCount; index++) {
-            final CubismId linkedPartId = CubismFramework.getIdManager().getId(linkedListInfo.get(index).getString());
+            final CubismId linkedPartId = idManager.getId(linkedListInfo.get(index).getString());
 
             PartData linkedPart = new PartData();
             linkedPart.partId = linkedPartId;
@@ -366,6 +449,10 @@ public class CubismPose {
      * Default fade-in duration[s]
      */
     private static final float DEFAULT_FADE_IN_SECONDS = 0.5f;
+    /**
+     * Version of the compiled pose data
+     */
+    private static final int COMPILED_DATA_VERSION = 1;
 
     // Tags of Pose3.json
     private enum JsonTag {
@@ -0,0 +1,22 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.exception;
+
+/**
+ * コンパイル済みバイナリデータが壊れている、または範囲外を読もうとしたときの実行時例外
+ */
+public class CubismBinaryFormatException extends CubismRuntimeException {
+    /**
+     * 指定されたエラーメッセージを持つ例外を構築する
+     *
+     * @param msg エラーメッセージ
+     */
+    public CubismBinaryFormatException(String msg) {
+        super(msg);
+    }
+}
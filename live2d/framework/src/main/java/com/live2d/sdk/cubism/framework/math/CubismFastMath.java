@@ -0,0 +1,193 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.math;
+
+/**
+ * Polynomial approximations of the elementary functions used per frame by motions and physics.
+ * <p>
+ * CubismMath uses these functions instead of java.lang.Math when the fast math is enabled by CubismFramework.Option.
+ * The maximum errors below were measured against java.lang.Math over the whole float range of the domain unless noted.
+ */
+public final class CubismFastMath {
+    /**
+     * Approximate sine.
+     * <p>
+     * The argument is reduced to [-PI/2, PI/2] and evaluated by the Taylor polynomial of degree 11.
+     * Maximum absolute error: 1.7e-7 for |x| <= 2PI, 2.2e-7 for |x| <= 1e4.
+     *
+     * @param x angle(radian)
+     * @return sine value
+     */
+    public static float sin(float x) {
+        return sinReduced(x);
+    }
+
+    /**
+     * Approximate cosine.
+     * <p>
+     * Maximum absolute error: 2.1e-7 for |x| <= 2PI, 2.2e-7 for |x| <= 1e4.
+     *
+     * @param x angle(radian)
+     * @return cosine value
+     */
+    public static float cos(float x) {
+        return sinReduced(x + HALF_PI_D);
+    }
+
+    /**
+     * Approximate arc tangent of y/x in the range of [-PI, PI].
+     * <p>
+     * The ratio of the smaller to the larger component is evaluated by a minimax polynomial of degree 11.
+     * Maximum absolute error: 2.0e-6 rad.
+     *
+     * @param y y component
+     * @param x x component
+     * @return angle(radian)
+     */
+    public static float atan2(float y, float x) {
+        final float absX = Math.abs(x);
+        final float absY = Math.abs(y);
+
+        if (absX == 0.0f && absY == 0.0f) {
+            return (float) Math.atan2(y, x);
+        }
+
+        final boolean isSteep = absY > absX;
+        final float a = isSteep ? absX / absY : absY / absX;
+        final float s = a * a;
+        float radian = a * (A1 + s * (A3 + s * (A5 + s * (A7 + s * (A9 + s * A11)))));
+
+        if (isSteep) {
+            radian = HALF_PI - radian;
+        }
+        if (x < 0.0f) {
+            radian = PI - radian;
+        }
+        return Math.copySign(radian, y);
+    }
+
+    /**
+     * Approximate arc cosine.
+     * <p>
+     * Evaluated by the formula 4.4.46 of Abramowitz and Stegun.
+     * Maximum absolute error: 4.1e-7 rad. The argument is clamped to [-1, 1].
+     *
+     * @param x cosine value
+     * @return angle(radian) in the range of [0, PI]
+     */
+    public static float acos(float x) {
+        final float absX = Math.min(Math.abs(x), 1.0f);
+        final float radian = (float) Math.sqrt(1.0f - absX)
+            * (C0 + absX * (C1 + absX * (C2 + absX * (C3 + absX * (C4 + absX * (C5 + absX * (C6 + absX * C7)))))));
+
+        return x < 0.0f ? PI - radian : radian;
+    }
+
+    /**
+     * Approximate cube root.
+     * <p>
+     * The initial guess from the exponent bits is refined by three Newton iterations.
+     * Maximum relative error: 1.6e-7. Subnormal numbers, infinities and NaN are passed to java.lang.Math.
+     *
+     * @param x target value
+     * @return cube root
+     */
+    public static float cbrt(float x) {
+        final float absX = Math.abs(x);
+
+        if (!(absX >= Float.MIN_NORMAL && absX <= Float.MAX_VALUE)) {
+            return (float) Math.cbrt(x);
+        }
+        float y = Float.intBitsToFloat(Float.floatToRawIntBits(absX) / 3 + CBRT_MAGIC);
+
+        y = (2.0f * y + absX / (y * y)) * ONE_THIRD;
+        y = (2.0f * y + absX / (y * y)) * ONE_THIRD;
+        y = (2.0f * y + absX / (y * y)) * ONE_THIRD;
+
+        return x < 0.0f ? -y : y;
+    }
+
+    /**
+     * Approximate easing sine, 0.5 - 0.5 * cos(value * PI), for value in [0, 1].
+     * <p>
+     * Evaluated by the sine polynomial of the offset from the middle point.
+     * Maximum absolute error: 1.1e-7.
+     *
+     * @param value target value. It must be clamped to [0, 1] by the caller.
+     * @return eased sin value
+     */
+    public static float easingSine(float value) {
+        // 0.5 - 0.5 * cos(value * PI) = 0.5 + 0.5 * sin((value - 0.5) * PI)
+        final float r = (value - 0.5f) * PI;
+        final float r2 = r * r;
+
+        return 0.5f + 0.5f * (r + r * r2 * (S3 + r2 * (S5 + r2 * (S7 + r2 * (S9 + r2 * S11)))));
+    }
+
+    // The reduction is done in double so that large arguments keep their precision.
+    private static float sinReduced(double x) {
+        float r = (float) (x - Math.rint(x * INV_TWO_PI) * TWO_PI);
+
+        if (r > HALF_PI) {
+            r = PI - r;
+        } else if (r < -HALF_PI) {
+            r = -PI - r;
+        }
+
+        final float r2 = r * r;
+        return r + r * r2 * (S3 + r2 * (S5 + r2 * (S7 + r2 * (S9 + r2 * S11))));
+    }
+
+    private static final float PI = CubismMath.PI;
+    private static final float HALF_PI = PI / 2.0f;
+    private static final double HALF_PI_D = Math.PI / 2.0;
+    private static final double TWO_PI = Math.PI * 2.0;
+    private static final double INV_TWO_PI = 1.0 / TWO_PI;
+    private static final float ONE_THIRD = 1.0f / 3.0f;
+
+    /**
+     * Coefficients of the Taylor polynomial of sine
+     */
+    private static final float S3 = -1.0f / 6.0f;
+    private static final float S5 = 1.0f / 120.0f;
+    private static final float S7 = -1.0f / 5040.0f;
+    private static final float S9 = 1.0f / 362880.0f;
+    private static final float S11 = -1.0f / 39916800.0f;
+
+    /**
+     * Coefficients of the minimax polynomial of arc tangent on [0, 1]
+     */
+    private static final float A1 = 0.99997726f;
+    private static final float A3 = -0.33262347f;
+    private static final float A5 = 0.19354346f;
+    private static final float A7 = -0.11643287f;
+    private static final float A9 = 0.05265332f;
+    private static final float A11 = -0.01172120f;
+
+    /**
+     * Coefficients of the arc cosine approximation (Abramowitz and Stegun 4.4.46)
+     */
+    private static final float C0 = 1.5707963050f;
+    private static final float C1 = -0.2145988016f;
+    private static final float C2 = 0.0889789874f;
+    private static final float C3 = -0.0501743046f;
+    private static final float C4 = 0.0308918810f;
+    private static final float C5 = -0.0170881256f;
+    private static final float C6 = 0.0066700901f;
+    private static final float C7 = -0.0012624911f;
+
+    /**
+     * Bias of the exponent bits for the initial guess of the cube root
+     */
+    private static final int CBRT_MAGIC = 0x2a514067;
+
+    /**
+     * private constructor
+     */
+    private CubismFastMath() {}
+}
@@ -16,6 +16,27 @@ public class CubismMath {
     public static final float PI = 3.1415926535897932384626433832795f;
     public static final float EPSILON = 0.00001f;
 
+    /**
+     * Enable or disable the fast math.
+     * <p>
+     * When enabled, sinF, cosF, getEasingSine, directionToRadian and cardanoAlgorithmForBezier use the approximations of CubismFastMath,
+     * whose maximum errors are documented there. CubismFramework.startUp() sets this from CubismFramework.Option.
+     *
+     * @param isEnabled true to use the approximations
+     */
+    public static void setFastMathEnabled(boolean isEnabled) {
+        isFastMathEnabled = isEnabled;
+    }
+
+    /**
+     * Whether the fast math is enabled.
+     *
+     * @return true if the approximations of CubismFastMath are used
+     */
+    public static boolean isFastMathEnabled() {
+        return isFastMathEnabled;
+    }
+
     public static float clampF(float val, float min, float max) {
         if (val < min) {
             return min;
@@ -50,6 +71,9 @@ public class CubismMath {
      * @return sine value
      */
     public static float sinF(float x) {
+        if (isFastMathEnabled) {
+            return CubismFastMath.sin(x);
+        }
         return (float) (Math.sin(x));
     }
 
@@ -60,6 +84,9 @@ public class CubismMath {
      * @return cosine value
      */
     public static float cosF(float x) {
+        if (isFastMathEnabled) {
+            return CubismFastMath.cos(x);
+        }
         return (float) (Math.cos(x));
     }
 
@@ -90,11 +117,15 @@ public class CubismMath {
      * @return eased sin value
      */
     public static float getEasingSine(float value) {
-        if (value < 0.0f) {
+        // The end points are returned as is so that they are exact in the fast math too.
+        if (value <= 0.0f) {
             return 0.0f;
-        } else if (value > 1.0f) {
+        } else if (value >= 1.0f) {
             return 1.0f;
         }
+        if (isFastMathEnabled) {
+            return CubismFastMath.easingSine(value);
+        }
         return (float) (0.5f - 0.5f * Math.cos(value * PI));
     }
 
@@ -126,8 +157,21 @@ public class CubismMath {
      * @return direction vector calculated from radian value
      */
     public static float directionToRadian(CubismVector2 from, CubismVector2 to) {
-        float q1 = (float) Math.atan2(to.y, to.x);
-        float q2 = (float) Math.atan2(from.y, from.x);
+        return directionToRadian(from.x, from.y, to.x, to.y);
+    }
+
+    /**
+     * Calculate a radian value from two vectors given by their components.
+     *
+     * @param fromX x component of the position vector of a starting point
+     * @param fromY y component of the position vector of a starting point
+     * @param toX x component of the position vector of an end point
+     * @param toY y component of the position vector of an end point
+     * @return direction vector calculated from radian value
+     */
+    public static float directionToRadian(float fromX, float fromY, float toX, float toY) {
+        float q1 = atan2F(toY, toX);
+        float q2 = atan2F(fromY, fromX);
 
         float radian = q1 - q2;
 
@@ -226,8 +270,8 @@ public class CubismMath {
             float t = -q / (2.0f * r);
             float cosphi = rangeF(t,
                 -1.0f, 1.0f);
-            float phi = (float) Math.acos(cosphi);
-            float crtr = (float) Math.cbrt(r);
+            float phi = acosF(cosphi);
+            float crtr = cbrtF(r);
             float t1 = 2.0f * crtr;
 
             float root1 = t1 * cosF(phi / 3.0f) - ba / 3.0f;
@@ -247,9 +291,9 @@ public class CubismMath {
         if (discriminant == 0.0f) {
             float u1;
             if (q2 < 0.0f) {
-                u1 = (float) Math.cbrt(-q2);
+                u1 = cbrtF(-q2);
             } else {
-                u1 = (float) -Math.cbrt(q2);
+                u1 = -cbrtF(q2);
             }
 
             float root1 = 2.0f * u1 - ba / 3.0f;
@@ -262,8 +306,8 @@ public class CubismMath {
         }
 
         float sd = sqrtF(discriminant);
-        float u1 = (float) Math.cbrt(sd - q2);
-        float v1 = (float) Math.cbrt(sd + q2);
+        float u1 = cbrtF(sd - q2);
+        float v1 = cbrtF(sd + q2);
         float root1 = u1 - v1 - ba / 3.0f;
         return rangeF(root1, 0.0f, 1.0f);
     }
@@ -289,6 +333,32 @@ public class CubismMath {
         return dividend % divisor;
     }
 
+    private static float atan2F(float y, float x) {
+        if (isFastMathEnabled) {
+            return CubismFastMath.atan2(y, x);
+        }
+        return (float) Math.atan2(y, x);
+    }
+
+    private static float acosF(float x) {
+        if (isFastMathEnabled) {
+            return CubismFastMath.acos(x);
+        }
+        return (float) Math.acos(x);
+    }
+
+    private static float cbrtF(float x) {
+        if (isFastMathEnabled) {
+            return CubismFastMath.cbrt(x);
+        }
+        return (float) Math.cbrt(x);
+    }
+
+    /**
+     * Whether the approximations of CubismFastMath are used.
+     */
+    private static boolean isFastMathEnabled;
+
     /**
      * private constructor.
      * (Prevent instantiation.)
@@ -16,6 +16,7 @@ import com.live2d.sdk.cubism.framework.rendering.CubismRenderer.CubismBlendMode;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,7 +31,10 @@ import static com.live2d.sdk.cubism.core.CubismDrawableFlag.DynamicFlag.*;
 public class CubismModel {
     /**
      * Inner class for handling texture colors in RGBA
+     *
+     * @deprecated CubismModel no longer stores drawable colors in this class. It is kept only for compatibility, use getMultiplyColor(int) and getOverrideFlagForDrawableMultiplyColors(int) instead.
      */
+    @Deprecated
     public static class DrawableColorData {
         /**
          * Constructor
@@ -76,7 +80,10 @@ public class CubismModel {
 
     /**
      * パーツの色をRGBAで扱うための内部クラス
+     *
+     * @deprecated CubismModel no longer stores part colors in this class. It is kept only for compatibility, use getPartMultiplyColor(int) and getOverrideColorForPartMultiplyColors(int) instead.
      */
+    @Deprecated
     public static class PartColorData {
         /**
          * コンストラクタ
@@ -122,7 +129,10 @@ public class CubismModel {
 
     /**
      * テクスチャのカリング設定を管理するための内部クラス
+     *
+     * @deprecated CubismModel no longer stores culling settings in this class. It is kept only for compatibility, use getDrawableCulling(int) and getOverrideFlagForDrawableCullings(int) instead.
      */
+    @Deprecated
     public static class DrawableCullingData {
         /**
          * コンストラクタ
@@ -152,7 +162,10 @@ public class CubismModel {
 
     /**
      * Class for managing the override of parameter repetition settings
+     *
+     * @deprecated CubismModel no longer stores parameter repeat settings in this class. It is kept only for compatibility, use isRepeat(int) and getRepeatFlagForParameterRepeat(int) instead.
      */
+    @Deprecated
     public static class ParameterRepeatData {
         /**
          * Constructor
@@ -277,23 +290,13 @@ public class CubismModel {
         }
 
         // If the part does not exist in the model, it searches for it in the non-existent part ID list and returns its index.
-        if (notExistPartIds.containsKey(partId)) {
-            return notExistPartIds.get(partId);
+        final int notExistPartIndex = notExistParts.getIndex(partId);
+        if (notExistPartIndex >= 0) {
+            return notExistPartIndex;
         }
 
         // If the part does not exist in the non-existent part ID list, add newly the element.
-        final int partCount = partValues.length;
-        final int partIndex = partCount + notExistPartIds.size();
-        notExistPartIds.put(partId, partIndex);
-        notExistPartIndices.add(partIndex);
-
-        float[] tmp = new float[notExistPartIndices.size()];
-        System.arraycopy(notExistPartOpacities, 0, tmp, 0, notExistPartIndices.size() - 1);
-        tmp[notExistPartIndices.size() - 1] = 0.0f;
-        notExistPartOpacities = new float[notExistPartIndices.size()];
-        System.arraycopy(tmp, 0, notExistPartOpacities, 0, notExistPartIndices.size());
-
-        return partIndex;
+        return notExistParts.add(partId);
     }
 
     /**
@@ -351,9 +354,8 @@ public class CubismModel {
      * @param opacity part opacity
      */
     public void setPartOpacity(int partIndex, float opacity) {
-        if (notExistPartIndices.contains(partIndex)) {
-            int index = notExistPartIndices.indexOf(partIndex);
-            notExistPartOpacities[index] = opacity;
+        if (notExistParts.contains(partIndex)) {
+            notExistParts.setValue(partIndex, opacity);
             return;
         }
 
@@ -388,10 +390,9 @@ public class CubismModel {
      * @return part opacity
      */
     public float getPartOpacity(int partIndex) {
-        if (notExistPartIndices.contains(partIndex)) {
+        if (notExistParts.contains(partIndex)) {
             // If the part ID does not exist in the model, returns the opacity from non-existence parts list.
-            int index = notExistPartIndices.indexOf(partIndex);
-            return notExistPartOpacities[index];
+            return notExistParts.getValue(partIndex);
         }
 
         // Detect whether partIndex is not out of bounds index
@@ -413,25 +414,13 @@ public class CubismModel {
         }
 
         // If the parameter does not exist in the model, it searches for it in the non-existent parameter ID list and returns its index.
-        if (notExistParameterIds.containsKey(parameterId)) {
-            final Integer index = notExistParameterIds.get(parameterId);
-            assert index != null;
-            return index;
+        final int notExistParameterIndex = notExistParameters.getIndex(parameterId);
+        if (notExistParameterIndex >= 0) {
+            return notExistParameterIndex;
         }
 
         // If the parameter does not exist in the non-existent parameter ID list, add newly the element.
-        final int parameterCount = parameterValues.length;
-        final int parameterIndex = parameterCount + notExistParameterIds.size();
-        notExistParameterIds.put(parameterId, parameterIndex);
-        notExistParameterIndices.add(parameterIndex);
-
-        float[] tmp = new float[notExistParameterIndices.size()];
-        System.arraycopy(notExistParameterValues, 0, tmp, 0, notExistParameterIndices.size() - 1);
-        tmp[notExistParameterIndices.size() - 1] = 0.0f;
-        notExistParameterValues = new float[notExistParameterIndices.size()];
-        System.arraycopy(tmp, 0, notExistParameterValues, 0, notExistParameterIndices.size());
-
-        return parameterIndex;
+        return notExistParameters.add(parameterId);
     }
 
     /**
@@ -513,10 +502,8 @@ public class CubismModel {
      * @return the value of parameter
      */
     public float getParameterValue(int parameterIndex) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
-            int index = notExistParameterIndices.indexOf(parameterIndex);
-            final float value = notExistParameterValues[index];
-            return value;
+        if (notExistParameters.contains(parameterIndex)) {
+            return notExistParameters.getValue(parameterIndex);
         }
 
         // Detect whether partIndex is not out of bounds index
@@ -565,13 +552,12 @@ public class CubismModel {
      * @param weight weight
      */
     public void setParameterValue(int parameterIndex, float value, float weight) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
-            int index = notExistParameterIndices.indexOf(parameterIndex);
-            final float parameterValue = notExistParameterValues[index];
+        if (notExistParameters.contains(parameterIndex)) {
+            final float parameterValue = notExistParameters.getValue(parameterIndex);
             final float weightedParameterValue = (weight == 1.0f)
                                                  ? value
                                                  : (parameterValue * (1.0f - weight)) + (value * weight);
-            notExistParameterValues[index] = weightedParameterValue;
+            notExistParameters.setValue(parameterIndex, weightedParameterValue);
             return;
         }
 
@@ -602,19 +588,19 @@ public class CubismModel {
      * @return true if it is set, otherwise returns false.
      */
     public boolean isRepeat(int parameterIndex) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
+        if (notExistParameters.contains(parameterIndex)) {
             return false;
         }
 
-        // Detect whether partIndex is not out of bounds index
-        assert 0 <= parameterIndex && parameterIndex < getParameterCount();
+        // Detect whether parameterIndex is not out of bounds index
+        checkIndex(parameterIndex, getParameterCount());
 
         boolean isRepeat;
 
         // Determines whether to perform parameter repeat processing
-        if (isOverriddenParameterRepeat || userParameterRepeatDataList.get(parameterIndex).isOverridden) {
+        if (isOverriddenParameterRepeat || userParameterRepeatOverrideFlags.get(parameterIndex)) {
             // Use repeat information set on the SDK side
-            isRepeat = userParameterRepeatDataList.get(parameterIndex).isParameterRepeated;
+            isRepeat = userParameterRepeatFlags.get(parameterIndex);
         } else {
             // Use repeat information set in Editor
             isRepeat = this.model.getParameters().getParameterRepeats()[parameterIndex];
@@ -632,7 +618,7 @@ public class CubismModel {
      * @return a value that falls within the parameter’s range. If the parameter does not exist, returns it as is.
      */
     public float getParameterRepeatValue(int parameterIndex, float value) {
-        if (this.notExistParameterIndices.contains(parameterIndex)) {
+        if (notExistParameters.contains(parameterIndex)) {
             return value;
         }
         // In-index range detection
@@ -671,7 +657,7 @@ public class CubismModel {
      * @return the clamped value. If the parameter does not exist, returns it as is.
      */
     public float getParameterClampValue(int parameterIndex, float value) {
-        if (notExistParameterIndices.contains(parameterIndex)) {
+        if (notExistParameters.contains(parameterIndex)) {
             return value;
         }
 
@@ -1115,16 +1101,7 @@ public class CubismModel {
      * Read the saved parameters.
      */
     public void loadParameters() {
-        int parameterCount = getParameterCount();
-        final int savedParameterCount = savedParameters.length;
-
-        if (parameterCount > savedParameterCount) {
-            parameterCount = savedParameterCount;
-        }
-
-        for (int i = 0; i < parameterCount; ++i) {
-            parameterValues[i].setValue(savedParameters[i]);
-        }
+        copyToParameterValues(savedParameters);
     }
 
     /**
@@ -1136,9 +1113,93 @@ public class CubismModel {
         if (savedParameters.length < parameterCount) {
             savedParameters = new float[parameterCount];
         }
-        for (int i = 0; i < parameterCount; i++) {
-            savedParameters[i] = parameterValues[i].getValue();
+        System.arraycopy(model.getParameters().getValues(), 0, savedParameters, 0, parameterCount);
+    }
+
+    /**
+     * Read the parameters saved under the specified snapshot name.
+     * If no snapshot has been saved under the name, the parameters are left unchanged.
+     *
+     * @param snapshotName name of the snapshot
+     * @return true if the snapshot exists and has been loaded
+     */
+    public boolean loadParameters(String snapshotName) {
+        final float[] snapshot = parameterSnapshots.get(snapshotName);
+        if (snapshot == null) {
+            return false;
         }
+
+        copyToParameterValues(snapshot);
+        return true;
+    }
+
+    /**
+     * Save the current parameters under the specified snapshot name.
+     * The snapshot buffer is allocated on the first save and reused afterwards.
+     *
+     * @param snapshotName name of the snapshot
+     */
+    public void saveParameters(String snapshotName) {
+        final int parameterCount = getParameterCount();
+
+        float[] snapshot = parameterSnapshots.get(snapshotName);
+        if (snapshot == null || snapshot.length < parameterCount) {
+            snapshot = new float[parameterCount];
+            parameterSnapshots.put(snapshotName, snapshot);
+        }
+        System.arraycopy(model.getParameters().getValues(), 0, snapshot, 0, parameterCount);
+    }
+
+    /**
+     * Discard the snapshot saved under the specified name.
+     *
+     * @param snapshotName name of the snapshot
+     */
+    public void deleteParameterSnapshot(String snapshotName) {
+        parameterSnapshots.remove(snapshotName);
+    }
+
+    /**
+     * Reset all the parameters to their default values.
+     */
+    public void loadDefaultParameters() {
+        copyToParameterValues(model.getParameters().getDefaultValues());
+    }
+
+    /**
+     * Copy the parameter values into the specified array.
+     * The copied count is the smaller of the parameter count and the array length.
+     *
+     * @param destination array the values are copied into
+     * @return the number of copied values
+     */
+    public int copyParameterValues(float[] destination) {
+        final int count = Math.min(getParameterCount(), destination.length);
+        System.arraycopy(model.getParameters().getValues(), 0, destination, 0, count);
+        return count;
+    }
+
+    /**
+     * Overwrite the parameter values with the specified array.
+     * The values are not clamped nor repeated, so they must be in the range of each parameter.
+     *
+     * @param source array of parameter values indexed by parameter index
+     * @return the number of written values
+     */
+    public int setParameterValues(float[] source) {
+        return copyToParameterValues(source);
+    }
+
+    /**
+     * Copy the values of the specified array into the Core's parameter value array.
+     *
+     * @param source array of parameter values indexed by parameter index
+     * @return the number of copied values
+     */
+    private int copyToParameterValues(float[] source) {
+        final int count = Math.min(getParameterCount(), source.length);
+        System.arraycopy(source, 0, model.getParameters().getValues(), 0, count);
+        return count;
     }
 
     /**
@@ -1149,16 +1210,10 @@ public class CubismModel {
      */
     public CubismRenderer.CubismTextureColor getMultiplyColor(int drawableIndex) {
         if (getOverrideFlagForModelMultiplyColors() || getOverrideFlagForDrawableMultiplyColors(drawableIndex)) {
-            return userDrawableMultiplyColors.get(drawableIndex).color;
+            return loadColor(userDrawableMultiplyColors, drawableIndex, multiplyColor);
         }
 
-        float[] color = getDrawableMultiplyColor(drawableIndex);
-        multiplyColor.r = color[0];
-        multiplyColor.g = color[1];
-        multiplyColor.b = color[2];
-        multiplyColor.a = color[3];
-
-        return multiplyColor;
+        return loadColor(getDrawableMultiplyColor(drawableIndex), 0, multiplyColor);
     }
 
     // This is only used by 'getMultiplyColor' method.
@@ -1173,16 +1228,10 @@ public class CubismModel {
      */
     public CubismRenderer.CubismTextureColor getScreenColor(int drawableIndex) {
         if (getOverrideFlagForModelScreenColors() || getOverrideFlagForDrawableScreenColors(drawableIndex)) {
-            return userDrawableScreenColors.get(drawableIndex).color;
+            return loadColor(userDrawableScreenColors, drawableIndex, screenColor);
         }
 
-        float[] color = getDrawableScreenColor(drawableIndex);
-        screenColor.r = color[0];
-        screenColor.g = color[1];
-        screenColor.b = color[2];
-        screenColor.a = color[3];
-
-        return screenColor;
+        return loadColor(getDrawableScreenColor(drawableIndex), 0, screenColor);
     }
 
     // This is only used by 'getScreenColor' method.
@@ -1209,32 +1258,37 @@ public class CubismModel {
      * @param a alpha value
      */
     public void setMultiplyColor(int drawableIndex, float r, float g, float b, float a) {
-        userDrawableMultiplyColors.get(drawableIndex).color.r = r;
-        userDrawableMultiplyColors.get(drawableIndex).color.g = g;
-        userDrawableMultiplyColors.get(drawableIndex).color.b = b;
-        userDrawableMultiplyColors.get(drawableIndex).color.a = a;
+        storeColor(userDrawableMultiplyColors, drawableIndex, r, g, b, a);
     }
 
     /**
      * Partの乗算色を取得する。
      *
      * @param partIndex 取得したいPartのインデックス
-     * @return Partの乗算色
+     * @return Partの乗算色。返すインスタンスはモデル内で共有され、次の呼び出しで上書きされる。
+     * 値を変更してもPartの色には反映されないため、色を設定する場合はsetPartMultiplyColorを使用し、値を保持する場合はコピーすること。
      */
     public CubismRenderer.CubismTextureColor getPartMultiplyColor(int partIndex) {
-        return userPartMultiplyColors.get(partIndex).color;
+        return loadColor(userPartMultiplyColors, partIndex, partMultiplyColor);
     }
 
+    // This is only used by 'getPartMultiplyColor' method.
+    private final CubismRenderer.CubismTextureColor partMultiplyColor = new CubismRenderer.CubismTextureColor();
+
     /**
      * Partのスクリーン色を取得する。
      *
      * @param partIndex 取得したいPartのインデックス
-     * @return Partのスクリーン色
+     * @return Partのスクリーン色。返すインスタンスはモデル内で共有され、次の呼び出しで上書きされる。
+     * 値を変更してもPartの色には反映されないため、色を設定する場合はsetPartScreenColorを使用し、値を保持する場合はコピーすること。
      */
     public CubismRenderer.CubismTextureColor getPartScreenColor(int partIndex) {
-        return userPartScreenColors.get(partIndex).color;
+        return loadColor(userPartScreenColors, partIndex, partScreenColor);
     }
 
+    // This is only used by 'getPartScreenColor' method.
+    private final CubismRenderer.CubismTextureColor partScreenColor = new CubismRenderer.CubismTextureColor();
+
     /**
      * Partの乗算色を設定する。
      *
@@ -1242,7 +1296,7 @@ public class CubismModel {
      * @param color 乗算色
      */
     public void setPartMultiplyColor(int partIndex, CubismRenderer.CubismTextureColor color) {
-        setPartColor(partIndex, color.r, color.g, color.b, color.a, userPartMultiplyColors, userDrawableMultiplyColors);
+        setPartColor(partIndex, color.r, color.g, color.b, color.a, userPartMultiplyColors, partMultiplyColorOverrideFlags, userDrawableMultiplyColors);
     }
 
     /**
@@ -1255,7 +1309,7 @@ public class CubismModel {
      * @param a アルファ
      */
     public void setPartMultiplyColor(int partIndex, float r, float g, float b, float a) {
-        setPartColor(partIndex, r, g, b, a, userPartMultiplyColors, userDrawableMultiplyColors);
+        setPartColor(partIndex, r, g, b, a, userPartMultiplyColors, partMultiplyColorOverrideFlags, userDrawableMultiplyColors);
     }
 
     /**
@@ -1278,10 +1332,7 @@ public class CubismModel {
      * @param a alpha value
      */
     public void setScreenColor(int drawableIndex, float r, float g, float b, float a) {
-        userDrawableScreenColors.get(drawableIndex).color.r = r;
-        userDrawableScreenColors.get(drawableIndex).color.g = g;
-        userDrawableScreenColors.get(drawableIndex).color.b = b;
-        userDrawableScreenColors.get(drawableIndex).color.a = a;
+        storeColor(userDrawableScreenColors, drawableIndex, r, g, b, a);
     }
 
     /**
@@ -1304,7 +1355,7 @@ public class CubismModel {
      * @param a アルファ
      */
     public void setPartScreenColor(int partIndex, float r, float g, float b, float a) {
-        setPartColor(partIndex, r, g, b, a, userPartScreenColors, userDrawableScreenColors);
+        setPartColor(partIndex, r, g, b, a, userPartScreenColors, partScreenColorOverrideFlags, userDrawableScreenColors);
     }
 
     /**
@@ -1409,7 +1460,8 @@ public class CubismModel {
      * @return If the color information on the SDK is used, return true. If the color information of the model is used, return false.
      */
     public boolean getOverrideFlagForDrawableMultiplyColors(int drawableIndex) {
-        return userDrawableMultiplyColors.get(drawableIndex).isOverridden;
+        checkIndex(drawableIndex, getDrawableCount());
+        return drawableMultiplyColorOverrideFlags.get(drawableIndex);
     }
 
     /**
@@ -1430,7 +1482,8 @@ public class CubismModel {
      * @return If the color information on the SDK is used, return true. If the color information of the model is used, return false.
      */
     public boolean getOverrideFlagForDrawableScreenColors(int drawableIndex) {
-        return userDrawableScreenColors.get(drawableIndex).isOverridden;
+        checkIndex(drawableIndex, getDrawableCount());
+        return drawableScreenColorOverrideFlags.get(drawableIndex);
     }
 
     /**
@@ -1453,7 +1506,8 @@ public class CubismModel {
      * @return SDKからPartの乗算色を上書きするか。上書きするならtrue。
      */
     public boolean getOverrideColorForPartMultiplyColors(int partIndex) {
-        return userPartMultiplyColors.get(partIndex).isOverridden;
+        checkIndex(partIndex, getPartCount());
+        return partMultiplyColorOverrideFlags.get(partIndex);
     }
 
     /**
@@ -1476,7 +1530,8 @@ public class CubismModel {
      * @return SDKからPartのスクリーン色を上書きするか。上書きするならtrue。
      */
     public boolean getOverrideColorForPartScreenColors(int partIndex) {
-        return userPartScreenColors.get(partIndex).isOverridden;
+        checkIndex(partIndex, getPartCount());
+        return partScreenColorOverrideFlags.get(partIndex);
     }
 
     /**
@@ -1497,7 +1552,8 @@ public class CubismModel {
      * @param value If the color information on the SDK is used, this value is true. If the color information of the model is used, this is false.
      */
     public void setOverrideFlagForDrawableMultiplyColors(int drawableIndex, boolean value) {
-        userDrawableMultiplyColors.get(drawableIndex).isOverridden = value;
+        checkIndex(drawableIndex, getDrawableCount());
+        drawableMultiplyColorOverrideFlags.set(drawableIndex, value);
     }
 
     /**
@@ -1518,7 +1574,8 @@ public class CubismModel {
      * @param value If the color information on the SDK is used, this value is true. If the color information of the model is used, this is false.
      */
     public void setOverrideFlagForDrawableScreenColors(int drawableIndex, boolean value) {
-        userDrawableScreenColors.get(drawableIndex).isOverridden = value;
+        checkIndex(drawableIndex, getDrawableCount());
+        drawableScreenColorOverrideFlags.set(drawableIndex, value);
     }
 
     /**
@@ -1541,8 +1598,14 @@ public class CubismModel {
      * @param value SDKからPartの乗算色を上書きするかどうか。trueなら上書きする。
      */
     public void setOverrideColorForPartMultiplyColors(int partIndex, boolean value) {
-        userPartMultiplyColors.get(partIndex).isOverridden = value;
-        setOverrideColorsForPartColors(partIndex, value, userPartMultiplyColors, userDrawableMultiplyColors);
+        setOverrideColorsForPartColors(
+            partIndex,
+            value,
+            userPartMultiplyColors,
+            partMultiplyColorOverrideFlags,
+            userDrawableMultiplyColors,
+            drawableMultiplyColorOverrideFlags
+        );
     }
 
     /**
@@ -1565,8 +1628,14 @@ public class CubismModel {
      * @param value SDKからPartのスクリーン色を上書きするかどうか。trueなら上書きする。
      */
     public void setOverrideColorForPartScreenColors(int partIndex, boolean value) {
-        userPartScreenColors.get(partIndex).isOverridden = value;
-        setOverrideColorsForPartColors(partIndex, value, userPartScreenColors, userDrawableScreenColors);
+        setOverrideColorsForPartColors(
+            partIndex,
+            value,
+            userPartScreenColors,
+            partScreenColorOverrideFlags,
+            userDrawableScreenColors,
+            drawableScreenColorOverrideFlags
+        );
     }
 
     /**
@@ -1576,8 +1645,10 @@ public class CubismModel {
      * @return the culling inforamtion of Drawable
      */
     public boolean getDrawableCulling(int drawableIndex) {
+        checkIndex(drawableIndex, getDrawableCount());
+
         if (getOverrideFlagForModelCullings() || getOverrideFlagForDrawableCullings(drawableIndex)) {
-            return userCullings.get(drawableIndex).isCulling;
+            return userCullingFlags.get(drawableIndex);
         }
 
         final byte constantFlag = model.getDrawableViews()[drawableIndex].getConstantFlag();
@@ -1591,7 +1662,8 @@ public class CubismModel {
      * @param isCulling カリングするかどうか
      */
     public void setDrawableCulling(int drawableIndex, boolean isCulling) {
-        userCullings.get(drawableIndex).isCulling = isCulling;
+        checkIndex(drawableIndex, getDrawableCount());
+        userCullingFlags.set(drawableIndex, isCulling);
     }
 
     /**
@@ -1618,7 +1690,8 @@ public class CubismModel {
      * @param value true if it is to be overridden; otherwise, false.
      */
     public void setOverrideFlagForParameterRepeat(int parameterIndex, boolean value) {
-        this.userParameterRepeatDataList.get(parameterIndex).isOverridden = value;
+        checkIndex(parameterIndex, getParameterCount());
+        userParameterRepeatOverrideFlags.set(parameterIndex, value);
     }
 
     /**
@@ -1629,7 +1702,8 @@ public class CubismModel {
      * @return true if repeating, false otherwise.
      */
     public boolean getRepeatFlagForParameterRepeat(int parameterIndex) {
-        return this.userParameterRepeatDataList.get(parameterIndex).isParameterRepeated;
+        checkIndex(parameterIndex, getParameterCount());
+        return userParameterRepeatFlags.get(parameterIndex);
     }
 
     /**
@@ -1639,7 +1713,8 @@ public class CubismModel {
      * @param value true to enable repeating, false otherwise.
      */
     public void setRepeatFlagForParameterRepeat(int parameterIndex, boolean value) {
-        this.userParameterRepeatDataList.get(parameterIndex).isParameterRepeated = value;
+        checkIndex(parameterIndex, getParameterCount());
+        userParameterRepeatFlags.set(parameterIndex, value);
     }
 
     /**
@@ -1704,7 +1779,8 @@ public class CubismModel {
      * @return trueならSDK上のカリング設定を使用し、falseならモデルのカリング設定を使用する
      */
     public boolean getOverrideFlagForDrawableCullings(int drawableIndex) {
-        return userCullings.get(drawableIndex).isOverridden;
+        checkIndex(drawableIndex, getDrawableCount());
+        return userCullingOverrideFlags.get(drawableIndex);
     }
 
     /**
@@ -1727,7 +1803,8 @@ public class CubismModel {
      * @param value SDK上のカリング設定を使うならtrue, モデルのカリング設定を使うならfalse
      */
     public void setOverrideFlagForDrawableCullings(int drawableIndex, boolean value) {
-        userCullings.get(drawableIndex).isOverridden = value;
+        checkIndex(drawableIndex, getDrawableCount());
+        userCullingOverrideFlags.set(drawableIndex, value);
     }
 
     /**
@@ -1765,6 +1842,10 @@ public class CubismModel {
             model.close();
             model.getMoc().close();
         }
+
+        notExistParameters.reset(0);
+        notExistParts.reset(0);
+        parameterSnapshots.clear();
     }
 
     /**
@@ -1776,12 +1857,15 @@ public class CubismModel {
         parameterValues = model.getParameterViews();
         partValues = model.getPartViews();
 
+        // Slots for IDs referenced by motions but not existing in the model follow the existing ones.
+        notExistParameters.reset(parameterValues.length);
+        notExistParts.reset(partValues.length);
+
         // Set parameter IDs to _parameterIds.
         for (CubismParameterView parameterValue : parameterValues) {
             String id = parameterValue.getId();
 
             parameterIds.add(CubismFramework.getIdManager().getId(id));
-            userParameterRepeatDataList.add(new ParameterRepeatData(false, false));
         }
 
         // Set part IDs to _partIds.
@@ -1793,56 +1877,38 @@ public class CubismModel {
 
         // Set drawable IDs to _drawableIds.
         CubismDrawableView[] drawableValues = model.getDrawableViews();
+        final int drawableCount = drawableValues.length;
+        final int partCount = partValues.length;
 
-        // MultiplyColors
-        CubismRenderer.CubismTextureColor mutiplyColor = new CubismRenderer.CubismTextureColor(
-            1.0f,
-            1.0f,
-            1.0f,
-            1.f
-        );
-        DrawableColorData userDrawableMultiplyColor = new DrawableColorData(false, mutiplyColor);
-        PartColorData userPartMultiplyColor = new PartColorData(false, mutiplyColor);
-
-        // ScreenColors
-        CubismRenderer.CubismTextureColor screenColor = new CubismRenderer.CubismTextureColor(
-            0.0f,
-            0.0f,
-            0.0f,
-            1.0f
-        );
-        DrawableColorData userDrawableScreenColor = new DrawableColorData(false, screenColor);
-        PartColorData userPartScreenColor = new PartColorData(false, screenColor);
-
-        // To prevent performance degradation due to capacity expansion, HashMap is generated with initial capacity reserved.
-        int partCount = model.getPartViews().length;
-        partChildDrawablesMap = new HashMap<Integer, List<Integer>>(partCount);
+        // Override colors are packed as RGBA per drawable/part. Multiply colors start with white, screen colors with black.
+        userDrawableMultiplyColors = createColorArray(drawableCount, 1.0f, 1.0f, 1.0f, 1.0f);
+        userDrawableScreenColors = createColorArray(drawableCount, 0.0f, 0.0f, 0.0f, 1.0f);
+        userPartMultiplyColors = createColorArray(partCount, 1.0f, 1.0f, 1.0f, 1.0f);
+        userPartScreenColors = createColorArray(partCount, 0.0f, 0.0f, 0.0f, 1.0f);
 
-        // Setting for Drawables.
+        // Bind parent Parts and child Drawables as CSR arrays.
+        // The first pass counts the children of each part, the second one fills the indices in drawable order.
+        partChildDrawableOffsets = new int[partCount + 1];
         for (CubismDrawableView drawableValue : drawableValues) {
-            String id = drawableValue.getId();
-            drawableIds.add(CubismFramework.getIdManager().getId(id));
-
-            userDrawableMultiplyColors.add(new DrawableColorData(userDrawableMultiplyColor));
-            userDrawableScreenColors.add(new DrawableColorData(userDrawableScreenColor));
-            userCullings.add(new DrawableCullingData(false, false));
+            drawableIds.add(CubismFramework.getIdManager().getId(drawableValue.getId()));
 
-            // Bind parent Parts and child Drawables.
             int parentIndex = drawableValue.getParentPartIndex();
             if (parentIndex >= 0) {
-                List<Integer> childDrawables = partChildDrawablesMap.get(parentIndex);
-                if (childDrawables == null) {
-                    childDrawables = new ArrayList<Integer>();
-                    partChildDrawablesMap.put(parentIndex, childDrawables);
-                }
-                childDrawables.add(drawableValue.getIndex());
+                partChildDrawableOffsets[parentIndex + 1]++;
             }
         }
-
-        // Setting for Parts.
         for (int i = 0; i < partCount; i++) {
-            userPartMultiplyColors.add(new PartColorData(userPartMultiplyColor));
-            userPartScreenColors.add(new PartColorData(userPartScreenColor));
+            partChildDrawableOffsets[i + 1] += partChildDrawableOffsets[i];
+        }
+
+        partChildDrawableIndices = new int[partChildDrawableOffsets[partCount]];
+        int[] fillPositions = new int[partCount];
+        System.arraycopy(partChildDrawableOffsets, 0, fillPositions, 0, partCount);
+        for (CubismDrawableView drawableValue : drawableValues) {
+            int parentIndex = drawableValue.getParentPartIndex();
+            if (parentIndex >= 0) {
+                partChildDrawableIndices[fillPositions[parentIndex]++] = drawableValue.getIndex();
+            }
         }
     }
 
@@ -1864,6 +1930,20 @@ public class CubismModel {
         return (flag & mask) == mask;
     }
 
+    /**
+     * インデックスが要素数の範囲内かを確認する。
+     * BitSetは範囲外のインデックスでも例外を投げないため、上書きフラグへのアクセス前に呼び出す。
+     *
+     * @param index 確認するインデックス
+     * @param size 要素数
+     * @throws IndexOutOfBoundsException インデックスが範囲外の場合
+     */
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
     /**
      * PartのOverrideColorを設定する。
      *
@@ -1872,31 +1952,24 @@ public class CubismModel {
      * @param g 緑
      * @param b 青
      * @param a アルファ
-     * @param partColors 設定するPartの上書き色のリスト
-     * @param drawableColors Drawableの上書き色のリスト
+     * @param partColors 設定するPartの上書き色の配列
+     * @param partOverrideFlags Partの上書きフラグ
+     * @param drawableColors Drawableの上書き色の配列
      */
     private void setPartColor(
         int partIndex,
         float r, float g, float b, float a,
-        List<PartColorData> partColors,
-        List<DrawableColorData> drawableColors
+        float[] partColors,
+        BitSet partOverrideFlags,
+        float[] drawableColors
     ) {
-        partColors.get(partIndex).color.r = r;
-        partColors.get(partIndex).color.g = g;
-        partColors.get(partIndex).color.b = b;
-        partColors.get(partIndex).color.a = a;
-
-        if (partColors.get(partIndex).isOverridden) {
-            List<Integer> childDrawables = partChildDrawablesMap.get(partIndex);
-            if(childDrawables == null) return;
-
-            for (int i = 0; i < childDrawables.size(); i++) {
-                int drawableIndex = childDrawables.get(i);
-
-                drawableColors.get(drawableIndex).color.r = r;
-                drawableColors.get(drawableIndex).color.g = g;
-                drawableColors.get(drawableIndex).color.b = b;
-                drawableColors.get(drawableIndex).color.a = a;
+        storeColor(partColors, partIndex, r, g, b, a);
+
+        if (partOverrideFlags.get(partIndex)) {
+            final int end = partChildDrawableOffsets[partIndex + 1];
+
+            for (int i = partChildDrawableOffsets[partIndex]; i < end; i++) {
+                storeColor(drawableColors, partChildDrawableIndices[i], r, g, b, a);
             }
         }
     }
@@ -1906,56 +1979,92 @@ public class CubismModel {
      *
      * @param partIndex 設定するPartのインデックス
      * @param value 真偽値
-     * @param partColors 設定するPartの上書き色のリスト
-     * @param drawableColors Drawableの上書き色のリスト
+     * @param partColors 設定するPartの上書き色の配列
+     * @param partOverrideFlags Partの上書きフラグ
+     * @param drawableColors Drawableの上書き色の配列
+     * @param drawableOverrideFlags Drawableの上書きフラグ
      */
     private void setOverrideColorsForPartColors(
         int partIndex,
         boolean value,
-        List<PartColorData> partColors,
-        List<DrawableColorData> drawableColors
+        float[] partColors,
+        BitSet partOverrideFlags,
+        float[] drawableColors,
+        BitSet drawableOverrideFlags
     ) {
-        partColors.get(partIndex).isOverridden = value;
-
-        List<Integer> childDrawables = partChildDrawablesMap.get(partIndex);
-        if (childDrawables == null) return;
+        checkIndex(partIndex, getPartCount());
+        partOverrideFlags.set(partIndex, value);
 
-        for (int i = 0; i < childDrawables.size(); i++) {
-            int drawableIndex = childDrawables.get(i);
-            drawableColors.get(drawableIndex).isOverridden = value;
+        final int end = partChildDrawableOffsets[partIndex + 1];
+        for (int i = partChildDrawableOffsets[partIndex]; i < end; i++) {
+            int drawableIndex = partChildDrawableIndices[i];
+            drawableOverrideFlags.set(drawableIndex, value);
 
             if (value) {
-                drawableColors.get(drawableIndex).color.r = partColors.get(partIndex).color.r;
-                drawableColors.get(drawableIndex).color.g = partColors.get(partIndex).color.g;
-                drawableColors.get(drawableIndex).color.b = partColors.get(partIndex).color.b;
-                drawableColors.get(drawableIndex).color.a = partColors.get(partIndex).color.a;
+                System.arraycopy(partColors, partIndex * 4, drawableColors, drawableIndex * 4, 4);
             }
         }
     }
 
     /**
-     * List of opacities for non-existent parts
+     * Create an array of RGBA colors filled with the specified color.
+     *
+     * @param count number of colors
+     * @return array of packed RGBA colors
      */
-    private float[] notExistPartOpacities = new float[1];
-    private final List<Integer> notExistPartIndices = new ArrayList<Integer>();
+    private static float[] createColorArray(int count, float r, float g, float b, float a) {
+        float[] colors = new float[count * 4];
+        for (int i = 0; i < count; i++) {
+            storeColor(colors, i, r, g, b, a);
+        }
+        return colors;
+    }
+
+    /**
+     * Store the color at the index of the packed RGBA array.
+     */
+    private static void storeColor(float[] colors, int index, float r, float g, float b, float a) {
+        final int offset = index * 4;
+        colors[offset] = r;
+        colors[offset + 1] = g;
+        colors[offset + 2] = b;
+        colors[offset + 3] = a;
+    }
 
     /**
-     * List of IDs for non-existent parts
+     * Load the color at the index of the packed RGBA array into the specified instance.
+     *
+     * @return the instance passed as an argument
      */
-    private final Map<CubismId, Integer> notExistPartIds = new HashMap<CubismId, Integer>();
+    private static CubismRenderer.CubismTextureColor loadColor(
+        float[] colors,
+        int index,
+        CubismRenderer.CubismTextureColor dst
+    ) {
+        final int offset = index * 4;
+        dst.r = colors[offset];
+        dst.g = colors[offset + 1];
+        dst.b = colors[offset + 2];
+        dst.a = colors[offset + 3];
+        return dst;
+    }
+
     /**
-     * List of values for non-existent parameters
+     * IDs and opacities for non-existent parts
      */
-    private float[] notExistParameterValues = new float[1];
-    private final List<Integer> notExistParameterIndices = new ArrayList<Integer>();
+    private final CubismNotExistIdSlots notExistParts = new CubismNotExistIdSlots();
     /**
-     * List of IDs for non-existent parameters
+     * IDs and values for non-existent parameters
      */
-    private final Map<CubismId, Integer> notExistParameterIds = new HashMap<CubismId, Integer>();
+    private final CubismNotExistIdSlots notExistParameters = new CubismNotExistIdSlots();
     /**
      * Saved parameters
      */
     private float[] savedParameters = new float[1];
+    /**
+     * Parameters saved under each snapshot name
+     */
+    private final Map<String, float[]> parameterSnapshots = new HashMap<String, float[]>();
     /**
      * model
      */
@@ -1974,36 +2083,65 @@ public class CubismModel {
     private final List<CubismId> drawableIds = new ArrayList<>();
 
     /**
-     * Drawableの乗算色のリスト
+     * Drawableの乗算色の配列。RGBAの順に4要素ずつ格納する。
+     */
+    private float[] userDrawableMultiplyColors;
+    /**
+     * Drawableのスクリーン色の配列。RGBAの順に4要素ずつ格納する。
+     */
+    private float[] userDrawableScreenColors;
+    /**
+     * Drawableの乗算色を上書きするかのフラグ
      */
-    private final List<DrawableColorData> userDrawableMultiplyColors = new ArrayList<DrawableColorData>();
+    private final BitSet drawableMultiplyColorOverrideFlags = new BitSet();
     /**
-     * Drawableのスクリーン色のリスト
+     * Drawableのスクリーン色を上書きするかのフラグ
      */
-    private final List<DrawableColorData> userDrawableScreenColors = new ArrayList<DrawableColorData>();
+    private final BitSet drawableScreenColorOverrideFlags = new BitSet();
 
     /**
-     * パーツの乗算色のリスト
+     * パーツの乗算色の配列。RGBAの順に4要素ずつ格納する。
+     */
+    private float[] userPartMultiplyColors;
+    /**
+     * パーツのスクリーン色の配列。RGBAの順に4要素ずつ格納する。
+     */
+    private float[] userPartScreenColors;
+    /**
+     * パーツの乗算色を上書きするかのフラグ
      */
-    private final List<PartColorData> userPartMultiplyColors = new ArrayList<PartColorData>();
+    private final BitSet partMultiplyColorOverrideFlags = new BitSet();
     /**
-     * パーツのスクリーン色のリスト
+     * パーツのスクリーン色を上書きするかのフラグ
      */
-    private final List<PartColorData> userPartScreenColors = new ArrayList<PartColorData>();
+    private final BitSet partScreenColorOverrideFlags = new BitSet();
+
+    /**
+     * Partごとの子Drawableの開始位置。Part iの子は partChildDrawableIndices[offsets[i]] から offsets[i + 1] の手前まで。
+     */
+    private int[] partChildDrawableOffsets;
     /**
-     * Partとその子DrawableのListとのMap
+     * Partごとに連続して並べた子Drawableのインデックス
      */
-    private Map<Integer,List<Integer>> partChildDrawablesMap;
+    private int[] partChildDrawableIndices;
 
     /**
-     * カリング設定のリスト
+     * カリング設定を上書きするかのフラグ
      */
-    private final List<DrawableCullingData> userCullings = new ArrayList<DrawableCullingData>();
+    private final BitSet userCullingOverrideFlags = new BitSet();
+    /**
+     * 上書きするカリング設定
+     */
+    private final BitSet userCullingFlags = new BitSet();
 
     /**
-     * List to manage ParameterRepeat and Override flag to be set for each Parameter
+     * Flags whether to override the parameter repeat setting of each parameter
+     */
+    private final BitSet userParameterRepeatOverrideFlags = new BitSet();
+    /**
+     * Repeat settings of each parameter used when overridden
      */
-    private final List<ParameterRepeatData> userParameterRepeatDataList = new ArrayList<ParameterRepeatData>();
+    private final BitSet userParameterRepeatFlags = new BitSet();
 
     /**
      * Flag whether to Override all the parameter repeat
@@ -0,0 +1,165 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+import com.live2d.sdk.cubism.framework.id.CubismId;
+
+import java.util.Arrays;
+
+/**
+ * Storage of virtual slots for parameter or part IDs which do not exist in the model.
+ * <p>
+ * The slot indices continue from the number of IDs existing in the model, so a slot index never collides with the index of an existing ID.
+ * IDs are looked up by an open-addressing hash table without boxing, and the value array grows geometrically.
+ */
+class CubismNotExistIdSlots {
+    /**
+     * Reset the slots and set the index of the first slot.
+     *
+     * @param baseIndex index assigned to the first slot. This is the number of IDs existing in the model.
+     */
+    void reset(int baseIndex) {
+        this.baseIndex = baseIndex;
+        count = 0;
+        Arrays.fill(keys, null);
+        Arrays.fill(values, 0.0f);
+    }
+
+    /**
+     * Get the slot index of the ID.
+     *
+     * @param id ID which does not exist in the model
+     * @return slot index. If the ID has no slot, return -1.
+     */
+    int getIndex(CubismId id) {
+        final int mask = keys.length - 1;
+
+        for (int i = hash(id) & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(id)) {
+                return baseIndex + slots[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Add a slot for the ID. The value of the slot is initialized to 0.
+     * The ID must not have a slot yet.
+     *
+     * @param id ID which does not exist in the model
+     * @return slot index
+     */
+    int add(CubismId id) {
+        if ((count + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+
+        insert(id, count);
+        values[count] = 0.0f;
+
+        return baseIndex + count++;
+    }
+
+    /**
+     * Whether the index points to a slot.
+     *
+     * @param index parameter or part index
+     * @return true if the index points to a slot
+     */
+    boolean contains(int index) {
+        return baseIndex <= index && index < baseIndex + count;
+    }
+
+    /**
+     * Get the value of the slot.
+     *
+     * @param index slot index
+     * @return value of the slot
+     */
+    float getValue(int index) {
+        return values[index - baseIndex];
+    }
+
+    /**
+     * Set the value of the slot.
+     *
+     * @param index slot index
+     * @param value value of the slot
+     */
+    void setValue(int index, float value) {
+        values[index - baseIndex] = value;
+    }
+
+    /**
+     * Get the number of slots.
+     *
+     * @return number of slots
+     */
+    int getCount() {
+        return count;
+    }
+
+    private void insert(CubismId id, int slot) {
+        final int mask = keys.length - 1;
+
+        int i = hash(id) & mask;
+        while (keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        slots[i] = slot;
+    }
+
+    private void rehash(int capacity) {
+        final CubismId[] oldKeys = keys;
+        final int[] oldSlots = slots;
+
+        keys = new CubismId[capacity];
+        slots = new int[capacity];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private static int hash(CubismId id) {
+        final int h = id.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Initial capacity of the hash table. It must be a power of 2.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Index assigned to the first slot
+     */
+    private int baseIndex;
+    /**
+     * Number of slots
+     */
+    private int count;
+    /**
+     * IDs of the hash table
+     */
+    private CubismId[] keys = new CubismId[INITIAL_CAPACITY];
+    /**
+     * Slot numbers of the hash table
+     */
+    private int[] slots = new int[INITIAL_CAPACITY];
+    /**
+     * Values of the slots in order of addition
+     */
+    private float[] values = new float[INITIAL_CAPACITY / 2];
+}
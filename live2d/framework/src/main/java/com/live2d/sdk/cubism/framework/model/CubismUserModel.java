@@ -28,6 +28,7 @@ import com.live2d.sdk.cubism.framework.motion.ICubismMotionEventFunction;
 import com.live2d.sdk.cubism.framework.motion.IFinishedMotionCallback;
 import com.live2d.sdk.cubism.framework.physics.CubismPhysics;
 import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
 
 /**
  * This is the base class of the model that the user actually utilizes. The user defined model class inherits this class.
@@ -428,6 +429,80 @@ public abstract class CubismUserModel {
         }
     }
 
+    /**
+     * Load a motion data compiled by CubismMotion.compile().
+     *
+     * @param reader a reader of the compiled data. If it is null, nothing is loaded.
+     * @param onFinishedMotionHandler the callback method called at finishing motion play. If it is null, callbacking methods is not conducting.
+     * @param onBeganMotionHandler the callback method called at beginning motion play. If it is null, callbacking methods is not conducting.
+     * @return motion class. null if the reader is null or the data is broken.
+     */
+    protected CubismMotion loadMotion(
+        CubismBinaryReader reader,
+        IFinishedMotionCallback onFinishedMotionHandler,
+        IBeganMotionCallback onBeganMotionHandler
+    ) {
+        if (reader == null) {
+            return null;
+        }
+        try {
+            return CubismMotion.create(reader, onFinishedMotionHandler, onBeganMotionHandler);
+        } catch (Exception e) {
+            cubismLogError("Failed to loadMotion(). %s", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Load an expression data compiled by CubismExpressionMotion.compile().
+     *
+     * @param reader a reader of the compiled data. If it is null, nothing is loaded.
+     * @return expression motion class. null if the reader is null or the data is broken.
+     */
+    protected CubismExpressionMotion loadExpression(CubismBinaryReader reader) {
+        if (reader == null) {
+            return null;
+        }
+        try {
+            return CubismExpressionMotion.create(reader);
+        } catch (Exception e) {
+            cubismLogError("Failed to loadExpressionMotion(). %s", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Load a pose data compiled by CubismPose.compile().
+     *
+     * @param reader a reader of the compiled data. If it is null, nothing is loaded.
+     */
+    protected void loadPose(CubismBinaryReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            pose = CubismPose.create(reader);
+        } catch (Exception e) {
+            cubismLogError("Failed to loadPose(). %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Load a physics data compiled by CubismPhysics.compile().
+     *
+     * @param reader a reader of the compiled data. If it is null, nothing is loaded.
+     */
+    protected void loadPhysics(CubismBinaryReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            physics = CubismPhysics.create(reader);
+        } catch (Exception e) {
+            cubismLogError("Failed to loadPhysics(). %s", e.getMessage());
+        }
+    }
+
     /**
      * Load a user data attached the model.
      *
@@ -246,9 +246,31 @@ public abstract class ACubismMotion {
      * @return list of events that have fired
      */
     public List<String> getFiredEvent(float beforeCheckTimeSeconds, float motionTimeSeconds) {
+        if (firedEventValues.isEmpty()) {
+            return Collections.emptyList();
+        }
         return Collections.unmodifiableList(firedEventValues);
     }
 
+    /**
+     * Fire the events between the last check and this time to the sink.
+     * This method passes the result of {@link #getFiredEvent(float, float)} to the sink.
+     * The derived classes may override it to fire the events without building a list.
+     *
+     * @param motionQueueEntry motion managed by CubismMotionQueueManager
+     * @param userTimeSeconds total delta time[s]
+     * @param sink receiver of the events
+     */
+    public void fireEvents(CubismMotionQueueEntry motionQueueEntry, float userTimeSeconds, ICubismMotionEventSink sink) {
+        final List<String> firedList = getFiredEvent(
+            motionQueueEntry.getLastCheckEventTime() - motionQueueEntry.getStartTime(),
+            userTimeSeconds - motionQueueEntry.getStartTime());
+
+        for (int i = 0; i < firedList.size(); i++) {
+            sink.fire(firedList.get(i));
+        }
+    }
+
     /**
      * Registers a motion playback start callback.
      * It is not called in the following states:
@@ -8,8 +8,12 @@
 package com.live2d.sdk.cubism.framework.motion;
 
 import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
 import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.ACubismJsonValue;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJson;
 
@@ -99,6 +103,63 @@ public class CubismExpressionMotion extends ACubismMotion {
         return expression;
     }
 
+    /**
+     * Parse exp3.json and write the parsed parameters as the compiled binary data.
+     * This method does not use the ID manager of CubismFramework, so it can be called before the framework is initialized.
+     *
+     * @param buffer buffer where exp3.json file is loaded
+     * @param writer writer of the compiled data
+     */
+    public static void compile(byte[] buffer, CubismBinaryWriter writer) {
+        CubismExpressionMotion expression = new CubismExpressionMotion();
+        expression.parse(buffer, new CubismIdManager());
+
+        writer.writeInt(COMPILED_DATA_VERSION);
+        writer.writeFloat(expression.getFadeInTime());
+        writer.writeFloat(expression.getFadeOutTime());
+        writer.writeInt(expression.parameters.size());
+        for (int i = 0; i < expression.parameters.size(); i++) {
+            ExpressionParameter parameter = expression.parameters.get(i);
+
+            writer.writeString(parameter.parameterId.getString());
+            writer.writeInt(parameter.blendType.ordinal());
+            writer.writeFloat(parameter.value);
+        }
+    }
+
+    /**
+     * Create an instance from the data written by {@link #compile(byte[], CubismBinaryWriter)}.
+     *
+     * @param reader reader of the compiled data
+     * @return created instance
+     *
+     * @throws CubismBinaryFormatException if the compiled data is broken.
+     */
+    public static CubismExpressionMotion create(CubismBinaryReader reader) {
+        final int version = reader.readInt();
+        if (version != COMPILED_DATA_VERSION) {
+            throw new CubismBinaryFormatException("Unsupported compiled expression version: " + version);
+        }
+
+        CubismExpressionMotion expression = new CubismExpressionMotion();
+        expression.setFadeInTime(reader.readFloat());
+        expression.setFadeOutTime(reader.readFloat());
+
+        final ExpressionBlendType[] blendTypes = ExpressionBlendType.values();
+        final int count = reader.readCount(COMPILED_PARAMETER_MINIMUM_SIZE);
+        for (int i = 0; i < count; i++) {
+            final CubismId parameterId = CubismFramework.getIdManager().getId(reader.readString());
+            final int blendType = reader.readInt();
+            final float value = reader.readFloat();
+
+            if (blendType < 0 || blendTypes.length <= blendType) {
+                throw new CubismBinaryFormatException("Invalid blend type: " + blendType);
+            }
+            expression.parameters.add(new ExpressionParameter(parameterId, blendTypes[blendType], value));
+        }
+        return expression;
+    }
+
     /**
      * モデルの表情に関するパラメータを計算する。
      *
@@ -200,6 +261,121 @@ public class CubismExpressionMotion extends ACubismMotion {
         }
     }
 
+    /**
+     * モデルの表情に関するパラメータを、パラメータのインデックスをキーとする表に計算する。
+     * 計算内容はIDで検索する{@link #calculateExpressionParameters(CubismModel, float, CubismMotionQueueEntry, List, int, float)}と同じ。
+     *
+     * @param model 対象のモデル
+     * @param userTimeSeconds デルタ時間の積算値[秒]
+     * @param motionQueueEntry CubismMotionQueueManagerで管理されているモーション
+     * @param table モデルに適用する各パラメータの値の表
+     * @param expressionIndex 表情のインデックス
+     * @param fadeWeight 表情のウェイト
+     */
+    void calculateExpressionParameters(
+        CubismModel model,
+        float userTimeSeconds,
+        CubismMotionQueueEntry motionQueueEntry,
+        CubismExpressionMotionManager.ExpressionParameterTable table,
+        int expressionIndex,
+        float fadeWeight
+    ) {
+        if (motionQueueEntry == null || table == null) {
+            return;
+        }
+
+        if (!motionQueueEntry.isAvailable()) {
+            return;
+        }
+
+        // CubismExpressionMotion.fadeWeight は廃止予定です。
+        // 互換性のために処理は残りますが、実際には使用しておりません。
+        this.fadeWeight = updateFadeWeight(motionQueueEntry, userTimeSeconds);
+
+        // この表情が参照しているパラメータに印を付ける
+        final int mark = table.markReferences(getParameterIndices(model));
+
+        final int[] parameterIndices = table.parameterIndices;
+        final float[] additiveValues = table.additiveValues;
+        final float[] multiplyValues = table.multiplyValues;
+        final float[] overwriteValues = table.overwriteValues;
+
+        // モデルに適用する値を計算
+        for (int i = 0; i < table.count; i++) {
+            final int index = parameterIndices[i];
+            final float currentParameterValue = overwriteValues[index] = model.getParameterValue(index);
+
+            // 再生中のExpressionが参照していないパラメータは初期値を適用
+            if (table.referenceMarks[index] != mark) {
+                if (expressionIndex == 0) {
+                    additiveValues[index] = DEFAULT_ADDITIVE_VALUE;
+                    multiplyValues[index] = DEFAULT_MULTIPLY_VALUE;
+                    overwriteValues[index] = currentParameterValue;
+                } else {
+                    additiveValues[index] = calculateValue(additiveValues[index], DEFAULT_ADDITIVE_VALUE, fadeWeight);
+                    multiplyValues[index] = calculateValue(multiplyValues[index], DEFAULT_MULTIPLY_VALUE, fadeWeight);
+                    overwriteValues[index] = calculateValue(overwriteValues[index], currentParameterValue, fadeWeight);
+                }
+                continue;
+            }
+
+            // 値を計算
+            final ExpressionParameter parameter = parameters.get(table.referencePositions[index]);
+            final float value = parameter.value;
+            float newAdditiveValue, newMultiplyValue, newOverwriteValue;
+
+            switch (parameter.blendType) {
+                case ADD:
+                    newAdditiveValue = value;
+                    newMultiplyValue = DEFAULT_MULTIPLY_VALUE;
+                    newOverwriteValue = currentParameterValue;
+                    break;
+                case MULTIPLY:
+                    newAdditiveValue = DEFAULT_ADDITIVE_VALUE;
+                    newMultiplyValue = value;
+                    newOverwriteValue = currentParameterValue;
+                    break;
+                case OVERWRITE:
+                    newAdditiveValue = DEFAULT_ADDITIVE_VALUE;
+                    newMultiplyValue = DEFAULT_MULTIPLY_VALUE;
+                    newOverwriteValue = value;
+                    break;
+                default:
+                    return;
+            }
+
+            if (expressionIndex == 0) {
+                additiveValues[index] = newAdditiveValue;
+                multiplyValues[index] = newMultiplyValue;
+                overwriteValues[index] = newOverwriteValue;
+            } else {
+                additiveValues[index] = (additiveValues[index] * (1.0f - fadeWeight)) + newAdditiveValue * fadeWeight;
+                multiplyValues[index] = (multiplyValues[index] * (1.0f - fadeWeight)) + newMultiplyValue * fadeWeight;
+                overwriteValues[index] = (overwriteValues[index] * (1.0f - fadeWeight)) + newOverwriteValue * fadeWeight;
+            }
+        }
+    }
+
+    /**
+     * 表情が参照しているパラメータの、モデル上のインデックスを取得する。
+     * インデックスはモデルごとに一度だけ解決し、保持しておく。
+     *
+     * @param model 対象のモデル
+     * @return 表情が参照しているパラメータのインデックス。並びはgetExpressionParameters()と同じ。
+     */
+    int[] getParameterIndices(CubismModel model) {
+        if (model != parameterIndicesModel || parameterIndices.length != parameters.size()) {
+            final int[] indices = new int[parameters.size()];
+
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = model.getParameterIndex(parameters.get(i).parameterId);
+            }
+            parameterIndices = indices;
+            parameterIndicesModel = model;
+        }
+        return parameterIndices;
+    }
+
     /**
      * 表情が参照しているパラメータを取得する。
      *
@@ -264,6 +440,16 @@ public class CubismExpressionMotion extends ACubismMotion {
      * @param exp3Json exp3.jsonが読み込まれているbyte配列
      */
     protected void parse(byte[] exp3Json) {
+        parse(exp3Json, CubismFramework.getIdManager());
+    }
+
+    /**
+     * exp3.jsonをパースする。
+     *
+     * @param exp3Json exp3.jsonが読み込まれているbyte配列
+     * @param idManager パラメータIDを生成するIDマネージャー
+     */
+    private void parse(byte[] exp3Json, CubismIdManager idManager) {
         CubismJson json = CubismJson.create(exp3Json);
 
         setFadeInTime(json.getRoot().get(ExpressionKey.FADE_IN.key).toFloat(DEFAULT_FADE_TIME));
@@ -275,7 +461,7 @@ public class CubismExpressionMotion extends ACubismMotion {
             final ACubismJsonValue param = jsonParameters.get(i);
 
             // Parameter ID
-            final CubismId parameterId = CubismFramework.getIdManager().getId(param.get(ExpressionKey.ID.key).getString());
+            final CubismId parameterId = idManager.getId(param.get(ExpressionKey.ID.key).getString());
             // Setting of calculation method.
             final ExpressionBlendType blendType = getBlendMethod(param);
             // Value
@@ -339,11 +525,29 @@ public class CubismExpressionMotion extends ACubismMotion {
         return (source * (1.0f - fadeWeight)) + (destination * fadeWeight);
     }
 
+    /**
+     * コンパイル済みデータのバージョン
+     */
+    private static final int COMPILED_DATA_VERSION = 1;
+    /**
+     * コンパイル済みデータの1パラメータの最小バイト数
+     */
+    private static final int COMPILED_PARAMETER_MINIMUM_SIZE = 12;
+
     /**
      * Parameter information list for facial expressions
      */
     private final List<ExpressionParameter> parameters = new ArrayList<>();
 
+    /**
+     * 表情が参照しているパラメータの、モデル上のインデックス
+     */
+    private int[] parameterIndices = new int[0];
+    /**
+     * parameterIndicesを解決したモデル
+     */
+    private CubismModel parameterIndicesModel;
+
     /**
      * 表情の現在のウェイト
      *
@@ -12,7 +12,7 @@ import com.live2d.sdk.cubism.framework.math.CubismMath;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -37,6 +37,126 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
         public float overwriteValue;
     }
 
+    /**
+     * 表情が参照しているパラメータの値を、モデルのパラメータインデックスをキーとする配列で保持する表。
+     * 存在しないパラメータの仮想的なインデックスもキーに含むため、配列は必要に応じて拡張する。
+     */
+    static final class ExpressionParameterTable {
+        /**
+         * 表に登録されているか
+         *
+         * @param parameterIndex パラメータのインデックス
+         * @return 登録されていればtrue
+         */
+        boolean contains(int parameterIndex) {
+            return parameterIndex < isRegistered.length && isRegistered[parameterIndex];
+        }
+
+        /**
+         * パラメータを表に追加する。加算値と乗算値は初期値になる。
+         *
+         * @param parameterIndex パラメータのインデックス
+         * @param overwriteValue 上書き値
+         */
+        void add(int parameterIndex, float overwriteValue) {
+            ensureCapacity(parameterIndex + 1);
+
+            if (count == parameterIndices.length) {
+                parameterIndices = Arrays.copyOf(parameterIndices, Math.max(count * 2, MINIMUM_CAPACITY));
+            }
+            parameterIndices[count++] = parameterIndex;
+
+            isRegistered[parameterIndex] = true;
+            additiveValues[parameterIndex] = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
+            multiplyValues[parameterIndex] = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
+            overwriteValues[parameterIndex] = overwriteValue;
+        }
+
+        /**
+         * 表情が参照しているパラメータに印を付ける。
+         * 同じパラメータを複数回参照している場合は、最初の位置が記録される。
+         *
+         * @param expressionParameterIndices 表情が参照しているパラメータのインデックス
+         * @return 今回の印。referenceMarksの値と一致するパラメータが参照されている。
+         */
+        int markReferences(int[] expressionParameterIndices) {
+            if (++currentMark == 0) {
+                // 一周したら古い印を消しておく
+                Arrays.fill(referenceMarks, 0);
+                currentMark = 1;
+            }
+
+            for (int i = expressionParameterIndices.length - 1; i >= 0; i--) {
+                final int parameterIndex = expressionParameterIndices[i];
+
+                ensureCapacity(parameterIndex + 1);
+                referenceMarks[parameterIndex] = currentMark;
+                referencePositions[parameterIndex] = i;
+            }
+            return currentMark;
+        }
+
+        /**
+         * 表を空にする。
+         */
+        void clear() {
+            for (int i = 0; i < count; i++) {
+                isRegistered[parameterIndices[i]] = false;
+            }
+            count = 0;
+        }
+
+        // This is only used by 'add' and 'markReferences' methods.
+        private void ensureCapacity(int capacity) {
+            if (capacity <= isRegistered.length) {
+                return;
+            }
+            final int newCapacity = Math.max(capacity, isRegistered.length * 2);
+
+            isRegistered = Arrays.copyOf(isRegistered, newCapacity);
+            additiveValues = Arrays.copyOf(additiveValues, newCapacity);
+            multiplyValues = Arrays.copyOf(multiplyValues, newCapacity);
+            overwriteValues = Arrays.copyOf(overwriteValues, newCapacity);
+            referenceMarks = Arrays.copyOf(referenceMarks, newCapacity);
+            referencePositions = Arrays.copyOf(referencePositions, newCapacity);
+        }
+
+        private static final int MINIMUM_CAPACITY = 16;
+
+        /**
+         * 登録されているパラメータのインデックス。登録順に並ぶ。
+         */
+        int[] parameterIndices = new int[0];
+        /**
+         * 登録されているパラメータの数
+         */
+        int count;
+
+        /**
+         * 加算値。パラメータのインデックスがキー。
+         */
+        float[] additiveValues = new float[0];
+        /**
+         * 乗算値。パラメータのインデックスがキー。
+         */
+        float[] multiplyValues = new float[0];
+        /**
+         * 上書き値。パラメータのインデックスがキー。
+         */
+        float[] overwriteValues = new float[0];
+        /**
+         * 計算中の表情が参照しているかを表す印。パラメータのインデックスがキー。
+         */
+        int[] referenceMarks = new int[0];
+        /**
+         * 計算中の表情のパラメータリスト上の位置。パラメータのインデックスがキー。
+         */
+        int[] referencePositions = new int[0];
+
+        private boolean[] isRegistered = new boolean[0];
+        private int currentMark;
+    }
+
     /**
      * 再生中の表情モーションの優先度を取得する。
      *
@@ -65,15 +185,15 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
      * @throws IllegalArgumentException if an argument is an invalid value.
      */
     public float getFadeWeight(int index) {
-        if(fadeWeights.isEmpty()) {
+        if(fadeWeightCount == 0) {
             throw new IllegalArgumentException("No motion during playback.");
         }
 
-        if(fadeWeights.size() <= index || index < 0) {
+        if(fadeWeightCount <= index || index < 0) {
             throw new IllegalArgumentException("The index is an invalid value.");
         }
 
-        return fadeWeights.get(index);
+        return fadeWeights[index];
     }
 
     /**
@@ -130,8 +250,18 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
         // 予めnull要素を全て削除
         motions.removeAll(nullSet);
 
-        while (fadeWeights.size() < motions.size()) {
-            fadeWeights.add(0.0f);
+        if (fadeWeightCount < motions.size()) {
+            if (fadeWeights.length < motions.size()) {
+                fadeWeights = Arrays.copyOf(fadeWeights, Math.max(motions.size(), fadeWeights.length * 2));
+            }
+            Arrays.fill(fadeWeights, fadeWeightCount, motions.size(), 0.0f);
+            fadeWeightCount = motions.size();
+        }
+
+        // パラメータのインデックスはモデルごとに異なるため、モデルが変わったら表を作り直す
+        if (model != parameterTableModel) {
+            parameterTable.clear();
+            parameterTableModel = model;
         }
 
         // ------ 処理を行う ------
@@ -139,37 +269,18 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
         for (int i = 0; i < motions.size(); i++) {
             CubismMotionQueueEntry motionQueueEntry = motions.get(i);
             CubismExpressionMotion expressionMotion = (CubismExpressionMotion) motionQueueEntry.getCubismMotion();
-            List<CubismExpressionMotion.ExpressionParameter> expressionParameters = expressionMotion.getExpressionParameters();
 
             if (motionQueueEntry.isAvailable()) {
-                // 再生中のExpressionが参照しているパラメータをすべてリストアップ
-                for (int paramIndex = 0; paramIndex < expressionParameters.size(); paramIndex++) {
-                    if (expressionParameters.get(paramIndex).parameterId == null) {
-                        continue;
-                    }
+                // 再生中のExpressionが参照しているパラメータをすべて表に登録
+                final int[] parameterIndices = expressionMotion.getParameterIndices(model);
 
-                    int index = -1;
-                    // リストにパラメータIDが存在するか検索
-                    for (int j = 0; j < expressionParameterValues.size(); j++) {
-                        if (expressionParameterValues.get(j).parameterId != expressionParameters.get(paramIndex).parameterId) {
-                            continue;
-                        }
+                for (int paramIndex = 0; paramIndex < parameterIndices.length; paramIndex++) {
+                    final int index = parameterIndices[paramIndex];
 
-                        index = j;
-                        break;
+                    // パラメータが表に存在しないなら新規追加
+                    if (!parameterTable.contains(index)) {
+                        parameterTable.add(index, model.getParameterValue(index));
                     }
-
-                    if (index >= 0) {
-                        continue;
-                    }
-
-                    // パラメータがリストに存在しないなら新規追加
-                    ExpressionParameterValue item = new ExpressionParameterValue();
-                    item.parameterId = expressionParameters.get(paramIndex).parameterId;
-                    item.additiveValue = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
-                    item.multiplyValue = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
-                    item.overwriteValue = model.getParameterValue(item.parameterId);
-                    expressionParameterValues.add(item);
                 }
             }
 
@@ -180,7 +291,7 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
                 model,
                 userTimeSeconds,
                 motionQueueEntry,
-                expressionParameterValues,
+                parameterTable,
                 expressionIndex,
                 getFadeWeight(expressionIndex)
             );
@@ -202,17 +313,21 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
 
         // ------ 最新のExpressionのフェードが完了していればそれ以前を削除する ------
         if (motions.size() > 1) {
-            float latestFadeWeight = getFadeWeight(fadeWeights.size() - 1);
+            float latestFadeWeight = getFadeWeight(fadeWeightCount - 1);
 
             if (latestFadeWeight >= 1.0f) {
                 // 配列の最後の要素は削除しない
-                for (int i = motions.size() - 2; i >= 0; i--) {
+                final int removedCount = motions.size() - 1;
+
+                for (int i = removedCount - 1; i >= 0; i--) {
                     // forでremoveすることはできない。nullをセットしておいて後で削除する。
                     motions.set(i, null);
-
-                    fadeWeights.remove(i);
                 }
                 motions.removeAll(nullSet);
+
+                // 削除したモーションのウェイトを詰める
+                System.arraycopy(fadeWeights, removedCount, fadeWeights, 0, fadeWeightCount - removedCount);
+                fadeWeightCount -= removedCount;
             }
         }
 
@@ -221,15 +336,20 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
         }
 
         // モデルに各値を適用
-        for (int i = 0; i < expressionParameterValues.size(); i++) {
-            ExpressionParameterValue v = expressionParameterValues.get(i);
+        final int[] parameterIndices = parameterTable.parameterIndices;
+        final float[] additiveValues = parameterTable.additiveValues;
+        final float[] multiplyValues = parameterTable.multiplyValues;
+        final float[] overwriteValues = parameterTable.overwriteValues;
+
+        for (int i = 0; i < parameterTable.count; i++) {
+            final int index = parameterIndices[i];
 
             model.setParameterValue(
-                v.parameterId,
-                (v.overwriteValue + v.additiveValue) * v.multiplyValue,
+                index,
+                (overwriteValues[index] + additiveValues[index]) * multiplyValues[index],
                 expressionWeight);
-            v.additiveValue = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
-            v.multiplyValue = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
+            additiveValues[index] = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
+            multiplyValues[index] = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
         }
 
         return isUpdated;
@@ -242,11 +362,11 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
      * @param expressionFadeWeight weight value of expression fade
      */
     private void setFadeWeight(int index, float expressionFadeWeight) {
-        if (index < 0 || fadeWeights.isEmpty() || fadeWeights.size() <= index) {
+        if (index < 0 || fadeWeightCount == 0 || fadeWeightCount <= index) {
             CubismDebug.cubismLogWarning("Failed to set the fade weight value. The element at that index does not exist.");
             return;
         }
-        fadeWeights.set(index, expressionFadeWeight);
+        fadeWeights[index] = expressionFadeWeight;
     }
 
     // nullが格納されたSet。null要素だけListから排除する際に使用される。
@@ -255,7 +375,11 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
     /**
      * モデルに適用する各パラメータの値
      */
-    private final List<ExpressionParameterValue> expressionParameterValues = new ArrayList<>();
+    private final ExpressionParameterTable parameterTable = new ExpressionParameterTable();
+    /**
+     * parameterTableのインデックスが対応しているモデル
+     */
+    private CubismModel parameterTableModel;
 
     /**
      * 現在再生中の表情モーションの優先度
@@ -269,7 +393,11 @@ public class CubismExpressionMotionManager extends CubismMotionQueueManager {
     private int reservePriority;
 
     /**
-     * 再生中の表情モーションのウェイトのリスト
+     * 再生中の表情モーションのウェイトの配列
+     */
+    private float[] fadeWeights = new float[0];
+    /**
+     * fadeWeightsのうち有効な要素の数
      */
-    private final List<Float> fadeWeights = new ArrayList<>();
+    private int fadeWeightCount;
 }
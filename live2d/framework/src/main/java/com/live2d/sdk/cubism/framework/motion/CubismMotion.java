@@ -8,10 +8,13 @@
 package com.live2d.sdk.cubism.framework.motion;
 
 import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
 import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
 import com.live2d.sdk.cubism.framework.math.CubismMath;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CsmMotionSegmentEvaluationFunction;
+import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionBakedCurve;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionCurve;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionCurveTarget;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionData;
@@ -19,9 +22,12 @@ import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionE
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionPoint;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionSegment;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionSegmentType;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
@@ -39,6 +45,86 @@ public final class CubismMotion extends ACubismMotion {
         MOTION_BEHAVIOR_V2,
     }
 
+    /**
+     * Result of baking the curves.
+     * It shows the memory used by the sample tables against the error from the original curves.
+     */
+    public static class BakeReport {
+        /**
+         * Get the number of baked curves.
+         *
+         * @return number of curves
+         */
+        public int getBakedCurveCount() {
+            return bakedCurveCount;
+        }
+
+        /**
+         * Get the number of curves evaluated from the segments.
+         * The curves which have no segments, are too long or whose points are not in time order are not baked.
+         *
+         * @return number of curves
+         */
+        public int getSkippedCurveCount() {
+            return skippedCurveCount;
+        }
+
+        /**
+         * Get the number of samples before compression.
+         *
+         * @return number of samples
+         */
+        public int getSampleCount() {
+            return sampleCount;
+        }
+
+        /**
+         * Get the number of knots after compression, including the ends of the segments.
+         *
+         * @return number of knots
+         */
+        public int getKnotCount() {
+            return knotCount;
+        }
+
+        /**
+         * Get the size of the sample tables.
+         *
+         * @return size[byte]
+         */
+        public int getMemorySize() {
+            return memorySize;
+        }
+
+        /**
+         * Get the size of the sample tables if they were not compressed.
+         *
+         * @return size[byte]
+         */
+        public int getUncompressedMemorySize() {
+            return uncompressedMemorySize;
+        }
+
+        /**
+         * Get the maximum error of the baked curves from the original curves.
+         * The error is measured at the samples and at evenly spaced points between them.
+         * It does not exceed the tolerance times the value range of the curve, except for the rounding error.
+         *
+         * @return maximum error
+         */
+        public float getMaxError() {
+            return maxError;
+        }
+
+        int bakedCurveCount;
+        int skippedCurveCount;
+        int sampleCount;
+        int knotCount;
+        int memorySize;
+        int uncompressedMemorySize;
+        float maxError;
+    }
+
     /**
      * Create an instance.
      *
@@ -117,6 +203,67 @@ public final class CubismMotion extends ACubismMotion {
         return create(buffer, null, null, false);
     }
 
+    /**
+     * Parse motion3.json and write the parsed motion data as the compiled binary data.
+     * The data is read by {@link #create(CubismBinaryReader, IFinishedMotionCallback, IBeganMotionCallback)} without parsing JSON.
+     * <p>
+     * This method does not use the ID manager of CubismFramework, so it can be called before the framework is initialized and on any thread.
+     *
+     * @param buffer buffer where motion3.json is loaded
+     * @param writer writer of the compiled data
+     */
+    public static void compile(byte[] buffer, CubismBinaryWriter writer) {
+        final CubismMotion motion = new CubismMotion();
+        motion.parse(buffer, false, new CubismIdManager());
+        motion.write(writer);
+    }
+
+    /**
+     * Parse motion3.json, bake the curves and write them as the compiled binary data.
+     * The sample tables are also read by {@link #create(CubismBinaryReader, IFinishedMotionCallback, IBeganMotionCallback)},
+     * so the motion is played without baking at runtime.
+     *
+     * @param buffer buffer where motion3.json is loaded
+     * @param writer writer of the compiled data
+     * @param bakeSampleRate number of samples per second
+     * @param bakeTolerance tolerance of the compression relative to the value range of each curve
+     *
+     * @see #bake(float, float)
+     */
+    public static void compile(byte[] buffer, CubismBinaryWriter writer, float bakeSampleRate, float bakeTolerance) {
+        final CubismMotion motion = new CubismMotion();
+        motion.parse(buffer, false, new CubismIdManager());
+        motion.bake(bakeSampleRate, bakeTolerance);
+        motion.write(writer);
+    }
+
+    /**
+     * Create an instance from the data written by {@link #compile(byte[], CubismBinaryWriter)}.
+     * The curve IDs are registered to the ID manager of CubismFramework.
+     *
+     * @param reader reader of the compiled data
+     * @param finishedMotionCallBack callback function called at the end of motion playback, not called if null.
+     * @param beganMotionCallBack callback function called at the start of motion playback, not called if null.
+     * @return instance of CubismMotion
+     *
+     * @throws CubismBinaryFormatException if the compiled data is broken.
+     */
+    public static CubismMotion create(
+        CubismBinaryReader reader,
+        IFinishedMotionCallback finishedMotionCallBack,
+        IBeganMotionCallback beganMotionCallBack
+    ) {
+        final CubismMotion motion = new CubismMotion();
+        motion.read(reader, CubismFramework.getIdManager());
+
+        motion.sourceFrameRate = motion.motionData.fps;
+        motion.loopDurationSeconds = motion.motionData.duration;
+        motion.onFinishedMotion = finishedMotionCallBack;
+        motion.onBeganMotion = beganMotionCallBack;
+
+        return motion;
+    }
+
     /**
      * Set loop information.
      *
@@ -273,6 +420,89 @@ public final class CubismMotion extends ACubismMotion {
         this.lipSyncParameterIds.addAll(lipSyncParameterIds);
     }
 
+    /**
+     * Bake the curves into sample tables.
+     * <p>
+     * Each curve is sampled at the given rate, and the value between two samples is linearly interpolated at playback.
+     * The runs of samples which a line fits within the tolerance are collapsed into their end points,
+     * so that constant and linear parts take only a few samples.
+     * The tolerance is relative to the value range of each curve.
+     * <p>
+     * The ends of the segments are always kept, so the corners of the curves and the steps are exact.
+     * Where the line between two knots gets farther than the tolerance from the curve between the samples, knots are added there,
+     * so the error stays within the tolerance at the points where it is measured, four per sample interval.
+     * Where the curve is steeper than these points can follow, such as at the nearly vertical ends of unrestricted Bezier segments,
+     * the error between them can be larger.
+     * <p>
+     * Only the evaluation of the curves is replaced. Fades, loops and events work as before.
+     * If the motion has been already baked, the curves are baked again from the segments.
+     *
+     * @param sampleRate number of samples per second
+     * @param tolerance tolerance of the error relative to the value range of each curve. 0 collapses only the constant and exactly linear runs, and adds knots wherever the curve bends between the samples.
+     * @return memory used by the sample tables and the error from the original curves
+     */
+    public BakeReport bake(float sampleRate, float tolerance) {
+        if (!(sampleRate > 0.0f) || !(tolerance >= 0.0f)) {
+            throw new IllegalArgumentException("Invalid bake setting: sampleRate=" + sampleRate + ", tolerance=" + tolerance);
+        }
+
+        // Sample the segments, not the tables baked before.
+        bakedCurves = null;
+
+        final CubismMotionBakedCurve[] curves = new CubismMotionBakedCurve[motionData.curves.size()];
+        for (int i = 0; i < curves.length; i++) {
+            curves[i] = bakeCurve(i, sampleRate, tolerance);
+        }
+        bakedCurves = curves;
+
+        return getBakeReport();
+    }
+
+    /**
+     * Whether the curves are baked.
+     *
+     * @return If the curves are baked, return true.
+     */
+    public boolean isBaked() {
+        return bakedCurves != null;
+    }
+
+    /**
+     * Get the result of baking.
+     *
+     * @return the result. If the curves are not baked, return null.
+     */
+    public BakeReport getBakeReport() {
+        if (bakedCurves == null) {
+            return null;
+        }
+
+        final BakeReport report = new BakeReport();
+        for (int i = 0; i < bakedCurves.length; i++) {
+            final CubismMotionBakedCurve curve = bakedCurves[i];
+
+            if (curve == null) {
+                report.skippedCurveCount++;
+                continue;
+            }
+
+            report.bakedCurveCount++;
+            report.sampleCount += curve.sampleCount;
+            report.knotCount += curve.values.length;
+            report.memorySize += curve.values.length * 4 + (curve.knotPositions != null ? curve.knotPositions.length * 4 : 0);
+            report.uncompressedMemorySize += curve.sampleCount * 4;
+            report.maxError = Math.max(report.maxError, curve.maxError);
+        }
+        return report;
+    }
+
+    /**
+     * Discard the sample tables and evaluate the curves from the segments.
+     */
+    public void clearBakedCurves() {
+        bakedCurves = null;
+    }
+
     @Override
     public float getDuration() {
         return isLoop
@@ -285,20 +515,51 @@ public final class CubismMotion extends ACubismMotion {
         return loopDurationSeconds;
     }
 
+    /**
+     * {@inheritDoc}
+     * The events are listed in the order of their time.
+     */
     @Override
     public List<String> getFiredEvent(float beforeCheckTimeSeconds, float motionTimeSeconds) {
         firedEventValues.clear();
 
-        for (int i = 0; i < motionData.events.size(); i++) {
-            CubismMotionEvent event = motionData.events.get(i);
-
-            if ((event.fireTime > beforeCheckTimeSeconds) && (event.fireTime <= motionTimeSeconds)) {
-                firedEventValues.add(event.value);
+        for (int i = findEventIndex(beforeCheckTimeSeconds); i < eventFireTimes.length; i++) {
+            if (eventFireTimes[i] > motionTimeSeconds) {
+                break;
             }
+            firedEventValues.add(eventValues[i]);
         }
         return Collections.unmodifiableList(firedEventValues);
     }
 
+    /**
+     * Fire the events which the playback time has passed since the last check, in the order of their time.
+     * The index of the next event is kept in the motion queue entry, so the events are fired without searching or building a list.
+     * When the motion loops, the events left at the end of the previous loop are fired before the events at the beginning of the new loop.
+     *
+     * @param motionQueueEntry motion managed by CubismMotionQueueManager
+     * @param userTimeSeconds total delta time[s]
+     * @param sink receiver of the events
+     */
+    @Override
+    public void fireEvents(CubismMotionQueueEntry motionQueueEntry, float userTimeSeconds, ICubismMotionEventSink sink) {
+        final float startTime = motionQueueEntry.getStartTime();
+        int cursor = motionQueueEntry.getEventCursor();
+
+        if (cursor < 0) {
+            // First check after the motion started.
+            cursor = findEventIndex(motionQueueEntry.getLastCheckEventTime() - startTime);
+        } else if (motionQueueEntry.getEventCursorStartTime() != startTime) {
+            // The motion looped since the last check.
+            // The previous loop ended at the new start time.
+            fireEventsUntil(cursor, startTime - motionQueueEntry.getEventCursorStartTime(), sink);
+            cursor = 0;
+        }
+
+        motionQueueEntry.setEventCursor(fireEventsUntil(cursor, userTimeSeconds - startTime, sink));
+        motionQueueEntry.setEventCursorStartTime(startTime);
+    }
+
     @Override
     public boolean isExistModelOpacity() {
         for (int i = 0; i < motionData.curves.size(); i++) {
@@ -816,7 +1077,18 @@ public final class CubismMotion extends ACubismMotion {
      * @param shouldCheckMotionConsistency flag to validate the consistency of motion3.json.
      */
     private void parse(byte[] motionJson, boolean shouldCheckMotionConsistency) {
-        final CubismMotionJson json = new CubismMotionJson(motionJson);
+        parse(motionJson, shouldCheckMotionConsistency, CubismFramework.getIdManager());
+    }
+
+    /**
+     * Parse motion3.json.
+     *
+     * @param motionJson buffer where motion3.json is loaded
+     * @param shouldCheckMotionConsistency flag to validate the consistency of motion3.json.
+     * @param idManager ID manager which creates the curve IDs
+     */
+    private void parse(byte[] motionJson, boolean shouldCheckMotionConsistency, CubismIdManager idManager) {
+        final CubismMotionJson json = new CubismMotionJson(motionJson, idManager);
 
         if (shouldCheckMotionConsistency) {
             boolean consistency = json.hasConsistency();
@@ -999,6 +1271,278 @@ public final class CubismMotion extends ACubismMotion {
             motionData.events.get(userdatacount).fireTime = json.getEventTime(userdatacount);
             motionData.events.get(userdatacount).value = json.getEventValue(userdatacount);
         }
+
+        setupEventTable();
+    }
+
+    /**
+     * Write the parsed motion data as the compiled binary data.
+     * The curve IDs are written as strings, and the evaluators are written as the segment types.
+     *
+     * @param writer writer of the compiled data
+     */
+    private void write(CubismBinaryWriter writer) {
+        writer.writeInt(COMPILED_DATA_VERSION);
+        writer.writeFloat(fadeInSeconds);
+        writer.writeFloat(fadeOutSeconds);
+
+        writer.writeFloat(motionData.duration);
+        writer.writeBoolean(motionData.isLooped);
+        writer.writeFloat(motionData.fps);
+
+        boolean areBeziersRestricted = false;
+        for (int i = 0; i < motionData.segments.size(); i++) {
+            if (motionData.segments.get(i).evaluator == bezierEvaluator) {
+                areBeziersRestricted = true;
+                break;
+            }
+        }
+        writer.writeBoolean(areBeziersRestricted);
+
+        writer.writeInt(motionData.curves.size());
+        for (int i = 0; i < motionData.curves.size(); i++) {
+            final CubismMotionCurve curve = motionData.curves.get(i);
+
+            writer.writeInt(curve.type.ordinal());
+            writer.writeString(curve.id.getString());
+            writer.writeInt(curve.baseSegmentIndex);
+            writer.writeInt(curve.segmentCount);
+            writer.writeFloat(curve.fadeInTime);
+            writer.writeFloat(curve.fadeOutTime);
+        }
+
+        final int segmentCount = motionData.segments.size();
+        final int[] segmentData = new int[segmentCount * 2];
+        for (int i = 0; i < segmentCount; i++) {
+            final CubismMotionSegment segment = motionData.segments.get(i);
+
+            segmentData[i * 2] = segment.basePointIndex;
+            segmentData[i * 2 + 1] = segment.segmentType.ordinal();
+        }
+        writer.writeIntArray(segmentData, segmentData.length);
+
+        final int pointCount = motionData.points.size();
+        final float[] pointData = new float[pointCount * 2];
+        for (int i = 0; i < pointCount; i++) {
+            final CubismMotionPoint point = motionData.points.get(i);
+
+            pointData[i * 2] = point.time;
+            pointData[i * 2 + 1] = point.value;
+        }
+        writer.writeFloatArray(pointData, pointData.length);
+
+        writer.writeInt(motionData.events.size());
+        for (int i = 0; i < motionData.events.size(); i++) {
+            final CubismMotionEvent event = motionData.events.get(i);
+
+            writer.writeFloat(event.fireTime);
+            writer.writeString(event.value);
+        }
+
+        writer.writeBoolean(bakedCurves != null);
+        if (bakedCurves != null) {
+            for (int i = 0; i < bakedCurves.length; i++) {
+                final CubismMotionBakedCurve curve = bakedCurves[i];
+
+                writer.writeBoolean(curve != null);
+                if (curve == null) {
+                    continue;
+                }
+
+                writer.writeFloat(curve.startTime);
+                writer.writeFloat(curve.endTime);
+                writer.writeInt(curve.sampleCount);
+                writer.writeFloat(curve.maxError);
+
+                // The positions are omitted if the knots are just the samples at the fixed rate.
+                if (curve.knotPositions != null) {
+                    writer.writeFloatArray(curve.knotPositions, curve.knotPositions.length);
+                } else {
+                    writer.writeFloatArray(null, 0);
+                }
+                writer.writeFloatArray(curve.values, curve.values.length);
+            }
+        }
+    }
+
+    /**
+     * Read the motion data written by write().
+     * All the indices are checked so that the evaluation never refers to out of the data.
+     *
+     * @param reader reader of the compiled data
+     * @param idManager ID manager which creates the curve IDs
+     */
+    private void read(CubismBinaryReader reader, CubismIdManager idManager) {
+        final int version = reader.readInt();
+        if (version != COMPILED_DATA_VERSION) {
+            throw new CubismBinaryFormatException("Unsupported compiled motion version: " + version);
+        }
+
+        final CubismMotionData data = new CubismMotionData();
+
+        fadeInSeconds = reader.readFloat();
+        fadeOutSeconds = reader.readFloat();
+
+        data.duration = reader.readFloat();
+        data.isLooped = reader.readBoolean();
+        data.fps = reader.readFloat();
+
+        final boolean areBeziersRestricted = reader.readBoolean();
+        final CubismMotionCurveTarget[] curveTargets = CubismMotionCurveTarget.values();
+        final CubismMotionSegmentType[] segmentTypes = CubismMotionSegmentType.values();
+
+        data.curveCount = reader.readCount(COMPILED_CURVE_MINIMUM_SIZE);
+        data.curves = new ArrayList<CubismMotionCurve>(data.curveCount);
+        for (int i = 0; i < data.curveCount; i++) {
+            final CubismMotionCurve curve = new CubismMotionCurve();
+
+            curve.type = curveTargets[checkIndex(reader.readInt(), curveTargets.length)];
+            curve.id = idManager.getId(reader.readString());
+            curve.baseSegmentIndex = reader.readInt();
+            curve.segmentCount = reader.readInt();
+            curve.fadeInTime = reader.readFloat();
+            curve.fadeOutTime = reader.readFloat();
+
+            data.curves.add(curve);
+        }
+
+        final int[] segmentData = reader.readIntArray();
+        final float[] pointData = reader.readFloatArray();
+        if (segmentData.length % 2 != 0 || pointData.length % 2 != 0) {
+            throw new CubismBinaryFormatException("Broken compiled motion segments.");
+        }
+
+        final int pointCount = pointData.length / 2;
+        data.points = new ArrayList<CubismMotionPoint>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            final CubismMotionPoint point = new CubismMotionPoint();
+
+            point.time = pointData[i * 2];
+            point.value = pointData[i * 2 + 1];
+
+            data.points.add(point);
+        }
+
+        final int segmentCount = segmentData.length / 2;
+        data.segments = new ArrayList<CubismMotionSegment>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            final CubismMotionSegment segment = new CubismMotionSegment();
+
+            segment.segmentType = segmentTypes[checkIndex(segmentData[i * 2 + 1], segmentTypes.length)];
+            segment.basePointIndex = segmentData[i * 2];
+
+            final int lastPointIndex = segment.basePointIndex
+                + (segment.segmentType == CubismMotionSegmentType.BEZIER ? 3 : 1);
+            if (segment.basePointIndex < 0 || pointCount <= lastPointIndex) {
+                throw new CubismBinaryFormatException("Segment refers to out of the points: " + i);
+            }
+
+            switch (segment.segmentType) {
+                case LINEAR:
+                    segment.evaluator = linearEvaluator;
+                    break;
+                case BEZIER:
+                    if (areBeziersRestricted || USE_OLD_BEZIERS_CURVE_MOTION) {
+                        segment.evaluator = bezierEvaluator;
+                    } else {
+                        segment.evaluator = bezierCardanoInterpretationEvaluator;
+                    }
+                    break;
+                case STEPPED:
+                    segment.evaluator = steppedEvaluator;
+                    break;
+                case INVERSESTEPPED:
+                    segment.evaluator = inverseSteppedEvaluator;
+                    break;
+            }
+
+            data.segments.add(segment);
+        }
+
+        for (int i = 0; i < data.curveCount; i++) {
+            final CubismMotionCurve curve = data.curves.get(i);
+
+            if (curve.baseSegmentIndex < 0 || curve.segmentCount < 0 || segmentCount < curve.baseSegmentIndex + curve.segmentCount) {
+                throw new CubismBinaryFormatException("Curve refers to out of the segments: " + i);
+            }
+        }
+
+        data.eventCount = reader.readCount(COMPILED_EVENT_MINIMUM_SIZE);
+        data.events = new ArrayList<CubismMotionEvent>(data.eventCount);
+        for (int i = 0; i < data.eventCount; i++) {
+            final CubismMotionEvent event = new CubismMotionEvent();
+
+            event.fireTime = reader.readFloat();
+            event.value = reader.readString();
+
+            data.events.add(event);
+        }
+
+        CubismMotionBakedCurve[] curves = null;
+        if (reader.readBoolean()) {
+            curves = new CubismMotionBakedCurve[data.curveCount];
+
+            for (int i = 0; i < data.curveCount; i++) {
+                if (reader.readBoolean()) {
+                    curves[i] = readBakedCurve(reader);
+                }
+            }
+        }
+
+        motionData = data;
+        bakedCurves = curves;
+
+        setupEventTable();
+    }
+
+    // This is only used by 'read' method.
+    private static CubismMotionBakedCurve readBakedCurve(CubismBinaryReader reader) {
+        final CubismMotionBakedCurve curve = new CubismMotionBakedCurve();
+
+        curve.startTime = reader.readFloat();
+        curve.endTime = reader.readFloat();
+        curve.sampleCount = reader.readInt();
+        curve.maxError = reader.readFloat();
+
+        final float[] knotPositions = reader.readFloatArray();
+        curve.knotPositions = knotPositions.length != 0 ? knotPositions : null;
+        curve.values = reader.readFloatArray();
+
+        if (!(curve.startTime < curve.endTime) || curve.sampleCount < 2 || MAX_BAKED_SAMPLE_COUNT < curve.sampleCount) {
+            throw new CubismBinaryFormatException("Broken baked curve.");
+        }
+
+        if (curve.knotPositions == null) {
+            if (curve.values.length != curve.sampleCount) {
+                throw new CubismBinaryFormatException("Broken baked curve samples.");
+            }
+        } else {
+            // The knots must start at the first sample, end at the last sample and be in order.
+            final int knotCount = curve.knotPositions.length;
+
+            boolean isValid = knotCount >= 2
+                && curve.values.length == knotCount
+                && curve.knotPositions[0] == 0.0f
+                && curve.knotPositions[knotCount - 1] == curve.sampleCount - 1;
+            for (int i = 1; isValid && i < knotCount; i++) {
+                isValid = curve.knotPositions[i - 1] <= curve.knotPositions[i];
+            }
+
+            if (!isValid) {
+                throw new CubismBinaryFormatException("Broken baked curve knots.");
+            }
+        }
+
+        curve.samplesPerSecond = (curve.sampleCount - 1) / (curve.endTime - curve.startTime);
+        return curve;
+    }
+
+    // This is only used by 'read' method.
+    private static int checkIndex(int index, int length) {
+        if (index < 0 || length <= index) {
+            throw new CubismBinaryFormatException("Invalid enum index: " + index);
+        }
+        return index;
     }
 
     private float bezierEvaluateBinarySearch(final CubismMotionPoint[] points, final float time) {
@@ -1107,7 +1651,352 @@ public final class CubismMotion extends ACubismMotion {
         }
     }
 
+    /**
+     * Build the event table sorted by the fire time.
+     * The events at the same time keep the order in motion3.json.
+     */
+    private void setupEventTable() {
+        final int eventCount = motionData.events.size();
+        eventFireTimes = new float[eventCount];
+        eventValues = new String[eventCount];
+
+        // Insertion sort, which is stable and fast for the events which are almost in order.
+        for (int i = 0; i < eventCount; i++) {
+            final CubismMotionEvent event = motionData.events.get(i);
+
+            int j = i;
+            while (j > 0 && eventFireTimes[j - 1] > event.fireTime) {
+                eventFireTimes[j] = eventFireTimes[j - 1];
+                eventValues[j] = eventValues[j - 1];
+                j--;
+            }
+            eventFireTimes[j] = event.fireTime;
+            eventValues[j] = event.value;
+        }
+    }
+
+    /**
+     * Find the first event whose fire time is after the given time.
+     *
+     * @param time time[s]
+     * @return index in the event table. If there is no such event, the number of the events.
+     */
+    private int findEventIndex(float time) {
+        int low = 0;
+        int high = eventFireTimes.length;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (eventFireTimes[middle] > time) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Fire the events from the cursor whose fire time is not after the given time.
+     *
+     * @param cursor index of the first event to fire
+     * @param motionTimeSeconds playback time[s]
+     * @param sink receiver of the events
+     * @return index of the next event
+     */
+    private int fireEventsUntil(int cursor, float motionTimeSeconds, ICubismMotionEventSink sink) {
+        while (cursor < eventFireTimes.length && eventFireTimes[cursor] <= motionTimeSeconds) {
+            sink.fire(eventValues[cursor]);
+            cursor++;
+        }
+        return cursor;
+    }
+
+    // This is only used by 'bake' method.
+    private CubismMotionBakedCurve bakeCurve(final int index, final float sampleRate, final float tolerance) {
+        final CubismMotionCurve curve = motionData.curves.get(index);
+
+        if (curve.segmentCount <= 0) {
+            return null;
+        }
+
+        final int totalSegmentCount = curve.baseSegmentIndex + curve.segmentCount;
+        final float startTime = motionData.points.get(motionData.segments.get(curve.baseSegmentIndex).basePointIndex).time;
+        final float endTime = getSegmentEndPoint(totalSegmentCount - 1).time;
+
+        if (!(startTime < endTime)) {
+            return null;
+        }
+
+        final double sampleCount = Math.ceil((double) (endTime - startTime) * sampleRate) + 1.0;
+        if (sampleCount > MAX_BAKED_SAMPLE_COUNT) {
+            return null;
+        }
+
+        final CubismMotionBakedCurve bakedCurve = new CubismMotionBakedCurve();
+        bakedCurve.startTime = startTime;
+        bakedCurve.endTime = endTime;
+        bakedCurve.sampleCount = Math.max(2, (int) sampleCount);
+        bakedCurve.samplesPerSecond = (bakedCurve.sampleCount - 1) / (endTime - startTime);
+
+        final int lastSample = bakedCurve.sampleCount - 1;
+        final int maxKnotCount = bakedCurve.sampleCount + curve.segmentCount * 2;
+        final float[] positions = new float[maxKnotCount];
+        final float[] samples = new float[maxKnotCount];
+        int count = 0;
+
+        // Sample at the fixed rate, and also at the ends of the segments so that the corners and the steps are kept.
+        // A step is expressed as two samples at the same position: the value before the step and the value after it.
+        int segment = curve.baseSegmentIndex;
+        float previousBoundaryTime = startTime;
+        for (int i = 0; i <= lastSample; i++) {
+            final float time = (i == lastSample)
+                               ? endTime
+                               : startTime + i / bakedCurve.samplesPerSecond;
+
+            for (; segment < totalSegmentCount; segment++) {
+                final float boundaryTime = getSegmentEndPoint(segment).time;
+
+                if (boundaryTime > time) {
+                    break;
+                }
+                if (boundaryTime < previousBoundaryTime) {
+                    // The points are not in time order.
+                    return null;
+                }
+                if (boundaryTime == previousBoundaryTime) {
+                    continue;
+                }
+                previousBoundaryTime = boundaryTime;
+
+                final CubismMotionSegment target = motionData.segments.get(segment);
+                final float leftValue = target.evaluator.evaluate(motionData.points.subList(target.basePointIndex, motionData.points.size()), boundaryTime);
+                final float rightValue = evaluateCurve(motionData, index, boundaryTime, false, 0.0f);
+                // Keep the positions in order against the rounding error.
+                float position = (segment == totalSegmentCount - 1)
+                                 ? lastSample
+                                 : Math.min((boundaryTime - startTime) * bakedCurve.samplesPerSecond, i);
+                if (count > 0) {
+                    position = Math.max(position, positions[count - 1]);
+                }
+
+                positions[count] = position;
+                samples[count++] = leftValue;
+                if (rightValue != leftValue) {
+                    positions[count] = position;
+                    samples[count++] = rightValue;
+                }
+            }
+
+            final float position = (i == lastSample) ? lastSample : i;
+            if (count > 0 && positions[count - 1] == position) {
+                // The end of a segment is on the sample.
+                continue;
+            }
+            positions[count] = position;
+            samples[count++] = evaluateCurve(motionData, index, time, false, 0.0f);
+        }
+
+        float minValue = Float.MAX_VALUE;
+        float maxValue = -Float.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            minValue = Math.min(minValue, samples[i]);
+            maxValue = Math.max(maxValue, samples[i]);
+        }
+
+        // Collapse the runs which a line from the last knot fits within the tolerance.
+        // The range of the slopes which pass near all the samples after the knot is narrowed sample by sample,
+        // and the previous sample becomes a knot when the slope to the next sample gets out of the range.
+        final float allowedError = tolerance * (maxValue - minValue);
+        final int[] knots = new int[count];
+        int knotCount = 0;
+        int knot = 0;
+        float minSlope = -Float.MAX_VALUE;
+        float maxSlope = Float.MAX_VALUE;
+
+        knots[knotCount++] = knot;
+        for (int i = 1; i < count; i++) {
+            if (positions[i] == positions[i - 1]) {
+                // Both samples of a step are knots.
+                if (knot != i - 1) {
+                    knots[knotCount++] = i - 1;
+                }
+                knot = i;
+                knots[knotCount++] = knot;
+                minSlope = -Float.MAX_VALUE;
+                maxSlope = Float.MAX_VALUE;
+                continue;
+            }
+
+            final float slope = (samples[i] - samples[knot]) / (positions[i] - positions[knot]);
+
+            if (slope < minSlope || maxSlope < slope) {
+                knot = i - 1;
+                knots[knotCount++] = knot;
+                minSlope = -Float.MAX_VALUE;
+                maxSlope = Float.MAX_VALUE;
+            }
+
+            final float distance = positions[i] - positions[knot];
+            minSlope = Math.max(minSlope, (samples[i] - allowedError - samples[knot]) / distance);
+            maxSlope = Math.min(maxSlope, (samples[i] + allowedError - samples[knot]) / distance);
+        }
+        if (knot != count - 1) {
+            knots[knotCount++] = count - 1;
+        }
+
+        // The line between two knots may still get farther than the tolerance from the curve between the samples.
+        // Such a span is split at the probe point with the largest error, whose value is taken from the curve, until every probe point is within the tolerance.
+        // The probe points are the points where the error is measured below, so the measured error does not exceed the tolerance.
+        // The rounding error of the interpolation is allowed on top, or a tolerance of 0 would split the exactly linear runs too.
+        final float refineError = allowedError + BAKE_ROUNDING_ERROR_ULPS * Math.ulp(Math.max(Math.abs(minValue), Math.abs(maxValue)));
+        float[] knotPositions = new float[knotCount];
+        float[] knotValues = new float[knotCount];
+        int refinedKnotCount = 0;
+        float[] pendingPositions = new float[8];
+        float[] pendingValues = new float[8];
+
+        knotPositions[refinedKnotCount] = positions[knots[0]];
+        knotValues[refinedKnotCount++] = samples[knots[0]];
+        for (int k = 1; k < knotCount; k++) {
+            int pendingCount = 0;
+            pendingPositions[pendingCount] = positions[knots[k]];
+            pendingValues[pendingCount++] = samples[knots[k]];
+
+            while (pendingCount > 0) {
+                final float leftPosition = knotPositions[refinedKnotCount - 1];
+                final float leftValue = knotValues[refinedKnotCount - 1];
+                final float rightPosition = pendingPositions[pendingCount - 1];
+                final float rightValue = pendingValues[pendingCount - 1];
+
+                float worstError = refineError;
+                float worstPosition = 0.0f;
+                float worstValue = 0.0f;
+                final int lastProbe = Math.min((int) Math.ceil(rightPosition * BAKE_ERROR_PROBE_COUNT), lastSample * BAKE_ERROR_PROBE_COUNT - 1);
+                for (int probe = Math.max((int) (leftPosition * BAKE_ERROR_PROBE_COUNT), 0); probe <= lastProbe; probe++) {
+                    final float time = getBakeProbeTime(bakedCurve, probe);
+                    final float position = (time - startTime) * bakedCurve.samplesPerSecond;
+
+                    if (position <= leftPosition || rightPosition <= position) {
+                        continue;
+                    }
+
+                    final float t = (position - leftPosition) / (rightPosition - leftPosition);
+                    final float value = evaluateCurve(motionData, index, time, false, 0.0f);
+                    final float error = Math.abs(leftValue + (rightValue - leftValue) * t - value);
+                    if (error > worstError) {
+                        worstError = error;
+                        worstPosition = position;
+                        worstValue = value;
+                    }
+                }
+
+                if (worstError > refineError) {
+                    // Split the span, and check its left part first.
+                    if (pendingCount == pendingPositions.length) {
+                        pendingPositions = Arrays.copyOf(pendingPositions, pendingCount * 2);
+                        pendingValues = Arrays.copyOf(pendingValues, pendingCount * 2);
+                    }
+                    pendingPositions[pendingCount] = worstPosition;
+                    pendingValues[pendingCount++] = worstValue;
+                    continue;
+                }
+
+                if (refinedKnotCount == knotPositions.length) {
+                    knotPositions = Arrays.copyOf(knotPositions, refinedKnotCount * 2);
+                    knotValues = Arrays.copyOf(knotValues, refinedKnotCount * 2);
+                }
+                pendingCount--;
+                knotPositions[refinedKnotCount] = rightPosition;
+                knotValues[refinedKnotCount++] = rightValue;
+            }
+        }
+
+        bakedCurve.values = Arrays.copyOf(knotValues, refinedKnotCount);
+
+        // The positions are omitted if the knots are just the samples at the fixed rate.
+        boolean isUniform = (refinedKnotCount == bakedCurve.sampleCount);
+        for (int i = 0; isUniform && i < refinedKnotCount; i++) {
+            isUniform = knotPositions[i] == i;
+        }
+        if (!isUniform) {
+            bakedCurve.knotPositions = Arrays.copyOf(knotPositions, refinedKnotCount);
+        }
+
+        // Measure the error at the samples and between them.
+        float maxError = 0.0f;
+        for (int probe = 0; probe < lastSample * BAKE_ERROR_PROBE_COUNT; probe++) {
+            final float time = getBakeProbeTime(bakedCurve, probe);
+            final float error = evaluateBakedCurve(bakedCurve, time) - evaluateCurve(motionData, index, time, false, 0.0f);
+
+            maxError = Math.max(maxError, Math.abs(error));
+        }
+        bakedCurve.maxError = maxError;
+
+        return bakedCurve;
+    }
+
+    // This is only used by 'bakeCurve' method.
+    // The probe points are BAKE_ERROR_PROBE_COUNT points per sample interval, starting at the first sample.
+    private static float getBakeProbeTime(final CubismMotionBakedCurve curve, final int probe) {
+        final int sample = probe / BAKE_ERROR_PROBE_COUNT;
+        return curve.startTime + (sample + (float) (probe - sample * BAKE_ERROR_PROBE_COUNT) / BAKE_ERROR_PROBE_COUNT) / curve.samplesPerSecond;
+    }
+
+    // This is only used by 'bakeCurve' method.
+    private CubismMotionPoint getSegmentEndPoint(final int segmentIndex) {
+        final CubismMotionSegment segment = motionData.segments.get(segmentIndex);
+
+        return motionData.points.get(segment.basePointIndex
+            + (segment.segmentType == CubismMotionSegmentType.BEZIER ? 3 : 1));
+    }
+
+    private static float evaluateBakedCurve(final CubismMotionBakedCurve curve, final float time) {
+        final float position = (time - curve.startTime) * curve.samplesPerSecond;
+        final float[] values = curve.values;
+
+        if (position <= 0.0f) {
+            return values[0];
+        }
+        if (position >= curve.sampleCount - 1) {
+            return values[values.length - 1];
+        }
+
+        final float[] positions = curve.knotPositions;
+
+        if (positions == null) {
+            final int i = (int) position;
+            return values[i] + (values[i + 1] - values[i]) * (position - i);
+        }
+
+        // Find the knots on both sides of the position. At a step, the knot after the step is found.
+        int low = 0;
+        int high = positions.length - 1;
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+
+            if (positions[middle] <= position) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+
+        final float t = (position - positions[low]) / (positions[high] - positions[low]);
+        return values[low] + (values[high] - values[low]) * t;
+    }
+
     private float evaluateCurve(final CubismMotionData motionData, final int index, float time, final boolean isCorrection, final float endTime) {
+        // Use the sample table within the time range of the curve.
+        if (bakedCurves != null) {
+            final CubismMotionBakedCurve bakedCurve = bakedCurves[index];
+
+            if (bakedCurve != null && bakedCurve.startTime <= time && time <= bakedCurve.endTime) {
+                return evaluateBakedCurve(bakedCurve, time);
+            }
+        }
+
         // Find segment to evaluate.
         final CubismMotionCurve curve = motionData.curves.get(index);
 
@@ -1150,6 +2039,28 @@ public final class CubismMotion extends ACubismMotion {
         return segment.evaluator.evaluate(points, time);
     }
 
+    /**
+     * Version of the compiled motion data. It must be incremented when write() is changed.
+     */
+    private static final int COMPILED_DATA_VERSION = 2;
+    /**
+     * Minimum size of a compiled curve and a compiled event in bytes
+     */
+    private static final int COMPILED_CURVE_MINIMUM_SIZE = 24;
+    private static final int COMPILED_EVENT_MINIMUM_SIZE = 8;
+    /**
+     * Maximum number of samples of a baked curve. The longer curves are evaluated from the segments.
+     */
+    private static final int MAX_BAKED_SAMPLE_COUNT = 1 << 20;
+    /**
+     * Number of points per sample interval where the error of a baked curve is measured
+     */
+    private static final int BAKE_ERROR_PROBE_COUNT = 4;
+    /**
+     * Rounding error of the linear interpolation allowed on top of the tolerance, in ulps of the largest value of the curve
+     */
+    private static final float BAKE_ROUNDING_ERROR_ULPS = 16.0f;
+
     /**
      * FPS of the loaded file; if not specified, the default value is 30 fps.
      */
@@ -1169,6 +2080,18 @@ public final class CubismMotion extends ACubismMotion {
      * actual motion data itself
      */
     private CubismMotionData motionData;
+    /**
+     * sample tables of the curves. A curve whose table is null is evaluated from the segments. Null if the motion is not baked.
+     */
+    private CubismMotionBakedCurve[] bakedCurves;
+    /**
+     * fire times of the events in ascending order
+     */
+    private float[] eventFireTimes;
+    /**
+     * values of the events in the order of eventFireTimes
+     */
+    private String[] eventValues;
     /**
      * list of parameter ID handles to which automatic eye blinking is applied. Corresponds to a model (model setting) and a parameter.
      */
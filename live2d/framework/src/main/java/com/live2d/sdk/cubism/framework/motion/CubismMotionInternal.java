@@ -139,6 +139,42 @@ class CubismMotionInternal {
         public String value;
     }
 
+    /**
+     * Motion curve baked into the samples at a fixed rate.
+     * The value between two adjacent knots is linearly interpolated.
+     */
+    public static class CubismMotionBakedCurve {
+        /**
+         * time of the first sample[s]
+         */
+        public float startTime;
+        /**
+         * time of the last sample[s]
+         */
+        public float endTime;
+        /**
+         * number of samples at the fixed rate
+         */
+        public int sampleCount;
+        /**
+         * positions of the knots in the samples. Two knots at the same position express a step.
+         * If null, the knots are the samples at the fixed rate.
+         */
+        public float[] knotPositions;
+        /**
+         * values of the knots
+         */
+        public float[] values;
+        /**
+         * maximum error from the original curve
+         */
+        public float maxError;
+        /**
+         * number of sample intervals per second. It is not written to the compiled data.
+         */
+        public float samplesPerSecond;
+    }
+
     /**
      * Motion data
      */
@@ -9,6 +9,7 @@ package com.live2d.sdk.cubism.framework.motion;
 
 import com.live2d.sdk.cubism.framework.CubismFramework;
 import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
 import com.live2d.sdk.cubism.framework.motion.CubismMotionInternal.CubismMotionSegmentType;
 import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJson;
@@ -28,10 +29,22 @@ public class CubismMotionJson {
     }
 
     public CubismMotionJson(byte[] buffer) {
+        this(buffer, CubismFramework.getIdManager());
+    }
+
+    /**
+     * Constructor
+     * The curve IDs are registered to the given ID manager instead of the one of CubismFramework.
+     *
+     * @param buffer buffer where motion3.json is loaded
+     * @param idManager ID manager which creates the curve IDs
+     */
+    public CubismMotionJson(byte[] buffer, CubismIdManager idManager) {
         CubismJson json;
-        json = CubismJson.create(buffer);
+        json = CubismJson.createLazy(buffer);
 
         this.json = json;
+        this.idManager = idManager;
     }
 
     /**
@@ -220,7 +233,7 @@ public class CubismMotionJson {
      * @return curve ID
      */
     public CubismId getMotionCurveId(int curveIndex) {
-        return CubismFramework.getIdManager().getId(json.getRoot().get(JsonKey.CURVES.key).get(curveIndex).get(JsonKey.ID.key).getString());
+        return idManager.getId(json.getRoot().get(JsonKey.CURVES.key).get(curveIndex).get(JsonKey.ID.key).getString());
     }
 
     /**
@@ -379,4 +392,8 @@ public class CubismMotionJson {
      * motion3.json data
      */
     private final CubismJson json;
+    /**
+     * ID manager which creates the curve IDs
+     */
+    private final CubismIdManager idManager;
 }
@@ -210,6 +210,42 @@ public class CubismMotionQueueEntry {
         lastEventCheckSeconds = checkTime;
     }
 
+    /**
+     * Get the index of the next event to fire in the event table of the motion.
+     *
+     * @return index of the next event. -1 if the events have not been checked yet.
+     */
+    public int getEventCursor() {
+        return eventCursor;
+    }
+
+    /**
+     * Set the index of the next event to fire in the event table of the motion.
+     *
+     * @param eventCursor index of the next event
+     */
+    public void setEventCursor(int eventCursor) {
+        this.eventCursor = eventCursor;
+    }
+
+    /**
+     * Get the start time of the loop the event cursor points into.
+     *
+     * @return start time[s]
+     */
+    public float getEventCursorStartTime() {
+        return eventCursorStartTimeSeconds;
+    }
+
+    /**
+     * Set the start time of the loop the event cursor points into.
+     *
+     * @param startTime start time[s]
+     */
+    public void setEventCursorStartTime(float startTime) {
+        eventCursorStartTimeSeconds = startTime;
+    }
+
     /**
      * Get the starting status of the fade-out.
      *
@@ -277,6 +313,14 @@ public class CubismMotionQueueEntry {
      * last event check time
      */
     private float lastEventCheckSeconds;
+    /**
+     * index of the next event to fire
+     */
+    private int eventCursor = -1;
+    /**
+     * start time of the loop the event cursor points into[s]
+     */
+    private float eventCursorStartTimeSeconds;
     /**
      * fade-out duration of the motion[s]
      */
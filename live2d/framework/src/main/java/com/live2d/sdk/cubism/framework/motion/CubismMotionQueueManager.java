@@ -211,14 +211,7 @@ public class CubismMotionQueueManager {
             isUpdated = true;
 
             // Inspect user-triggered events.
-            final List<String> firedList = motion.getFiredEvent(
-                motionQueueEntry.getLastCheckEventTime() - motionQueueEntry.getStartTime(),
-                userTimeSeconds - motionQueueEntry.getStartTime());
-
-            for (int j = 0; j < firedList.size(); j++) {
-                String event = firedList.get(j);
-                eventCallback.apply(this, event, eventCustomData);
-            }
+            motion.fireEvents(motionQueueEntry, userTimeSeconds, eventSink);
             motionQueueEntry.setLastCheckEventTime(userTimeSeconds);
 
             // If any processes have already been finished, delete them.
@@ -253,6 +246,17 @@ public class CubismMotionQueueManager {
      * Data to be given to the callback
      */
     private Object eventCustomData;
+    /**
+     * Sink which passes the fired events to the callback
+     */
+    private final ICubismMotionEventSink eventSink = new ICubismMotionEventSink() {
+        @Override
+        public void fire(String eventValue) {
+            if (eventCallback != null) {
+                eventCallback.apply(CubismMotionQueueManager.this, eventValue, eventCustomData);
+            }
+        }
+    };
 
     // nullが格納されたSet. null要素だけListから排除する際に使用される。
     private final Set<Object> nullSet = Collections.singleton(null);
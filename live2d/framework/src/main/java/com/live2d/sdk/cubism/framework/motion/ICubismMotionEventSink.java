@@ -0,0 +1,16 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+/**
+ * Receiver of the user-triggered events fired by {@link ACubismMotion#fireEvents(CubismMotionQueueEntry, float, ICubismMotionEventSink)}.
+ * The events are passed one by one without building a list.
+ */
+public interface ICubismMotionEventSink {
+    void fire(String eventValue);
+}
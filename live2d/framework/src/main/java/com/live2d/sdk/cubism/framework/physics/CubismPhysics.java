@@ -7,14 +7,24 @@
 
 package com.live2d.sdk.cubism.framework.physics;
 
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
+import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
 import com.live2d.sdk.cubism.framework.math.CubismMath;
 import com.live2d.sdk.cubism.framework.math.CubismVector2;
 import com.live2d.sdk.cubism.framework.model.CubismModel;
 import com.live2d.sdk.cubism.framework.physics.CubismPhysicsFunctions.*;
 import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.*;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
+import com.live2d.sdk.cubism.framework.utils.CubismDebug;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 
 /**
@@ -60,6 +70,103 @@ public class CubismPhysics {
         float[] outputs;
     }
 
+    /**
+     * Decisions of the level-of-detail governor.
+     * The values are updated by every evaluation.
+     */
+    public static class LodMetrics {
+        /**
+         * Get the coverage level. It rises as the model gets smaller on screen.
+         *
+         * @return coverage level
+         */
+        public int getCoverageLevel() {
+            return coverageLevel;
+        }
+
+        /**
+         * Get the pressure level. It rises while the evaluation time exceeds the frame-time budget.
+         *
+         * @return pressure level
+         */
+        public int getPressureLevel() {
+            return pressureLevel;
+        }
+
+        /**
+         * Get the degradation level, which is the sum of the coverage level and the pressure level.
+         *
+         * @return degradation level
+         */
+        public int getDegradationLevel() {
+            return degradationLevel;
+        }
+
+        /**
+         * Get the number of sub-rigs updated every pendulum step.
+         *
+         * @return number of sub-rigs
+         */
+        public int getFullRateSubRigCount() {
+            return fullRateSubRigCount;
+        }
+
+        /**
+         * Get the number of sub-rigs updated at a lower rate.
+         *
+         * @return number of sub-rigs
+         */
+        public int getReducedRateSubRigCount() {
+            return reducedRateSubRigCount;
+        }
+
+        /**
+         * Get the number of skipped sub-rigs.
+         *
+         * @return number of sub-rigs
+         */
+        public int getSkippedSubRigCount() {
+            return skippedSubRigCount;
+        }
+
+        /**
+         * Get the number of sub-rig updates in the last evaluation.
+         *
+         * @return number of sub-rig updates
+         */
+        public int getEvaluatedSubRigSteps() {
+            return evaluatedSubRigSteps;
+        }
+
+        /**
+         * Get the number of sub-rig updates deferred or skipped in the last evaluation.
+         *
+         * @return number of sub-rig updates
+         */
+        public int getDeferredSubRigSteps() {
+            return deferredSubRigSteps;
+        }
+
+        /**
+         * Get the moving average of the evaluation time.
+         *
+         * @return evaluation time[s]
+         */
+        public float getAverageEvaluateTime() {
+            return averageEvaluateTime;
+        }
+
+        int coverageLevel;
+        int pressureLevel;
+        int degradationLevel;
+        int fullRateSubRigCount;
+        int reducedRateSubRigCount;
+        int skippedSubRigCount;
+        int evaluatedSubRigSteps;
+        int deferredSubRigSteps;
+        float averageEvaluateTime;
+    }
+
     /**
      * Create an CubismPhysics instance.
      *
@@ -68,7 +175,36 @@ public class CubismPhysics {
      */
     public static CubismPhysics create(byte[] buffer) {
         final CubismPhysics physics = new CubismPhysics();
-        physics.parse(buffer);
+        physics.parse(buffer, CubismFramework.getIdManager());
+        physics.physicsRig.gravity.y = 0;
+
+        return physics;
+    }
+
+    /**
+     * Parse physics3.json and write the physics rig as the compiled binary data.
+     * This method does not use the ID manager of CubismFramework, so it can be called before the framework is initialized.
+     *
+     * @param buffer the buffer where physics3.json is loaded.
+     * @param writer writer of the compiled data
+     */
+    public static void compile(byte[] buffer, CubismBinaryWriter writer) {
+        final CubismPhysics physics = new CubismPhysics();
+        physics.parse(buffer, new CubismIdManager());
+        physics.write(writer);
+    }
+
+    /**
+     * Create an CubismPhysics instance from the data written by {@link #compile(byte[], CubismBinaryWriter)}.
+     *
+     * @param reader reader of the compiled data
+     * @return the created instance
+     *
+     * @throws CubismBinaryFormatException if the compiled data is broken.
+     */
+    public static CubismPhysics create(CubismBinaryReader reader) {
+        final CubismPhysics physics = new CubismPhysics();
+        physics.read(reader, CubismFramework.getIdManager());
         physics.physicsRig.gravity.y = 0;
 
         return physics;
@@ -78,6 +214,8 @@ public class CubismPhysics {
      * Reset parameters.
      */
     public void reset() {
+        Arrays.fill(subRigElapsedSteps, 0);
+
         options.gravity.set(0.0f, -1.0f);
         options.wind.setZero();
 
@@ -93,11 +231,11 @@ public class CubismPhysics {
      * @param model 物理演算の結果を適用するモデル
      */
     public void stabilization(CubismModel model) {
-        float[] totalAngle = new float[1];
+        final float[] totalAngle = serialWorkspace.totalAngle;
         float weight;
         float radAngle;
         float outputValue;
-        CubismVector2 totalTranslation = new CubismVector2();
+        final CubismVector2 totalTranslation = serialWorkspace.totalTranslation;
         int i, settingIndex, particleIndex;
         CubismPhysicsSubRig currentSetting;
 
@@ -183,8 +321,11 @@ public class CubismPhysics {
                     continue;
                 }
 
-                CubismVector2 translation = new CubismVector2();
-                CubismVector2.subtract(physicsRig.particles.get(baseParticleIndex + particleIndex).position, physicsRig.particles.get(baseParticleIndex + particleIndex - 1).position, translation);
+                final CubismVector2 translation = serialWorkspace.translation;
+                final CubismPhysicsParticles particles = physicsRig.particles;
+                final int currentIndex = baseParticleIndex + particleIndex;
+                translation.x = particles.positionX[currentIndex] - particles.positionX[currentIndex - 1];
+                translation.y = particles.positionY[currentIndex] - particles.positionY[currentIndex - 1];
 
                 outputValue = currentOutput.getValue.getValue(
                     translation,
@@ -255,17 +396,13 @@ public class CubismPhysics {
      * @param deltaTimeSeconds rendering delta time[s]
      */
     public void evaluate(CubismModel model, float deltaTimeSeconds) {
-        float weight;
-        float radAngle;
-        float outputValue;
-        int i, settingIndex, particleIndex;
-        List<CubismPhysicsInput> inputs = physicsRig.inputs;
-        List<CubismPhysicsOutput> outputs = physicsRig.outputs;
+        int i, settingIndex;
 
         if (0.0f >= deltaTimeSeconds) {
             return;
         }
 
+        final long startTime = System.nanoTime();
         float physicsDeltaTime;
         currentRemainTime += deltaTimeSeconds;
         if (currentRemainTime > MAX_DELTA_TIME) {
@@ -273,9 +410,6 @@ public class CubismPhysics {
         }
 
         float[] parameterValues = model.getModel().getParameters().getValues();
-        final float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
-        final float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
-        final float[] parameterDefaultValues = model.getModel().getParameters().getDefaultValues();
 
         if (parameterCaches.length < model.getParameterCount()) {
             parameterCaches = new float[model.getParameterCount()];
@@ -293,15 +427,42 @@ public class CubismPhysics {
             physicsDeltaTime = deltaTimeSeconds;
         }
 
-        CubismPhysicsSubRig currentSetting;
-        CubismPhysicsInput currentInput;
-        CubismPhysicsOutput currentOutput;
-        CubismPhysicsParticle currentParticle;
+        // Parameter indices are resolved before any sub-rig is evaluated so that the evaluation never touches the model.
+        resolveParameterIndices(model);
+
+        lodGovernor.decide(physicsRig, model.getParameterCount(), lodMetrics);
+        lodMetrics.evaluatedSubRigSteps = 0;
+        lodMetrics.deferredSubRigSteps = 0;
+
+        final boolean isParallel = parallelPool != null
+            && physicsRig.particles.count >= PARALLEL_PARTICLE_THRESHOLD;
+        if (isParallel && subRigWaveOffsets == null) {
+            createSubRigWaves();
+        }
 
         while (currentRemainTime >= physicsDeltaTime) {
+            // Decide the sub-rigs updated in this step, and how many steps each of them integrates.
+            for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
+                final int interval = lodGovernor.getInterval(settingIndex);
+
+                subRigElapsedSteps[settingIndex]++;
+                if (interval != CubismPhysicsLodGovernor.SKIPPED_INTERVAL && ((lodStepCount + settingIndex) & (interval - 1)) == 0) {
+                    subRigIntegratedSteps[settingIndex] = Math.min(subRigElapsedSteps[settingIndex], CubismPhysicsLodGovernor.MAXIMUM_INTEGRATED_STEPS);
+                    subRigElapsedSteps[settingIndex] = 0;
+                    lodMetrics.evaluatedSubRigSteps++;
+                } else {
+                    subRigIntegratedSteps[settingIndex] = 0;
+                    lodMetrics.deferredSubRigSteps++;
+                }
+            }
+            lodStepCount++;
+
             // copy RigOutputs: _currentRigOutputs to _previousRigOutputs
             for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-                currentSetting = physicsRig.settings.get(settingIndex);
+                if (subRigIntegratedSteps[settingIndex] == 0) {
+                    continue;
+                }
+                CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
 
                 for (i = 0; i < currentSetting.outputCount; i++) {
                     previousRigOutputs.get(settingIndex).outputs[i] = currentRigOutputs.get(settingIndex).outputs[i];
@@ -318,116 +479,472 @@ public class CubismPhysics {
                 parameterInputCaches[j] = parameterCaches[j];
             }
 
-            for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
-                totalAngle[0] = 0.0f;
-                totalTranslation.setZero();
-
-                currentSetting = physicsRig.settings.get(settingIndex);
-                List<CubismPhysicsParticle> particles = physicsRig.particles;
-
-                int baseInputIndex = currentSetting.baseInputIndex;
-                int baseOutputIndex = currentSetting.baseOutputIndex;
-                int baseParticleIndex = currentSetting.baseParticleIndex;
-
-                // Load input parameters.
-                for (i = 0; i < currentSetting.inputCount; i++) {
-                    currentInput = inputs.get(baseInputIndex + i);
-                    weight = currentInput.weight / MAXIMUM_WEIGHT;
-
-                    if (currentInput.sourceParameterIndex == -1) {
-                        currentInput.sourceParameterIndex = model.getParameterIndex(currentInput.source.Id);
-                    }
-
-                    currentInput.getNormalizedParameterValue.getNormalizedParameterValue(
-                        totalTranslation,
-                        totalAngle,
-                        parameterCaches[currentInput.sourceParameterIndex],
-                        parameterMinimumValues[currentInput.sourceParameterIndex],
-                        parameterMaximumValues[currentInput.sourceParameterIndex],
-                        parameterDefaultValues[currentInput.sourceParameterIndex],
-                        currentSetting.normalizationPosition,
-                        currentSetting.normalizationAngle,
-                        currentInput.reflect,
-                        weight
-                    );
-
+            if (isParallel) {
+                evaluateSubRigsInParallel(model, physicsDeltaTime);
+            } else {
+                for (settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
+                    evaluateOrHoldSubRig(model, settingIndex, physicsDeltaTime, serialWorkspace);
                 }
+            }
+            currentRemainTime -= physicsDeltaTime;
+        }
 
-                radAngle = CubismMath.degreesToRadian(-totalAngle[0]);
+        final float alpha = currentRemainTime / physicsDeltaTime;
+        interpolate(model, alpha);
 
-                totalTranslation.x = (totalTranslation.x * CubismMath.cosF(radAngle) - totalTranslation.y * CubismMath.sinF(radAngle));
-                totalTranslation.y = (totalTranslation.x * CubismMath.sinF(radAngle) + totalTranslation.y * CubismMath.cosF(radAngle));
+        lodGovernor.recordEvaluateTime((System.nanoTime() - startTime) / 1.0e9f, lodMetrics);
+    }
 
+    /**
+     * Enable or disable the level-of-detail mode.
+     * <p>
+     * In the level-of-detail mode, sub-rigs are updated less often or skipped by their priorities
+     * when the model is small on screen or the evaluation exceeds the frame-time budget.
+     * Sub-rigs whose output parameters are all invisible are skipped.
+     * The outputs of the sub-rigs which are not updated in a pendulum step are interpolated from their last two results.
+     * When disabled, which is the default, every sub-rig is updated every pendulum step.
+     *
+     * @param isEnabled true to enable the level-of-detail mode
+     */
+    public void setLodEnabled(boolean isEnabled) {
+        lodGovernor.setEnabled(isEnabled);
+    }
 
-                // Calculate particles position.
-                updateParticles(
-                    particles,
-                    baseParticleIndex,
-                    currentSetting.particleCount,
-                    totalTranslation,
-                    totalAngle[0],
-                    options.wind,
-                    MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue,
-                    physicsDeltaTime,
-                    AIR_RESISTANCE
-                );
+    /**
+     * Whether the level-of-detail mode is enabled.
+     *
+     * @return true if the level-of-detail mode is enabled
+     */
+    public boolean isLodEnabled() {
+        return lodGovernor.isEnabled();
+    }
 
-                // Update output parameters.
-                for (i = 0; i < currentSetting.outputCount; i++) {
-                    currentOutput = outputs.get(baseOutputIndex + i);
-                    particleIndex = currentOutput.vertexIndex;
+    /**
+     * Set the size of the model on screen, used by the level-of-detail mode.
+     *
+     * @param coverage ratio of the model size on screen to the size of the view. 1.0 means the model fills the view.
+     */
+    public void setScreenCoverage(float coverage) {
+        lodGovernor.setScreenCoverage(coverage);
+    }
+
+    /**
+     * Set the budget of the evaluation time, used by the level-of-detail mode.
+     *
+     * @param seconds budget of the time taken by evaluate()[s]. If 0, the evaluation time is not governed.
+     */
+    public void setFrameTimeBudget(float seconds) {
+        lodGovernor.setFrameTimeBudget(seconds);
+    }
 
+    /**
+     * Set the priority of the sub-rig, used by the level-of-detail mode.
+     * A sub-rig with a higher priority keeps its update rate longer. The default priority is 0.
+     *
+     * @param settingIndex index of the sub-rig
+     * @param priority priority of the sub-rig
+     */
+    public void setSubRigPriority(int settingIndex, int priority) {
+        if (settingIndex < 0 || settingIndex >= physicsRig.subRigCount) {
+            CubismDebug.cubismLogWarning("The sub-rig index is out of range: %d", settingIndex);
+            return;
+        }
+        lodGovernor.setPriority(settingIndex, priority);
+    }
+
+    /**
+     * Set whether the parameter is visible, used by the level-of-detail mode.
+     * Sub-rigs which only output invisible parameters are skipped. Parameters not existing in the model are always invisible.
+     *
+     * @param parameterId parameter ID
+     * @param isVisible true if the parameter is visible
+     */
+    public void setOutputParameterVisible(CubismId parameterId, boolean isVisible) {
+        lodGovernor.setParameterVisible(parameterId, isVisible);
+    }
+
+    /**
+     * Get the decisions of the level-of-detail governor.
+     *
+     * @return decisions of the governor. The instance is owned by this CubismPhysics and updated by every evaluation.
+     */
+    public LodMetrics getLodMetrics() {
+        return lodMetrics;
+    }
+
+    /**
+     * Evaluate the sub-rig if it is updated in the current pendulum step.
+     * Otherwise, write its latest outputs to the parameter caches so that the sub-rigs reading them see consistent values.
+     *
+     * @param model model whose parameter ranges are used
+     * @param settingIndex index of the sub-rig
+     * @param physicsDeltaTime delta time of one pendulum step
+     * @param workspace scratch data used only by the calling thread
+     */
+    private void evaluateOrHoldSubRig(CubismModel model, int settingIndex, float physicsDeltaTime, Workspace workspace) {
+        final int integratedSteps = subRigIntegratedSteps[settingIndex];
+
+        if (integratedSteps != 0) {
+            evaluateSubRig(model, settingIndex, physicsDeltaTime * integratedSteps, workspace);
+            return;
+        }
+
+        final float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
+        final float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
+        final float[] cache = workspace.cache;
+
+        final CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
+        final float[] outputs = currentRigOutputs.get(settingIndex).outputs;
+
+        for (int i = 0; i < currentSetting.outputCount; i++) {
+            final CubismPhysicsOutput currentOutput = physicsRig.outputs.get(currentSetting.baseOutputIndex + i);
+
+            if (currentOutput.vertexIndex < 1 || currentOutput.vertexIndex >= currentSetting.particleCount) {
+                continue;
+            }
+
+            cache[0] = parameterCaches[currentOutput.destinationParameterIndex];
+            updateOutputParameterValue(
+                cache,
+                0,
+                parameterMinimumValues[currentOutput.destinationParameterIndex],
+                parameterMaximumValues[currentOutput.destinationParameterIndex],
+                outputs[i],
+                currentOutput
+            );
+            parameterCaches[currentOutput.destinationParameterIndex] = cache[0];
+        }
+    }
+
+    /**
+     * Set the pool used to evaluate independent sub-rigs in parallel.
+     * <p>
+     * Sub-rigs are evaluated in parallel only if the rig has enough particles. The results are identical to the serial evaluation.
+     *
+     * @param pool the pool evaluating sub-rigs. If null, sub-rigs are evaluated serially on the calling thread.
+     */
+    public void setParallelPool(ForkJoinPool pool) {
+        parallelPool = pool;
+    }
+
+    /**
+     * Evaluate one pendulum step of the sub-rig.
+     * <p>
+     * This method only touches the particles and outputs of the sub-rig and the parameter caches read or written by it,
+     * so sub-rigs which do not share any parameter can be evaluated concurrently with their own workspaces.
+     *
+     * @param model model whose parameter ranges are used
+     * @param settingIndex index of the sub-rig
+     * @param physicsDeltaTime delta time of the pendulum step
+     * @param workspace scratch data used only by the calling thread
+     */
+    private void evaluateSubRig(CubismModel model, int settingIndex, float physicsDeltaTime, Workspace workspace) {
+        final float[] parameterMaximumValues = model.getModel().getParameters().getMaximumValues();
+        final float[] parameterMinimumValues = model.getModel().getParameters().getMinimumValues();
+        final float[] parameterDefaultValues = model.getModel().getParameters().getDefaultValues();
+
+        final float[] totalAngle = workspace.totalAngle;
+        final float[] cache = workspace.cache;
+        final CubismVector2 totalTranslation = workspace.totalTranslation;
+        final CubismVector2 translation = workspace.translation;
+        float weight;
+        float radAngle;
+        float outputValue;
+        int i, particleIndex;
+
+        List<CubismPhysicsInput> inputs = physicsRig.inputs;
+        List<CubismPhysicsOutput> outputs = physicsRig.outputs;
+        CubismPhysicsParticles particles = physicsRig.particles;
+
+        totalAngle[0] = 0.0f;
+        totalTranslation.setZero();
+
+        CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
 
-                    if (currentOutput.destinationParameterIndex == -1) {
-                        currentOutput.destinationParameterIndex = model.getParameterIndex(currentOutput.destination.Id);
-                    }
+        int baseInputIndex = currentSetting.baseInputIndex;
+        int baseOutputIndex = currentSetting.baseOutputIndex;
+        int baseParticleIndex = currentSetting.baseParticleIndex;
 
-                    if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
-                        continue;
-                    }
+        // Load input parameters.
+        for (i = 0; i < currentSetting.inputCount; i++) {
+            CubismPhysicsInput currentInput = inputs.get(baseInputIndex + i);
+            weight = currentInput.weight / MAXIMUM_WEIGHT;
 
-                    currentParticle = particles.get(baseParticleIndex + particleIndex);
-                    CubismPhysicsParticle previousParticle = particles.get(baseParticleIndex + particleIndex - 1);
-                    CubismVector2.subtract(currentParticle.position, previousParticle.position, translation);
+            currentInput.getNormalizedParameterValue.getNormalizedParameterValue(
+                totalTranslation,
+                totalAngle,
+                parameterCaches[currentInput.sourceParameterIndex],
+                parameterMinimumValues[currentInput.sourceParameterIndex],
+                parameterMaximumValues[currentInput.sourceParameterIndex],
+                parameterDefaultValues[currentInput.sourceParameterIndex],
+                currentSetting.normalizationPosition,
+                currentSetting.normalizationAngle,
+                currentInput.reflect,
+                weight
+            );
 
-                    outputValue = currentOutput.getValue.getValue(
-                        translation,
-                        particles,
-                        baseParticleIndex,
-                        particleIndex,
-                        currentOutput.reflect,
-                        options.gravity
-                    );
+        }
+
+        radAngle = CubismMath.degreesToRadian(-totalAngle[0]);
 
-                    currentRigOutputs.get(settingIndex).outputs[i] = outputValue;
+        totalTranslation.x = (totalTranslation.x * CubismMath.cosF(radAngle) - totalTranslation.y * CubismMath.sinF(radAngle));
+        totalTranslation.y = (totalTranslation.x * CubismMath.sinF(radAngle) + totalTranslation.y * CubismMath.cosF(radAngle));
 
-                    cache[0] = parameterCaches[currentOutput.destinationParameterIndex];
 
-                    updateOutputParameterValue(
-                        cache,
-                        0,
-                        parameterMinimumValues[currentOutput.destinationParameterIndex],
-                        parameterMaximumValues[currentOutput.destinationParameterIndex],
-                        outputValue,
-                        currentOutput
-                    );
-                    parameterCaches[currentOutput.destinationParameterIndex] = cache[0];
+        // Calculate particles position.
+        updateParticles(
+            particles,
+            baseParticleIndex,
+            currentSetting.particleCount,
+            totalTranslation,
+            totalAngle[0],
+            options.wind,
+            MOVEMENT_THRESHOLD * currentSetting.normalizationPosition.maximumValue,
+            physicsDeltaTime,
+            AIR_RESISTANCE
+        );
+
+        // Update output parameters.
+        for (i = 0; i < currentSetting.outputCount; i++) {
+            CubismPhysicsOutput currentOutput = outputs.get(baseOutputIndex + i);
+            particleIndex = currentOutput.vertexIndex;
+
+            if (particleIndex < 1 || particleIndex >= currentSetting.particleCount) {
+                continue;
+            }
+
+            final int currentIndex = baseParticleIndex + particleIndex;
+            translation.x = particles.positionX[currentIndex] - particles.positionX[currentIndex - 1];
+            translation.y = particles.positionY[currentIndex] - particles.positionY[currentIndex - 1];
 
+            outputValue = currentOutput.getValue.getValue(
+                translation,
+                particles,
+                baseParticleIndex,
+                particleIndex,
+                currentOutput.reflect,
+                options.gravity
+            );
+
+            currentRigOutputs.get(settingIndex).outputs[i] = outputValue;
+
+            cache[0] = parameterCaches[currentOutput.destinationParameterIndex];
+
+            updateOutputParameterValue(
+                cache,
+                0,
+                parameterMinimumValues[currentOutput.destinationParameterIndex],
+                parameterMaximumValues[currentOutput.destinationParameterIndex],
+                outputValue,
+                currentOutput
+            );
+            parameterCaches[currentOutput.destinationParameterIndex] = cache[0];
+
+        }
+    }
+
+    /**
+     * Evaluate one pendulum step of all the sub-rigs wave by wave.
+     * The sub-rigs in the same wave are independent of each other and are evaluated on the parallel pool.
+     *
+     * @param model model whose parameter ranges are used
+     * @param physicsDeltaTime delta time of one pendulum step
+     */
+    private void evaluateSubRigsInParallel(final CubismModel model, final float physicsDeltaTime) {
+        for (int wave = 0; wave + 1 < subRigWaveOffsets.length; wave++) {
+            final int begin = subRigWaveOffsets[wave];
+            final int end = subRigWaveOffsets[wave + 1];
+
+            // Sub-rigs which are not updated in this step only write their outputs, so they are processed on the calling thread.
+            // The tasks are created once per rig and reinitialized here, so that no task is allocated in each step.
+            int taskCount = 0;
+            for (int i = begin; i < end; i++) {
+                final int settingIndex = subRigWaveIndices[i];
+
+                if (subRigIntegratedSteps[settingIndex] == 0) {
+                    evaluateOrHoldSubRig(model, settingIndex, physicsDeltaTime, serialWorkspace);
+                    continue;
                 }
+                final SubRigTask task = subRigTasks[settingIndex];
+                task.reinitialize();
+                task.model = model;
+                task.physicsDeltaTime = physicsDeltaTime;
+                waveTask.tasks[taskCount++] = task;
             }
-            currentRemainTime -= physicsDeltaTime;
+
+            if (taskCount == 0) {
+                continue;
+            }
+            if (taskCount == 1) {
+                waveTask.tasks[0].invoke();
+                continue;
+            }
+            waveTask.reinitialize();
+            waveTask.taskCount = taskCount;
+            parallelPool.invoke(waveTask);
         }
+    }
 
-        final float alpha = currentRemainTime / physicsDeltaTime;
-        interpolate(model, alpha);
+    /**
+     * Resolve the indices of input and output parameters which have not been resolved yet.
+     *
+     * @param model model which has the parameters
+     */
+    private void resolveParameterIndices(CubismModel model) {
+        for (int i = 0; i < physicsRig.inputs.size(); i++) {
+            CubismPhysicsInput input = physicsRig.inputs.get(i);
+            if (input.sourceParameterIndex == -1) {
+                input.sourceParameterIndex = model.getParameterIndex(input.source.Id);
+            }
+        }
+        for (int i = 0; i < physicsRig.outputs.size(); i++) {
+            CubismPhysicsOutput output = physicsRig.outputs.get(i);
+            if (output.destinationParameterIndex == -1) {
+                output.destinationParameterIndex = model.getParameterIndex(output.destination.Id);
+            }
+        }
     }
 
-    // There are only used by 'evaluate' method.
-    // Avoid creating a new float array and CubismVector2 instance.
-    private final float[] totalAngle = new float[1];
-    private final float[] cache = new float[1];
-    private final CubismVector2 totalTranslation = new CubismVector2();
-    private final CubismVector2 translation = new CubismVector2();
+    /**
+     * Group the sub-rigs into waves which can be evaluated in parallel.
+     * <p>
+     * A sub-rig is placed after every preceding sub-rig which writes a parameter it reads or writes,
+     * or which reads a parameter it writes. Evaluating the waves in order therefore gives the same result as the serial order.
+     */
+    private void createSubRigWaves() {
+        final int subRigCount = physicsRig.subRigCount;
+        final int[] waveOfSubRig = new int[subRigCount];
+        int waveCount = 0;
+
+        for (int k = 0; k < subRigCount; k++) {
+            int wave = 0;
+            for (int j = 0; j < k; j++) {
+                if (waveOfSubRig[j] + 1 > wave && isDependent(j, k)) {
+                    wave = waveOfSubRig[j] + 1;
+                }
+            }
+            waveOfSubRig[k] = wave;
+            waveCount = Math.max(waveCount, wave + 1);
+        }
+
+        subRigWaveOffsets = new int[waveCount + 1];
+        for (int k = 0; k < subRigCount; k++) {
+            subRigWaveOffsets[waveOfSubRig[k] + 1]++;
+        }
+        for (int wave = 0; wave < waveCount; wave++) {
+            subRigWaveOffsets[wave + 1] += subRigWaveOffsets[wave];
+        }
+
+        subRigWaveIndices = new int[subRigCount];
+        final int[] fillPositions = new int[waveCount];
+        System.arraycopy(subRigWaveOffsets, 0, fillPositions, 0, waveCount);
+        for (int k = 0; k < subRigCount; k++) {
+            subRigWaveIndices[fillPositions[waveOfSubRig[k]]++] = k;
+        }
+
+        subRigTasks = new SubRigTask[subRigCount];
+        for (int k = 0; k < subRigCount; k++) {
+            subRigTasks[k] = new SubRigTask(k);
+        }
+        int maximumWaveSize = 0;
+        for (int wave = 0; wave < waveCount; wave++) {
+            maximumWaveSize = Math.max(maximumWaveSize, subRigWaveOffsets[wave + 1] - subRigWaveOffsets[wave]);
+        }
+        waveTask = new WaveTask(maximumWaveSize);
+    }
+
+    /**
+     * Whether the later sub-rig must be evaluated after the earlier one.
+     *
+     * @param earlier index of the earlier sub-rig
+     * @param later index of the later sub-rig
+     * @return true if the sub-rigs share a parameter which at least one of them writes
+     */
+    private boolean isDependent(int earlier, int later) {
+        CubismPhysicsSubRig earlierSetting = physicsRig.settings.get(earlier);
+        CubismPhysicsSubRig laterSetting = physicsRig.settings.get(later);
+
+        for (int i = 0; i < earlierSetting.outputCount; i++) {
+            int written = physicsRig.outputs.get(earlierSetting.baseOutputIndex + i).destinationParameterIndex;
+
+            for (int j = 0; j < laterSetting.inputCount; j++) {
+                if (physicsRig.inputs.get(laterSetting.baseInputIndex + j).sourceParameterIndex == written) {
+                    return true;
+                }
+            }
+            for (int j = 0; j < laterSetting.outputCount; j++) {
+                if (physicsRig.outputs.get(laterSetting.baseOutputIndex + j).destinationParameterIndex == written) {
+                    return true;
+                }
+            }
+        }
+
+        for (int i = 0; i < laterSetting.outputCount; i++) {
+            int written = physicsRig.outputs.get(laterSetting.baseOutputIndex + i).destinationParameterIndex;
+
+            for (int j = 0; j < earlierSetting.inputCount; j++) {
+                if (physicsRig.inputs.get(earlierSetting.baseInputIndex + j).sourceParameterIndex == written) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Evaluation of one sub-rig on the parallel pool.
+     * Each sub-rig has its own task and workspace, which are reused in every pendulum step.
+     */
+    private final class SubRigTask extends RecursiveAction {
+        SubRigTask(int settingIndex) {
+            this.settingIndex = settingIndex;
+        }
+
+        @Override
+        protected void compute() {
+            evaluateOrHoldSubRig(model, settingIndex, physicsDeltaTime, workspace);
+        }
+
+        private final int settingIndex;
+        private final Workspace workspace = new Workspace();
+        private CubismModel model;
+        private float physicsDeltaTime;
+    }
+
+    /**
+     * Evaluation of the sub-rigs of one wave on the parallel pool.
+     * The first sub-rig is evaluated on the current thread while the others are forked.
+     */
+    private static final class WaveTask extends RecursiveAction {
+        WaveTask(int maximumTaskCount) {
+            tasks = new SubRigTask[maximumTaskCount];
+        }
+
+        @Override
+        protected void compute() {
+            for (int i = 1; i < taskCount; i++) {
+                tasks[i].fork();
+            }
+            tasks[0].invoke();
+            for (int i = taskCount - 1; i > 0; i--) {
+                tasks[i].join();
+            }
+        }
+
+        private final SubRigTask[] tasks;
+        private int taskCount;
+    }
+
+    /**
+     * Scratch data of the pendulum calculation.
+     * Each thread evaluating sub-rigs uses its own instance, so that multiple rigs and sub-rigs can be evaluated concurrently.
+     */
+    private static class Workspace {
+        final float[] totalAngle = new float[1];
+        final float[] cache = new float[1];
+        final CubismVector2 totalTranslation = new CubismVector2();
+        final CubismVector2 translation = new CubismVector2();
+    }
 
     /**
      * Set an option.
@@ -453,7 +970,8 @@ public class CubismPhysics {
     /**
      * Updates particles
      *
-     * @param strand Target array of particle
+     * @param strand Particles of the rig
+     * @param baseParticleIndex First index of the particles of the sub-rig
      * @param strandCount Count of particle
      * @param totalTranslation Total translation value
      * @param totalAngle Total angle
@@ -463,7 +981,7 @@ public class CubismPhysics {
      * @param airResistance Air resistance
      */
     private static void updateParticles(
-        List<CubismPhysicsParticle> strand,
+        CubismPhysicsParticles strand,
         int baseParticleIndex,
         int strandCount,
         CubismVector2 totalTranslation,
@@ -473,76 +991,88 @@ public class CubismPhysics {
         float deltaTimeSeconds,
         float airResistance
     ) {
-        float totalRadian;
-        float delay;
-        float radian;
-
-        strand.get(baseParticleIndex).position.set(totalTranslation.x, totalTranslation.y);
-
-        totalRadian = CubismMath.degreesToRadian(totalAngle);
-        CubismMath.radianToDirection(totalRadian, currentGravity).normalize();
-
-        for (int i = 1; i < strandCount; i++) {
-            final CubismPhysicsParticle currentParticle = strand.get(baseParticleIndex + i);
-            final CubismPhysicsParticle previousParticle = strand.get(baseParticleIndex + i - 1);
-
-            currentParticle.lastPosition.set(currentParticle.position.x, currentParticle.position.y);
-
-            {
-                CubismVector2.multiply(currentGravity, currentParticle.acceleration, currentParticle.force).add(windDirection);
-
-                delay = currentParticle.delay * deltaTimeSeconds * 30.0f;
-                CubismVector2.subtract(currentParticle.position, previousParticle.position, direction);
-            }
+        final float[] positionX = strand.positionX;
+        final float[] positionY = strand.positionY;
+        final float[] lastPositionX = strand.lastPositionX;
+        final float[] lastPositionY = strand.lastPositionY;
+        final float[] lastGravityX = strand.lastGravityX;
+        final float[] lastGravityY = strand.lastGravityY;
+        final float[] forceX = strand.forceX;
+        final float[] forceY = strand.forceY;
+        final float[] velocityX = strand.velocityX;
+        final float[] velocityY = strand.velocityY;
+        final float[] mobility = strand.mobility;
+        final float[] particleDelay = strand.delay;
+        final float[] acceleration = strand.acceleration;
+        final float[] radius = strand.radius;
+
+        positionX[baseParticleIndex] = totalTranslation.x;
+        positionY[baseParticleIndex] = totalTranslation.y;
+
+        final float totalRadian = CubismMath.degreesToRadian(totalAngle);
+        float currentGravityX = CubismMath.sinF(totalRadian);
+        float currentGravityY = CubismMath.cosF(totalRadian);
+        final float gravityLength = (float) (Math.pow((currentGravityX * currentGravityX) + (currentGravityY * currentGravityY), 0.5f));
+        currentGravityX /= gravityLength;
+        currentGravityY /= gravityLength;
+
+        final int endIndex = baseParticleIndex + strandCount;
+        for (int i = baseParticleIndex + 1; i < endIndex; i++) {
+            lastPositionX[i] = positionX[i];
+            lastPositionY[i] = positionY[i];
+
+            forceX[i] = (currentGravityX * acceleration[i]) + windDirection.x;
+            forceY[i] = (currentGravityY * acceleration[i]) + windDirection.y;
+
+            final float delay = particleDelay[i] * deltaTimeSeconds * 30.0f;
+
+            float directionX = positionX[i] - positionX[i - 1];
+            float directionY = positionY[i] - positionY[i - 1];
             {
-                radian = CubismMath.directionToRadian(currentParticle.lastGravity, currentGravity) / airResistance;
+                final float radian = CubismMath.directionToRadian(lastGravityX[i], lastGravityY[i], currentGravityX, currentGravityY) / airResistance;
+                final float cos = CubismMath.cosF(radian);
+                final float sin = CubismMath.sinF(radian);
 
-                direction.x = ((CubismMath.cosF(radian) * direction.x) - (CubismMath.sinF(radian) * direction.y));
-                direction.y = ((CubismMath.sinF(radian) * direction.x) + (direction.y * CubismMath.cosF(radian)));
+                directionX = ((cos * directionX) - (sin * directionY));
+                directionY = ((sin * directionX) + (directionY * cos));
             }
             {
-                CubismVector2.add(previousParticle.position, direction, currentParticle.position);
-                CubismVector2.multiply(currentParticle.velocity, delay, velocity);
-                CubismVector2.multiply(currentParticle.force, delay, force).multiply(delay);
+                positionX[i] = positionX[i - 1] + directionX;
+                positionY[i] = positionY[i - 1] + directionY;
 
-                currentParticle.position.add(velocity).add(force);
+                positionX[i] += velocityX[i] * delay;
+                positionY[i] += velocityY[i] * delay;
+                positionX[i] += (forceX[i] * delay) * delay;
+                positionY[i] += (forceY[i] * delay) * delay;
             }
             {
-                float newDirectionX = currentParticle.position.x - previousParticle.position.x;
-                float newDirectionY = currentParticle.position.y - previousParticle.position.y;
+                float newDirectionX = positionX[i] - positionX[i - 1];
+                float newDirectionY = positionY[i] - positionY[i - 1];
                 float length = (float) (Math.pow((newDirectionX * newDirectionX) + (newDirectionY * newDirectionY), 0.5f));
                 newDirectionX /= length;
                 newDirectionY /= length;
 
-                currentParticle.position.x = previousParticle.position.x + (newDirectionX * currentParticle.radius);
-                currentParticle.position.y = previousParticle.position.y + (newDirectionY * currentParticle.radius);
+                positionX[i] = positionX[i - 1] + (newDirectionX * radius[i]);
+                positionY[i] = positionY[i - 1] + (newDirectionY * radius[i]);
             }
 
-            if (CubismMath.absF(currentParticle.position.x) < thresholdValue) {
-                currentParticle.position.x = 0.0f;
+            if (CubismMath.absF(positionX[i]) < thresholdValue) {
+                positionX[i] = 0.0f;
             }
 
             if (delay != 0.0f) {
-                CubismVector2.subtract(currentParticle.position, currentParticle.lastPosition, currentParticle.velocity);
-
-                currentParticle.velocity.divide(delay);
-                currentParticle.velocity.multiply(currentParticle.mobility);
-
+                velocityX[i] = ((positionX[i] - lastPositionX[i]) / delay) * mobility[i];
+                velocityY[i] = ((positionY[i] - lastPositionY[i]) / delay) * mobility[i];
             }
-            currentParticle.force.setZero();
-            currentParticle.lastGravity.set(currentGravity.x, currentGravity.y);
+            forceX[i] = 0.0f;
+            forceY[i] = 0.0f;
+            lastGravityX[i] = currentGravityX;
+            lastGravityY[i] = currentGravityY;
         }
     }
 
-    // There are only used by 'updateParticles' method.
-    // Avoid creating a new CubismVector2 instance.
-    private static final CubismVector2 direction = new CubismVector2();
-    private static final CubismVector2 velocity = new CubismVector2();
-    private static final CubismVector2 force = new CubismVector2();
-    private static final CubismVector2 currentGravity = new CubismVector2();
-
     private static void updateParticlesForStabilization(
-        List<CubismPhysicsParticle> strand,
+        CubismPhysicsParticles strand,
         int baseParticleIndex,
         int strandCount,
         CubismVector2 totalTranslation,
@@ -550,40 +1080,45 @@ public class CubismPhysics {
         CubismVector2 windDirection,
         float thresholdValue
     ) {
-        int i;
-        float totalRadian;
+        final float[] positionX = strand.positionX;
+        final float[] positionY = strand.positionY;
 
-        strand.get(baseParticleIndex).position.set(totalTranslation.x, totalTranslation.y);
+        positionX[baseParticleIndex] = totalTranslation.x;
+        positionY[baseParticleIndex] = totalTranslation.y;
 
-        totalRadian = CubismMath.degreesToRadian(totalAngle);
-        CubismMath.radianToDirection(totalRadian, currentGravityForStablization).normalize();
+        final float totalRadian = CubismMath.degreesToRadian(totalAngle);
+        float currentGravityX = CubismMath.sinF(totalRadian);
+        float currentGravityY = CubismMath.cosF(totalRadian);
+        final float gravityLength = (float) (Math.pow((currentGravityX * currentGravityX) + (currentGravityY * currentGravityY), 0.5f));
+        currentGravityX /= gravityLength;
+        currentGravityY /= gravityLength;
 
-        for (i = 1; i < strandCount; i++) {
-            CubismPhysicsParticle particle = strand.get(baseParticleIndex + i);
-            CubismVector2.multiply(currentGravityForStablization, particle.acceleration, particle.force).add(windDirection);
+        final int endIndex = baseParticleIndex + strandCount;
+        for (int i = baseParticleIndex + 1; i < endIndex; i++) {
+            final float forceX = (currentGravityX * strand.acceleration[i]) + windDirection.x;
+            final float forceY = (currentGravityY * strand.acceleration[i]) + windDirection.y;
 
-            particle.lastPosition.set(particle.position.x, particle.position.y);
-            particle.velocity.setZero();
+            strand.lastPositionX[i] = positionX[i];
+            strand.lastPositionY[i] = positionY[i];
+            strand.velocityX[i] = 0.0f;
+            strand.velocityY[i] = 0.0f;
 
-            forceForStabilization.set(particle.force.x, particle.force.y);
-            forceForStabilization.normalize();
+            final float forceLength = (float) (Math.pow((forceX * forceX) + (forceY * forceY), 0.5f));
 
-            forceForStabilization.multiply(particle.radius);
-            CubismVector2.add(strand.get(baseParticleIndex + i - 1).position, forceForStabilization, particle.position);
+            positionX[i] = positionX[i - 1] + ((forceX / forceLength) * strand.radius[i]);
+            positionY[i] = positionY[i - 1] + ((forceY / forceLength) * strand.radius[i]);
 
-            if (CubismMath.absF(particle.position.x) < thresholdValue) {
-                particle.position.x = 0.0f;
+            if (CubismMath.absF(positionX[i]) < thresholdValue) {
+                positionX[i] = 0.0f;
             }
 
-            particle.force.setZero();
-            particle.lastGravity.set(currentGravityForStablization.x, currentGravityForStablization.y);
+            strand.forceX[i] = 0.0f;
+            strand.forceY[i] = 0.0f;
+            strand.lastGravityX[i] = currentGravityX;
+            strand.lastGravityY[i] = currentGravityY;
         }
     }
 
-    // updateParticlesForStabilization関数内でのみ使われるキャッシュ変数
-    private static final CubismVector2 currentGravityForStablization = new CubismVector2();
-    private static final CubismVector2 forceForStabilization = new CubismVector2();
-
     private static void updateOutputParameterValue(
         float[] parameterValue,
         int destinationParameterIndex,
@@ -643,6 +1178,11 @@ public class CubismPhysics {
      * Constant of maximum allowed delta time
      */
     private static final float MAX_DELTA_TIME = 5.0f;
+    /**
+     * Minimum number of particles in the rig to evaluate sub-rigs in parallel.
+     * Smaller rigs are evaluated faster than the parallel task is dispatched.
+     */
+    private static final int PARALLEL_PARTICLE_THRESHOLD = 128;
 
     // -----private constants-----
 // Physics types tags
@@ -658,6 +1198,29 @@ public class CubismPhysics {
         }
     }
 
+    /**
+     * Version of the compiled physics data. It must be incremented when write() is changed.
+     */
+    private static final int COMPILED_DATA_VERSION = 1;
+    /**
+     * Sizes of a compiled sub-rig, and minimum sizes of a compiled input and output in bytes
+     */
+    private static final int COMPILED_SUB_RIG_SIZE = 36;
+    private static final int COMPILED_INPUT_MINIMUM_SIZE = 13;
+    private static final int COMPILED_OUTPUT_MINIMUM_SIZE = 21;
+
+    // This is only used by 'parseInputs' and 'parseOutputs' methods.
+    private static CubismPhysicsSource toPhysicsSource(String tag) {
+        if (tag.equals(PhysicsTypeTag.X.tag)) {
+            return CubismPhysicsSource.X;
+        } else if (tag.equals(PhysicsTypeTag.Y.tag)) {
+            return CubismPhysicsSource.Y;
+        } else if (tag.equals(PhysicsTypeTag.ANGLE.tag)) {
+            return CubismPhysicsSource.ANGLE;
+        }
+        return null;
+    }
+
     /**
      * Private constructor
      */
@@ -670,12 +1233,13 @@ public class CubismPhysics {
      * Parse a physics3.json data.
      *
      * @param physicsJson a buffer where physics3.json is loaded.
+     * @param idManager an ID manager which creates the parameter IDs
      */
-    private void parse(final byte[] physicsJson) {
+    private void parse(final byte[] physicsJson, final CubismIdManager idManager) {
         physicsRig = new CubismPhysicsRig();
 
         CubismPhysicsJson json;
-        json = new CubismPhysicsJson(physicsJson);
+        json = new CubismPhysicsJson(physicsJson, idManager);
 
         physicsRig.gravity = json.getGravity();
         physicsRig.wind = json.getWind();
@@ -689,10 +1253,14 @@ public class CubismPhysics {
 
         physicsRig.outputs = new ArrayList<CubismPhysicsOutput>(json.getTotalOutputCount());
 
-        physicsRig.particles = new ArrayList<CubismPhysicsParticle>(json.getVertexCount());
+        // The particle arrays are sized by the sub-rigs themselves instead of the meta data, which may be inaccurate.
+        int totalParticleCount = 0;
+        for (int i = 0; i < physicsRig.subRigCount; i++) {
+            totalParticleCount += json.getParticleCount(i);
+        }
+        physicsRig.particles = new CubismPhysicsParticles(totalParticleCount);
 
-        currentRigOutputs.clear();
-        previousRigOutputs.clear();
+        resetRigStates();
 
         int inputIndex = 0;
         int outputIndex = 0;
@@ -716,12 +1284,285 @@ public class CubismPhysics {
             outputIndex += setting.outputCount;
 
             // Particle
-            parseParticles(json, i, setting.particleCount);
+            parseParticles(json, i, setting.baseParticleIndex, setting.particleCount);
             particleIndex += setting.particleCount;
         }
         initialize();
     }
 
+    /**
+     * Write the parsed physics rig as the compiled binary data.
+     * The parameter IDs are written as strings, and the getter functions are written as the physics types.
+     *
+     * @param writer writer of the compiled data
+     */
+    private void write(final CubismBinaryWriter writer) {
+        writer.writeInt(COMPILED_DATA_VERSION);
+        writer.writeFloat(physicsRig.gravity.x);
+        writer.writeFloat(physicsRig.gravity.y);
+        writer.writeFloat(physicsRig.wind.x);
+        writer.writeFloat(physicsRig.wind.y);
+        writer.writeFloat(physicsRig.fps);
+
+        writer.writeInt(physicsRig.subRigCount);
+        for (int i = 0; i < physicsRig.subRigCount; i++) {
+            final CubismPhysicsSubRig setting = physicsRig.settings.get(i);
+
+            writer.writeFloat(setting.normalizationPosition.minimumValue);
+            writer.writeFloat(setting.normalizationPosition.maximumValue);
+            writer.writeFloat(setting.normalizationPosition.defaultValue);
+            writer.writeFloat(setting.normalizationAngle.minimumValue);
+            writer.writeFloat(setting.normalizationAngle.maximumValue);
+            writer.writeFloat(setting.normalizationAngle.defaultValue);
+            writer.writeInt(setting.inputCount);
+            writer.writeInt(setting.outputCount);
+            writer.writeInt(setting.particleCount);
+        }
+
+        writer.writeInt(physicsRig.inputs.size());
+        for (int i = 0; i < physicsRig.inputs.size(); i++) {
+            final CubismPhysicsInput input = physicsRig.inputs.get(i);
+
+            writer.writeString(input.source.Id.getString());
+            writer.writeFloat(input.weight);
+            writer.writeBoolean(input.reflect);
+            writer.writeInt(input.type != null ? input.type.ordinal() : -1);
+        }
+
+        writer.writeInt(physicsRig.outputs.size());
+        for (int i = 0; i < physicsRig.outputs.size(); i++) {
+            final CubismPhysicsOutput output = physicsRig.outputs.get(i);
+
+            writer.writeString(output.destination.Id.getString());
+            writer.writeInt(output.vertexIndex);
+            writer.writeFloat(output.angleScale);
+            writer.writeFloat(output.weight);
+            writer.writeBoolean(output.reflect);
+            writer.writeInt(output.type != null ? output.type.ordinal() : -1);
+        }
+
+        final CubismPhysicsParticles particles = physicsRig.particles;
+        writer.writeFloatArray(particles.mobility, particles.count);
+        writer.writeFloatArray(particles.delay, particles.count);
+        writer.writeFloatArray(particles.acceleration, particles.count);
+        writer.writeFloatArray(particles.radius, particles.count);
+        writer.writeFloatArray(particles.positionX, particles.count);
+        writer.writeFloatArray(particles.positionY, particles.count);
+    }
+
+    /**
+     * Read the physics rig written by write(), and initialize it as parse() does.
+     * The counts of the sub-rigs are checked against the inputs, the outputs and the particles.
+     *
+     * @param reader reader of the compiled data
+     * @param idManager an ID manager which creates the parameter IDs
+     */
+    private void read(final CubismBinaryReader reader, final CubismIdManager idManager) {
+        final int version = reader.readInt();
+        if (version != COMPILED_DATA_VERSION) {
+            throw new CubismBinaryFormatException("Unsupported compiled physics version: " + version);
+        }
+
+        physicsRig = new CubismPhysicsRig();
+        physicsRig.gravity = new CubismVector2(reader.readFloat(), reader.readFloat());
+        physicsRig.wind = new CubismVector2(reader.readFloat(), reader.readFloat());
+        physicsRig.fps = reader.readFloat();
+
+        physicsRig.subRigCount = reader.readCount(COMPILED_SUB_RIG_SIZE);
+        physicsRig.settings = new ArrayList<CubismPhysicsSubRig>(physicsRig.subRigCount);
+
+        int inputIndex = 0;
+        int outputIndex = 0;
+        int particleIndex = 0;
+        for (int i = 0; i < physicsRig.subRigCount; i++) {
+            final CubismPhysicsSubRig setting = new CubismPhysicsSubRig();
+
+            setting.normalizationPosition.minimumValue = reader.readFloat();
+            setting.normalizationPosition.maximumValue = reader.readFloat();
+            setting.normalizationPosition.defaultValue = reader.readFloat();
+            setting.normalizationAngle.minimumValue = reader.readFloat();
+            setting.normalizationAngle.maximumValue = reader.readFloat();
+            setting.normalizationAngle.defaultValue = reader.readFloat();
+            setting.inputCount = reader.readInt();
+            setting.outputCount = reader.readInt();
+            setting.particleCount = reader.readInt();
+
+            // Each element needs at least 1 byte, so the totals can not exceed the remaining bytes.
+            final int remaining = reader.remaining();
+            if (setting.inputCount < 0 || setting.outputCount < 0 || setting.particleCount < 0
+                || (long) inputIndex + setting.inputCount > remaining
+                || (long) outputIndex + setting.outputCount > remaining
+                || (long) particleIndex + setting.particleCount > remaining) {
+                throw new CubismBinaryFormatException("Invalid counts of the sub-rig: " + i);
+            }
+            setting.baseInputIndex = inputIndex;
+            setting.baseOutputIndex = outputIndex;
+            setting.baseParticleIndex = particleIndex;
+            inputIndex += setting.inputCount;
+            outputIndex += setting.outputCount;
+            particleIndex += setting.particleCount;
+
+            physicsRig.settings.add(setting);
+        }
+
+        final CubismPhysicsSource[] sources = CubismPhysicsSource.values();
+
+        final int inputCount = reader.readCount(COMPILED_INPUT_MINIMUM_SIZE);
+        if (inputCount != inputIndex) {
+            throw new CubismBinaryFormatException("Input count mismatch: " + inputCount + ", expected: " + inputIndex);
+        }
+        physicsRig.inputs = new ArrayList<CubismPhysicsInput>(inputCount);
+        for (int i = 0; i < inputCount; i++) {
+            final CubismPhysicsInput input = new CubismPhysicsInput();
+
+            input.sourceParameterIndex = -1;
+            input.source.targetType = CubismPhysicsTargetType.PARAMETER;
+            input.source.Id = idManager.getId(reader.readString());
+            input.weight = reader.readFloat();
+            input.reflect = reader.readBoolean();
+            setInputType(input, readSource(reader, sources));
+
+            physicsRig.inputs.add(input);
+        }
+
+        final int outputCount = reader.readCount(COMPILED_OUTPUT_MINIMUM_SIZE);
+        if (outputCount != outputIndex) {
+            throw new CubismBinaryFormatException("Output count mismatch: " + outputCount + ", expected: " + outputIndex);
+        }
+        physicsRig.outputs = new ArrayList<CubismPhysicsOutput>(outputCount);
+        for (int i = 0; i < outputCount; i++) {
+            final CubismPhysicsOutput output = new CubismPhysicsOutput();
+
+            output.destinationParameterIndex = -1;
+            output.destination.targetType = CubismPhysicsTargetType.PARAMETER;
+            output.destination.Id = idManager.getId(reader.readString());
+            output.vertexIndex = reader.readInt();
+            output.angleScale = reader.readFloat();
+            output.weight = reader.readFloat();
+            output.reflect = reader.readBoolean();
+            setOutputType(output, readSource(reader, sources));
+
+            physicsRig.outputs.add(output);
+        }
+
+        final CubismPhysicsParticles particles = new CubismPhysicsParticles(particleIndex);
+        reader.readFloatArray(particles.mobility, particleIndex);
+        reader.readFloatArray(particles.delay, particleIndex);
+        reader.readFloatArray(particles.acceleration, particleIndex);
+        reader.readFloatArray(particles.radius, particleIndex);
+        reader.readFloatArray(particles.positionX, particleIndex);
+        reader.readFloatArray(particles.positionY, particleIndex);
+        physicsRig.particles = particles;
+
+        resetRigStates();
+        for (int i = 0; i < physicsRig.subRigCount; i++) {
+            addRigOutputs(physicsRig.settings.get(i).outputCount);
+        }
+        initialize();
+    }
+
+    // This is only used by 'read' method.
+    private static CubismPhysicsSource readSource(final CubismBinaryReader reader, final CubismPhysicsSource[] sources) {
+        final int ordinal = reader.readInt();
+
+        if (ordinal == -1) {
+            return null;
+        }
+        if (ordinal < 0 || sources.length <= ordinal) {
+            throw new CubismBinaryFormatException("Invalid physics type: " + ordinal);
+        }
+        return sources[ordinal];
+    }
+
+    /**
+     * Reset the states which depend on the structure of the physics rig.
+     * (Used for only the parse() and read() methods.)
+     */
+    private void resetRigStates() {
+        currentRigOutputs.clear();
+        previousRigOutputs.clear();
+
+        subRigWaveOffsets = null;
+        subRigWaveIndices = null;
+        subRigTasks = null;
+        waveTask = null;
+
+        lodGovernor.reset(physicsRig.subRigCount);
+        subRigElapsedSteps = new int[physicsRig.subRigCount];
+        subRigIntegratedSteps = new int[physicsRig.subRigCount];
+    }
+
+    /**
+     * Add the buffers of the current and the previous outputs of a sub-rig.
+     * (Used for only the parseOutputs() and read() methods.)
+     *
+     * @param count number of the outputs of the sub-rig
+     */
+    private void addRigOutputs(final int count) {
+        PhysicsOutput currentRigOutput = new PhysicsOutput();
+        currentRigOutput.outputs = new float[count];
+        currentRigOutputs.add(currentRigOutput);
+
+        PhysicsOutput previousRigOutput = new PhysicsOutput();
+        previousRigOutput.outputs = new float[count];
+        previousRigOutputs.add(previousRigOutput);
+    }
+
+    /**
+     * Set the type and the getter function of an input.
+     * Nothing is set if the type is null.
+     *
+     * @param input target input
+     * @param type physics type
+     */
+    private static void setInputType(final CubismPhysicsInput input, final CubismPhysicsSource type) {
+        if (type == null) {
+            return;
+        }
+        input.type = type;
+
+        switch (type) {
+            case X:
+                input.getNormalizedParameterValue = new GetInputTranslationXFromNormalizedParameterValue();
+                break;
+            case Y:
+                input.getNormalizedParameterValue = new GetInputTranslationYFromNormalizedParameterValue();
+                break;
+            case ANGLE:
+                input.getNormalizedParameterValue = new GetInputAngleFromNormalizedParameterValue();
+                break;
+        }
+    }
+
+    /**
+     * Set the type and the getter functions of an output.
+     * Nothing is set if the type is null.
+     *
+     * @param output target output
+     * @param type physics type
+     */
+    private static void setOutputType(final CubismPhysicsOutput output, final CubismPhysicsSource type) {
+        if (type == null) {
+            return;
+        }
+        output.type = type;
+
+        switch (type) {
+            case X:
+                output.getValue = new GetOutputTranslationX();
+                output.getScale = new GetOutputScaleTranslationX();
+                break;
+            case Y:
+                output.getValue = new GetOutputTranslationY();
+                output.getScale = new GetOutputScaleTranslationY();
+                break;
+            case ANGLE:
+                output.getValue = new GetOutputAngle();
+                output.getScale = new GetOutputScaleAngle();
+                break;
+        }
+    }
+
     /**
      * Parse setting parameters.
      *
@@ -763,16 +1604,7 @@ public class CubismPhysics {
 
             final String tag = json.getInputType(settingIndex, inputIndex);
 
-            if (tag.equals(PhysicsTypeTag.X.tag)) {
-                input.type = CubismPhysicsSource.X;
-                input.getNormalizedParameterValue = new GetInputTranslationXFromNormalizedParameterValue();
-            } else if (tag.equals(PhysicsTypeTag.Y.tag)) {
-                input.type = CubismPhysicsSource.Y;
-                input.getNormalizedParameterValue = new GetInputTranslationYFromNormalizedParameterValue();
-            } else if (tag.equals(PhysicsTypeTag.ANGLE.tag)) {
-                input.type = CubismPhysicsSource.ANGLE;
-                input.getNormalizedParameterValue = new GetInputAngleFromNormalizedParameterValue();
-            }
+            setInputType(input, toPhysicsSource(tag));
 
             input.source.targetType = CubismPhysicsTargetType.PARAMETER;
             input.source.Id = json.getInputSourceId(settingIndex, inputIndex);
@@ -792,13 +1624,7 @@ public class CubismPhysics {
     private void parseOutputs(final CubismPhysicsJson json, final int settingIndex, final int outputCount) {
         final int count = physicsRig.settings.get(settingIndex).outputCount;
 
-        PhysicsOutput currentRigOutput = new PhysicsOutput();
-        currentRigOutput.outputs = new float[count];
-        currentRigOutputs.add(currentRigOutput);
-
-        PhysicsOutput previousRigOutput = new PhysicsOutput();
-        previousRigOutput.outputs = new float[count];
-        previousRigOutputs.add(previousRigOutput);
+        addRigOutputs(count);
 
         for (int outputIndex = 0; outputIndex < outputCount; outputIndex++) {
             final CubismPhysicsOutput output = new CubismPhysicsOutput();
@@ -812,19 +1638,7 @@ public class CubismPhysics {
             output.destination.Id = json.getOutputsDestinationId(settingIndex, outputIndex);
 
             final String tag = json.getOutputType(settingIndex, outputIndex);
-            if (tag.equals(PhysicsTypeTag.X.tag)) {
-                output.type = CubismPhysicsSource.X;
-                output.getValue = new GetOutputTranslationX();
-                output.getScale = new GetOutputScaleTranslationX();
-            } else if (tag.equals(PhysicsTypeTag.Y.tag)) {
-                output.type = CubismPhysicsSource.Y;
-                output.getValue = new GetOutputTranslationY();
-                output.getScale = new GetOutputScaleTranslationY();
-            } else if (tag.equals(PhysicsTypeTag.ANGLE.tag)) {
-                output.type = CubismPhysicsSource.ANGLE;
-                output.getValue = new GetOutputAngle();
-                output.getScale = new GetOutputScaleAngle();
-            }
+            setOutputType(output, toPhysicsSource(tag));
 
             output.reflect = json.getOutputReflect(settingIndex, outputIndex);
 
@@ -838,19 +1652,22 @@ public class CubismPhysics {
      *
      * @param json physics3.json data
      * @param settingIndex current setting index
+     * @param baseParticleIndex first particle index of the current setting
      * @param particleCount number of the current particle
      */
-    private void parseParticles(final CubismPhysicsJson json, final int settingIndex, final int particleCount) {
-        for (int particleIndex = 0; particleIndex < particleCount; particleIndex++) {
-            final CubismPhysicsParticle particle = new CubismPhysicsParticle();
+    private void parseParticles(final CubismPhysicsJson json, final int settingIndex, final int baseParticleIndex, final int particleCount) {
+        final CubismPhysicsParticles particles = physicsRig.particles;
 
-            particle.mobility = json.getParticleMobility(settingIndex, particleIndex);
-            particle.delay = json.getParticleDelay(settingIndex, particleIndex);
-            particle.acceleration = json.getParticleAcceleration(settingIndex, particleIndex);
-            particle.radius = json.getParticleRadius(settingIndex, particleIndex);
-            particle.position = json.getParticlePosition(settingIndex, particleIndex);
-
-            physicsRig.particles.add(particle);
+        for (int particleIndex = 0; particleIndex < particleCount; particleIndex++) {
+            final int index = baseParticleIndex + particleIndex;
+            final CubismVector2 position = json.getParticlePosition(settingIndex, particleIndex);
+
+            particles.mobility[index] = json.getParticleMobility(settingIndex, particleIndex);
+            particles.delay[index] = json.getParticleDelay(settingIndex, particleIndex);
+            particles.acceleration[index] = json.getParticleAcceleration(settingIndex, particleIndex);
+            particles.radius[index] = json.getParticleRadius(settingIndex, particleIndex);
+            particles.positionX[index] = position.x;
+            particles.positionY[index] = position.y;
         }
     }
 
@@ -858,33 +1675,41 @@ public class CubismPhysics {
      * Initializes physics
      */
     private void initialize() {
+        final CubismPhysicsParticles particles = physicsRig.particles;
+
         for (int settingIndex = 0; settingIndex < physicsRig.subRigCount; settingIndex++) {
             final CubismPhysicsSubRig currentSetting = physicsRig.settings.get(settingIndex);
 
             final int baseIndex = currentSetting.baseParticleIndex;
-            final CubismPhysicsParticle baseParticle = physicsRig.particles.get(baseIndex);
 
             // Initialize the top of particle
-            baseParticle.initialPosition = new CubismVector2();
-            baseParticle.lastPosition = new CubismVector2(baseParticle.initialPosition);
-            baseParticle.lastGravity = new CubismVector2(0.0f, 1.0f);
-            baseParticle.velocity = new CubismVector2();
-            baseParticle.force = new CubismVector2();
+            particles.initialPositionX[baseIndex] = 0.0f;
+            particles.initialPositionY[baseIndex] = 0.0f;
+            particles.lastPositionX[baseIndex] = 0.0f;
+            particles.lastPositionY[baseIndex] = 0.0f;
+            particles.lastGravityX[baseIndex] = 0.0f;
+            particles.lastGravityY[baseIndex] = 1.0f;
+            particles.velocityX[baseIndex] = 0.0f;
+            particles.velocityY[baseIndex] = 0.0f;
+            particles.forceX[baseIndex] = 0.0f;
+            particles.forceY[baseIndex] = 0.0f;
 
             // Initialize particles
-            for (int i = 1; i < currentSetting.particleCount; i++) {
-                final CubismPhysicsParticle currentParticle = physicsRig.particles.get(baseIndex + i);
-
-                final CubismVector2 radius = new CubismVector2(0.0f, currentParticle.radius);
-
-                final CubismVector2 previousPosition = new CubismVector2(physicsRig.particles.get(baseIndex + i - 1).initialPosition);
-                currentParticle.initialPosition = previousPosition.add(radius);
-
-                currentParticle.position = new CubismVector2(currentParticle.initialPosition);
-                currentParticle.lastPosition = new CubismVector2(currentParticle.initialPosition);
-                currentParticle.lastGravity = new CubismVector2(0.0f, 1.0f);
-                currentParticle.velocity = new CubismVector2();
-                currentParticle.force = new CubismVector2();
+            final int endIndex = baseIndex + currentSetting.particleCount;
+            for (int i = baseIndex + 1; i < endIndex; i++) {
+                particles.initialPositionX[i] = particles.initialPositionX[i - 1];
+                particles.initialPositionY[i] = particles.initialPositionY[i - 1] + particles.radius[i];
+
+                particles.positionX[i] = particles.initialPositionX[i];
+                particles.positionY[i] = particles.initialPositionY[i];
+                particles.lastPositionX[i] = particles.initialPositionX[i];
+                particles.lastPositionY[i] = particles.initialPositionY[i];
+                particles.lastGravityX[i] = 0.0f;
+                particles.lastGravityY[i] = 1.0f;
+                particles.velocityX[i] = 0.0f;
+                particles.velocityY[i] = 0.0f;
+                particles.forceX[i] = 0.0f;
+                particles.forceY[i] = 0.0f;
             }
         }
     }
@@ -908,6 +1733,12 @@ public class CubismPhysics {
 
             tmpValue[0] = 0.0f;
 
+            // A sub-rig updated every 'interval' steps is interpolated over its own interval. A skipped sub-rig holds its latest result.
+            final int interval = lodGovernor.getInterval(settingIndex);
+            final float subRigWeight = interval == CubismPhysicsLodGovernor.SKIPPED_INTERVAL
+                                       ? 1.0f
+                                       : Math.min(1.0f, (subRigElapsedSteps[settingIndex] + weight) / interval);
+
             for (int i = 0; i < currentSetting.outputCount; i++) {
                 CubismPhysicsOutput currentOutput = outputs.get(baseOutputIndex + i);
 
@@ -922,7 +1753,7 @@ public class CubismPhysics {
                     0,
                     parameterMinimumValues[currentOutput.destinationParameterIndex],
                     parameterMaximumValues[currentOutput.destinationParameterIndex],
-                    previousRigOutputs.get(settingIndex).outputs[i] * (1 - weight) + currentRigOutputs.get(settingIndex).outputs[i] * weight,
+                    previousRigOutputs.get(settingIndex).outputs[i] * (1 - subRigWeight) + currentRigOutputs.get(settingIndex).outputs[i] * subRigWeight,
                     currentOutput
                 );
                 parameterValues[currentOutput.destinationParameterIndex] = tmpValue[0];
@@ -1009,4 +1840,50 @@ public class CubismPhysics {
      * Cache of parameter input in 'UpdateParticles' method
      */
     private float[] parameterInputCaches = new float[1];
+
+    /**
+     * Scratch data used by the serial evaluation
+     */
+    private final Workspace serialWorkspace = new Workspace();
+    /**
+     * Pool evaluating sub-rigs in parallel. If null, sub-rigs are evaluated serially.
+     */
+    private ForkJoinPool parallelPool;
+    /**
+     * Start positions of each wave in subRigWaveIndices
+     */
+    private int[] subRigWaveOffsets;
+    /**
+     * Indices of sub-rigs sorted by wave
+     */
+    private int[] subRigWaveIndices;
+    /**
+     * Task of each sub-rig used by the parallel evaluation
+     */
+    private SubRigTask[] subRigTasks;
+    /**
+     * Task evaluating one wave of sub-rigs on the parallel pool
+     */
+    private WaveTask waveTask;
+
+    /**
+     * Level-of-detail governor
+     */
+    private final CubismPhysicsLodGovernor lodGovernor = new CubismPhysicsLodGovernor();
+    /**
+     * Decisions of the level-of-detail governor
+     */
+    private final LodMetrics lodMetrics = new LodMetrics();
+    /**
+     * Number of pendulum steps evaluated so far. It staggers the updates of sub-rigs with the same interval.
+     */
+    private int lodStepCount;
+    /**
+     * Number of pendulum steps since the last update of each sub-rig
+     */
+    private int[] subRigElapsedSteps = new int[0];
+    /**
+     * Number of pendulum steps integrated by each sub-rig in the current step. 0 means the sub-rig is not updated.
+     */
+    private int[] subRigIntegratedSteps = new int[0];
 }
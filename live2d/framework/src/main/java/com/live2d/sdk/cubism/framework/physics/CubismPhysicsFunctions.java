@@ -15,8 +15,6 @@ import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.NormalizedP
 import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.PhysicsScaleGetter;
 import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.PhysicsValueGetter;
 
-import java.util.List;
-
 /**
  * This is the set of algorithms used in CubismPhysics class.
  * <p>
@@ -108,7 +106,7 @@ class CubismPhysicsFunctions {
         @Override
         public float getValue(
             CubismVector2 translation,
-            List<CubismPhysicsInternal.CubismPhysicsParticle> particles,
+            CubismPhysicsInternal.CubismPhysicsParticles particles,
             int baseParticleIndex,
             int particleIndex,
             boolean isInverted,
@@ -128,7 +126,7 @@ class CubismPhysicsFunctions {
         @Override
         public float getValue(
             CubismVector2 translation,
-            List<CubismPhysicsInternal.CubismPhysicsParticle> particles,
+            CubismPhysicsInternal.CubismPhysicsParticles particles,
             int baseParticleIndex,
             int particleIndex,
             boolean isInverted,
@@ -148,25 +146,26 @@ class CubismPhysicsFunctions {
         @Override
         public float getValue(
             CubismVector2 translation,
-            List<CubismPhysicsInternal.CubismPhysicsParticle> particles,
+            CubismPhysicsInternal.CubismPhysicsParticles particles,
             int baseParticleIndex,
             int particleIndex,
             boolean isInverted,
             CubismVector2 parentGravity
         ) {
             float outputValue;
-            tmpGravity.x = parentGravity.x;
-            tmpGravity.y = parentGravity.y;
+            float gravityX;
+            float gravityY;
 
             if (particleIndex >= 2) {
-                tmpGravity.x = particles.get(baseParticleIndex + particleIndex - 1).position.x - particles.get(baseParticleIndex + particleIndex - 2).position.x;
-                tmpGravity.y = particles.get(baseParticleIndex + particleIndex - 1).position.y - particles.get(baseParticleIndex + particleIndex - 2).position.y;
-
+                final int index = baseParticleIndex + particleIndex;
+                gravityX = particles.positionX[index - 1] - particles.positionX[index - 2];
+                gravityY = particles.positionY[index - 1] - particles.positionY[index - 2];
             } else {
-                tmpGravity.multiply(-1.0f);
+                gravityX = parentGravity.x * -1.0f;
+                gravityY = parentGravity.y * -1.0f;
             }
 
-            outputValue = CubismMath.directionToRadian(tmpGravity, translation);
+            outputValue = CubismMath.directionToRadian(gravityX, gravityY, translation.x, translation.y);
 
             if (isInverted) {
                 outputValue *= -1.0f;
@@ -176,8 +175,6 @@ class CubismPhysicsFunctions {
         }
     }
 
-    private static final CubismVector2 tmpGravity = new CubismVector2();
-
     public static class GetOutputScaleTranslationX implements PhysicsScaleGetter {
         @Override
         public float getScale(CubismVector2 translationScale, float angleScale) {
@@ -92,49 +92,89 @@ public class CubismPhysicsInternal {
     }
 
     /**
-     * Information on a particle used for physics operations.
+     * Information on the particles used for physics operations.
+     * <p>
+     * Each property of the particles is stored in its own array, in the order of the sub-rigs.
+     * A sub-rig uses the window of the arrays starting at its baseParticleIndex with the length of its particleCount,
+     * so the pendulum calculation reads and writes contiguous memory without dereferencing particle objects.
      */
-    public static class CubismPhysicsParticle {
+    public static class CubismPhysicsParticles {
+        /**
+         * Constructor
+         *
+         * @param count number of particles
+         */
+        public CubismPhysicsParticles(int count) {
+            this.count = count;
+
+            initialPositionX = new float[count];
+            initialPositionY = new float[count];
+            mobility = new float[count];
+            delay = new float[count];
+            acceleration = new float[count];
+            radius = new float[count];
+            positionX = new float[count];
+            positionY = new float[count];
+            lastPositionX = new float[count];
+            lastPositionY = new float[count];
+            lastGravityX = new float[count];
+            lastGravityY = new float[count];
+            forceX = new float[count];
+            forceY = new float[count];
+            velocityX = new float[count];
+            velocityY = new float[count];
+        }
+
+        /**
+         * Number of particles
+         */
+        public final int count;
         /**
          * Initial position
          */
-        public CubismVector2 initialPosition = new CubismVector2();
+        public final float[] initialPositionX;
+        public final float[] initialPositionY;
         /**
          * Mobility
          */
-        public float mobility;
+        public final float[] mobility;
         /**
          * Delay
          */
-        public float delay;
+        public final float[] delay;
         /**
          * Acceleration
          */
-        public float acceleration;
+        public final float[] acceleration;
         /**
          * Distance
          */
-        public float radius;
+        public final float[] radius;
         /**
          * Current position
          */
-        public CubismVector2 position = new CubismVector2();
+        public final float[] positionX;
+        public final float[] positionY;
         /**
          * Last position
          */
-        public CubismVector2 lastPosition = new CubismVector2();
+        public final float[] lastPositionX;
+        public final float[] lastPositionY;
         /**
          * Last gravity
          */
-        public CubismVector2 lastGravity = new CubismVector2();
+        public final float[] lastGravityX;
+        public final float[] lastGravityY;
         /**
          * Current force
          */
-        public CubismVector2 force = new CubismVector2();
+        public final float[] forceX;
+        public final float[] forceY;
         /**
          * Current velocity
          */
-        public CubismVector2 velocity = new CubismVector2();
+        public final float[] velocityX;
+        public final float[] velocityY;
     }
 
     /**
@@ -280,9 +320,9 @@ public class CubismPhysicsInternal {
          */
         public List<CubismPhysicsOutput> outputs = new ArrayList<CubismPhysicsOutput>();
         /**
-         * List of particles for physics operation
+         * Particles for physics operation
          */
-        public List<CubismPhysicsParticle> particles = new ArrayList<CubismPhysicsParticle>();
+        public CubismPhysicsParticles particles = new CubismPhysicsParticles(0);
         /**
          * Gravity
          */
@@ -337,15 +377,16 @@ public class CubismPhysicsInternal {
          * Get values of physics operations.
          *
          * @param transition a transition value
-         * @param particles a particles list
-         * @param particleIndex a particle index
+         * @param particles particles of the rig
+         * @param baseParticleIndex first particle index of the sub-rig
+         * @param particleIndex a particle index in the sub-rig
          * @param isInverted Whether the value is inverted
          * @param parentGravity a gravity
          * @return the value
          */
         float getValue(
             CubismVector2 transition,
-            List<CubismPhysicsParticle> particles,
+            CubismPhysicsParticles particles,
             int baseParticleIndex,
             int particleIndex,
             boolean isInverted,
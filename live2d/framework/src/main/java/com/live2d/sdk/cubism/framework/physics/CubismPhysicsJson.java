@@ -9,6 +9,7 @@ package com.live2d.sdk.cubism.framework.physics;
 
 import com.live2d.sdk.cubism.framework.CubismFramework;
 import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
 import com.live2d.sdk.cubism.framework.math.CubismVector2;
 import com.live2d.sdk.cubism.framework.utils.jsonparser.CubismJson;
 
@@ -22,7 +23,19 @@ public class CubismPhysicsJson {
      * @param buffer a buffer where physics3.json is loaded.
      */
     public CubismPhysicsJson(final byte[] buffer) {
-        json = CubismJson.create(buffer);
+        this(buffer, CubismFramework.getIdManager());
+    }
+
+    /**
+     * Constructor
+     * The parameter IDs are registered to the given ID manager instead of the one of CubismFramework.
+     *
+     * @param buffer a buffer where physics3.json is loaded.
+     * @param idManager an ID manager which creates the parameter IDs
+     */
+    public CubismPhysicsJson(final byte[] buffer, final CubismIdManager idManager) {
+        json = CubismJson.createLazy(buffer);
+        this.idManager = idManager;
     }
 
     /**
@@ -212,7 +225,7 @@ public class CubismPhysicsJson {
      * @return the input destination ID
      */
     public CubismId getInputSourceId(int physicsSettingIndex, int inputIndex) {
-        return CubismFramework.getIdManager().getId(json.getRoot().get(JsonKey.PHYSICS_SETTINGS.key).get(physicsSettingIndex).get(JsonKey.INPUT.key).get(inputIndex).get(JsonKey.SOURCE.key).get(JsonKey.ID.key).getString());
+        return idManager.getId(json.getRoot().get(JsonKey.PHYSICS_SETTINGS.key).get(physicsSettingIndex).get(JsonKey.INPUT.key).get(inputIndex).get(JsonKey.SOURCE.key).get(JsonKey.ID.key).getString());
     }
 
     /**
@@ -266,7 +279,7 @@ public class CubismPhysicsJson {
      * @return the output destination ID
      */
     public CubismId getOutputsDestinationId(int physicsSettingIndex, int outputIndex) {
-        return CubismFramework.getIdManager().getId(json.getRoot().get(JsonKey.PHYSICS_SETTINGS.key).get(physicsSettingIndex).get(JsonKey.OUTPUT.key).get(outputIndex).get(JsonKey.DESTINATION.key).get(JsonKey.ID.key).getString());
+        return idManager.getId(json.getRoot().get(JsonKey.PHYSICS_SETTINGS.key).get(physicsSettingIndex).get(JsonKey.OUTPUT.key).get(outputIndex).get(JsonKey.DESTINATION.key).get(JsonKey.ID.key).getString());
     }
 
     /**
@@ -415,10 +428,15 @@ public class CubismPhysicsJson {
 
     private CubismPhysicsJson(CubismJson json) {
         this.json = json;
+        idManager = CubismFramework.getIdManager();
     }
 
     /**
      * physics3.json data
      */
     private final CubismJson json;
+    /**
+     * ID manager which creates the parameter IDs
+     */
+    private final CubismIdManager idManager;
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.id.CubismId;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.CubismPhysicsOutput;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.CubismPhysicsRig;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysicsInternal.CubismPhysicsSubRig;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Level-of-detail governor of CubismPhysics.
+ * <p>
+ * The governor decides the update interval of each sub-rig in pendulum steps.
+ * The degradation level is the sum of the coverage level, which rises as the model gets smaller on screen,
+ * and the pressure level, which rises while the evaluation time exceeds the frame-time budget.
+ * A sub-rig is updated every 2^(degradation level - priority) steps, and is skipped when that exponent reaches SKIP_LEVEL.
+ * A sub-rig whose output parameters are all invisible is always skipped.
+ */
+class CubismPhysicsLodGovernor {
+    /**
+     * Update interval of a skipped sub-rig
+     */
+    static final int SKIPPED_INTERVAL = 0;
+    /**
+     * Maximum number of pendulum steps integrated at once by a sub-rig.
+     * A sub-rig resumed after it has been skipped does not integrate the whole skipped time.
+     */
+    static final int MAXIMUM_INTEGRATED_STEPS = 8;
+
+    /**
+     * Reset the governor for the rig.
+     *
+     * @param subRigCount number of sub-rigs
+     */
+    void reset(int subRigCount) {
+        priorities = new int[subRigCount];
+        intervals = new int[subRigCount];
+        Arrays.fill(intervals, 1);
+        pressureLevel = 0;
+        averageEvaluateTime = 0.0f;
+        overBudgetFrameCount = 0;
+        underBudgetFrameCount = 0;
+        isVisibilityDirty = true;
+    }
+
+    void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    boolean isEnabled() {
+        return isEnabled;
+    }
+
+    void setScreenCoverage(float coverage) {
+        screenCoverage = Math.max(0.0f, Math.min(1.0f, coverage));
+    }
+
+    void setFrameTimeBudget(float seconds) {
+        frameTimeBudget = Math.max(0.0f, seconds);
+        pressureLevel = 0;
+        overBudgetFrameCount = 0;
+        underBudgetFrameCount = 0;
+    }
+
+    void setPriority(int settingIndex, int priority) {
+        priorities[settingIndex] = priority;
+    }
+
+    void setParameterVisible(CubismId parameterId, boolean isVisible) {
+        if (isVisible) {
+            hiddenParameterIds.remove(parameterId);
+        } else {
+            hiddenParameterIds.add(parameterId);
+        }
+        isVisibilityDirty = true;
+    }
+
+    /**
+     * Decide the update interval of each sub-rig.
+     * The parameter indices of the outputs must have been resolved.
+     *
+     * @param rig physics rig
+     * @param parameterCount number of parameters existing in the model
+     * @param metrics metrics which the decision is written to
+     */
+    void decide(CubismPhysicsRig rig, int parameterCount, CubismPhysics.LodMetrics metrics) {
+        if (isVisibilityDirty || invisibleSubRigs == null) {
+            updateInvisibleSubRigs(rig, parameterCount);
+        }
+
+        final int coverageLevel = isEnabled ? getCoverageLevel() : 0;
+        final int degradationLevel = isEnabled ? coverageLevel + pressureLevel : 0;
+        int fullRateCount = 0;
+        int reducedRateCount = 0;
+        int skippedCount = 0;
+
+        for (int settingIndex = 0; settingIndex < rig.subRigCount; settingIndex++) {
+            final int level = degradationLevel - priorities[settingIndex];
+
+            if (!isEnabled || level <= 0 && !invisibleSubRigs[settingIndex]) {
+                intervals[settingIndex] = 1;
+                fullRateCount++;
+            } else if (level >= SKIP_LEVEL || invisibleSubRigs[settingIndex]) {
+                intervals[settingIndex] = SKIPPED_INTERVAL;
+                skippedCount++;
+            } else {
+                intervals[settingIndex] = 1 << level;
+                reducedRateCount++;
+            }
+        }
+
+        metrics.coverageLevel = coverageLevel;
+        metrics.pressureLevel = isEnabled ? pressureLevel : 0;
+        metrics.degradationLevel = degradationLevel;
+        metrics.fullRateSubRigCount = fullRateCount;
+        metrics.reducedRateSubRigCount = reducedRateCount;
+        metrics.skippedSubRigCount = skippedCount;
+    }
+
+    /**
+     * Get the update interval of the sub-rig decided last.
+     *
+     * @param settingIndex index of the sub-rig
+     * @return update interval in pendulum steps. SKIPPED_INTERVAL if the sub-rig is skipped.
+     */
+    int getInterval(int settingIndex) {
+        return intervals[settingIndex];
+    }
+
+    /**
+     * Record the time taken by one evaluation and update the pressure level.
+     *
+     * @param seconds evaluation time[s]
+     * @param metrics metrics which the time is written to
+     */
+    void recordEvaluateTime(float seconds, CubismPhysics.LodMetrics metrics) {
+        averageEvaluateTime += (seconds - averageEvaluateTime) * AVERAGE_SMOOTHING;
+        metrics.averageEvaluateTime = averageEvaluateTime;
+
+        if (!isEnabled || frameTimeBudget <= 0.0f) {
+            pressureLevel = 0;
+            return;
+        }
+
+        if (averageEvaluateTime > frameTimeBudget) {
+            underBudgetFrameCount = 0;
+            if (++overBudgetFrameCount >= RAISE_PRESSURE_FRAME_COUNT && pressureLevel < MAXIMUM_PRESSURE_LEVEL) {
+                pressureLevel++;
+                overBudgetFrameCount = 0;
+            }
+        } else if (averageEvaluateTime < frameTimeBudget * RELEASE_PRESSURE_RATIO) {
+            overBudgetFrameCount = 0;
+            if (++underBudgetFrameCount >= RELEASE_PRESSURE_FRAME_COUNT && pressureLevel > 0) {
+                pressureLevel--;
+                underBudgetFrameCount = 0;
+            }
+        } else {
+            overBudgetFrameCount = 0;
+            underBudgetFrameCount = 0;
+        }
+    }
+
+    private int getCoverageLevel() {
+        for (int level = 0; level < COVERAGE_THRESHOLDS.length; level++) {
+            if (screenCoverage >= COVERAGE_THRESHOLDS[level]) {
+                return level;
+            }
+        }
+        return COVERAGE_THRESHOLDS.length;
+    }
+
+    // A sub-rig is invisible if none of its outputs moves a parameter existing in the model and not hidden by the user.
+    private void updateInvisibleSubRigs(CubismPhysicsRig rig, int parameterCount) {
+        invisibleSubRigs = new boolean[rig.subRigCount];
+
+        for (int settingIndex = 0; settingIndex < rig.subRigCount; settingIndex++) {
+            final CubismPhysicsSubRig setting = rig.settings.get(settingIndex);
+            boolean isInvisible = true;
+
+            for (int i = 0; i < setting.outputCount && isInvisible; i++) {
+                final CubismPhysicsOutput output = rig.outputs.get(setting.baseOutputIndex + i);
+
+                if (output.destinationParameterIndex < 0 || output.destinationParameterIndex >= parameterCount) {
+                    continue;
+                }
+                isInvisible = hiddenParameterIds.contains(output.destination.Id);
+            }
+            invisibleSubRigs[settingIndex] = isInvisible && setting.outputCount > 0;
+        }
+        isVisibilityDirty = false;
+    }
+
+    /**
+     * Minimum screen coverage of each coverage level
+     */
+    private static final float[] COVERAGE_THRESHOLDS = {0.6f, 0.3f, 0.15f};
+    /**
+     * Level from which a sub-rig is skipped instead of updated less often
+     */
+    private static final int SKIP_LEVEL = 4;
+    /**
+     * Maximum pressure level
+     */
+    private static final int MAXIMUM_PRESSURE_LEVEL = 3;
+    /**
+     * Number of consecutive frames over the budget to raise the pressure level
+     */
+    private static final int RAISE_PRESSURE_FRAME_COUNT = 30;
+    /**
+     * Number of consecutive frames well under the budget to release the pressure level
+     */
+    private static final int RELEASE_PRESSURE_FRAME_COUNT = 120;
+    /**
+     * Ratio of the budget under which the evaluation time is regarded as well under the budget
+     */
+    private static final float RELEASE_PRESSURE_RATIO = 0.5f;
+    /**
+     * Smoothing factor of the exponential moving average of the evaluation time
+     */
+    private static final float AVERAGE_SMOOTHING = 0.1f;
+
+    private boolean isEnabled;
+    /**
+     * Ratio of the model size on screen to the size of the view. 1.0 means the model fills the view.
+     */
+    private float screenCoverage = 1.0f;
+    /**
+     * Budget of the evaluation time[s]. 0 means no budget.
+     */
+    private float frameTimeBudget;
+    private int pressureLevel;
+    private float averageEvaluateTime;
+    private int overBudgetFrameCount;
+    private int underBudgetFrameCount;
+
+    private int[] priorities = new int[0];
+    private int[] intervals = new int[0];
+    private boolean[] invisibleSubRigs;
+    private boolean isVisibilityDirty = true;
+    private final Set<CubismId> hiddenParameterIds = new HashSet<CubismId>();
+}
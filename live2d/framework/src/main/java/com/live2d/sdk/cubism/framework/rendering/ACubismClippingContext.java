@@ -89,6 +89,11 @@ public abstract class ACubismClippingContext {
      */
     public boolean isUsing;
 
+    /**
+     * 前回マスクを生成してから、マスクの元になる描画オブジェクトが変化していればtrue（初期値はtrue）
+     */
+    public boolean isDirty = true;
+
     /**
      * クリッピングマスクのIDの配列
      */
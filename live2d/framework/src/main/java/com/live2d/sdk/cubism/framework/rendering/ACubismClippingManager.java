@@ -18,7 +18,10 @@ import com.live2d.sdk.cubism.framework.type.csmRectF;
 
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * クリッピングマネージャーの抽象骨格クラス
@@ -30,6 +33,35 @@ public abstract class ACubismClippingManager<
     T_ClippingContext extends ACubismClippingContext,
     T_OffscreenSurface
     > implements Closeable, ICubismClippingManager {
+    /**
+     * マスクのIDの集合を表すキー
+     * IDを昇順に並べた配列で比較し、ハッシュ値は生成時に一度だけ計算する。
+     */
+    private static final class ClipSetKey {
+        ClipSetKey(int[] drawableMasks, int drawableMaskCounts) {
+            ids = Arrays.copyOf(drawableMasks, drawableMaskCounts);
+            Arrays.sort(ids);
+            hash = Arrays.hashCode(ids);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ClipSetKey)) return false;
+
+            ClipSetKey that = (ClipSetKey) o;
+            return hash == that.hash && Arrays.equals(ids, that.ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private final int[] ids;
+        private final int hash;
+    }
+
     /**
      * コンストラクタ
      */
@@ -67,6 +99,7 @@ public abstract class ACubismClippingManager<
     public void close() {
         clippingContextListForMask.clear();
         clippingContextListForDraw.clear();
+        clippingContextMap.clear();
 
         channelColors.clear();
 
@@ -100,7 +133,8 @@ public abstract class ACubismClippingManager<
             }
 
             // 既にあるClipContextと同じかチェックする。
-            T_ClippingContext cc = findSameClip(drawableMasks[i], drawableMaskCounts[i]);
+            ClipSetKey key = new ClipSetKey(drawableMasks[i], drawableMaskCounts[i]);
+            T_ClippingContext cc = clippingContextMap.get(key);
             if (cc == null) {
                 // 同一のマスクが存在していない場合は生成する。
                 cc = (T_ClippingContext) ACubismClippingContext.createClippingContext(
@@ -111,6 +145,7 @@ public abstract class ACubismClippingManager<
                 );
 
                 clippingContextListForMask.add(cc);
+                clippingContextMap.put(key, cc);
             }
 
             cc.addClippedDrawable(i);
@@ -120,6 +155,9 @@ public abstract class ACubismClippingManager<
 
     @Override
     public void setupMatrixForHighPrecision(CubismModel model, boolean isRightHanded) {
+        updateDirtyFlags(model);
+        rebuiltMaskCount = 0;
+
         // 全てのクリッピングを用意する。
         // 同じクリップ（複数の場合はまとめて1つのクリップ）を使う場合は1度だけ設定する。
         int usingClipCount = 0;
@@ -128,7 +166,10 @@ public abstract class ACubismClippingManager<
             T_ClippingContext cc = clippingContextListForMask.get(clipIndex);
 
             // このクリップを利用する描画オブジェクト群全体を囲む矩形を計算
-            calcClippedDrawTotalBounds(model, cc);
+            // 変化していなければ前回の矩形をそのまま使う。
+            if (cc.isDirty) {
+                calcClippedDrawTotalBounds(model, cc);
+            }
 
             if (cc.isUsing) {
                 usingClipCount++;   // 使用中としてカウント
@@ -158,6 +199,12 @@ public abstract class ACubismClippingManager<
         for (int clipIndex = 0; clipIndex < clippingContextListForMask.size(); clipIndex++) {
             // ---- 実際に1つのマスクを描く ----
             T_ClippingContext clipContext = clippingContextListForMask.get(clipIndex);
+
+            // 変化していなければ前回の行列をそのまま使う。
+            if (!clipContext.isDirty) {
+                continue;
+            }
+
             csmRectF allClippedDrawRect = clipContext.allClippedDrawRect;   // このマスクを使う、全ての描画オブジェクトの論理座標上の囲み矩形
             csmRectF layoutBoundsOnTex01 = clipContext.layoutBounds;    // このマスクを収める
 
@@ -190,6 +237,9 @@ public abstract class ACubismClippingManager<
 
             clipContext.matrixForMask.setMatrix(tmpMatrixForMask.getArray());
             clipContext.matrixForDraw.setMatrix(tmpMatrixForDraw.getArray());
+
+            clipContext.isDirty = false;
+            rebuiltMaskCount++;
         }
     }
 
@@ -417,43 +467,59 @@ public abstract class ACubismClippingManager<
         return channelColors.get(channelIndex);
     }
 
+    /**
+     * マスクのキャッシュを使用するかを設定する。
+     * 使用する場合、マスクの元になる描画オブジェクトが変化したクリッピングコンテキストだけ、
+     * 囲み矩形と行列を計算し直してマスクを描き直す。変化はモデルの直前の更新のフラグで判定するため、描画1回につきモデルの更新は1回である必要がある。
+     *
+     * @param enable マスクのキャッシュを使用するならtrue
+     */
+    public void isUsingMaskCache(boolean enable) {
+        isUsingMaskCache = enable;
+    }
+
+    /**
+     * マスクのキャッシュを使用するかを取得する。
+     *
+     * @return マスクのキャッシュを使用するならtrue
+     */
+    public boolean isUsingMaskCache() {
+        return isUsingMaskCache;
+    }
+
+    /**
+     * 全てのクリッピングコンテキストを変更ありとし、次の描画でマスクを作り直す。
+     * レンダーテクスチャが作り直された場合など、キャッシュされたマスクが使えなくなった場合に呼ぶ。
+     */
+    public void invalidateMasks() {
+        for (int i = 0; i < clippingContextListForMask.size(); i++) {
+            clippingContextListForMask.get(i).isDirty = true;
+        }
+    }
+
+    /**
+     * 直前のマスクの準備で作り直したマスクの数を取得する。
+     *
+     * @return 作り直したマスクの数
+     */
+    public int getRebuiltMaskCount() {
+        return rebuiltMaskCount;
+    }
+
     /**
      * 既にマスクを作っているかを確認する。
      * 作っているようであれば該当するクリッピングマスクのインスタンスを返す。
      * 作っていなければnullを返す。
      *
+     * IDの並び順は問わない。
+     *
      * @param drawableMasks      描画オブジェクトをマスクする描画オブジェクトのリスト
      * @param drawableMaskCounts 描画オブジェクトをマスクする描画オブジェクトの数
      * @return 該当するクリッピングマスクが存在すればインスタンスを返し、なければnullを返す。
      */
     public T_ClippingContext findSameClip(int[] drawableMasks, int drawableMaskCounts) {
         // 作成済みClippingContextと一致するか確認
-        for (int i = 0; i < clippingContextListForMask.size(); i++) {
-            T_ClippingContext clipContext = clippingContextListForMask.get(i);
-
-            final int count = clipContext.clippingIdCount;
-            if (count != drawableMaskCounts) {
-                // 個数が違う場合は別物
-                continue;
-            }
-            int sameCount = 0;
-
-            // 同じIDを持つか確認。配列の数が同じなので、一致した個数が同じなら同じ物を持つとする。
-            for (int j = 0; j < count; j++) {
-                final int clipId = clipContext.clippingIdList[j];
-                for (int k = 0; k < count; k++) {
-                    if (drawableMasks[k] == clipId) {
-                        sameCount++;
-                        break;
-                    }
-                }
-            }
-            if (sameCount == count) {
-                return clipContext;
-            }
-        }
-
-        return null;    // 見つからなかった。
+        return clippingContextMap.get(new ClipSetKey(drawableMasks, drawableMaskCounts));
     }
 
     /**
@@ -526,6 +592,46 @@ public abstract class ACubismClippingManager<
         }
     }
 
+    /**
+     * 直前のモデルの更新でマスクの元になる描画オブジェクトが変化したクリッピングコンテキストに、変更フラグを立てる。
+     * マスクの描画オブジェクトの頂点位置・不透明度・表示状態、またはマスクされる描画オブジェクトの頂点位置が変化していれば変更とみなす。
+     * マスクのキャッシュを使用しない場合は、全てのクリッピングコンテキストを変更ありとする。
+     *
+     * @param model モデルのインスタンス
+     */
+    protected void updateDirtyFlags(CubismModel model) {
+        for (int i = 0; i < clippingContextListForMask.size(); i++) {
+            T_ClippingContext cc = clippingContextListForMask.get(i);
+
+            if (!isUsingMaskCache || cc.isDirty) {
+                cc.isDirty = true;
+                continue;
+            }
+            cc.isDirty = isMaskSourceChanged(model, cc);
+        }
+    }
+
+    // This is only used by 'updateDirtyFlags' method.
+    private static boolean isMaskSourceChanged(CubismModel model, ACubismClippingContext clippingContext) {
+        for (int i = 0; i < clippingContext.clippingIdCount; i++) {
+            final int drawableIndex = clippingContext.clippingIdList[i];
+
+            if (model.getDrawableDynamicFlagVertexPositionsDidChange(drawableIndex)
+                || model.getDrawableDynamicFlagOpacityDidChange(drawableIndex)
+                || model.getDrawableDynamicFlagVisibilityDidChange(drawableIndex)) {
+                return true;
+            }
+        }
+
+        // マスクされる描画オブジェクトが動くと囲み矩形が変わり、マスクの行列も変わる。
+        for (int i = 0; i < clippingContext.clippedDrawableIndexList.size(); i++) {
+            if (model.getDrawableDynamicFlagVertexPositionsDidChange(clippingContext.clippedDrawableIndexList.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 画面描画に使用するクリッピングマスクのリストを取得する。
      *
@@ -556,6 +662,10 @@ public abstract class ACubismClippingManager<
      * 描画用クリッピングコンテキストのリスト
      */
     protected final List<T_ClippingContext> clippingContextListForDraw = new ArrayList<>();
+    /**
+     * マスクのIDの集合とマスク用クリッピングコンテキストのマップ
+     */
+    private final Map<ClipSetKey, T_ClippingContext> clippingContextMap = new HashMap<>();
     /**
      * クリッピングマスクのバッファサイズ（初期値：256）
      */
@@ -564,6 +674,14 @@ public abstract class ACubismClippingManager<
      * 生成するレンダーテクスチャの枚数
      */
     protected int renderTextureCount;
+    /**
+     * マスクのキャッシュを使用するか
+     */
+    protected boolean isUsingMaskCache;
+    /**
+     * 直前のマスクの準備で作り直したマスクの数
+     */
+    protected int rebuiltMaskCount;
 
     /**
      * 一時計算用行列
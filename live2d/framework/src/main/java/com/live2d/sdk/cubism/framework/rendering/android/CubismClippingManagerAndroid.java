@@ -9,6 +9,7 @@ package com.live2d.sdk.cubism.framework.rendering.android;
 
 import com.live2d.sdk.cubism.framework.model.CubismModel;
 import com.live2d.sdk.cubism.framework.rendering.ACubismClippingManager;
+import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
 import com.live2d.sdk.cubism.framework.type.csmRectF;
 
 import java.io.Closeable;
@@ -38,6 +39,9 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
      * @param lastViewport ビューポート
      */
     public void setupClippingContext(CubismModel model, CubismRendererAndroid renderer, int[] lastFBO, int[] lastViewport) {
+        updateDirtyFlags(model);
+        rebuiltMaskCount = 0;
+
         // Prepare all clipping.
         // Set only once when using the same clip (or a group of clips if there are multiple clips).
         int usingClipCount = 0;
@@ -45,7 +49,10 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
             CubismClippingContextAndroid clipContext = clippingContextListForMask.get(i);
 
             // Calculate the rectangle that encloses the entire group of drawing objects that use this clip.
-            calcClippedDrawTotalBounds(model, clipContext);
+            // If the mask sources have not changed, the last rectangle is used.
+            if (clipContext.isDirty) {
+                calcClippedDrawTotalBounds(model, clipContext);
+            }
 
             if (clipContext.isUsing) {
                 // Count as in use.
@@ -57,9 +64,30 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
             return;
         }
 
+        // The layout depends on the number of the masks in use, so all the masks are redrawn if it has changed.
+        if (usingClipCount != layoutUsingClipCount) {
+            invalidateMasks();
+            layoutUsingClipCount = usingClipCount;
+        }
+
+        int dirtyClipCount = 0;
+        for (int i = 0; i < clippingContextListForMask.size(); i++) {
+            if (clippingContextListForMask.get(i).isDirty) {
+                dirtyClipCount++;
+            }
+        }
+
+        // All the masks in the render textures are still valid.
+        if (dirtyClipCount == 0) {
+            return;
+        }
+
+        // If only some of the masks are redrawn, only their areas and channels are cleared instead of the whole render textures.
+        final boolean isClearingEachMask = dirtyClipCount < clippingContextListForMask.size();
+
         // Process of creating mask.
         // Set up a viewport with the same size as the generated MaskBuffer.
-        glViewport(0, 0, (int) clippingMaskBufferSize.x, (int) clippingMaskBufferSize.y);
+        gl.glViewport(0, 0, (int) clippingMaskBufferSize.x, (int) clippingMaskBufferSize.y);
 
         // 後の計算のためにインデックスの最初をセットする。
         currentMaskBuffer = renderer.getMaskBuffer(0);
@@ -90,6 +118,11 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
         for (int j = 0; j < clippingContextListForMask.size(); j++) {
             CubismClippingContextAndroid clipContext = clippingContextListForMask.get(j);
 
+            // The mask which has not changed is left in the render texture.
+            if (!clipContext.isDirty) {
+                continue;
+            }
+
             // The enclosing rectangle in logical coordinates of all drawing objects that use this mask.
             csmRectF allClippedDrawRect = clipContext.allClippedDrawRect;
             // Fit the mask in here.
@@ -133,24 +166,29 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
             clipContext.matrixForMask.setMatrix(tmpMatrixForMask);
             clipContext.matrixForDraw.setMatrix(tmpMatrixForDraw);
 
+            if (isClearingEachMask) {
+                clearMaskArea(renderer, clipContext);
+            }
+
             // 実際の描画を行う。
             final int clipDrawCount = clipContext.clippingIdCount;
             for (int i = 0; i < clipDrawCount; i++) {
                 final int clipDrawIndex = clipContext.clippingIdList[i];
 
                 // If vertex information is not updated and reliable, pass drawing.
-                if (!model.getDrawableDynamicFlagVertexPositionsDidChange(clipDrawIndex)) {
+                // When the masks are cached, the unchanged drawables are also drawn because the mask is not redrawn in the next frames.
+                if (!isUsingMaskCache && !model.getDrawableDynamicFlagVertexPositionsDidChange(clipDrawIndex)) {
                     continue;
                 }
 
                 renderer.isCulling(model.getDrawableCulling(clipDrawIndex));
 
                 // マスクがクリアされていないなら処理する。
-                if (!clearedMaskBufferFlags[clipContext.bufferIndex]) {
+                if (!isClearingEachMask && !clearedMaskBufferFlags[clipContext.bufferIndex]) {
                     // マスクをクリアする。
                     // (仮仕様) 1が無効（描かれない）領域、0が有効（描かれる）領域。（シェーダーCd*Csで0に近い値をかけてマスクを作る。1をかけると何も起こらない）
-                    glClearColor(1.0f, 1.0f, 1.0f, 1.0f);
-                    glClear(GL_COLOR_BUFFER_BIT);
+                    gl.glClearColor(1.0f, 1.0f, 1.0f, 1.0f);
+                    gl.glClear(GL_COLOR_BUFFER_BIT);
                     clearedMaskBufferFlags[clipContext.bufferIndex] = true;
                 }
 
@@ -163,6 +201,9 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
                     clipDrawIndex
                 );
             }
+
+            clipContext.isDirty = false;
+            rebuiltMaskCount++;
         }
 
         // --- Post Processing ---
@@ -170,6 +211,47 @@ class CubismClippingManagerAndroid extends ACubismClippingManager<
         currentMaskBuffer.endDraw();
         renderer.setClippingContextBufferForMask(null);
 
-        glViewport(lastViewport[0], lastViewport[1], lastViewport[2], lastViewport[3]);
+        gl.glViewport(lastViewport[0], lastViewport[1], lastViewport[2], lastViewport[3]);
     }
+
+    /**
+     * Clear only the area and the channel of the render texture assigned to the clipping context.
+     * The other masks in the same render texture are kept.
+     *
+     * @param renderer renderer instance
+     * @param clipContext clipping context whose mask is redrawn
+     */
+    private void clearMaskArea(CubismRendererAndroid renderer, CubismClippingContextAndroid clipContext) {
+        CubismGLStateCacheAndroid stateCache = renderer.getStateCache();
+        csmRectF bounds = clipContext.layoutBounds;
+
+        // The adjacent areas are rounded in the same way, so they neither overlap nor leave a gap.
+        final int left = Math.round(bounds.getX() * clippingMaskBufferSize.x);
+        final int bottom = Math.round(bounds.getY() * clippingMaskBufferSize.y);
+        final int right = Math.round(bounds.getRight() * clippingMaskBufferSize.x);
+        final int top = Math.round(bounds.getBottom() * clippingMaskBufferSize.y);
+
+        CubismRenderer.CubismTextureColor channel = getChannelFlagAsColor(clipContext.layoutChannelIndex);
+
+        stateCache.setCapability(GL_SCISSOR_TEST, true);
+        gl.glScissor(left, bottom, right - left, top - bottom);
+        stateCache.colorMask(channel.r > 0.0f, channel.g > 0.0f, channel.b > 0.0f, channel.a > 0.0f);
+
+        // 1が無効（描かれない）領域、0が有効（描かれる）領域。
+        gl.glClearColor(1.0f, 1.0f, 1.0f, 1.0f);
+        gl.glClear(GL_COLOR_BUFFER_BIT);
+
+        stateCache.colorMask(true, true, true, true);
+        stateCache.setCapability(GL_SCISSOR_TEST, false);
+    }
+
+    /**
+     * Number of the masks in use when the layout was determined
+     */
+    private int layoutUsingClipCount = -1;
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+
+import static android.opengl.GLES20.*;
+
+/**
+ * Class that groups the drawables which are consecutive in the render order and can share a draw call into batches.
+ * <p>
+ * The drawables in a batch have the same texture, blend mode and inverted mask flag, and their vertices are contiguous
+ * in the vertex buffer object of CubismDrawableInfoCachesHolder. Their indices are copied into an index buffer object
+ * in the render order, rebased to the first vertex of the batch, so that a range of consecutive members can be drawn
+ * by one glDrawElements call. The drawables are never reordered.
+ * </p>
+ * The plan depends only on the render order, so it is rebuilt only when the draw order or the render order has changed.
+ * The conditions which can change every frame (visibility, opacity, colors, culling and clipping context) are checked by the renderer.
+ */
+class CubismDrawBatchPlannerAndroid {
+    public CubismDrawBatchPlannerAndroid(CubismModel model) {
+        final int drawableCount = model.getDrawableCount();
+
+        int indexCount = 0;
+        for (int i = 0; i < drawableCount; i++) {
+            indexCount += model.getDrawableVertexIndexCount(i);
+        }
+
+        ByteBuffer bb = ByteBuffer.allocateDirect(indexCount * 2);
+        bb.order(ByteOrder.nativeOrder());
+        indexArray = bb.asShortBuffer();
+
+        sortedDrawableIndexList = new int[drawableCount];
+        indexBufferOffsets = new int[drawableCount];
+        batchStartPositions = new int[drawableCount + 1];
+        batchBaseDrawableIndices = new int[drawableCount];
+    }
+
+    /**
+     * Rebuild the plan if it has not been built yet or if the draw order or the render order has changed in the last update of the model,
+     * and transfer the rebased indices to the index buffer object.
+     *
+     * @param model model instance
+     * @param holder caches of the drawables which have the vertex buffer object
+     * @param stateCache shadow state of OpenGL of the renderer
+     * @return number of bytes transferred
+     */
+    public int update(CubismModel model, CubismDrawableInfoCachesHolder holder, CubismGLStateCacheAndroid stateCache) {
+        if (indexBufferId != 0 && !isOrderChanged(model)) {
+            return 0;
+        }
+
+        build(model, holder);
+
+        if (indexBufferId == 0) {
+            final int[] bufferIds = new int[1];
+            gl.glGenBuffers(1, bufferIds, 0);
+            indexBufferId = bufferIds[0];
+        }
+        stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, indexBufferId);
+        gl.glBufferData(GL_ELEMENT_ARRAY_BUFFER, indexArray.capacity() * 2, indexArray, GL_STATIC_DRAW);
+        rebuildCount++;
+
+        return indexArray.capacity() * 2;
+    }
+
+    /**
+     * Delete the index buffer object. The plan is rebuilt on the next update().
+     */
+    public void deleteBufferObject() {
+        if (indexBufferId == 0) {
+            return;
+        }
+        final int[] bufferIds = {indexBufferId};
+        gl.glDeleteBuffers(1, bufferIds, 0);
+        indexBufferId = 0;
+    }
+
+    public int getIndexBufferId() {
+        return indexBufferId;
+    }
+
+    public int getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Get the position in the render order of the first member of the batch.
+     * The members of the batch are from this position to the first position of the next batch.
+     *
+     * @param batchIndex index of the batch. getBatchCount() returns the first position after the last batch.
+     * @return position in the render order
+     */
+    public int getBatchStartPosition(int batchIndex) {
+        return batchStartPositions[batchIndex];
+    }
+
+    /**
+     * Get the drawable whose first vertex is the vertex 0 of the rebased indices of the batch.
+     *
+     * @param batchIndex index of the batch
+     * @return index of the drawable
+     */
+    public int getBatchBaseDrawableIndex(int batchIndex) {
+        return batchBaseDrawableIndices[batchIndex];
+    }
+
+    /**
+     * Get the drawable at the position in the render order.
+     *
+     * @param position position in the render order
+     * @return index of the drawable
+     */
+    public int getDrawableIndex(int position) {
+        return sortedDrawableIndexList[position];
+    }
+
+    /**
+     * Get the byte offset of the rebased indices of the drawable in the index buffer object.
+     *
+     * @param position position in the render order
+     * @return byte offset
+     */
+    public int getIndexBufferOffset(int position) {
+        return indexBufferOffsets[position];
+    }
+
+    /**
+     * Get the number of times the plan has been built.
+     *
+     * @return number of times
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    // This is only used by 'update' method.
+    private static boolean isOrderChanged(CubismModel model) {
+        for (int i = 0; i < model.getDrawableCount(); i++) {
+            if (model.getDrawableDynamicFlagDrawOrderDidChange(i)
+                || model.getDrawableDynamicFlagRenderOrderDidChange(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // This is only used by 'update' method.
+    private void build(CubismModel model, CubismDrawableInfoCachesHolder holder) {
+        final int drawableCount = sortedDrawableIndexList.length;
+        final int[] renderOrder = model.getDrawableRenderOrders();
+
+        // Sort the index by drawing order
+        for (int i = 0; i < drawableCount; i++) {
+            sortedDrawableIndexList[renderOrder[i]] = i;
+        }
+
+        indexArray.clear();
+        batchCount = 0;
+
+        int baseIndex = -1;
+        int previousIndex = -1;
+        for (int position = 0; position < drawableCount; position++) {
+            final int drawableIndex = sortedDrawableIndexList[position];
+
+            if (baseIndex < 0 || !canAppend(model, holder, baseIndex, previousIndex, drawableIndex)) {
+                batchStartPositions[batchCount] = position;
+                batchBaseDrawableIndices[batchCount] = drawableIndex;
+                batchCount++;
+                baseIndex = drawableIndex;
+            }
+
+            // Rebase the indices to the first vertex of the batch.
+            final int baseVertex = (holder.getVertexBufferOffset(drawableIndex) - holder.getVertexBufferOffset(baseIndex)) / VERTEX_BYTES;
+            final short[] indices = model.getDrawableVertexIndices(drawableIndex);
+
+            indexBufferOffsets[position] = indexArray.position() * 2;
+            for (int i = 0; i < model.getDrawableVertexIndexCount(drawableIndex); i++) {
+                indexArray.put((short) ((indices[i] & 0xFFFF) + baseVertex));
+            }
+
+            previousIndex = drawableIndex;
+        }
+        batchStartPositions[batchCount] = drawableCount;
+        indexArray.position(0);
+    }
+
+    // This is only used by 'build' method.
+    private static boolean canAppend(
+        CubismModel model,
+        CubismDrawableInfoCachesHolder holder,
+        int baseIndex,
+        int previousIndex,
+        int drawableIndex
+    ) {
+        if (model.getDrawableTextureIndex(drawableIndex) != model.getDrawableTextureIndex(baseIndex)
+            || model.getDrawableBlendMode(drawableIndex) != model.getDrawableBlendMode(baseIndex)
+            || model.getDrawableInvertedMask(drawableIndex) != model.getDrawableInvertedMask(baseIndex)) {
+            return false;
+        }
+
+        // The vertices must follow the ones of the previous member in the vertex buffer object.
+        final int previousEnd = holder.getVertexBufferOffset(previousIndex) + model.getDrawableVertexCount(previousIndex) * VERTEX_BYTES;
+        if (holder.getVertexBufferOffset(drawableIndex) != previousEnd) {
+            return false;
+        }
+
+        // The rebased indices must fit in GL_UNSIGNED_SHORT.
+        final int end = (previousEnd - holder.getVertexBufferOffset(baseIndex)) / VERTEX_BYTES
+            + model.getDrawableVertexCount(drawableIndex);
+        return end <= MAX_VERTEX_COUNT;
+    }
+
+    /**
+     * Number of bytes of a vertex position (and of a UV)
+     */
+    private static final int VERTEX_BYTES = Float.SIZE / Byte.SIZE * 2;
+    /**
+     * Maximum number of the vertices referenced by a batch
+     */
+    private static final int MAX_VERTEX_COUNT = 0x10000;
+
+    /**
+     * Rebased indices of all the drawables in the render order
+     */
+    private final ShortBuffer indexArray;
+    /**
+     * Drawable indices in the render order
+     */
+    private final int[] sortedDrawableIndexList;
+    /**
+     * Byte offset of the rebased indices of the drawable at each position of the render order
+     */
+    private final int[] indexBufferOffsets;
+    /**
+     * Position in the render order of the first member of each batch. The last element is the number of the drawables.
+     */
+    private final int[] batchStartPositions;
+    /**
+     * Drawable whose first vertex is the base of the rebased indices of each batch
+     */
+    private final int[] batchBaseDrawableIndices;
+    private int batchCount;
+    private int rebuildCount;
+
+    private int indexBufferId;
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
+}
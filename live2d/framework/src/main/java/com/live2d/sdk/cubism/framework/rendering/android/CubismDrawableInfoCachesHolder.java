@@ -7,8 +7,11 @@ import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.nio.ShortBuffer;
 
+import static android.opengl.GLES20.*;
+
 /**
  * Drawableの情報を格納するバッファをキャッシュし保持するクラス。
+ * UVとインデックスはモデルの実行中に変化しないため、生成時に一度だけ格納する。
  */
 class CubismDrawableInfoCachesHolder {
     public CubismDrawableInfoCachesHolder(CubismModel model) {
@@ -24,6 +27,8 @@ class CubismDrawableInfoCachesHolder {
         vertexArrayCaches = new FloatBuffer[drawableCount];
         uvArrayCaches = new FloatBuffer[drawableCount];
         indexArrayCaches = new ShortBuffer[drawableCount];
+        vertexBufferOffsets = new int[drawableCount];
+        indexBufferOffsets = new int[drawableCount];
 
         for (int i = 0; i < drawableCount; i++) {
             final int drawableIndex = sortedDrawableIndexList[i];
@@ -45,6 +50,8 @@ class CubismDrawableInfoCachesHolder {
                 ByteBuffer bb = ByteBuffer.allocateDirect(uvArray.length * 4);
                 bb.order(ByteOrder.nativeOrder());
                 FloatBuffer buffer = bb.asFloatBuffer();
+                buffer.put(uvArray);
+                buffer.position(0);
                 uvArrayCaches[drawableIndex] = buffer;
             }
 
@@ -52,11 +59,19 @@ class CubismDrawableInfoCachesHolder {
             {
                 short[] indexArray = model.getDrawableVertexIndices(drawableIndex);
 
-                ByteBuffer bb = ByteBuffer.allocateDirect(indexArray.length * 4);
+                ByteBuffer bb = ByteBuffer.allocateDirect(indexArray.length * 2);
                 bb.order(ByteOrder.nativeOrder());
                 ShortBuffer buffer = bb.asShortBuffer();
+                buffer.put(indexArray);
+                buffer.position(0);
                 indexArrayCaches[drawableIndex] = buffer;
             }
+
+            // GPUバッファ上の位置。頂点とUVは同じ並びで格納する。
+            vertexBufferOffsets[drawableIndex] = vertexBufferSize;
+            vertexBufferSize += vertexArrayCaches[drawableIndex].capacity() * 4;
+            indexBufferOffsets[drawableIndex] = indexBufferSize;
+            indexBufferSize += indexArrayCaches[drawableIndex].capacity() * 2;
         }
     }
 
@@ -77,35 +92,135 @@ class CubismDrawableInfoCachesHolder {
     }
 
     /**
-     * DrawableのUV情報をキャッシュされたバッファに入れて返す。
+     * DrawableのUV情報が格納されたバッファを返す。
      *
      * @param drawableIndex 取得したいDrawableのインデックス
-     * @param drawableVertexUvs DrawableのUV情報が入った配列
      * @return UV情報バッファ
      */
-    public FloatBuffer setUpUvArray(int drawableIndex, float[] drawableVertexUvs) {
-        FloatBuffer uvArray = uvArrayCaches[drawableIndex];
-        uvArray.clear();
-        uvArray.put(drawableVertexUvs);
-        uvArray.position(0);
-
-        return uvArray;
+    public FloatBuffer getUvArray(int drawableIndex) {
+        return uvArrayCaches[drawableIndex];
     }
 
     /**
-     * Drawableの頂点に対するポリゴンの対応番号をキャッシュされたバッファに入れて返す。
+     * Drawableの頂点に対するポリゴンの対応番号が格納されたバッファを返す。
      *
      * @param drawableIndex 取得したいDrawableのインデックス
-     * @param drawableIndices Drawableの頂点に対するポリゴンの対応番号の配列
      * @return 頂点に対するポリゴンの対応番号のバッファ
      */
-    public ShortBuffer setUpIndexArray(int drawableIndex, short[] drawableIndices) {
-        ShortBuffer indexArray = indexArrayCaches[drawableIndex];
-        indexArray.clear();
-        indexArray.put(drawableIndices);
-        indexArray.position(0);
+    public ShortBuffer getIndexArray(int drawableIndex) {
+        return indexArrayCaches[drawableIndex];
+    }
+
+    /**
+     * 頂点バッファオブジェクトとインデックスバッファオブジェクトを作成し、全てのDrawableの情報を転送する。
+     * UVとインデックスはこの一度だけ転送される。
+     *
+     * @param model 対象のモデル
+     * @param stateCache レンダラーのGLステートのキャッシュ
+     * @return 転送したバイト数
+     */
+    public int createBufferObjects(CubismModel model, CubismGLStateCacheAndroid stateCache) {
+        final int[] bufferIds = new int[3];
+        gl.glGenBuffers(3, bufferIds, 0);
+        vertexBufferId = bufferIds[0];
+        uvBufferId = bufferIds[1];
+        indexBufferId = bufferIds[2];
 
-        return indexArray;
+        stateCache.bindBuffer(GL_ARRAY_BUFFER, vertexBufferId);
+        gl.glBufferData(GL_ARRAY_BUFFER, vertexBufferSize, null, GL_DYNAMIC_DRAW);
+        stateCache.bindBuffer(GL_ARRAY_BUFFER, uvBufferId);
+        gl.glBufferData(GL_ARRAY_BUFFER, vertexBufferSize, null, GL_STATIC_DRAW);
+        stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, indexBufferId);
+        gl.glBufferData(GL_ELEMENT_ARRAY_BUFFER, indexBufferSize, null, GL_STATIC_DRAW);
+
+        for (int i = 0; i < vertexArrayCaches.length; i++) {
+            final FloatBuffer vertexArray = setUpVertexArray(i, model.getDrawableVertices(i));
+            final int vertexBytes = vertexArray.capacity() * 4;
+            stateCache.bindBuffer(GL_ARRAY_BUFFER, vertexBufferId);
+            gl.glBufferSubData(GL_ARRAY_BUFFER, vertexBufferOffsets[i], vertexBytes, vertexArray);
+            stateCache.bindBuffer(GL_ARRAY_BUFFER, uvBufferId);
+            gl.glBufferSubData(GL_ARRAY_BUFFER, vertexBufferOffsets[i], vertexBytes, uvArrayCaches[i]);
+
+            gl.glBufferSubData(GL_ELEMENT_ARRAY_BUFFER, indexBufferOffsets[i], indexArrayCaches[i].capacity() * 2, indexArrayCaches[i]);
+        }
+
+        return vertexBufferSize * 2 + indexBufferSize;
+    }
+
+    /**
+     * 直前のモデルの更新で頂点位置が変化したDrawableだけ、頂点バッファオブジェクトを部分的に更新する。
+     * 頂点位置の変化は直前のCubismModel.update()のフラグで判定するため、描画1回につきモデルの更新は1回である必要がある。
+     *
+     * @param model 対象のモデル
+     * @param stateCache レンダラーのGLステートのキャッシュ
+     * @return 転送したバイト数
+     */
+    public int updateVertexBufferObject(CubismModel model, CubismGLStateCacheAndroid stateCache) {
+        int uploadedBytes = 0;
+
+        for (int i = 0; i < vertexArrayCaches.length; i++) {
+            if (!model.getDrawableDynamicFlagVertexPositionsDidChange(i)) {
+                continue;
+            }
+
+            stateCache.bindBuffer(GL_ARRAY_BUFFER, vertexBufferId);
+            final FloatBuffer vertexArray = setUpVertexArray(i, model.getDrawableVertices(i));
+            final int vertexBytes = vertexArray.capacity() * 4;
+            gl.glBufferSubData(GL_ARRAY_BUFFER, vertexBufferOffsets[i], vertexBytes, vertexArray);
+            uploadedBytes += vertexBytes;
+        }
+        return uploadedBytes;
+    }
+
+    /**
+     * 頂点バッファオブジェクトとインデックスバッファオブジェクトを削除する。
+     * 削除されたバッファのバインドは解除されるため、GLステートのキャッシュを無効化する必要がある。
+     */
+    public void deleteBufferObjects() {
+        if (!hasBufferObjects()) {
+            return;
+        }
+        final int[] bufferIds = {vertexBufferId, uvBufferId, indexBufferId};
+        gl.glDeleteBuffers(3, bufferIds, 0);
+        vertexBufferId = 0;
+        uvBufferId = 0;
+        indexBufferId = 0;
+    }
+
+    public boolean hasBufferObjects() {
+        return vertexBufferId != 0;
+    }
+
+    public int getVertexBufferId() {
+        return vertexBufferId;
+    }
+
+    public int getUvBufferId() {
+        return uvBufferId;
+    }
+
+    public int getIndexBufferId() {
+        return indexBufferId;
+    }
+
+    /**
+     * Drawableの頂点とUVの、バッファオブジェクト上のバイトオフセットを返す。
+     *
+     * @param drawableIndex Drawableのインデックス
+     * @return バイトオフセット
+     */
+    public int getVertexBufferOffset(int drawableIndex) {
+        return vertexBufferOffsets[drawableIndex];
+    }
+
+    /**
+     * Drawableのインデックスの、バッファオブジェクト上のバイトオフセットを返す。
+     *
+     * @param drawableIndex Drawableのインデックス
+     * @return バイトオフセット
+     */
+    public int getIndexBufferOffset(int drawableIndex) {
+        return indexBufferOffsets[drawableIndex];
     }
 
     /**
@@ -120,4 +235,30 @@ class CubismDrawableInfoCachesHolder {
      * Drawableの頂点に対するポリゴンの対応番号のキャッシュ配列
      */
     private final ShortBuffer[] indexArrayCaches;
+
+    /**
+     * 各Drawableの頂点とUVのバッファオブジェクト上のバイトオフセット
+     */
+    private final int[] vertexBufferOffsets;
+    /**
+     * 各Drawableのインデックスのバッファオブジェクト上のバイトオフセット
+     */
+    private final int[] indexBufferOffsets;
+    /**
+     * 頂点バッファオブジェクトのバイト数。UVのバッファオブジェクトも同じ大きさ。
+     */
+    private int vertexBufferSize;
+    /**
+     * インデックスバッファオブジェクトのバイト数
+     */
+    private int indexBufferSize;
+
+    private int vertexBufferId;
+    private int uvBufferId;
+    private int indexBufferId;
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import static android.opengl.GLES20.*;
+
+/**
+ * Class that keeps a shadow copy of the OpenGL ES 2.0 state set by the renderer and skips the calls which do not change it.
+ * The shadow state is unknown after invalidate(), and the first call for each state is always issued.
+ * The state changed by GL calls which do not go through this class must be invalidated.
+ */
+class CubismGLStateCacheAndroid {
+    public CubismGLStateCacheAndroid() {
+        invalidate();
+    }
+
+    /**
+     * Forget the shadow state.
+     * Call this method when the GL state may have been changed outside this class, e.g. at the start of a frame.
+     */
+    public void invalidate() {
+        program = UNKNOWN;
+        activeTexture = UNKNOWN;
+        for (int i = 0; i < textureBindings2D.length; i++) {
+            textureBindings2D[i] = UNKNOWN;
+        }
+        blendSrcRGB = UNKNOWN;
+        blendDstRGB = UNKNOWN;
+        blendSrcAlpha = UNKNOWN;
+        blendDstAlpha = UNKNOWN;
+        for (int i = 0; i < capabilities.length; i++) {
+            capabilities[i] = UNKNOWN;
+        }
+        frontFace = UNKNOWN;
+        arrayBufferBinding = UNKNOWN;
+        elementArrayBufferBinding = UNKNOWN;
+        for (int i = 0; i < vertexAttribArrays.length; i++) {
+            vertexAttribArrays[i] = UNKNOWN;
+        }
+        isColorMaskKnown = false;
+    }
+
+    /**
+     * Reset the counters of the issued and skipped calls.
+     */
+    public void resetCounters() {
+        issuedCallCount = 0;
+        skippedCallCount = 0;
+    }
+
+    public void useProgram(int program) {
+        if (this.program == program) {
+            skippedCallCount++;
+            return;
+        }
+        gl.glUseProgram(program);
+        this.program = program;
+        issuedCallCount++;
+    }
+
+    public void activeTexture(int texture) {
+        if (activeTexture == texture) {
+            skippedCallCount++;
+            return;
+        }
+        gl.glActiveTexture(texture);
+        activeTexture = texture;
+        issuedCallCount++;
+    }
+
+    /**
+     * Bind the texture to GL_TEXTURE_2D of the active texture unit.
+     * The bindings of the texture units which are not tracked and of the unknown active texture unit are always issued.
+     *
+     * @param texture texture name
+     */
+    public void bindTexture2D(int texture) {
+        final int unit = activeTexture - GL_TEXTURE0;
+
+        if (activeTexture == UNKNOWN || unit < 0 || unit >= textureBindings2D.length) {
+            gl.glBindTexture(GL_TEXTURE_2D, texture);
+            issuedCallCount++;
+            return;
+        }
+        if (textureBindings2D[unit] == texture) {
+            skippedCallCount++;
+            return;
+        }
+        gl.glBindTexture(GL_TEXTURE_2D, texture);
+        textureBindings2D[unit] = texture;
+        issuedCallCount++;
+    }
+
+    public void blendFuncSeparate(int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+        if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) {
+            skippedCallCount++;
+            return;
+        }
+        gl.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+        blendSrcRGB = srcRGB;
+        blendDstRGB = dstRGB;
+        blendSrcAlpha = srcAlpha;
+        blendDstAlpha = dstAlpha;
+        issuedCallCount++;
+    }
+
+    /**
+     * Enable or disable the capability.
+     * The capabilities other than GL_CULL_FACE, GL_BLEND, GL_SCISSOR_TEST, GL_STENCIL_TEST and GL_DEPTH_TEST are not tracked.
+     *
+     * @param capability capability
+     * @param isEnabled true if it is enabled
+     */
+    public void setCapability(int capability, boolean isEnabled) {
+        final int slot = getCapabilitySlot(capability);
+        final int state = isEnabled ? ENABLED : DISABLED;
+
+        if (slot >= 0) {
+            if (capabilities[slot] == state) {
+                skippedCallCount++;
+                return;
+            }
+            capabilities[slot] = state;
+        }
+
+        if (isEnabled) {
+            gl.glEnable(capability);
+        } else {
+            gl.glDisable(capability);
+        }
+        issuedCallCount++;
+    }
+
+    public void frontFace(int mode) {
+        if (frontFace == mode) {
+            skippedCallCount++;
+            return;
+        }
+        gl.glFrontFace(mode);
+        frontFace = mode;
+        issuedCallCount++;
+    }
+
+    /**
+     * Bind the buffer object. Only GL_ARRAY_BUFFER and GL_ELEMENT_ARRAY_BUFFER exist in OpenGL ES 2.0.
+     *
+     * @param target GL_ARRAY_BUFFER or GL_ELEMENT_ARRAY_BUFFER
+     * @param buffer buffer name
+     */
+    public void bindBuffer(int target, int buffer) {
+        if (target == GL_ARRAY_BUFFER) {
+            if (arrayBufferBinding == buffer) {
+                skippedCallCount++;
+                return;
+            }
+            arrayBufferBinding = buffer;
+        } else {
+            if (elementArrayBufferBinding == buffer) {
+                skippedCallCount++;
+                return;
+            }
+            elementArrayBufferBinding = buffer;
+        }
+        gl.glBindBuffer(target, buffer);
+        issuedCallCount++;
+    }
+
+    /**
+     * Enable or disable the vertex attribute array.
+     * The attribute arrays after the first four are not tracked.
+     *
+     * @param index index of the vertex attribute
+     * @param isEnabled true if it is enabled
+     */
+    public void setVertexAttribArray(int index, boolean isEnabled) {
+        final int state = isEnabled ? ENABLED : DISABLED;
+
+        if (index >= 0 && index < vertexAttribArrays.length) {
+            if (vertexAttribArrays[index] == state) {
+                skippedCallCount++;
+                return;
+            }
+            vertexAttribArrays[index] = state;
+        }
+
+        if (isEnabled) {
+            gl.glEnableVertexAttribArray(index);
+        } else {
+            gl.glDisableVertexAttribArray(index);
+        }
+        issuedCallCount++;
+    }
+
+    public void colorMask(boolean red, boolean green, boolean blue, boolean alpha) {
+        if (isColorMaskKnown
+            && colorMask[0] == red
+            && colorMask[1] == green
+            && colorMask[2] == blue
+            && colorMask[3] == alpha) {
+            skippedCallCount++;
+            return;
+        }
+        gl.glColorMask(red, green, blue, alpha);
+        colorMask[0] = red;
+        colorMask[1] = green;
+        colorMask[2] = blue;
+        colorMask[3] = alpha;
+        isColorMaskKnown = true;
+        issuedCallCount++;
+    }
+
+    /**
+     * Get the number of the calls issued to OpenGL since the last resetCounters().
+     *
+     * @return number of the issued calls
+     */
+    public int getIssuedCallCount() {
+        return issuedCallCount;
+    }
+
+    /**
+     * Get the number of the calls skipped because they do not change the state since the last resetCounters().
+     *
+     * @return number of the skipped calls
+     */
+    public int getSkippedCallCount() {
+        return skippedCallCount;
+    }
+
+    // This is only used by 'setCapability' method.
+    private static int getCapabilitySlot(int capability) {
+        switch (capability) {
+            case GL_CULL_FACE:
+                return 0;
+            case GL_BLEND:
+                return 1;
+            case GL_SCISSOR_TEST:
+                return 2;
+            case GL_STENCIL_TEST:
+                return 3;
+            case GL_DEPTH_TEST:
+                return 4;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Value of the state which is not known
+     */
+    private static final int UNKNOWN = -1;
+    private static final int DISABLED = 0;
+    private static final int ENABLED = 1;
+
+    /**
+     * Number of the texture units tracked. The renderer uses unit0 and unit1.
+     */
+    private static final int TRACKED_TEXTURE_UNIT_COUNT = 2;
+    /**
+     * Number of the vertex attribute arrays tracked
+     */
+    private static final int TRACKED_VERTEX_ATTRIB_ARRAY_COUNT = 4;
+
+    private int program;
+    private int activeTexture;
+    /**
+     * Texture bound to GL_TEXTURE_2D of each texture unit
+     */
+    private final int[] textureBindings2D = new int[TRACKED_TEXTURE_UNIT_COUNT];
+    private int blendSrcRGB;
+    private int blendDstRGB;
+    private int blendSrcAlpha;
+    private int blendDstAlpha;
+    /**
+     * States of GL_CULL_FACE, GL_BLEND, GL_SCISSOR_TEST, GL_STENCIL_TEST and GL_DEPTH_TEST
+     */
+    private final int[] capabilities = new int[5];
+    private int frontFace;
+    private int arrayBufferBinding;
+    private int elementArrayBufferBinding;
+    /**
+     * States of GL_VERTEX_ATTRIB_ARRAY_ENABLED of each vertex attribute
+     */
+    private final int[] vertexAttribArrays = new int[TRACKED_VERTEX_ATTRIB_ARRAY_COUNT];
+    private final boolean[] colorMask = new boolean[4];
+    private boolean isColorMaskKnown;
+
+    private int issuedCallCount;
+    private int skippedCallCount;
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
+}
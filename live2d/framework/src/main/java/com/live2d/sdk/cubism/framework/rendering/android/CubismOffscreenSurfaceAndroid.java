@@ -9,7 +9,6 @@ package com.live2d.sdk.cubism.framework.rendering.android;
 
 import com.live2d.sdk.cubism.framework.math.CubismVector2;
 
-import java.nio.IntBuffer;
 import java.util.Arrays;
 
 import static android.opengl.GLES20.*;
@@ -50,13 +49,13 @@ public class CubismOffscreenSurfaceAndroid {
 
         // Remember the back buffer surface.
         if (restoreFBO == null) {
-            glGetIntegerv(GL_FRAMEBUFFER_BINDING, IntBuffer.wrap(oldFBO));
+            gl.glGetIntegerv(GL_FRAMEBUFFER_BINDING, oldFBO, 0);
         } else {
             oldFBO = restoreFBO;
         }
 
         // Set the RenderTexture for the mask to active.
-        glBindFramebuffer(GL_FRAMEBUFFER, renderTexture[0]);
+        gl.glBindFramebuffer(GL_FRAMEBUFFER, renderTexture[0]);
     }
 
     /**
@@ -78,7 +77,7 @@ public class CubismOffscreenSurfaceAndroid {
         }
 
         // Return the drawing target.
-        glBindFramebuffer(GL_FRAMEBUFFER, oldFBO[0]);
+        gl.glBindFramebuffer(GL_FRAMEBUFFER, oldFBO[0]);
     }
 
     /**
@@ -91,8 +90,8 @@ public class CubismOffscreenSurfaceAndroid {
      * @param a α(0.0~1.0)
      */
     public void clear(final float r, final float g, final float b, final float a) {
-        glClearColor(r, g, b, a);
-        glClear(GL_COLOR_BUFFER_BIT);
+        gl.glClearColor(r, g, b, a);
+        gl.glClear(GL_COLOR_BUFFER_BIT);
     }
 
     /**
@@ -146,10 +145,10 @@ public class CubismOffscreenSurfaceAndroid {
         // Create new offscreen surface
         if (colorBuffer == null) {
             this.colorBuffer = new int[1];
-            glGenTextures(1, this.colorBuffer, 0);
+            gl.glGenTextures(1, this.colorBuffer, 0);
 
-            glBindTexture(GL_TEXTURE_2D, this.colorBuffer[0]);
-            glTexImage2D(
+            gl.glBindTexture(GL_TEXTURE_2D, this.colorBuffer[0]);
+            gl.glTexImage2D(
                 GL_TEXTURE_2D,
                 0,
                 GL_RGBA,
@@ -159,11 +158,11 @@ public class CubismOffscreenSurfaceAndroid {
                 GL_RGBA,
                 GL_UNSIGNED_BYTE,
                 null);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
-            glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
-            glBindTexture(GL_TEXTURE_2D, 0);
+            gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+            gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+            gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+            gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+            gl.glBindTexture(GL_TEXTURE_2D, 0);
 
             isColorBufferInherited = false;
         }
@@ -175,12 +174,12 @@ public class CubismOffscreenSurfaceAndroid {
 
         int[] tmpFBO = new int[1];
 
-        glGetIntegerv(GL_FRAMEBUFFER_BINDING, tmpFBO, 0);
+        gl.glGetIntegerv(GL_FRAMEBUFFER_BINDING, tmpFBO, 0);
 
-        glGenFramebuffers(1, ret, 0);
-        glBindFramebuffer(GL_FRAMEBUFFER, ret[0]);
-        glFramebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, this.colorBuffer[0], 0);
-        glBindFramebuffer(GL_FRAMEBUFFER, tmpFBO[0]);
+        gl.glGenFramebuffers(1, ret, 0);
+        gl.glBindFramebuffer(GL_FRAMEBUFFER, ret[0]);
+        gl.glFramebufferTexture2D(GL_FRAMEBUFFER, GL_COLOR_ATTACHMENT0, GL_TEXTURE_2D, this.colorBuffer[0], 0);
+        gl.glBindFramebuffer(GL_FRAMEBUFFER, tmpFBO[0]);
 
         this.renderTexture = new int[1];
         this.renderTexture[0] = ret[0];
@@ -193,12 +192,12 @@ public class CubismOffscreenSurfaceAndroid {
      */
     public void destroyOffscreenSurface() {
         if (!isColorBufferInherited && (colorBuffer != null)) {
-            glDeleteTextures(1, colorBuffer, 0);
+            gl.glDeleteTextures(1, colorBuffer, 0);
             colorBuffer = null;
         }
 
         if (renderTexture != null) {
-            glDeleteFramebuffers(1, renderTexture, 0);
+            gl.glDeleteFramebuffers(1, renderTexture, 0);
             renderTexture = null;
         }
     }
@@ -308,4 +307,9 @@ public class CubismOffscreenSurfaceAndroid {
      * Whether the color buffer is the one set by the argument
      */
     private boolean isColorBufferInherited;
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
 }
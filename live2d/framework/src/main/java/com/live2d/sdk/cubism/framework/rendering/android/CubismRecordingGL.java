@@ -0,0 +1,820 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static android.opengl.GLES20.*;
+
+/**
+ * The implementation of ICubismGL which does not use a GPU.
+ * It keeps the GL state that the renderer sets and queries, and records the draw calls, the state changes and the uploaded bytes.
+ * Nothing is rendered.
+ * <p>
+ * Call beginFrame() before a frame and endFrame() after it to get the profile of the frame:
+ * </p>
+ * <pre>
+ * CubismRecordingGL gl = new CubismRecordingGL();
+ * CubismRendererAndroid.setGL(gl);
+ * // create the renderer and bind the textures here
+ * gl.beginFrame();
+ * renderer.drawModel();
+ * CubismRecordingGL.FrameProfile profile = gl.endFrame();
+ * </pre>
+ */
+public class CubismRecordingGL implements ICubismGL {
+    /**
+     * A recorded draw call.
+     */
+    public static class DrawCall {
+        /**
+         * Get the function name, glDrawElements or glDrawArrays.
+         *
+         * @return function name
+         */
+        public String getFunction() {
+            return function;
+        }
+
+        /**
+         * Get the number of the drawn indices or vertices.
+         *
+         * @return number of the indices or the vertices
+         */
+        public int getCount() {
+            return count;
+        }
+
+        public int getProgram() {
+            return program;
+        }
+
+        /**
+         * Get the texture bound to GL_TEXTURE_2D of texture unit0.
+         *
+         * @return texture name
+         */
+        public int getTexture0() {
+            return texture0;
+        }
+
+        public int getFramebuffer() {
+            return framebuffer;
+        }
+
+        public int getBlendSrcRGB() {
+            return blendSrcRGB;
+        }
+
+        public int getBlendDstRGB() {
+            return blendDstRGB;
+        }
+
+        /**
+         * Return whether the indices are read from a buffer object.
+         *
+         * @return true if the indices are read from a buffer object
+         */
+        public boolean isUsingElementArrayBuffer() {
+            return isUsingElementArrayBuffer;
+        }
+
+        private DrawCall(String function, int count, boolean isUsingElementArrayBuffer, CubismRecordingGL gl) {
+            this.function = function;
+            this.count = count;
+            this.isUsingElementArrayBuffer = isUsingElementArrayBuffer;
+            program = gl.program;
+            texture0 = gl.textureBindings2D[0];
+            framebuffer = gl.framebufferBinding;
+            blendSrcRGB = gl.blendFunc[0];
+            blendDstRGB = gl.blendFunc[1];
+        }
+
+        private final String function;
+        private final int count;
+        private final int program;
+        private final int texture0;
+        private final int framebuffer;
+        private final int blendSrcRGB;
+        private final int blendDstRGB;
+        private final boolean isUsingElementArrayBuffer;
+    }
+
+    /**
+     * The calls recorded between beginFrame() and endFrame().
+     */
+    public static class FrameProfile {
+        public int getDrawCallCount() {
+            return drawCalls.size();
+        }
+
+        /**
+         * Get the number of the indices and the vertices drawn by all the draw calls.
+         *
+         * @return number of the indices and the vertices
+         */
+        public int getDrawnCount() {
+            return drawnCount;
+        }
+
+        /**
+         * Get the number of the calls which set the state, e.g. binding, enabling and blending.
+         *
+         * @return number of the calls
+         */
+        public int getStateChangeCount() {
+            return stateChangeCount;
+        }
+
+        /**
+         * Get the number of the state-setting calls which did not change the state.
+         *
+         * @return number of the calls
+         */
+        public int getRedundantStateChangeCount() {
+            return redundantStateChangeCount;
+        }
+
+        public int getUniformCount() {
+            return uniformCount;
+        }
+
+        /**
+         * Get the number of the glGet and glIsEnabled calls, which stall the pipeline on a GPU.
+         *
+         * @return number of the calls
+         */
+        public int getQueryCount() {
+            return queryCount;
+        }
+
+        public int getClearCount() {
+            return clearCount;
+        }
+
+        /**
+         * Get the number of the uploads to buffer objects and textures.
+         *
+         * @return number of the uploads
+         */
+        public int getUploadCount() {
+            return uploadCount;
+        }
+
+        /**
+         * Get the number of the bytes uploaded to buffer objects and textures.
+         *
+         * @return number of the bytes
+         */
+        public long getUploadedBytes() {
+            return uploadedBytes;
+        }
+
+        /**
+         * Get the number of the bytes of the client-side vertex and index arrays, which are transferred on every draw call.
+         *
+         * @return number of the bytes
+         */
+        public long getClientArrayBytes() {
+            return clientArrayBytes;
+        }
+
+        /**
+         * Get the number of the calls of the function.
+         *
+         * @param function function name, e.g. "glUseProgram"
+         * @return number of the calls
+         */
+        public int getCallCount(String function) {
+            final int[] count = callCounts.get(function);
+            return count == null ? 0 : count[0];
+        }
+
+        /**
+         * Get the number of all the GL calls.
+         *
+         * @return number of the calls
+         */
+        public int getTotalCallCount() {
+            return totalCallCount;
+        }
+
+        /**
+         * Get the recorded draw calls in the order they were issued.
+         *
+         * @return draw calls
+         */
+        public List<DrawCall> getDrawCalls() {
+            return Collections.unmodifiableList(drawCalls);
+        }
+
+        /**
+         * Get the report of the frame.
+         *
+         * @return multi-line report
+         */
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder(512);
+
+            report.append("draw calls    : ").append(getDrawCallCount()).append(" (").append(drawnCount).append(" indices/vertices)\n");
+            report.append("state changes : ").append(stateChangeCount).append(" (").append(redundantStateChangeCount).append(" redundant)\n");
+            report.append("uniforms      : ").append(uniformCount).append('\n');
+            report.append("queries       : ").append(queryCount).append('\n');
+            report.append("clears        : ").append(clearCount).append('\n');
+            report.append("uploads       : ").append(uploadCount).append(" (").append(uploadedBytes).append(" bytes)\n");
+            report.append("client arrays : ").append(clientArrayBytes).append(" bytes\n");
+            report.append("total calls   : ").append(totalCallCount).append('\n');
+
+            Map<String, int[]> sortedCallCounts = new TreeMap<String, int[]>(callCounts);
+            for (Map.Entry<String, int[]> entry : sortedCallCounts.entrySet()) {
+                report.append("  ").append(entry.getKey()).append(" : ").append(entry.getValue()[0]).append('\n');
+            }
+            return report.toString();
+        }
+
+        private final List<DrawCall> drawCalls = new ArrayList<DrawCall>();
+        private final Map<String, int[]> callCounts = new HashMap<String, int[]>();
+        private int drawnCount;
+        private int stateChangeCount;
+        private int redundantStateChangeCount;
+        private int uniformCount;
+        private int queryCount;
+        private int clearCount;
+        private int uploadCount;
+        private long uploadedBytes;
+        private long clientArrayBytes;
+        private int totalCallCount;
+    }
+
+    /**
+     * Start recording a frame. The calls before it are recorded too, and they are discarded here.
+     */
+    public void beginFrame() {
+        frame = new FrameProfile();
+    }
+
+    /**
+     * Finish recording the frame.
+     *
+     * @return profile of the calls since the last beginFrame()
+     */
+    public FrameProfile endFrame() {
+        FrameProfile result = frame;
+        frame = new FrameProfile();
+        return result;
+    }
+
+    @Override
+    public void glActiveTexture(int texture) {
+        recordState("glActiveTexture", activeTexture == texture);
+        activeTexture = texture;
+    }
+
+    @Override
+    public void glAttachShader(int program, int shader) {
+        record("glAttachShader");
+    }
+
+    @Override
+    public void glBindBuffer(int target, int buffer) {
+        if (target == GL_ARRAY_BUFFER) {
+            recordState("glBindBuffer", arrayBufferBinding == buffer);
+            arrayBufferBinding = buffer;
+        } else {
+            recordState("glBindBuffer", elementArrayBufferBinding == buffer);
+            elementArrayBufferBinding = buffer;
+        }
+    }
+
+    @Override
+    public void glBindFramebuffer(int target, int framebuffer) {
+        recordState("glBindFramebuffer", framebufferBinding == framebuffer);
+        framebufferBinding = framebuffer;
+    }
+
+    @Override
+    public void glBindTexture(int target, int texture) {
+        final int unit = activeTexture - GL_TEXTURE0;
+
+        recordState("glBindTexture", textureBindings2D[unit] == texture);
+        textureBindings2D[unit] = texture;
+    }
+
+    @Override
+    public void glBlendFunc(int sfactor, int dfactor) {
+        glBlendFuncSeparate(sfactor, dfactor, sfactor, dfactor);
+    }
+
+    @Override
+    public void glBlendFuncSeparate(int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+        recordState(
+            "glBlendFuncSeparate",
+            blendFunc[0] == srcRGB && blendFunc[1] == dstRGB && blendFunc[2] == srcAlpha && blendFunc[3] == dstAlpha
+        );
+        blendFunc[0] = srcRGB;
+        blendFunc[1] = dstRGB;
+        blendFunc[2] = srcAlpha;
+        blendFunc[3] = dstAlpha;
+    }
+
+    @Override
+    public void glBufferData(int target, int size, Buffer data, int usage) {
+        record("glBufferData");
+        if (data != null) {
+            recordUpload(size);
+        }
+    }
+
+    @Override
+    public void glBufferSubData(int target, int offset, int size, Buffer data) {
+        record("glBufferSubData");
+        recordUpload(size);
+    }
+
+    @Override
+    public void glClear(int mask) {
+        record("glClear");
+        frame.clearCount++;
+    }
+
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        recordState("glClearColor", false);
+    }
+
+    @Override
+    public void glColorMask(boolean red, boolean green, boolean blue, boolean alpha) {
+        recordState(
+            "glColorMask",
+            colorMask[0] == red && colorMask[1] == green && colorMask[2] == blue && colorMask[3] == alpha
+        );
+        colorMask[0] = red;
+        colorMask[1] = green;
+        colorMask[2] = blue;
+        colorMask[3] = alpha;
+    }
+
+    @Override
+    public void glCompileShader(int shader) {
+        record("glCompileShader");
+    }
+
+    @Override
+    public int glCreateProgram() {
+        record("glCreateProgram");
+        return nextName++;
+    }
+
+    @Override
+    public int glCreateShader(int type) {
+        record("glCreateShader");
+        return nextName++;
+    }
+
+    @Override
+    public void glDeleteBuffers(int n, int[] buffers, int offset) {
+        record("glDeleteBuffers");
+        for (int i = 0; i < n; i++) {
+            if (arrayBufferBinding == buffers[offset + i]) {
+                arrayBufferBinding = 0;
+            }
+            if (elementArrayBufferBinding == buffers[offset + i]) {
+                elementArrayBufferBinding = 0;
+            }
+        }
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int n, int[] framebuffers, int offset) {
+        record("glDeleteFramebuffers");
+        for (int i = 0; i < n; i++) {
+            if (framebufferBinding == framebuffers[offset + i]) {
+                framebufferBinding = 0;
+            }
+        }
+    }
+
+    @Override
+    public void glDeleteProgram(int program) {
+        record("glDeleteProgram");
+    }
+
+    @Override
+    public void glDeleteShader(int shader) {
+        record("glDeleteShader");
+    }
+
+    @Override
+    public void glDeleteTextures(int n, int[] textures, int offset) {
+        record("glDeleteTextures");
+        for (int i = 0; i < n; i++) {
+            for (int unit = 0; unit < textureBindings2D.length; unit++) {
+                if (textureBindings2D[unit] == textures[offset + i]) {
+                    textureBindings2D[unit] = 0;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void glDetachShader(int program, int shader) {
+        record("glDetachShader");
+    }
+
+    @Override
+    public void glDisable(int cap) {
+        recordState("glDisable", !isCapabilityEnabled(cap));
+        capabilities.put(cap, false);
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int index) {
+        recordState("glDisableVertexAttribArray", !vertexAttribArrays[index]);
+        vertexAttribArrays[index] = false;
+    }
+
+    @Override
+    public void glDrawArrays(int mode, int first, int count) {
+        record("glDrawArrays");
+        frame.drawCalls.add(new DrawCall("glDrawArrays", count, false, this));
+        frame.drawnCount += count;
+    }
+
+    @Override
+    public void glDrawElements(int mode, int count, int type, Buffer indices) {
+        record("glDrawElements");
+        frame.drawCalls.add(new DrawCall("glDrawElements", count, false, this));
+        frame.drawnCount += count;
+        frame.clientArrayBytes += (long) count * getIndexSize(type);
+    }
+
+    @Override
+    public void glDrawElements(int mode, int count, int type, int offset) {
+        record("glDrawElements");
+        frame.drawCalls.add(new DrawCall("glDrawElements", count, true, this));
+        frame.drawnCount += count;
+    }
+
+    @Override
+    public void glEnable(int cap) {
+        recordState("glEnable", isCapabilityEnabled(cap));
+        capabilities.put(cap, true);
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int index) {
+        recordState("glEnableVertexAttribArray", vertexAttribArrays[index]);
+        vertexAttribArrays[index] = true;
+    }
+
+    @Override
+    public void glFramebufferTexture2D(int target, int attachment, int textarget, int texture, int level) {
+        record("glFramebufferTexture2D");
+    }
+
+    @Override
+    public void glFrontFace(int mode) {
+        recordState("glFrontFace", frontFace == mode);
+        frontFace = mode;
+    }
+
+    @Override
+    public void glGenBuffers(int n, int[] buffers, int offset) {
+        record("glGenBuffers");
+        generateNames(n, buffers, offset);
+    }
+
+    @Override
+    public void glGenFramebuffers(int n, int[] framebuffers, int offset) {
+        record("glGenFramebuffers");
+        generateNames(n, framebuffers, offset);
+    }
+
+    @Override
+    public void glGenTextures(int n, int[] textures, int offset) {
+        record("glGenTextures");
+        generateNames(n, textures, offset);
+    }
+
+    @Override
+    public int glGetAttribLocation(int program, String name) {
+        record("glGetAttribLocation");
+        return getLocation(program, name, true);
+    }
+
+    @Override
+    public void glGetBooleanv(int pname, boolean[] params, int offset) {
+        recordQuery("glGetBooleanv");
+        if (pname == GL_COLOR_WRITEMASK) {
+            System.arraycopy(colorMask, 0, params, offset, colorMask.length);
+        }
+    }
+
+    @Override
+    public void glGetIntegerv(int pname, int[] params, int offset) {
+        recordQuery("glGetIntegerv");
+        switch (pname) {
+            case GL_ARRAY_BUFFER_BINDING:
+                params[offset] = arrayBufferBinding;
+                break;
+            case GL_ELEMENT_ARRAY_BUFFER_BINDING:
+                params[offset] = elementArrayBufferBinding;
+                break;
+            case GL_CURRENT_PROGRAM:
+                params[offset] = program;
+                break;
+            case GL_ACTIVE_TEXTURE:
+                params[offset] = activeTexture;
+                break;
+            case GL_TEXTURE_BINDING_2D:
+                params[offset] = textureBindings2D[activeTexture - GL_TEXTURE0];
+                break;
+            case GL_FRONT_FACE:
+                params[offset] = frontFace;
+                break;
+            case GL_BLEND_SRC_RGB:
+                params[offset] = blendFunc[0];
+                break;
+            case GL_BLEND_DST_RGB:
+                params[offset] = blendFunc[1];
+                break;
+            case GL_BLEND_SRC_ALPHA:
+                params[offset] = blendFunc[2];
+                break;
+            case GL_BLEND_DST_ALPHA:
+                params[offset] = blendFunc[3];
+                break;
+            case GL_FRAMEBUFFER_BINDING:
+                params[offset] = framebufferBinding;
+                break;
+            case GL_VIEWPORT:
+                System.arraycopy(viewport, 0, params, offset, viewport.length);
+                break;
+            case GL_SCISSOR_BOX:
+                System.arraycopy(scissorBox, 0, params, offset, scissorBox.length);
+                break;
+            default:
+                params[offset] = 0;
+                break;
+        }
+    }
+
+    @Override
+    public String glGetProgramInfoLog(int program) {
+        recordQuery("glGetProgramInfoLog");
+        return "";
+    }
+
+    @Override
+    public void glGetProgramiv(int program, int pname, int[] params, int offset) {
+        recordQuery("glGetProgramiv");
+        // Linking and validation always succeed, and there is no log.
+        params[offset] = (pname == GL_INFO_LOG_LENGTH) ? 0 : GL_TRUE;
+    }
+
+    @Override
+    public String glGetShaderInfoLog(int shader) {
+        recordQuery("glGetShaderInfoLog");
+        return "";
+    }
+
+    @Override
+    public void glGetShaderiv(int shader, int pname, int[] params, int offset) {
+        recordQuery("glGetShaderiv");
+        // Compilation always succeeds, and there is no log.
+        params[offset] = (pname == GL_INFO_LOG_LENGTH) ? 0 : GL_TRUE;
+    }
+
+    @Override
+    public int glGetUniformLocation(int program, String name) {
+        record("glGetUniformLocation");
+        return getLocation(program, name, false);
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int index, int pname, int[] params, int offset) {
+        recordQuery("glGetVertexAttribiv");
+        params[offset] = (pname == GL_VERTEX_ATTRIB_ARRAY_ENABLED && vertexAttribArrays[index]) ? GL_TRUE : 0;
+    }
+
+    @Override
+    public boolean glIsEnabled(int cap) {
+        recordQuery("glIsEnabled");
+        return isCapabilityEnabled(cap);
+    }
+
+    @Override
+    public void glLinkProgram(int program) {
+        record("glLinkProgram");
+    }
+
+    @Override
+    public void glScissor(int x, int y, int width, int height) {
+        recordState("glScissor", scissorBox[0] == x && scissorBox[1] == y && scissorBox[2] == width && scissorBox[3] == height);
+        scissorBox[0] = x;
+        scissorBox[1] = y;
+        scissorBox[2] = width;
+        scissorBox[3] = height;
+    }
+
+    @Override
+    public void glShaderSource(int shader, String string) {
+        record("glShaderSource");
+    }
+
+    @Override
+    public void glTexImage2D(int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+        record("glTexImage2D");
+        if (pixels != null) {
+            recordUpload(getByteCount(pixels));
+        }
+    }
+
+    @Override
+    public void glTexParameterf(int target, int pname, float param) {
+        recordState("glTexParameterf", false);
+    }
+
+    @Override
+    public void glTexParameteri(int target, int pname, int param) {
+        recordState("glTexParameteri", false);
+    }
+
+    @Override
+    public void glUniform1i(int location, int x) {
+        recordUniform("glUniform1i");
+    }
+
+    @Override
+    public void glUniform4f(int location, float x, float y, float z, float w) {
+        recordUniform("glUniform4f");
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset) {
+        recordUniform("glUniformMatrix4fv");
+    }
+
+    @Override
+    public void glUseProgram(int program) {
+        recordState("glUseProgram", this.program == program);
+        this.program = program;
+    }
+
+    @Override
+    public void glValidateProgram(int program) {
+        record("glValidateProgram");
+    }
+
+    @Override
+    public void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, Buffer ptr) {
+        recordState("glVertexAttribPointer", false);
+        frame.clientArrayBytes += getByteCount(ptr);
+    }
+
+    @Override
+    public void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, int offset) {
+        recordState("glVertexAttribPointer", false);
+    }
+
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        recordState("glViewport", viewport[0] == x && viewport[1] == y && viewport[2] == width && viewport[3] == height);
+        viewport[0] = x;
+        viewport[1] = y;
+        viewport[2] = width;
+        viewport[3] = height;
+    }
+
+    private void record(String function) {
+        int[] count = frame.callCounts.get(function);
+        if (count == null) {
+            count = new int[1];
+            frame.callCounts.put(function, count);
+        }
+        count[0]++;
+        frame.totalCallCount++;
+    }
+
+    private void recordState(String function, boolean isRedundant) {
+        record(function);
+        frame.stateChangeCount++;
+        if (isRedundant) {
+            frame.redundantStateChangeCount++;
+        }
+    }
+
+    private void recordUniform(String function) {
+        record(function);
+        frame.uniformCount++;
+    }
+
+    private void recordQuery(String function) {
+        record(function);
+        frame.queryCount++;
+    }
+
+    private void recordUpload(long bytes) {
+        frame.uploadCount++;
+        frame.uploadedBytes += bytes;
+    }
+
+    private boolean isCapabilityEnabled(int cap) {
+        final Boolean isEnabled = capabilities.get(cap);
+        // GL_DITHER is the only capability enabled by default.
+        return isEnabled == null ? cap == GL_DITHER : isEnabled;
+    }
+
+    private void generateNames(int n, int[] names, int offset) {
+        for (int i = 0; i < n; i++) {
+            names[offset + i] = nextName++;
+        }
+    }
+
+    // Attributes and uniforms get a location in the order they are queried for each program.
+    private int getLocation(int program, String name, boolean isAttribute) {
+        final String key = program + (isAttribute ? ":a:" : ":u:") + name;
+        Integer location = locations.get(key);
+
+        if (location == null) {
+            location = isAttribute ? attributeCounts.get(program) : uniformCounts.get(program);
+            if (location == null) {
+                location = 0;
+            }
+            locations.put(key, location);
+            if (isAttribute) {
+                attributeCounts.put(program, location + 1);
+            } else {
+                uniformCounts.put(program, location + 1);
+            }
+        }
+        return location;
+    }
+
+    private static int getIndexSize(int type) {
+        switch (type) {
+            case GL_UNSIGNED_BYTE:
+                return 1;
+            case GL_UNSIGNED_SHORT:
+                return 2;
+            default:
+                return 4;
+        }
+    }
+
+    private static long getByteCount(Buffer buffer) {
+        if (buffer instanceof ByteBuffer) {
+            return buffer.remaining();
+        }
+        if (buffer instanceof ShortBuffer || buffer instanceof CharBuffer) {
+            return buffer.remaining() * 2L;
+        }
+        if (buffer instanceof LongBuffer || buffer instanceof DoubleBuffer) {
+            return buffer.remaining() * 8L;
+        }
+        return buffer.remaining() * 4L;
+    }
+
+    /**
+     * Number of the texture units and the vertex attributes which are emulated
+     */
+    private static final int MAX_UNIT_COUNT = 16;
+
+    private FrameProfile frame = new FrameProfile();
+
+    private int nextName = 1;
+    private final Map<String, Integer> locations = new HashMap<String, Integer>();
+    private final Map<Integer, Integer> attributeCounts = new HashMap<Integer, Integer>();
+    private final Map<Integer, Integer> uniformCounts = new HashMap<Integer, Integer>();
+
+    private int program;
+    private int activeTexture = GL_TEXTURE0;
+    private final int[] textureBindings2D = new int[MAX_UNIT_COUNT];
+    private int arrayBufferBinding;
+    private int elementArrayBufferBinding;
+    private int framebufferBinding;
+    private final int[] viewport = new int[4];
+    private final int[] scissorBox = new int[4];
+    private final int[] blendFunc = {GL_ONE, GL_ZERO, GL_ONE, GL_ZERO};
+    private final Map<Integer, Boolean> capabilities = new HashMap<Integer, Boolean>();
+    private int frontFace = GL_CCW;
+    private final boolean[] colorMask = {true, true, true, true};
+    private final boolean[] vertexAttribArrays = new boolean[MAX_UNIT_COUNT];
+}
@@ -26,6 +26,108 @@ import static com.live2d.sdk.cubism.framework.CubismFrameworkConfig.CSM_DEBUG;
  * The class that implements drawing instructions for Android.
  */
 public class CubismRendererAndroid extends CubismRenderer {
+    /**
+     * Statistics of the last drawn frame.
+     * The values are reset at the start of every drawModel().
+     */
+    public static class FrameStatistics {
+        /**
+         * Get the number of bytes of vertex data transferred to the GPU.
+         * In the client-side array mode the positions, UVs and indices of every drawn mesh are counted.
+         * In the buffer object mode only the creation of the buffers and the updated positions are counted.
+         *
+         * @return number of bytes
+         */
+        public int getUploadedBytes() {
+            return uploadedBytes;
+        }
+
+        /**
+         * Get the number of draw calls including the ones for the clipping masks.
+         *
+         * @return number of draw calls
+         */
+        public int getDrawCallCount() {
+            return drawCallCount;
+        }
+
+        /**
+         * Get the number of state-changing GL calls issued through the shadow state, including the restoration of the saved state.
+         *
+         * @return number of GL calls
+         */
+        public int getIssuedStateCallCount() {
+            return issuedStateCallCount;
+        }
+
+        /**
+         * Get the number of state-changing GL calls skipped because they did not change the shadow state.
+         *
+         * @return number of GL calls
+         */
+        public int getSkippedStateCallCount() {
+            return skippedStateCallCount;
+        }
+
+        /**
+         * Get the number of draw calls for the drawables on the screen, excluding the ones for the clipping masks.
+         * Without batching it is the same as the number of the drawn drawables.
+         *
+         * @return number of batches
+         */
+        public int getBatchCount() {
+            return batchCount;
+        }
+
+        /**
+         * Get the number of the drawables drawn on the screen.
+         *
+         * @return number of drawables
+         */
+        public int getDrawnDrawableCount() {
+            return drawnDrawableCount;
+        }
+
+        /**
+         * Return whether the batch plan has been rebuilt in the last frame.
+         *
+         * @return true if the batch plan has been rebuilt
+         */
+        public boolean isBatchPlanRebuilt() {
+            return isBatchPlanRebuilt;
+        }
+
+        /**
+         * Get the number of the clipping masks whose layout and matrices were recalculated.
+         * Without the high precision masks, only these masks were drawn again into the mask buffers.
+         *
+         * @return number of masks
+         */
+        public int getMaskRebuildCount() {
+            return maskRebuildCount;
+        }
+
+        void reset() {
+            uploadedBytes = 0;
+            drawCallCount = 0;
+            issuedStateCallCount = 0;
+            skippedStateCallCount = 0;
+            batchCount = 0;
+            drawnDrawableCount = 0;
+            isBatchPlanRebuilt = false;
+            maskRebuildCount = 0;
+        }
+
+        int uploadedBytes;
+        int drawCallCount;
+        int issuedStateCallCount;
+        int skippedStateCallCount;
+        int batchCount;
+        int drawnDrawableCount;
+        boolean isBatchPlanRebuilt;
+        int maskRebuildCount;
+    }
+
     /**
      * Create the renderer instance for Android platform.
      *
@@ -35,6 +137,29 @@ public class CubismRendererAndroid extends CubismRenderer {
         return new CubismRendererAndroid();
     }
 
+    /**
+     * Set the GL functions used by the renderer, the shaders and the offscreen surfaces.
+     * The instances created after this call use them. Call this method before creating any of them,
+     * and call reloadShader() if the shaders have already been created.
+     *
+     * @param gl GL functions. CubismGLES20 is used by default.
+     */
+    public static void setGL(ICubismGL gl) {
+        if (gl == null) {
+            throw new IllegalArgumentException("gl is null.");
+        }
+        s_gl = gl;
+    }
+
+    /**
+     * Get the GL functions used by the renderer.
+     *
+     * @return GL functions
+     */
+    public static ICubismGL getGL() {
+        return s_gl;
+    }
+
     /**
      * Release static resources that this renderer keeps.
      */
@@ -117,7 +242,111 @@ public class CubismRendererAndroid extends CubismRenderer {
             }
         }
 
+        if (drawableInfoCachesHolder != null) {
+            drawableInfoCachesHolder.deleteBufferObjects();
+        }
         drawableInfoCachesHolder = null;
+
+        if (batchPlanner != null) {
+            batchPlanner.deleteBufferObject();
+        }
+        batchPlanner = null;
+    }
+
+    /**
+     * Set whether the vertex data are kept in buffer objects on the GPU.
+     * If enabled, the UVs and the indices are transferred only once, and the positions are transferred only for the drawables
+     * whose positions have changed in the last update of the model.
+     * Therefore the model must be updated once for each drawing.
+     * The buffer objects are created and deleted on the next drawModel() call.
+     *
+     * @param enable true if the buffer objects are used
+     */
+    public void isUsingVertexBufferObject(boolean enable) {
+        isUsingVertexBufferObject = enable;
+    }
+
+    /**
+     * Return whether the vertex data are kept in buffer objects on the GPU.
+     *
+     * @return true if the buffer objects are used
+     */
+    public boolean isUsingVertexBufferObject() {
+        return isUsingVertexBufferObject;
+    }
+
+    /**
+     * Set whether the drawables which are consecutive in the render order and can share a draw call are drawn by one draw call.
+     * The drawables are grouped when they have the same texture, blend mode, culling, opacity, multiply color, screen color and clipping mask,
+     * and are never reordered. The grouping is planned again only when the draw order or the render order has changed.
+     * Batching works only with the vertex buffer objects and without the high precision masks.
+     *
+     * @param enable true if the drawables are batched
+     */
+    public void isUsingBatching(boolean enable) {
+        isUsingBatching = enable;
+    }
+
+    /**
+     * Return whether the drawables are batched.
+     *
+     * @return true if the drawables are batched
+     */
+    public boolean isUsingBatching() {
+        return isUsingBatching;
+    }
+
+    /**
+     * Set whether the clipping masks are kept in the mask buffers between frames.
+     * If enabled, a mask is drawn again only when the vertex positions, the opacity or the visibility of its mask drawables,
+     * or the vertex positions of the drawables clipped by it have changed in the last update of the model.
+     * Therefore the model must be updated once for each drawing.
+     * With the high precision masks, only the bounds and the matrices are cached because the masks are drawn for every drawable.
+     *
+     * @param enable true if the clipping masks are cached
+     */
+    public void isUsingClippingMaskCache(boolean enable) {
+        isUsingClippingMaskCache = enable;
+    }
+
+    /**
+     * Return whether the clipping masks are kept in the mask buffers between frames.
+     *
+     * @return true if the clipping masks are cached
+     */
+    public boolean isUsingClippingMaskCache() {
+        return isUsingClippingMaskCache;
+    }
+
+    /**
+     * Set whether the GL state just before drawing is saved and restored after drawing.
+     * Saving the state needs about 20 glGet calls, which stall the GPU pipeline.
+     * Disable it if the application owns the GL context and sets the program, the blend function, the active texture
+     * and the buffer bindings it needs by itself. Only the FBO and the viewport are queried then.
+     * After drawing, culling is disabled, the buffer bindings are reset to 0 and the active texture is reset to GL_TEXTURE0.
+     *
+     * @param enable true if the GL state is saved and restored. The default is true.
+     */
+    public void isSavingGLState(boolean enable) {
+        isSavingGLState = enable;
+    }
+
+    /**
+     * Return whether the GL state just before drawing is saved and restored after drawing.
+     *
+     * @return true if the GL state is saved and restored
+     */
+    public boolean isSavingGLState() {
+        return isSavingGLState;
+    }
+
+    /**
+     * Get the statistics of the last drawn frame.
+     *
+     * @return statistics. The instance is owned by this renderer and updated by every drawing.
+     */
+    public FrameStatistics getFrameStatistics() {
+        return frameStatistics;
     }
 
     /**
@@ -199,23 +428,99 @@ public class CubismRendererAndroid extends CubismRenderer {
     protected void drawMeshAndroid(
         final CubismModel model,
         final int index
+    ) {
+        if (!setupMeshAndroid(model, index)) {
+            return;
+        }
+
+        // Draw the prygon mesh
+        final int indexCount = model.getDrawableVertexIndexCount(index);
+        if (isUsingVertexBufferObject) {
+            stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, drawableInfoCachesHolder.getIndexBufferId());
+            gl.glDrawElements(
+                GL_TRIANGLES,
+                indexCount,
+                GL_UNSIGNED_SHORT,
+                drawableInfoCachesHolder.getIndexBufferOffset(index)
+            );
+        } else {
+            final ShortBuffer indexArrayBuffer = drawableInfoCachesHolder.getIndexArray(index);
+            stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+            gl.glDrawElements(
+                GL_TRIANGLES,
+                indexCount,
+                GL_UNSIGNED_SHORT,
+                indexArrayBuffer
+            );
+            frameStatistics.uploadedBytes += indexCount * 2;
+        }
+        frameStatistics.drawCallCount++;
+
+        // post-processing
+        // The program is left bound because the next mesh is likely to use the same one. It is restored in restoreProfile().
+        setClippingContextBufferForDraw(null);
+        setClippingContextBufferForMask(null);
+    }
+
+    // This is only used by 'drawMeshAndroid' method.
+    // Avoid creating a new CubismTextureColor instance.
+    private final CubismTextureColor modelColorRGBA = new CubismTextureColor();
+
+    /**
+     * Draw the consecutive members of a batch by one draw call.
+     * The uniforms are set from the first member, and the rebased indices are read from the index buffer object of the batch planner.
+     *
+     * @param model model instance
+     * @param index index of the first member
+     * @param indexBufferOffset byte offset of the indices of the first member
+     * @param indexCount total number of the indices of the members
+     */
+    private void drawBatchAndroid(
+        final CubismModel model,
+        final int index,
+        final int indexBufferOffset,
+        final int indexCount
+    ) {
+        if (!setupMeshAndroid(model, index)) {
+            return;
+        }
+
+        stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, batchPlanner.getIndexBufferId());
+        gl.glDrawElements(
+            GL_TRIANGLES,
+            indexCount,
+            GL_UNSIGNED_SHORT,
+            indexBufferOffset
+        );
+        frameStatistics.drawCallCount++;
+
+        // post-processing
+        setClippingContextBufferForDraw(null);
+    }
+
+    /**
+     * Set the culling and the shader program to draw the drawable.
+     *
+     * @param model model instance
+     * @param index index of the drawable
+     * @return false if the texture of the drawable is not bound and the drawing is skipped
+     */
+    private boolean setupMeshAndroid(
+        final CubismModel model,
+        final int index
     ) {
         if (!CSM_DEBUG) {
             // If the texture referenced by the model is not bound, skip drawing.
             if (textures.get(model.getDrawableTextureIndex(index)) == null) {
-                return;
+                return false;
             }
         }
 
         // Enabling/disabling culling
-        if (isCulling()) {
-            glEnable(GL_CULL_FACE);
-        } else {
-            glDisable(GL_CULL_FACE);
-        }
+        stateCache.setCapability(GL_CULL_FACE, isCulling());
 
         // In Cubism3 OpenGL, CCW becomes surface for both masks and art meshes.
-        glFrontFace(GL_CCW);
+        stateCache.frontFace(GL_CCW);
 
         // マスク生成時
         if (isGeneratingMask()) {
@@ -223,44 +528,153 @@ public class CubismRendererAndroid extends CubismRenderer {
         } else {
             CubismShaderAndroid.getInstance().setupShaderProgramForDraw(this, model, index);
         }
+        return true;
+    }
 
-        // Draw the prygon mesh
-        final int indexCount = model.getDrawableVertexIndexCount(index);
-        final ShortBuffer indexArrayBuffer = drawableInfoCachesHolder.setUpIndexArray(
-            index,
-            model.getDrawableVertexIndices(index)
-        );
-        glDrawElements(
-            GL_TRIANGLES,
-            indexCount,
-            GL_UNSIGNED_SHORT,
-            indexArrayBuffer
-        );
+    /**
+     * Draw the drawables on the screen according to the batch plan.
+     * In each batch, the visible members whose per-frame states are the same as the first one of the run are drawn together.
+     * A hidden member or a member with different states ends the run.
+     *
+     * @param model model instance
+     */
+    private void drawBatches(CubismModel model) {
+        for (int batch = 0; batch < batchPlanner.getBatchCount(); batch++) {
+            final int end = batchPlanner.getBatchStartPosition(batch + 1);
 
-        // post-processing
-        glUseProgram(0);
-        setClippingContextBufferForDraw(null);
-        setClippingContextBufferForMask(null);
+            batchBaseDrawableIndex = batchPlanner.getBatchBaseDrawableIndex(batch);
+
+            for (int position = batchPlanner.getBatchStartPosition(batch); position < end; position++) {
+                final int drawableIndex = batchPlanner.getDrawableIndex(position);
+
+                // If Drawable is not in the display state, the process is passed.
+                if (!model.getDrawableDynamicFlagIsVisible(drawableIndex)) {
+                    flushBatchRun(model);
+                    continue;
+                }
+
+                CubismClippingContextAndroid clipContext = (clippingManager != null)
+                    ? clippingManager.getClippingContextListForDraw().get(drawableIndex)
+                    : null;
+
+                if (batchRunHeadIndex >= 0 && !isSameBatchRunState(model, drawableIndex, clipContext)) {
+                    flushBatchRun(model);
+                }
+                if (batchRunHeadIndex < 0) {
+                    beginBatchRun(model, drawableIndex, clipContext, batchPlanner.getIndexBufferOffset(position));
+                }
+                batchRunIndexCount += model.getDrawableVertexIndexCount(drawableIndex);
+                frameStatistics.drawnDrawableCount++;
+            }
+            flushBatchRun(model);
+        }
+        batchBaseDrawableIndex = -1;
     }
 
-    // This is only used by 'drawMeshAndroid' method.
-    // Avoid creating a new CubismTextureColor instance.
-    private final CubismTextureColor modelColorRGBA = new CubismTextureColor();
+    // This is only used by 'drawBatches' method.
+    private void beginBatchRun(
+        CubismModel model,
+        int drawableIndex,
+        CubismClippingContextAndroid clipContext,
+        int indexBufferOffset
+    ) {
+        batchRunHeadIndex = drawableIndex;
+        batchRunClipContext = clipContext;
+        batchRunIndexBufferOffset = indexBufferOffset;
+        batchRunIndexCount = 0;
+        batchRunCulling = model.getDrawableCulling(drawableIndex);
+        batchRunOpacity = model.getDrawableOpacity(drawableIndex);
+
+        // The colors are copied because the model returns the same instance for every drawable.
+        CubismTextureColor multiplyColor = model.getMultiplyColor(drawableIndex);
+        batchRunColors[0] = multiplyColor.r;
+        batchRunColors[1] = multiplyColor.g;
+        batchRunColors[2] = multiplyColor.b;
+        batchRunColors[3] = multiplyColor.a;
+        CubismTextureColor screenColor = model.getScreenColor(drawableIndex);
+        batchRunColors[4] = screenColor.r;
+        batchRunColors[5] = screenColor.g;
+        batchRunColors[6] = screenColor.b;
+        batchRunColors[7] = screenColor.a;
+    }
+
+    // This is only used by 'drawBatches' method.
+    private boolean isSameBatchRunState(CubismModel model, int drawableIndex, CubismClippingContextAndroid clipContext) {
+        if (clipContext != batchRunClipContext
+            || model.getDrawableCulling(drawableIndex) != batchRunCulling
+            || model.getDrawableOpacity(drawableIndex) != batchRunOpacity) {
+            return false;
+        }
+
+        CubismTextureColor multiplyColor = model.getMultiplyColor(drawableIndex);
+        if (multiplyColor.r != batchRunColors[0]
+            || multiplyColor.g != batchRunColors[1]
+            || multiplyColor.b != batchRunColors[2]
+            || multiplyColor.a != batchRunColors[3]) {
+            return false;
+        }
+        CubismTextureColor screenColor = model.getScreenColor(drawableIndex);
+        return screenColor.r == batchRunColors[4]
+            && screenColor.g == batchRunColors[5]
+            && screenColor.b == batchRunColors[6]
+            && screenColor.a == batchRunColors[7];
+    }
+
+    // This is only used by 'drawBatches' method.
+    private void flushBatchRun(CubismModel model) {
+        if (batchRunHeadIndex < 0) {
+            return;
+        }
+
+        // クリッピングマスクをセットする
+        setClippingContextBufferForDraw(batchRunClipContext);
+
+        isCulling(batchRunCulling);
+
+        drawBatchAndroid(model, batchRunHeadIndex, batchRunIndexBufferOffset, batchRunIndexCount);
+        frameStatistics.batchCount++;
+
+        batchRunHeadIndex = -1;
+        batchRunClipContext = null;
+    }
+
+    // These are only used by 'drawBatches' method.
+    private int batchRunHeadIndex = -1;
+    private CubismClippingContextAndroid batchRunClipContext;
+    private int batchRunIndexBufferOffset;
+    private int batchRunIndexCount;
+    private boolean batchRunCulling;
+    private float batchRunOpacity;
+    private final float[] batchRunColors = new float[8];
 
     @Override
     protected void doDrawModel() {
         final CubismModel model = getModel();
 
+        setupVertexBufferObject(model);
+        final boolean isBatching = setupBatchPlanner(model);
+
         // In the case of clipping mask and buffer preprocessing method
         if (clippingManager != null) {
             preDraw();
 
+            clippingManager.isUsingMaskCache(isUsingClippingMaskCache);
+
+            // The high precision masks overwrite the mask buffer and use matrices calculated in another way.
+            if (isUsingHighPrecisionMask() != wasUsingHighPrecisionMask) {
+                clippingManager.invalidateMasks();
+                wasUsingHighPrecisionMask = isUsingHighPrecisionMask();
+            }
+
             // If offscreen frame buffer size is different from clipping mask buffer size, recreate it.
             for (int i = 0; i < clippingManager.getRenderTextureCount(); i++) {
                 CubismOffscreenSurfaceAndroid offscreenSurface = offscreenSurfaces[i];
 
                 if (!offscreenSurface.isSameSize(clippingManager.getClippingMaskBufferSize())) {
                     offscreenSurface.createOffscreenSurface(clippingManager.getClippingMaskBufferSize(), null);
+                    // The texture binding has been changed without the shadow state.
+                    stateCache.invalidate();
+                    clippingManager.invalidateMasks();
                 }
             }
 
@@ -274,11 +688,18 @@ public class CubismRendererAndroid extends CubismRenderer {
                     rendererProfile.lastViewport
                 );
             }
+            frameStatistics.maskRebuildCount = clippingManager.getRebuiltMaskCount();
         }
 
         // preDraw() method is called twice.
         preDraw();
 
+        if (isBatching) {
+            drawBatches(model);
+            postDraw();
+            return;
+        }
+
         final int drawableCount = model.getDrawableCount();
         final int[] renderOrder = model.getDrawableRenderOrders();
 
@@ -307,7 +728,7 @@ public class CubismRendererAndroid extends CubismRenderer {
                 // 描くことになっていた
                 if (clipContext.isUsing) {
                     // 生成したOffscreenSurfaceと同じサイズでビューポートを設定
-                    glViewport(0, 0, (int) clippingManager.getClippingMaskBufferSize().x, (int) clippingManager.getClippingMaskBufferSize().y);
+                    gl.glViewport(0, 0, (int) clippingManager.getClippingMaskBufferSize().x, (int) clippingManager.getClippingMaskBufferSize().y);
 
                     // バッファをクリアする
                     preDraw();
@@ -318,8 +739,8 @@ public class CubismRendererAndroid extends CubismRenderer {
 
                     // マスクをクリアする。
                     // 1が無効（描かれない領域）、0が有効（描かれる）領域。（シェーダーでCd*Csで0に近い値をかけてマスクを作る。1をかけると何も起こらない。）
-                    glClearColor(1.0f, 1.0f, 1.0f, 1.0f);
-                    glClear(GL_COLOR_BUFFER_BIT);
+                    gl.glClearColor(1.0f, 1.0f, 1.0f, 1.0f);
+                    gl.glClear(GL_COLOR_BUFFER_BIT);
                 }
 
                 final int clipDrawCount = clipContext.clippingIdCount;
@@ -343,7 +764,7 @@ public class CubismRendererAndroid extends CubismRenderer {
                 for (int j = 0; j < clippingManager.getRenderTextureCount(); j++) {
                     offscreenSurfaces[j].endDraw();
                     setClippingContextBufferForMask(null);
-                    glViewport(
+                    gl.glViewport(
                         rendererProfile.lastViewport[0],
                         rendererProfile.lastViewport[1],
                         rendererProfile.lastViewport[2],
@@ -357,18 +778,40 @@ public class CubismRendererAndroid extends CubismRenderer {
             isCulling(model.getDrawableCulling(drawableIndex));
 
             drawMeshAndroid(model, drawableIndex);
+            frameStatistics.batchCount++;
+            frameStatistics.drawnDrawableCount++;
         }
         postDraw();
     }
 
     @Override
     protected void saveProfile() {
-        rendererProfile.save();
+        frameStatistics.reset();
+
+        if (isSavingGLState) {
+            rendererProfile.save();
+        } else {
+            rendererProfile.saveFramebuffer();
+        }
+
+        // The GL state may have been changed by the application since the last drawing.
+        stateCache.invalidate();
+        stateCache.resetCounters();
     }
 
     @Override
     protected void restoreProfile() {
-        rendererProfile.restore();
+        if (isSavingGLState) {
+            rendererProfile.restore(stateCache);
+        } else {
+            stateCache.setCapability(GL_CULL_FACE, false);
+            stateCache.bindBuffer(GL_ARRAY_BUFFER, 0);
+            stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+            stateCache.activeTexture(GL_TEXTURE0);
+        }
+
+        frameStatistics.issuedStateCallCount = stateCache.getIssuedCallCount();
+        frameStatistics.skippedStateCallCount = stateCache.getSkippedCallCount();
     }
 
     /**
@@ -427,29 +870,100 @@ public class CubismRendererAndroid extends CubismRenderer {
         return drawableInfoCachesHolder;
     }
 
+    /**
+     * Get the byte offset of the vertices of the drawable in the vertex buffer objects.
+     * While a batch is drawn, the offset of the base drawable of the batch is returned because its indices are rebased to it.
+     *
+     * @param drawableIndex index of the drawable
+     * @return byte offset
+     */
+    int getVertexBufferOffset(int drawableIndex) {
+        if (batchBaseDrawableIndex >= 0) {
+            return drawableInfoCachesHolder.getVertexBufferOffset(batchBaseDrawableIndex);
+        }
+        return drawableInfoCachesHolder.getVertexBufferOffset(drawableIndex);
+    }
+
+    /**
+     * Get the shadow state of OpenGL. The state-changing calls of the renderer go through it.
+     *
+     * @return the shadow state
+     */
+    CubismGLStateCacheAndroid getStateCache() {
+        return stateCache;
+    }
+
     /**
      * Additional proccesing at the start of drawing
      * This method implements the necessary processing for the clipping mask before drawing the model
      */
     void preDraw() {
-        glDisable(GL_SCISSOR_TEST);
-        glDisable(GL_STENCIL_TEST);
-        glDisable(GL_DEPTH_TEST);
+        stateCache.setCapability(GL_SCISSOR_TEST, false);
+        stateCache.setCapability(GL_STENCIL_TEST, false);
+        stateCache.setCapability(GL_DEPTH_TEST, false);
 
-        glEnable(GL_BLEND);
-        glColorMask(true, true, true, true);
+        stateCache.setCapability(GL_BLEND, true);
+        stateCache.colorMask(true, true, true, true);
 
-        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+        stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
         // If the buffer has been bound before, it needs to be destroyed
-        glBindBuffer(GL_ARRAY_BUFFER, 0);
+        stateCache.bindBuffer(GL_ARRAY_BUFFER, 0);
 
         // Anisotropic filtering. If it is not supported, do not set it
         if (getAnisotropy() >= 1.0f) {
             for (Map.Entry<Integer, Integer> entry : textures.entrySet()) {
-                glBindTexture(GL_TEXTURE_2D, entry.getValue());
-                glTexParameterf(GL_TEXTURE_2D, GLES11Ext.GL_TEXTURE_MAX_ANISOTROPY_EXT, getAnisotropy());
+                stateCache.bindTexture2D(entry.getValue());
+                gl.glTexParameterf(GL_TEXTURE_2D, GLES11Ext.GL_TEXTURE_MAX_ANISOTROPY_EXT, getAnisotropy());
+            }
+        }
+    }
+
+    /**
+     * Create, update or delete the buffer objects according to the current mode.
+     * This method is called before the clipping masks are drawn because they also use the buffer objects.
+     *
+     * @param model model instance
+     */
+    private void setupVertexBufferObject(CubismModel model) {
+        if (!isUsingVertexBufferObject) {
+            if (drawableInfoCachesHolder.hasBufferObjects()) {
+                drawableInfoCachesHolder.deleteBufferObjects();
+                stateCache.invalidate();
+            }
+            return;
+        }
+
+        if (drawableInfoCachesHolder.hasBufferObjects()) {
+            frameStatistics.uploadedBytes += drawableInfoCachesHolder.updateVertexBufferObject(model, stateCache);
+        } else {
+            frameStatistics.uploadedBytes += drawableInfoCachesHolder.createBufferObjects(model, stateCache);
+        }
+    }
+
+    /**
+     * Create, update or delete the batch plan according to the current mode.
+     * Batching is not used with the high precision masks because the masks are drawn between the drawables.
+     *
+     * @param model model instance
+     * @return true if the drawables are drawn according to the batch plan
+     */
+    private boolean setupBatchPlanner(CubismModel model) {
+        if (!isUsingBatching || !isUsingVertexBufferObject || isUsingHighPrecisionMask()) {
+            if (batchPlanner != null) {
+                batchPlanner.deleteBufferObject();
+                batchPlanner = null;
+                stateCache.invalidate();
             }
+            return false;
         }
+
+        if (batchPlanner == null) {
+            batchPlanner = new CubismDrawBatchPlannerAndroid(model);
+        }
+        final int uploadedBytes = batchPlanner.update(model, drawableInfoCachesHolder, stateCache);
+        frameStatistics.uploadedBytes += uploadedBytes;
+        frameStatistics.isBatchPlanRebuilt = uploadedBytes > 0;
+        return true;
     }
 
     /**
@@ -517,4 +1031,49 @@ public class CubismRendererAndroid extends CubismRenderer {
      * Drawable情報のキャッシュ変数
      */
     private CubismDrawableInfoCachesHolder drawableInfoCachesHolder;
+    /**
+     * GL functions used by all the renderers
+     */
+    private static ICubismGL s_gl = new CubismGLES20();
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = getGL();
+    /**
+     * Whether the vertex data are kept in buffer objects
+     */
+    private boolean isUsingVertexBufferObject;
+    /**
+     * Whether the drawables are batched
+     */
+    private boolean isUsingBatching;
+    /**
+     * Whether the clipping masks are kept in the mask buffers between frames
+     */
+    private boolean isUsingClippingMaskCache;
+    /**
+     * Whether the high precision masks were used in the last drawing
+     */
+    private boolean wasUsingHighPrecisionMask;
+    /**
+     * Planner of the batches. It exists only while batching is used.
+     */
+    private CubismDrawBatchPlannerAndroid batchPlanner;
+    /**
+     * Base drawable of the batch being drawn, or -1
+     */
+    private int batchBaseDrawableIndex = -1;
+    /**
+     * Whether the GL state just before drawing is saved and restored
+     */
+    private boolean isSavingGLState = true;
+    /**
+     * Shadow state of OpenGL
+     */
+    private final CubismGLStateCacheAndroid stateCache = new CubismGLStateCacheAndroid();
+    /**
+     * Statistics of the last drawn frame
+     */
+    private final FrameStatistics frameStatistics = new FrameStatistics();
 }
@@ -11,6 +11,7 @@ import static android.opengl.GLES20.*;
 
 /**
  * Class that saves and restores the OpenGL ES 2.0 state just before drawing the Cubism model.
+ * The state is restored through the shadow state of the renderer, so the calls which do not change the state are skipped.
  */
 class CubismRendererProfileAndroid {
     /**
@@ -18,66 +19,76 @@ class CubismRendererProfileAndroid {
      */
     public void save() {
         //-- push state --
-        glGetIntegerv(GL_ARRAY_BUFFER_BINDING, lastArrayBufferBinding, 0);
-        glGetIntegerv(GL_ELEMENT_ARRAY_BUFFER_BINDING, lastElementArrayBufferBinding, 0);
-        glGetIntegerv(GL_CURRENT_PROGRAM, lastProgram, 0);
+        gl.glGetIntegerv(GL_ARRAY_BUFFER_BINDING, lastArrayBufferBinding, 0);
+        gl.glGetIntegerv(GL_ELEMENT_ARRAY_BUFFER_BINDING, lastElementArrayBufferBinding, 0);
+        gl.glGetIntegerv(GL_CURRENT_PROGRAM, lastProgram, 0);
 
-        glGetIntegerv(GL_ACTIVE_TEXTURE, lastActiveTexture, 0);
+        gl.glGetIntegerv(GL_ACTIVE_TEXTURE, lastActiveTexture, 0);
 
         // Activate Texture Unit1 (It is the target to be set thereafter)
-        glActiveTexture(GL_TEXTURE1);
-        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture1Binding2D, 0);
+        gl.glActiveTexture(GL_TEXTURE1);
+        gl.glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture1Binding2D, 0);
 
         // Activate Texture Unit0 (It is the target to be set thereafter)
-        glActiveTexture(GL_TEXTURE0);
-        glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture0Binding2D, 0);
+        gl.glActiveTexture(GL_TEXTURE0);
+        gl.glGetIntegerv(GL_TEXTURE_BINDING_2D, lastTexture0Binding2D, 0);
 
-        glGetVertexAttribiv(0, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[0], 0);
-        glGetVertexAttribiv(1, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[1], 0);
-        glGetVertexAttribiv(2, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[2], 0);
-        glGetVertexAttribiv(3, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[3], 0);
+        gl.glGetVertexAttribiv(0, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[0], 0);
+        gl.glGetVertexAttribiv(1, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[1], 0);
+        gl.glGetVertexAttribiv(2, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[2], 0);
+        gl.glGetVertexAttribiv(3, GL_VERTEX_ATTRIB_ARRAY_ENABLED, lastVertexAttribArrayEnabled[3], 0);
 
-        lastScissorTest = glIsEnabled(GL_SCISSOR_TEST);
-        lastStencilTest = glIsEnabled(GL_STENCIL_TEST);
-        lastDepthTest = glIsEnabled(GL_DEPTH_TEST);
-        lastCullFace = glIsEnabled(GL_CULL_FACE);
-        lastBlend = glIsEnabled(GL_BLEND);
+        lastScissorTest = gl.glIsEnabled(GL_SCISSOR_TEST);
+        lastStencilTest = gl.glIsEnabled(GL_STENCIL_TEST);
+        lastDepthTest = gl.glIsEnabled(GL_DEPTH_TEST);
+        lastCullFace = gl.glIsEnabled(GL_CULL_FACE);
+        lastBlend = gl.glIsEnabled(GL_BLEND);
 
-        glGetIntegerv(GL_FRONT_FACE, lastFrontFace, 0);
+        gl.glGetIntegerv(GL_FRONT_FACE, lastFrontFace, 0);
 
-        glGetBooleanv(GL_COLOR_WRITEMASK, lastColorMask, 0);
+        gl.glGetBooleanv(GL_COLOR_WRITEMASK, lastColorMask, 0);
 
         // backup blending
-        glGetIntegerv(GL_BLEND_SRC_RGB, lastBlendingSrcRGB, 0);
-        glGetIntegerv(GL_BLEND_DST_RGB, lastBlendingDstRGB, 0);
-        glGetIntegerv(GL_BLEND_SRC_ALPHA, lastBlendingSrcAlpha, 0);
-        glGetIntegerv(GL_BLEND_DST_ALPHA, lastBlendingDstAlpha, 0);
+        gl.glGetIntegerv(GL_BLEND_SRC_RGB, lastBlendingSrcRGB, 0);
+        gl.glGetIntegerv(GL_BLEND_DST_RGB, lastBlendingDstRGB, 0);
+        gl.glGetIntegerv(GL_BLEND_SRC_ALPHA, lastBlendingSrcAlpha, 0);
+        gl.glGetIntegerv(GL_BLEND_DST_ALPHA, lastBlendingDstAlpha, 0);
 
         // Save the FBO and viewport just before drawing the model.
-        glGetIntegerv(GL_FRAMEBUFFER_BINDING, lastFBO, 0);
-        glGetIntegerv(GL_VIEWPORT, lastViewport, 0);
+        saveFramebuffer();
+    }
+
+    /**
+     * Save only the FBO and the viewport, which are needed to draw the clipping masks.
+     * This is used instead of save() when the application owns the context and sets the state it needs by itself.
+     */
+    public void saveFramebuffer() {
+        gl.glGetIntegerv(GL_FRAMEBUFFER_BINDING, lastFBO, 0);
+        gl.glGetIntegerv(GL_VIEWPORT, lastViewport, 0);
     }
 
     /**
      * Restore OpenGL ES 2.0 state which is saved.
+     *
+     * @param stateCache shadow state of the renderer
      */
-    public void restore() {
-        glUseProgram(lastProgram[0]);
+    public void restore(CubismGLStateCacheAndroid stateCache) {
+        stateCache.useProgram(lastProgram[0]);
 
-        setGlEnableVertexAttribArray(0, lastVertexAttribArrayEnabled[0][0]);
-        setGlEnableVertexAttribArray(1, lastVertexAttribArrayEnabled[1][0]);
-        setGlEnableVertexAttribArray(2, lastVertexAttribArrayEnabled[2][0]);
-        setGlEnableVertexAttribArray(3, lastVertexAttribArrayEnabled[3][0]);
+        stateCache.setVertexAttribArray(0, lastVertexAttribArrayEnabled[0][0] != 0);
+        stateCache.setVertexAttribArray(1, lastVertexAttribArrayEnabled[1][0] != 0);
+        stateCache.setVertexAttribArray(2, lastVertexAttribArrayEnabled[2][0] != 0);
+        stateCache.setVertexAttribArray(3, lastVertexAttribArrayEnabled[3][0] != 0);
 
-        setGlEnable(GL_SCISSOR_TEST, lastScissorTest);
-        setGlEnable(GL_STENCIL_TEST, lastStencilTest);
-        setGlEnable(GL_DEPTH_TEST, lastDepthTest);
-        setGlEnable(GL_CULL_FACE, lastCullFace);
-        setGlEnable(GL_BLEND, lastBlend);
+        stateCache.setCapability(GL_SCISSOR_TEST, lastScissorTest);
+        stateCache.setCapability(GL_STENCIL_TEST, lastStencilTest);
+        stateCache.setCapability(GL_DEPTH_TEST, lastDepthTest);
+        stateCache.setCapability(GL_CULL_FACE, lastCullFace);
+        stateCache.setCapability(GL_BLEND, lastBlend);
 
-        glFrontFace(lastFrontFace[0]);
+        stateCache.frontFace(lastFrontFace[0]);
 
-        glColorMask(
+        stateCache.colorMask(
             lastColorMask[0],
             lastColorMask[1],
             lastColorMask[2],
@@ -85,21 +96,21 @@ class CubismRendererProfileAndroid {
         );
 
         // If the buffer was bound before, it needs to be destroyed.
-        glBindBuffer(GL_ARRAY_BUFFER, lastArrayBufferBinding[0]);
-        glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, lastElementArrayBufferBinding[0]);
+        stateCache.bindBuffer(GL_ARRAY_BUFFER, lastArrayBufferBinding[0]);
+        stateCache.bindBuffer(GL_ELEMENT_ARRAY_BUFFER, lastElementArrayBufferBinding[0]);
 
         // Restore Texture Unit1.
-        glActiveTexture(GL_TEXTURE1);
-        glBindTexture(GL_TEXTURE_2D, lastTexture1Binding2D[0]);
+        stateCache.activeTexture(GL_TEXTURE1);
+        stateCache.bindTexture2D(lastTexture1Binding2D[0]);
 
         // Restore Texture Unit0.
-        glActiveTexture(GL_TEXTURE0);
-        glBindTexture(GL_TEXTURE_2D, lastTexture0Binding2D[0]);
+        stateCache.activeTexture(GL_TEXTURE0);
+        stateCache.bindTexture2D(lastTexture0Binding2D[0]);
 
-        glActiveTexture(lastActiveTexture[0]);
+        stateCache.activeTexture(lastActiveTexture[0]);
 
         // restore blending
-        glBlendFuncSeparate(
+        stateCache.blendFuncSeparate(
             lastBlendingSrcRGB[0],
             lastBlendingDstRGB[0],
             lastBlendingSrcAlpha[0],
@@ -116,37 +127,6 @@ class CubismRendererProfileAndroid {
      */
     public final int[] lastViewport = new int[4];
 
-    /**
-     * Set enable/disable of OpenGL ES 2.0 features.
-     *
-     * @param index index of function to enable/disable
-     * @param enabled If true, enable it.
-     */
-    private void setGlEnable(int index, boolean enabled) {
-        if (enabled) {
-            glEnable(index);
-        } else {
-            glDisable(index);
-        }
-    }
-
-    /**
-     * Set enable/disable for Vertex Attribute Array feature in OpenGL ES 2.0.
-     *
-     * @param index index of function to enable/disable
-     * @param isEnabled If true, enable it.
-     */
-    private void setGlEnableVertexAttribArray(int index, int isEnabled) {
-        // It true
-        if (isEnabled != 0) {
-            glEnableVertexAttribArray(index);
-        }
-        // If false
-        else {
-            glDisableVertexAttribArray(index);
-        }
-    }
-
     /**
      * Vertex buffer just before drawing the model
      */
@@ -219,4 +199,9 @@ class CubismRendererProfileAndroid {
      * GL_BLEND_DST_ALPHA parameter just before model drawing
      */
     private final int[] lastBlendingDstAlpha = new int[1];
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
 }
@@ -13,7 +13,6 @@ import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
 import com.live2d.sdk.cubism.framework.type.csmRectF;
 
 import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -71,6 +70,7 @@ class CubismShaderAndroid {
         if (shaderSets.isEmpty()) {
             generateShaders();
         }
+        CubismGLStateCacheAndroid stateCache = renderer.getStateCache();
 
         // Blending
         int srcColor;
@@ -112,53 +112,20 @@ class CubismShaderAndroid {
                 break;
         }
 
-        glUseProgram(shaderSet.shaderProgram);
+        stateCache.useProgram(shaderSet.shaderProgram);
 
-        // キャッシュされたバッファを取得し、実際のデータを格納する。
-        CubismDrawableInfoCachesHolder drawableInfoCachesHolder = renderer.getDrawableInfoCachesHolder();
-        // vertex array
-        FloatBuffer vertexArrayBuffer = drawableInfoCachesHolder.setUpVertexArray(
-            index,
-            model.getDrawableVertices(index)
-        );
-        // uv array
-        FloatBuffer uvArrayBuffer = drawableInfoCachesHolder.setUpUvArray(
-            index,
-            model.getDrawableVertexUvs(index)
-        );
-
-        // setting of vertex array
-        glEnableVertexAttribArray(shaderSet.attributePositionLocation);
-        glVertexAttribPointer(
-            shaderSet.attributePositionLocation,
-            2,
-            GL_FLOAT,
-            false,
-            Float.SIZE / Byte.SIZE * 2,
-            vertexArrayBuffer
-        );
-
-        // setting of texture vertex
-        glEnableVertexAttribArray(shaderSet.attributeTexCoordLocation);
-        glVertexAttribPointer(
-            shaderSet.attributeTexCoordLocation,
-            2,
-            GL_FLOAT,
-            false,
-            Float.SIZE / Byte.SIZE * 2,
-            uvArrayBuffer
-        );
+        setupVertexAttributes(renderer, model, index, shaderSet);
 
         if (isMasked) {
-            glActiveTexture(GL_TEXTURE1);
+            stateCache.activeTexture(GL_TEXTURE1);
 
             // OffscreenSurfaceに描かれたテクスチャ
             int tex = renderer.getMaskBuffer(renderer.getClippingContextBufferForDraw().bufferIndex).getColorBuffer()[0];
-            glBindTexture(GL_TEXTURE_2D, tex);
-            glUniform1i(shaderSet.samplerTexture1Location, 1);
+            stateCache.bindTexture2D(tex);
+            gl.glUniform1i(shaderSet.samplerTexture1Location, 1);
 
             // set up a matrix to convert View-coordinates to ClippingContext coordinates
-            glUniformMatrix4fv(
+            gl.glUniformMatrix4fv(
                 shaderSet.uniformClipMatrixLocation,
                 1,
                 false,
@@ -172,7 +139,7 @@ class CubismShaderAndroid {
                 .getClippingContextBufferForDraw()
                 .getClippingManager()
                 .getChannelFlagAsColor(channelIndex);
-            glUniform4f(
+            gl.glUniform4f(
                 shaderSet.uniformChannelFlagLocation,
                 colorChannel.r,
                 colorChannel.g,
@@ -185,13 +152,13 @@ class CubismShaderAndroid {
         int textureId = renderer.getBoundTextureId(
             model.getDrawableTextureIndex(index)
         );
-        glActiveTexture(GL_TEXTURE0);
-        glBindTexture(GL_TEXTURE_2D, textureId);
-        glUniform1i(shaderSet.samplerTexture0Location, 0);
+        stateCache.activeTexture(GL_TEXTURE0);
+        stateCache.bindTexture2D(textureId);
+        gl.glUniform1i(shaderSet.samplerTexture0Location, 0);
 
         // coordinate transformation
         CubismMatrix44 matrix44 = renderer.getMvpMatrix();
-        glUniformMatrix4fv(
+        gl.glUniformMatrix4fv(
             shaderSet.uniformMatrixLocation,
             1,
             false,
@@ -205,21 +172,21 @@ class CubismShaderAndroid {
         );
         CubismRenderer.CubismTextureColor multiplyColor = model.getMultiplyColor(index);
         CubismRenderer.CubismTextureColor screenColor = model.getScreenColor(index);
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformBaseColorLocation,
             baseColor.r,
             baseColor.g,
             baseColor.b,
             baseColor.a
         );
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformMultiplyColorLocation,
             multiplyColor.r,
             multiplyColor.g,
             multiplyColor.b,
             multiplyColor.a
         );
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformScreenColorLocation,
             screenColor.r,
             screenColor.g,
@@ -227,7 +194,7 @@ class CubismShaderAndroid {
             screenColor.a
         );
 
-        glBlendFuncSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
+        stateCache.blendFuncSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
     }
 
     public void setupShaderProgramForMask(
@@ -238,6 +205,7 @@ class CubismShaderAndroid {
         if (shaderSets.isEmpty()) {
             generateShaders();
         }
+        CubismGLStateCacheAndroid stateCache = renderer.getStateCache();
 
         // Blending
         int srcColor;
@@ -246,48 +214,15 @@ class CubismShaderAndroid {
         int dstAlpha;
 
         CubismShaderSet shaderSet = shaderSets.get(ShaderNames.SETUP_MASK.id);
-        glUseProgram(shaderSet.shaderProgram);
+        stateCache.useProgram(shaderSet.shaderProgram);
 
         // texture setting
         int textureId = renderer.getBoundTextureId(model.getDrawableTextureIndex(index));
-        glActiveTexture(GL_TEXTURE0);
-        glBindTexture(GL_TEXTURE_2D, textureId);
-        glUniform1i(shaderSet.samplerTexture0Location, 0);
+        stateCache.activeTexture(GL_TEXTURE0);
+        stateCache.bindTexture2D(textureId);
+        gl.glUniform1i(shaderSet.samplerTexture0Location, 0);
 
-        // キャッシュされたバッファを取得し、実際のデータを格納する。
-        CubismDrawableInfoCachesHolder drawableInfoCachesHolder = renderer.getDrawableInfoCachesHolder();
-        // vertex array
-        FloatBuffer vertexArrayBuffer = drawableInfoCachesHolder.setUpVertexArray(
-            index,
-            model.getDrawableVertices(index)
-        );
-        // uv array
-        FloatBuffer uvArrayBuffer = drawableInfoCachesHolder.setUpUvArray(
-            index,
-            model.getDrawableVertexUvs(index)
-        );
-
-        // setting of vertex array
-        glEnableVertexAttribArray(shaderSet.attributePositionLocation);
-        glVertexAttribPointer(
-            shaderSet.attributePositionLocation,
-            2,
-            GL_FLOAT,
-            false,
-            Float.SIZE / Byte.SIZE * 2,
-            vertexArrayBuffer
-        );
-
-        // setting of texture vertex
-        glEnableVertexAttribArray(shaderSet.attributeTexCoordLocation);
-        glVertexAttribPointer(
-            shaderSet.attributeTexCoordLocation,
-            2,
-            GL_FLOAT,
-            false,
-            Float.SIZE / Byte.SIZE * 2,
-            uvArrayBuffer
-        );
+        setupVertexAttributes(renderer, model, index, shaderSet);
 
         // channels
         final int channelIndex = renderer.getClippingContextBufferForMask().layoutChannelIndex;
@@ -296,7 +231,7 @@ class CubismShaderAndroid {
             .getClippingManager()
             .getChannelFlagAsColor(channelIndex);
 
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformChannelFlagLocation,
             colorChannel.r,
             colorChannel.g,
@@ -304,7 +239,7 @@ class CubismShaderAndroid {
             colorChannel.a
         );
 
-        glUniformMatrix4fv(
+        gl.glUniformMatrix4fv(
             shaderSet.uniformClipMatrixLocation,
             1,
             false,
@@ -314,7 +249,7 @@ class CubismShaderAndroid {
 
         csmRectF rect = renderer.getClippingContextBufferForMask().layoutBounds;
 
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformBaseColorLocation,
             rect.getX() * 2.0f - 1.0f,
             rect.getY() * 2.0f - 1.0f,
@@ -324,14 +259,14 @@ class CubismShaderAndroid {
 
         CubismRenderer.CubismTextureColor multiplyColor = model.getMultiplyColor(index);
         CubismRenderer.CubismTextureColor screenColor = model.getScreenColor(index);
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformMultiplyColorLocation,
             multiplyColor.r,
             multiplyColor.g,
             multiplyColor.b,
             multiplyColor.a
         );
-        glUniform4f(
+        gl.glUniform4f(
             shaderSet.uniformScreenColorLocation,
             screenColor.r,
             screenColor.g,
@@ -344,7 +279,7 @@ class CubismShaderAndroid {
         srcAlpha = GL_ZERO;
         dstAlpha = GL_ONE_MINUS_SRC_ALPHA;
 
-        glBlendFuncSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
+        stateCache.blendFuncSeparate(srcColor, dstColor, srcAlpha, dstAlpha);
     }
 
     /**
@@ -464,7 +399,7 @@ class CubismShaderAndroid {
      */
     private void releaseShaderProgram() {
         for (CubismShaderSet shaderSet : shaderSets) {
-            glDeleteProgram(shaderSet.shaderProgram);
+            gl.glDeleteProgram(shaderSet.shaderProgram);
             shaderSet.shaderProgram = 0;
         }
         shaderSets.clear();
@@ -513,235 +448,283 @@ class CubismShaderAndroid {
         shaderSets.get(18).shaderProgram = shaderSets.get(6).shaderProgram;
 
         // Setup mask
-        shaderSets.get(0).attributePositionLocation = glGetAttribLocation(shaderSets.get(0).shaderProgram, "a_position");
-        shaderSets.get(0).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(0).shaderProgram, "a_texCoord");
-        shaderSets.get(0).samplerTexture0Location = glGetUniformLocation(shaderSets.get(0).shaderProgram, "s_texture0");
-        shaderSets.get(0).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_clipMatrix");
-        shaderSets.get(0).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_channelFlag");
-        shaderSets.get(0).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_baseColor");
-        shaderSets.get(0).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_multiplyColor");
-        shaderSets.get(0).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_screenColor");
+        shaderSets.get(0).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(0).shaderProgram, "a_position");
+        shaderSets.get(0).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(0).shaderProgram, "a_texCoord");
+        shaderSets.get(0).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(0).shaderProgram, "s_texture0");
+        shaderSets.get(0).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_clipMatrix");
+        shaderSets.get(0).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_channelFlag");
+        shaderSets.get(0).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_baseColor");
+        shaderSets.get(0).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_multiplyColor");
+        shaderSets.get(0).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(0).shaderProgram, "u_screenColor");
 
         // 通常
-        shaderSets.get(1).attributePositionLocation = glGetAttribLocation(shaderSets.get(1).shaderProgram, "a_position");
-        shaderSets.get(1).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(1).shaderProgram, "a_texCoord");
-        shaderSets.get(1).samplerTexture0Location = glGetUniformLocation(shaderSets.get(1).shaderProgram, "s_texture0");
-        shaderSets.get(1).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_matrix");
-        shaderSets.get(1).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_baseColor");
-        shaderSets.get(1).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_multiplyColor");
-        shaderSets.get(1).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_screenColor");
+        shaderSets.get(1).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(1).shaderProgram, "a_position");
+        shaderSets.get(1).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(1).shaderProgram, "a_texCoord");
+        shaderSets.get(1).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(1).shaderProgram, "s_texture0");
+        shaderSets.get(1).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_matrix");
+        shaderSets.get(1).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_baseColor");
+        shaderSets.get(1).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_multiplyColor");
+        shaderSets.get(1).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(1).shaderProgram, "u_screenColor");
 
         // 通常（クリッピング）
-        shaderSets.get(2).attributePositionLocation = glGetAttribLocation(shaderSets.get(2).shaderProgram, "a_position");
-        shaderSets.get(2).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(2).shaderProgram, "a_texCoord");
-        shaderSets.get(2).samplerTexture0Location = glGetUniformLocation(shaderSets.get(2).shaderProgram, "s_texture0");
-        shaderSets.get(2).samplerTexture1Location = glGetUniformLocation(shaderSets.get(2).shaderProgram, "s_texture1");
-        shaderSets.get(2).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_matrix");
-        shaderSets.get(2).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_clipMatrix");
-        shaderSets.get(2).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_channelFlag");
-        shaderSets.get(2).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_baseColor");
-        shaderSets.get(2).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_multiplyColor");
-        shaderSets.get(2).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_screenColor");
+        shaderSets.get(2).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(2).shaderProgram, "a_position");
+        shaderSets.get(2).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(2).shaderProgram, "a_texCoord");
+        shaderSets.get(2).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "s_texture0");
+        shaderSets.get(2).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "s_texture1");
+        shaderSets.get(2).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_matrix");
+        shaderSets.get(2).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_clipMatrix");
+        shaderSets.get(2).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_channelFlag");
+        shaderSets.get(2).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_baseColor");
+        shaderSets.get(2).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_multiplyColor");
+        shaderSets.get(2).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(2).shaderProgram, "u_screenColor");
 
         // 通常（クリッピング・反転）
-        shaderSets.get(3).attributePositionLocation = glGetAttribLocation(shaderSets.get(3).shaderProgram, "a_position");
-        shaderSets.get(3).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(3).shaderProgram, "a_texCoord");
-        shaderSets.get(3).samplerTexture0Location = glGetUniformLocation(shaderSets.get(3).shaderProgram, "s_texture0");
-        shaderSets.get(3).samplerTexture1Location = glGetUniformLocation(shaderSets.get(3).shaderProgram, "s_texture1");
-        shaderSets.get(3).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_matrix");
-        shaderSets.get(3).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_clipMatrix");
-        shaderSets.get(3).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_channelFlag");
-        shaderSets.get(3).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_baseColor");
-        shaderSets.get(3).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_multiplyColor");
-        shaderSets.get(3).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_screenColor");
+        shaderSets.get(3).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(3).shaderProgram, "a_position");
+        shaderSets.get(3).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(3).shaderProgram, "a_texCoord");
+        shaderSets.get(3).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "s_texture0");
+        shaderSets.get(3).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "s_texture1");
+        shaderSets.get(3).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_matrix");
+        shaderSets.get(3).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_clipMatrix");
+        shaderSets.get(3).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_channelFlag");
+        shaderSets.get(3).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_baseColor");
+        shaderSets.get(3).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_multiplyColor");
+        shaderSets.get(3).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(3).shaderProgram, "u_screenColor");
 
         // 通常（PremultipliedAlpha）
-        shaderSets.get(4).attributePositionLocation = glGetAttribLocation(shaderSets.get(4).shaderProgram, "a_position");
-        shaderSets.get(4).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(4).shaderProgram, "a_texCoord");
-        shaderSets.get(4).samplerTexture0Location = glGetUniformLocation(shaderSets.get(4).shaderProgram, "s_texture0");
-        shaderSets.get(4).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_matrix");
-        shaderSets.get(4).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_baseColor");
-        shaderSets.get(4).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_multiplyColor");
-        shaderSets.get(4).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_screenColor");
+        shaderSets.get(4).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(4).shaderProgram, "a_position");
+        shaderSets.get(4).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(4).shaderProgram, "a_texCoord");
+        shaderSets.get(4).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(4).shaderProgram, "s_texture0");
+        shaderSets.get(4).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_matrix");
+        shaderSets.get(4).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_baseColor");
+        shaderSets.get(4).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_multiplyColor");
+        shaderSets.get(4).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(4).shaderProgram, "u_screenColor");
 
         // 通常（クリッピング、PremultipliedAlpha）
-        shaderSets.get(5).attributePositionLocation = glGetAttribLocation(shaderSets.get(5).shaderProgram, "a_position");
-        shaderSets.get(5).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(5).shaderProgram, "a_texCoord");
-        shaderSets.get(5).samplerTexture0Location = glGetUniformLocation(shaderSets.get(5).shaderProgram, "s_texture0");
-        shaderSets.get(5).samplerTexture1Location = glGetUniformLocation(shaderSets.get(5).shaderProgram, "s_texture1");
-        shaderSets.get(5).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_matrix");
-        shaderSets.get(5).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_clipMatrix");
-        shaderSets.get(5).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_channelFlag");
-        shaderSets.get(5).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_baseColor");
-        shaderSets.get(5).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_multiplyColor");
-        shaderSets.get(5).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_screenColor");
+        shaderSets.get(5).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(5).shaderProgram, "a_position");
+        shaderSets.get(5).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(5).shaderProgram, "a_texCoord");
+        shaderSets.get(5).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "s_texture0");
+        shaderSets.get(5).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "s_texture1");
+        shaderSets.get(5).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_matrix");
+        shaderSets.get(5).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_clipMatrix");
+        shaderSets.get(5).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_channelFlag");
+        shaderSets.get(5).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_baseColor");
+        shaderSets.get(5).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_multiplyColor");
+        shaderSets.get(5).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(5).shaderProgram, "u_screenColor");
 
         // 通常（クリッピング・反転、PremultipliedAlpha）
-        shaderSets.get(6).attributePositionLocation = glGetAttribLocation(shaderSets.get(6).shaderProgram, "a_position");
-        shaderSets.get(6).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(6).shaderProgram, "a_texCoord");
-        shaderSets.get(6).samplerTexture0Location = glGetUniformLocation(shaderSets.get(6).shaderProgram, "s_texture0");
-        shaderSets.get(6).samplerTexture1Location = glGetUniformLocation(shaderSets.get(6).shaderProgram, "s_texture1");
-        shaderSets.get(6).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_matrix");
-        shaderSets.get(6).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_clipMatrix");
-        shaderSets.get(6).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_channelFlag");
-        shaderSets.get(6).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_baseColor");
-        shaderSets.get(6).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_multiplyColor");
-        shaderSets.get(6).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_screenColor");
+        shaderSets.get(6).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(6).shaderProgram, "a_position");
+        shaderSets.get(6).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(6).shaderProgram, "a_texCoord");
+        shaderSets.get(6).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "s_texture0");
+        shaderSets.get(6).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "s_texture1");
+        shaderSets.get(6).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_matrix");
+        shaderSets.get(6).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_clipMatrix");
+        shaderSets.get(6).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_channelFlag");
+        shaderSets.get(6).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_baseColor");
+        shaderSets.get(6).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_multiplyColor");
+        shaderSets.get(6).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(6).shaderProgram, "u_screenColor");
 
         // 加算
-        shaderSets.get(7).attributePositionLocation = glGetAttribLocation(shaderSets.get(7).shaderProgram, "a_position");
-        shaderSets.get(7).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(7).shaderProgram, "a_texCoord");
-        shaderSets.get(7).samplerTexture0Location = glGetUniformLocation(shaderSets.get(7).shaderProgram, "s_texture0");
-        shaderSets.get(7).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_matrix");
-        shaderSets.get(7).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_baseColor");
-        shaderSets.get(7).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_multiplyColor");
-        shaderSets.get(7).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_screenColor");
+        shaderSets.get(7).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(7).shaderProgram, "a_position");
+        shaderSets.get(7).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(7).shaderProgram, "a_texCoord");
+        shaderSets.get(7).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(7).shaderProgram, "s_texture0");
+        shaderSets.get(7).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_matrix");
+        shaderSets.get(7).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_baseColor");
+        shaderSets.get(7).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_multiplyColor");
+        shaderSets.get(7).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(7).shaderProgram, "u_screenColor");
 
         // 加算（クリッピング）
-        shaderSets.get(8).attributePositionLocation = glGetAttribLocation(shaderSets.get(8).shaderProgram, "a_position");
-        shaderSets.get(8).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(8).shaderProgram, "a_texCoord");
-        shaderSets.get(8).samplerTexture0Location = glGetUniformLocation(shaderSets.get(8).shaderProgram, "s_texture0");
-        shaderSets.get(8).samplerTexture1Location = glGetUniformLocation(shaderSets.get(8).shaderProgram, "s_texture1");
-        shaderSets.get(8).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_matrix");
-        shaderSets.get(8).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_clipMatrix");
-        shaderSets.get(8).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_channelFlag");
-        shaderSets.get(8).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_baseColor");
-        shaderSets.get(8).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_multiplyColor");
-        shaderSets.get(8).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_screenColor");
+        shaderSets.get(8).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(8).shaderProgram, "a_position");
+        shaderSets.get(8).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(8).shaderProgram, "a_texCoord");
+        shaderSets.get(8).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "s_texture0");
+        shaderSets.get(8).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "s_texture1");
+        shaderSets.get(8).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_matrix");
+        shaderSets.get(8).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_clipMatrix");
+        shaderSets.get(8).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_channelFlag");
+        shaderSets.get(8).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_baseColor");
+        shaderSets.get(8).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_multiplyColor");
+        shaderSets.get(8).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(8).shaderProgram, "u_screenColor");
 
         // 加算（クリッピング・反転）
-        shaderSets.get(9).attributePositionLocation = glGetAttribLocation(shaderSets.get(9).shaderProgram, "a_position");
-        shaderSets.get(9).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(9).shaderProgram, "a_texCoord");
-        shaderSets.get(9).samplerTexture0Location = glGetUniformLocation(shaderSets.get(9).shaderProgram, "s_texture0");
-        shaderSets.get(9).samplerTexture1Location = glGetUniformLocation(shaderSets.get(9).shaderProgram, "s_texture1");
-        shaderSets.get(9).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_matrix");
-        shaderSets.get(9).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_clipMatrix");
-        shaderSets.get(9).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_channelFlag");
-        shaderSets.get(9).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_baseColor");
-        shaderSets.get(9).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_multiplyColor");
-        shaderSets.get(9).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_screenColor");
+        shaderSets.get(9).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(9).shaderProgram, "a_position");
+        shaderSets.get(9).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(9).shaderProgram, "a_texCoord");
+        shaderSets.get(9).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "s_texture0");
+        shaderSets.get(9).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "s_texture1");
+        shaderSets.get(9).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_matrix");
+        shaderSets.get(9).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_clipMatrix");
+        shaderSets.get(9).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_channelFlag");
+        shaderSets.get(9).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_baseColor");
+        shaderSets.get(9).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_multiplyColor");
+        shaderSets.get(9).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(9).shaderProgram, "u_screenColor");
 
         // 加算（PremultipliedAlpha）
-        shaderSets.get(10).attributePositionLocation = glGetAttribLocation(shaderSets.get(10).shaderProgram, "a_position");
-        shaderSets.get(10).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(10).shaderProgram, "a_texCoord");
-        shaderSets.get(10).samplerTexture0Location = glGetUniformLocation(shaderSets.get(10).shaderProgram, "s_texture0");
-        shaderSets.get(10).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_matrix");
-        shaderSets.get(10).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_baseColor");
-        shaderSets.get(10).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_multiplyColor");
-        shaderSets.get(10).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_screenColor");
+        shaderSets.get(10).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(10).shaderProgram, "a_position");
+        shaderSets.get(10).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(10).shaderProgram, "a_texCoord");
+        shaderSets.get(10).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(10).shaderProgram, "s_texture0");
+        shaderSets.get(10).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_matrix");
+        shaderSets.get(10).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_baseColor");
+        shaderSets.get(10).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_multiplyColor");
+        shaderSets.get(10).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(10).shaderProgram, "u_screenColor");
 
         // 加算（クリッピング、PremultipliedAlpha）
-        shaderSets.get(11).attributePositionLocation = glGetAttribLocation(shaderSets.get(11).shaderProgram, "a_position");
-        shaderSets.get(11).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(11).shaderProgram, "a_texCoord");
-        shaderSets.get(11).samplerTexture0Location = glGetUniformLocation(shaderSets.get(11).shaderProgram, "s_texture0");
-        shaderSets.get(11).samplerTexture1Location = glGetUniformLocation(shaderSets.get(11).shaderProgram, "s_texture1");
-        shaderSets.get(11).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_matrix");
-        shaderSets.get(11).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_clipMatrix");
-        shaderSets.get(11).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_channelFlag");
-        shaderSets.get(11).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_baseColor");
-        shaderSets.get(11).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_multiplyColor");
-        shaderSets.get(11).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_screenColor");
+        shaderSets.get(11).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(11).shaderProgram, "a_position");
+        shaderSets.get(11).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(11).shaderProgram, "a_texCoord");
+        shaderSets.get(11).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "s_texture0");
+        shaderSets.get(11).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "s_texture1");
+        shaderSets.get(11).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_matrix");
+        shaderSets.get(11).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_clipMatrix");
+        shaderSets.get(11).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_channelFlag");
+        shaderSets.get(11).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_baseColor");
+        shaderSets.get(11).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_multiplyColor");
+        shaderSets.get(11).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(11).shaderProgram, "u_screenColor");
 
         // 加算（クリッピング・反転、PremultipliedAlpha）
-        shaderSets.get(12).attributePositionLocation = glGetAttribLocation(shaderSets.get(12).shaderProgram, "a_position");
-        shaderSets.get(12).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(12).shaderProgram, "a_texCoord");
-        shaderSets.get(12).samplerTexture0Location = glGetUniformLocation(shaderSets.get(12).shaderProgram, "s_texture0");
-        shaderSets.get(12).samplerTexture1Location = glGetUniformLocation(shaderSets.get(12).shaderProgram, "s_texture1");
-        shaderSets.get(12).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_matrix");
-        shaderSets.get(12).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_clipMatrix");
-        shaderSets.get(12).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_channelFlag");
-        shaderSets.get(12).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_baseColor");
-        shaderSets.get(12).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_multiplyColor");
-        shaderSets.get(12).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_screenColor");
+        shaderSets.get(12).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(12).shaderProgram, "a_position");
+        shaderSets.get(12).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(12).shaderProgram, "a_texCoord");
+        shaderSets.get(12).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "s_texture0");
+        shaderSets.get(12).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "s_texture1");
+        shaderSets.get(12).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_matrix");
+        shaderSets.get(12).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_clipMatrix");
+        shaderSets.get(12).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_channelFlag");
+        shaderSets.get(12).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_baseColor");
+        shaderSets.get(12).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_multiplyColor");
+        shaderSets.get(12).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(12).shaderProgram, "u_screenColor");
 
         // 乗算
-        shaderSets.get(13).attributePositionLocation = glGetAttribLocation(shaderSets.get(13).shaderProgram, "a_position");
-        shaderSets.get(13).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(13).shaderProgram, "a_texCoord");
-        shaderSets.get(13).samplerTexture0Location = glGetUniformLocation(shaderSets.get(13).shaderProgram, "s_texture0");
-        shaderSets.get(13).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_matrix");
-        shaderSets.get(13).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_baseColor");
-        shaderSets.get(13).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_multiplyColor");
-        shaderSets.get(13).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_screenColor");
+        shaderSets.get(13).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(13).shaderProgram, "a_position");
+        shaderSets.get(13).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(13).shaderProgram, "a_texCoord");
+        shaderSets.get(13).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(13).shaderProgram, "s_texture0");
+        shaderSets.get(13).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_matrix");
+        shaderSets.get(13).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_baseColor");
+        shaderSets.get(13).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_multiplyColor");
+        shaderSets.get(13).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(13).shaderProgram, "u_screenColor");
 
         // 乗算（クリッピング）
-        shaderSets.get(14).attributePositionLocation = glGetAttribLocation(shaderSets.get(14).shaderProgram, "a_position");
-        shaderSets.get(14).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(14).shaderProgram, "a_texCoord");
-        shaderSets.get(14).samplerTexture0Location = glGetUniformLocation(shaderSets.get(14).shaderProgram, "s_texture0");
-        shaderSets.get(14).samplerTexture1Location = glGetUniformLocation(shaderSets.get(14).shaderProgram, "s_texture1");
-        shaderSets.get(14).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_matrix");
-        shaderSets.get(14).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_clipMatrix");
-        shaderSets.get(14).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_channelFlag");
-        shaderSets.get(14).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_baseColor");
-        shaderSets.get(14).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_multiplyColor");
-        shaderSets.get(14).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_screenColor");
+        shaderSets.get(14).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(14).shaderProgram, "a_position");
+        shaderSets.get(14).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(14).shaderProgram, "a_texCoord");
+        shaderSets.get(14).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "s_texture0");
+        shaderSets.get(14).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "s_texture1");
+        shaderSets.get(14).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_matrix");
+        shaderSets.get(14).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_clipMatrix");
+        shaderSets.get(14).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_channelFlag");
+        shaderSets.get(14).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_baseColor");
+        shaderSets.get(14).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_multiplyColor");
+        shaderSets.get(14).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(14).shaderProgram, "u_screenColor");
 
         // 乗算（クリッピング・反転）
-        shaderSets.get(15).attributePositionLocation = glGetAttribLocation(shaderSets.get(15).shaderProgram, "a_position");
-        shaderSets.get(15).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(15).shaderProgram, "a_texCoord");
-        shaderSets.get(15).samplerTexture0Location = glGetUniformLocation(shaderSets.get(15).shaderProgram, "s_texture0");
-        shaderSets.get(15).samplerTexture1Location = glGetUniformLocation(shaderSets.get(15).shaderProgram, "s_texture1");
-        shaderSets.get(15).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_matrix");
-        shaderSets.get(15).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_clipMatrix");
-        shaderSets.get(15).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_channelFlag");
-        shaderSets.get(15).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_baseColor");
-        shaderSets.get(15).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_multiplyColor");
-        shaderSets.get(15).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_screenColor");
+        shaderSets.get(15).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(15).shaderProgram, "a_position");
+        shaderSets.get(15).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(15).shaderProgram, "a_texCoord");
+        shaderSets.get(15).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "s_texture0");
+        shaderSets.get(15).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "s_texture1");
+        shaderSets.get(15).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_matrix");
+        shaderSets.get(15).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_clipMatrix");
+        shaderSets.get(15).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_channelFlag");
+        shaderSets.get(15).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_baseColor");
+        shaderSets.get(15).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_multiplyColor");
+        shaderSets.get(15).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(15).shaderProgram, "u_screenColor");
 
         // 乗算（PremultipliedAlpha）
-        shaderSets.get(16).attributePositionLocation = glGetAttribLocation(shaderSets.get(16).shaderProgram, "a_position");
-        shaderSets.get(16).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(16).shaderProgram, "a_texCoord");
-        shaderSets.get(16).samplerTexture0Location = glGetUniformLocation(shaderSets.get(16).shaderProgram, "s_texture0");
-        shaderSets.get(16).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_matrix");
-        shaderSets.get(16).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_baseColor");
-        shaderSets.get(16).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_multiplyColor");
-        shaderSets.get(16).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_screenColor");
+        shaderSets.get(16).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(16).shaderProgram, "a_position");
+        shaderSets.get(16).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(16).shaderProgram, "a_texCoord");
+        shaderSets.get(16).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(16).shaderProgram, "s_texture0");
+        shaderSets.get(16).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_matrix");
+        shaderSets.get(16).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_baseColor");
+        shaderSets.get(16).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_multiplyColor");
+        shaderSets.get(16).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(16).shaderProgram, "u_screenColor");
 
         // 乗算（クリッピング、PremultipliedAlpha）
-        shaderSets.get(17).attributePositionLocation = glGetAttribLocation(shaderSets.get(17).shaderProgram, "a_position");
-        shaderSets.get(17).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(17).shaderProgram, "a_texCoord");
-        shaderSets.get(17).samplerTexture0Location = glGetUniformLocation(shaderSets.get(17).shaderProgram, "s_texture0");
-        shaderSets.get(17).samplerTexture1Location = glGetUniformLocation(shaderSets.get(17).shaderProgram, "s_texture1");
-        shaderSets.get(17).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_matrix");
-        shaderSets.get(17).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_clipMatrix");
-        shaderSets.get(17).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_channelFlag");
-        shaderSets.get(17).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_baseColor");
-        shaderSets.get(17).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_multiplyColor");
-        shaderSets.get(17).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_screenColor");
+        shaderSets.get(17).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(17).shaderProgram, "a_position");
+        shaderSets.get(17).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(17).shaderProgram, "a_texCoord");
+        shaderSets.get(17).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "s_texture0");
+        shaderSets.get(17).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "s_texture1");
+        shaderSets.get(17).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_matrix");
+        shaderSets.get(17).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_clipMatrix");
+        shaderSets.get(17).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_channelFlag");
+        shaderSets.get(17).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_baseColor");
+        shaderSets.get(17).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_multiplyColor");
+        shaderSets.get(17).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(17).shaderProgram, "u_screenColor");
 
         // 乗算（クリッピング・反転、PremultipliedAlpha）
-        shaderSets.get(18).attributePositionLocation = glGetAttribLocation(shaderSets.get(18).shaderProgram, "a_position");
-        shaderSets.get(18).attributeTexCoordLocation = glGetAttribLocation(shaderSets.get(18).shaderProgram, "a_texCoord");
-        shaderSets.get(18).samplerTexture0Location = glGetUniformLocation(shaderSets.get(18).shaderProgram, "s_texture0");
-        shaderSets.get(18).samplerTexture1Location = glGetUniformLocation(shaderSets.get(18).shaderProgram, "s_texture1");
-        shaderSets.get(18).uniformMatrixLocation = glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_matrix");
-        shaderSets.get(18).uniformClipMatrixLocation = glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_clipMatrix");
-        shaderSets.get(18).uniformChannelFlagLocation = glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_channelFlag");
-        shaderSets.get(18).uniformBaseColorLocation = glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_baseColor");
-        shaderSets.get(18).uniformMultiplyColorLocation = glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_multiplyColor");
-        shaderSets.get(18).uniformScreenColorLocation = glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_screenColor");
+        shaderSets.get(18).attributePositionLocation = gl.glGetAttribLocation(shaderSets.get(18).shaderProgram, "a_position");
+        shaderSets.get(18).attributeTexCoordLocation = gl.glGetAttribLocation(shaderSets.get(18).shaderProgram, "a_texCoord");
+        shaderSets.get(18).samplerTexture0Location = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "s_texture0");
+        shaderSets.get(18).samplerTexture1Location = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "s_texture1");
+        shaderSets.get(18).uniformMatrixLocation = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_matrix");
+        shaderSets.get(18).uniformClipMatrixLocation = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_clipMatrix");
+        shaderSets.get(18).uniformChannelFlagLocation = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_channelFlag");
+        shaderSets.get(18).uniformBaseColorLocation = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_baseColor");
+        shaderSets.get(18).uniformMultiplyColorLocation = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_multiplyColor");
+        shaderSets.get(18).uniformScreenColorLocation = gl.glGetUniformLocation(shaderSets.get(18).shaderProgram, "u_screenColor");
     }
 
     private void setAttribLocation(final int shaderIndex) {
         CubismShaderSet shader = shaderSets.get(shaderIndex);
 
-        shader.attributePositionLocation = glGetAttribLocation(shader.shaderProgram, "a_position");
-        shader.attributeTexCoordLocation = glGetAttribLocation(shader.shaderProgram, "a_texCoord");
-        shader.samplerTexture0Location = glGetUniformLocation(shader.shaderProgram, "s_texture0");
-        shader.uniformMatrixLocation = glGetUniformLocation(shader.shaderProgram, "u_matrix");
-        shader.uniformBaseColorLocation = glGetUniformLocation(shader.shaderProgram, "u_baseColor");
+        shader.attributePositionLocation = gl.glGetAttribLocation(shader.shaderProgram, "a_position");
+        shader.attributeTexCoordLocation = gl.glGetAttribLocation(shader.shaderProgram, "a_texCoord");
+        shader.samplerTexture0Location = gl.glGetUniformLocation(shader.shaderProgram, "s_texture0");
+        shader.uniformMatrixLocation = gl.glGetUniformLocation(shader.shaderProgram, "u_matrix");
+        shader.uniformBaseColorLocation = gl.glGetUniformLocation(shader.shaderProgram, "u_baseColor");
     }
 
     private void setAttribLocationClipping(final int shaderIndex) {
         CubismShaderSet shader = shaderSets.get(shaderIndex);
 
-        shader.attributePositionLocation = glGetAttribLocation(shader.shaderProgram, "a_position");
-        shader.attributeTexCoordLocation = glGetAttribLocation(shader.shaderProgram, "a_texCoord");
-        shader.samplerTexture0Location = glGetUniformLocation(shader.shaderProgram, "s_texture0");
-        shader.samplerTexture1Location = glGetUniformLocation(shader.shaderProgram, "s_texture1");
-        shader.uniformMatrixLocation = glGetUniformLocation(shader.shaderProgram, "u_matrix");
-        shader.uniformClipMatrixLocation = glGetUniformLocation(shader.shaderProgram, "u_clipMatrix");
-        shader.uniformChannelFlagLocation = glGetUniformLocation(shader.shaderProgram, "u_channelFlag");
-        shader.uniformBaseColorLocation = glGetUniformLocation(shader.shaderProgram, "u_baseColor");
+        shader.attributePositionLocation = gl.glGetAttribLocation(shader.shaderProgram, "a_position");
+        shader.attributeTexCoordLocation = gl.glGetAttribLocation(shader.shaderProgram, "a_texCoord");
+        shader.samplerTexture0Location = gl.glGetUniformLocation(shader.shaderProgram, "s_texture0");
+        shader.samplerTexture1Location = gl.glGetUniformLocation(shader.shaderProgram, "s_texture1");
+        shader.uniformMatrixLocation = gl.glGetUniformLocation(shader.shaderProgram, "u_matrix");
+        shader.uniformClipMatrixLocation = gl.glGetUniformLocation(shader.shaderProgram, "u_clipMatrix");
+        shader.uniformChannelFlagLocation = gl.glGetUniformLocation(shader.shaderProgram, "u_channelFlag");
+        shader.uniformBaseColorLocation = gl.glGetUniformLocation(shader.shaderProgram, "u_baseColor");
+    }
+
+    /**
+     * Set up the position and UV attributes of the drawable.
+     * When the renderer uses buffer objects, the attributes point at the offsets of the drawable in them.
+     * Otherwise the vertices are copied into the cached client-side buffers.
+     *
+     * @param renderer renderer instance
+     * @param model model instance
+     * @param index index of the drawable
+     * @param shaderSet shader set to be used
+     */
+    private void setupVertexAttributes(
+        CubismRendererAndroid renderer,
+        CubismModel model,
+        int index,
+        CubismShaderSet shaderSet
+    ) {
+        CubismDrawableInfoCachesHolder drawableInfoCachesHolder = renderer.getDrawableInfoCachesHolder();
+        CubismGLStateCacheAndroid stateCache = renderer.getStateCache();
+        final int stride = Float.SIZE / Byte.SIZE * 2;
+
+        stateCache.setVertexAttribArray(shaderSet.attributePositionLocation, true);
+        stateCache.setVertexAttribArray(shaderSet.attributeTexCoordLocation, true);
+
+        if (renderer.isUsingVertexBufferObject()) {
+            final int offset = renderer.getVertexBufferOffset(index);
+
+            stateCache.bindBuffer(GL_ARRAY_BUFFER, drawableInfoCachesHolder.getVertexBufferId());
+            gl.glVertexAttribPointer(shaderSet.attributePositionLocation, 2, GL_FLOAT, false, stride, offset);
+            stateCache.bindBuffer(GL_ARRAY_BUFFER, drawableInfoCachesHolder.getUvBufferId());
+            gl.glVertexAttribPointer(shaderSet.attributeTexCoordLocation, 2, GL_FLOAT, false, stride, offset);
+            return;
+        }
+
+        // キャッシュされたバッファを取得し、実際のデータを格納する。
+        FloatBuffer vertexArrayBuffer = drawableInfoCachesHolder.setUpVertexArray(
+            index,
+            model.getDrawableVertices(index)
+        );
+        FloatBuffer uvArrayBuffer = drawableInfoCachesHolder.getUvArray(index);
+
+        stateCache.bindBuffer(GL_ARRAY_BUFFER, 0);
+        gl.glVertexAttribPointer(shaderSet.attributePositionLocation, 2, GL_FLOAT, false, stride, vertexArrayBuffer);
+        gl.glVertexAttribPointer(shaderSet.attributeTexCoordLocation, 2, GL_FLOAT, false, stride, uvArrayBuffer);
+
+        // クライアント側の配列は描画のたびに転送される。
+        renderer.getFrameStatistics().uploadedBytes += (vertexArrayBuffer.capacity() + uvArrayBuffer.capacity()) * 4;
     }
 
     /**
@@ -756,7 +739,7 @@ class CubismShaderAndroid {
         int[] fragShader = new int[1];
 
         // Create shader program.
-        int shaderProgram = glCreateProgram();
+        int shaderProgram = gl.glCreateProgram();
 
         if (!compileShaderSource(vertShader, GL_VERTEX_SHADER, vertShaderSrc)) {
             cubismLogError("Vertex shader compile error!");
@@ -770,27 +753,27 @@ class CubismShaderAndroid {
         }
 
         // Attach vertex shader to program.
-        glAttachShader(shaderProgram, vertShader[0]);
+        gl.glAttachShader(shaderProgram, vertShader[0]);
         // Attach fragment shader to program.
-        glAttachShader(shaderProgram, fragShader[0]);
+        gl.glAttachShader(shaderProgram, fragShader[0]);
 
         // Link program.
         if (!linkProgram(shaderProgram)) {
             cubismLogError("Failed to link program: " + shaderProgram);
 
-            glDeleteShader(vertShader[0]);
-            glDeleteShader(fragShader[0]);
-            glDeleteProgram(shaderProgram);
+            gl.glDeleteShader(vertShader[0]);
+            gl.glDeleteShader(fragShader[0]);
+            gl.glDeleteProgram(shaderProgram);
 
             return 0;
         }
 
         // Release vertex and fragment shaders.
-        glDetachShader(shaderProgram, vertShader[0]);
-        glDeleteShader(vertShader[0]);
+        gl.glDetachShader(shaderProgram, vertShader[0]);
+        gl.glDeleteShader(vertShader[0]);
 
-        glDetachShader(shaderProgram, fragShader[0]);
-        glDeleteShader(fragShader[0]);
+        gl.glDetachShader(shaderProgram, fragShader[0]);
+        gl.glDeleteShader(fragShader[0]);
 
         return shaderProgram;
     }
@@ -808,22 +791,22 @@ class CubismShaderAndroid {
             return false;
         }
 
-        shader[0] = glCreateShader(shaderType);
+        shader[0] = gl.glCreateShader(shaderType);
 
-        glShaderSource(shader[0], shaderSource);
-        glCompileShader(shader[0]);
+        gl.glShaderSource(shader[0], shaderSource);
+        gl.glCompileShader(shader[0]);
 
         int[] logLength = new int[1];
-        glGetShaderiv(shader[0], GL_INFO_LOG_LENGTH, IntBuffer.wrap(logLength));
+        gl.glGetShaderiv(shader[0], GL_INFO_LOG_LENGTH, logLength, 0);
         if (logLength[0] > 0) {
-            String log = glGetShaderInfoLog(shader[0]);
+            String log = gl.glGetShaderInfoLog(shader[0]);
             cubismLogError("Shader compile log: " + log);
         }
 
         int[] status = new int[1];
-        glGetShaderiv(shader[0], GL_COMPILE_STATUS, IntBuffer.wrap(status));
+        gl.glGetShaderiv(shader[0], GL_COMPILE_STATUS, status, 0);
         if (status[0] == GL_FALSE) {
-            glDeleteShader(shader[0]);
+            gl.glDeleteShader(shader[0]);
             return false;
         }
         return true;
@@ -836,17 +819,17 @@ class CubismShaderAndroid {
      * @return If linking succeeds, return true
      */
     private boolean linkProgram(int shaderProgram) {
-        glLinkProgram(shaderProgram);
+        gl.glLinkProgram(shaderProgram);
 
         int[] logLength = new int[1];
-        glGetProgramiv(shaderProgram, GL_INFO_LOG_LENGTH, IntBuffer.wrap(logLength));
+        gl.glGetProgramiv(shaderProgram, GL_INFO_LOG_LENGTH, logLength, 0);
         if (logLength[0] > 0) {
-            String log = glGetProgramInfoLog(shaderProgram);
+            String log = gl.glGetProgramInfoLog(shaderProgram);
             cubismLogError("Program link log: " + log);
         }
 
         int[] status = new int[1];
-        glGetProgramiv(shaderProgram, GL_LINK_STATUS, IntBuffer.wrap(status));
+        gl.glGetProgramiv(shaderProgram, GL_LINK_STATUS, status, 0);
         return status[0] != GL_FALSE;
     }
 
@@ -857,17 +840,17 @@ class CubismShaderAndroid {
      * @return If there is no problem, return true
      */
     private boolean validateProgram(int shaderProgram) {
-        glValidateProgram(shaderProgram);
+        gl.glValidateProgram(shaderProgram);
 
         int[] logLength = new int[1];
-        glGetProgramiv(shaderProgram, GL_INFO_LOG_LENGTH, IntBuffer.wrap(logLength));
+        gl.glGetProgramiv(shaderProgram, GL_INFO_LOG_LENGTH, logLength, 0);
         if (logLength[0] > 0) {
-            String log = glGetProgramInfoLog(shaderProgram);
+            String log = gl.glGetProgramInfoLog(shaderProgram);
             cubismLogError("Validate program log: " + log);
         }
 
         int[] status = new int[1];
-        glGetProgramiv(shaderProgram, GL_VALIDATE_STATUS, IntBuffer.wrap(status));
+        gl.glGetProgramiv(shaderProgram, GL_VALIDATE_STATUS, status, 0);
         return status[0] != GL_FALSE;
     }
 
@@ -875,4 +858,9 @@ class CubismShaderAndroid {
      * Variable that holds the loaded shader program.
      */
     private final List<CubismShaderSet> shaderSets = new ArrayList<CubismShaderSet>();
+
+    /**
+     * GL functions used by this instance
+     */
+    private final ICubismGL gl = CubismRendererAndroid.getGL();
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import java.nio.Buffer;
+
+/**
+ * The interface of the OpenGL ES 2.0 functions used by the renderer.
+ * The signatures are the same as the ones of android.opengl.GLES20.
+ * <p>
+ * CubismGLES20 calls the GPU and is used by default.
+ * CubismRecordingGL only records the calls, so the renderer can be run and measured without a GPU.
+ * </p>
+ *
+ * @see CubismRendererAndroid#setGL(ICubismGL)
+ */
+public interface ICubismGL {
+    void glActiveTexture(int texture);
+
+    void glAttachShader(int program, int shader);
+
+    void glBindBuffer(int target, int buffer);
+
+    void glBindFramebuffer(int target, int framebuffer);
+
+    void glBindTexture(int target, int texture);
+
+    void glBlendFunc(int sfactor, int dfactor);
+
+    void glBlendFuncSeparate(int srcRGB, int dstRGB, int srcAlpha, int dstAlpha);
+
+    void glBufferData(int target, int size, Buffer data, int usage);
+
+    void glBufferSubData(int target, int offset, int size, Buffer data);
+
+    void glClear(int mask);
+
+    void glClearColor(float red, float green, float blue, float alpha);
+
+    void glColorMask(boolean red, boolean green, boolean blue, boolean alpha);
+
+    void glCompileShader(int shader);
+
+    int glCreateProgram();
+
+    int glCreateShader(int type);
+
+    void glDeleteBuffers(int n, int[] buffers, int offset);
+
+    void glDeleteFramebuffers(int n, int[] framebuffers, int offset);
+
+    void glDeleteProgram(int program);
+
+    void glDeleteShader(int shader);
+
+    void glDeleteTextures(int n, int[] textures, int offset);
+
+    void glDetachShader(int program, int shader);
+
+    void glDisable(int cap);
+
+    void glDisableVertexAttribArray(int index);
+
+    void glDrawArrays(int mode, int first, int count);
+
+    void glDrawElements(int mode, int count, int type, Buffer indices);
+
+    void glDrawElements(int mode, int count, int type, int offset);
+
+    void glEnable(int cap);
+
+    void glEnableVertexAttribArray(int index);
+
+    void glFramebufferTexture2D(int target, int attachment, int textarget, int texture, int level);
+
+    void glFrontFace(int mode);
+
+    void glGenBuffers(int n, int[] buffers, int offset);
+
+    void glGenFramebuffers(int n, int[] framebuffers, int offset);
+
+    void glGenTextures(int n, int[] textures, int offset);
+
+    int glGetAttribLocation(int program, String name);
+
+    void glGetBooleanv(int pname, boolean[] params, int offset);
+
+    void glGetIntegerv(int pname, int[] params, int offset);
+
+    String glGetProgramInfoLog(int program);
+
+    void glGetProgramiv(int program, int pname, int[] params, int offset);
+
+    String glGetShaderInfoLog(int shader);
+
+    void glGetShaderiv(int shader, int pname, int[] params, int offset);
+
+    int glGetUniformLocation(int program, String name);
+
+    void glGetVertexAttribiv(int index, int pname, int[] params, int offset);
+
+    boolean glIsEnabled(int cap);
+
+    void glLinkProgram(int program);
+
+    void glScissor(int x, int y, int width, int height);
+
+    void glShaderSource(int shader, String string);
+
+    void glTexImage2D(int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels);
+
+    void glTexParameterf(int target, int pname, float param);
+
+    void glTexParameteri(int target, int pname, int param);
+
+    void glUniform1i(int location, int x);
+
+    void glUniform4f(int location, float x, float y, float z, float w);
+
+    void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset);
+
+    void glUseProgram(int program);
+
+    void glValidateProgram(int program);
+
+    void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, Buffer ptr);
+
+    void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, int offset);
+
+    void glViewport(int x, int y, int width, int height);
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils;
+
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reader of the compiled binary data written by CubismBinaryWriter.
+ * <p>
+ * Every read is checked against the remaining bytes, and the element count of an array is checked before the array is allocated.
+ * CubismBinaryFormatException is thrown instead of reading out of the range, so that a broken data never causes a huge allocation.
+ */
+public class CubismBinaryReader {
+    /**
+     * Constructor
+     *
+     * @param bytes compiled binary data
+     */
+    public CubismBinaryReader(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Constructor
+     * The data between the position and the limit of the buffer is read. The buffer itself is not modified.
+     *
+     * @param buffer compiled binary data
+     */
+    public CubismBinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public int readInt() {
+        require(4);
+        return buffer.getInt();
+    }
+
+    public float readFloat() {
+        require(4);
+        return buffer.getFloat();
+    }
+
+    public long readLong() {
+        require(8);
+        return buffer.getLong();
+    }
+
+    public boolean readBoolean() {
+        require(1);
+        return buffer.get() != 0;
+    }
+
+    /**
+     * Read a string written by CubismBinaryWriter.writeString().
+     *
+     * @return string. null if null was written.
+     */
+    public String readString() {
+        final int length = readInt();
+
+        if (length == -1) {
+            return null;
+        }
+        requireElements(length, 1);
+
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * Read a byte array written by CubismBinaryWriter.writeBytes().
+     *
+     * @return byte array
+     */
+    public byte[] readBytes() {
+        final int length = readInt();
+        requireElements(length, 1);
+
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Read a byte array written by CubismBinaryWriter.writeBytes() as a view of this data without copying.
+     * The view is used to create another reader of a nested data.
+     *
+     * @return view of the byte array
+     */
+    public ByteBuffer readByteBuffer() {
+        final int length = readInt();
+        requireElements(length, 1);
+
+        final ByteBuffer view = buffer.slice();
+        view.limit(length);
+        buffer.position(buffer.position() + length);
+        return view;
+    }
+
+    /**
+     * Read a float array written by CubismBinaryWriter.writeFloatArray().
+     *
+     * @return float array
+     */
+    public float[] readFloatArray() {
+        final int count = readInt();
+        requireElements(count, 4);
+
+        final float[] values = new float[count];
+        readFloats(values, count);
+        return values;
+    }
+
+    /**
+     * Read a float array written by CubismBinaryWriter.writeFloatArray() into the given array.
+     *
+     * @param destination destination array
+     * @param expectedCount expected element count. CubismBinaryFormatException is thrown if the written count is different.
+     */
+    public void readFloatArray(float[] destination, int expectedCount) {
+        final int count = readInt();
+        if (count != expectedCount || destination.length < count) {
+            throw new CubismBinaryFormatException("Unexpected array length: " + count + ", expected: " + expectedCount);
+        }
+        requireElements(count, 4);
+
+        readFloats(destination, count);
+    }
+
+    /**
+     * Read an int array written by CubismBinaryWriter.writeIntArray().
+     *
+     * @return int array
+     */
+    public int[] readIntArray() {
+        final int count = readInt();
+        requireElements(count, 4);
+
+        final int[] values = new int[count];
+        buffer.asIntBuffer().get(values, 0, count);
+        buffer.position(buffer.position() + count * 4);
+        return values;
+    }
+
+    /**
+     * Read an element count, and check that the remaining bytes can hold the elements of the given minimum size.
+     *
+     * @param minimumElementSize minimum size of an element in bytes
+     * @return element count
+     */
+    public int readCount(int minimumElementSize) {
+        final int count = readInt();
+        requireElements(count, minimumElementSize);
+        return count;
+    }
+
+    /**
+     * Get the number of the bytes which have not been read.
+     *
+     * @return number of the remaining bytes
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    // This is only used by 'readFloatArray' methods.
+    private void readFloats(float[] destination, int count) {
+        buffer.asFloatBuffer().get(destination, 0, count);
+        buffer.position(buffer.position() + count * 4);
+    }
+
+    private void require(int length) {
+        if (buffer.remaining() < length) {
+            throw new CubismBinaryFormatException("Unexpected end of data at " + buffer.position() + ".");
+        }
+    }
+
+    private void requireElements(int count, int elementSize) {
+        if (count < 0 || (long) count * elementSize > buffer.remaining()) {
+            throw new CubismBinaryFormatException("Invalid element count " + count + " at " + buffer.position() + ".");
+        }
+    }
+
+    private final ByteBuffer buffer;
+}
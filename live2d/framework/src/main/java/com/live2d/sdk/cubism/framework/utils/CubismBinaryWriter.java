@@ -0,0 +1,145 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writer of the compiled binary data read by CubismBinaryReader.
+ * <p>
+ * All values are written in little endian. Strings are written as UTF-8 bytes preceded by the byte length,
+ * and arrays are preceded by the element count.
+ */
+public class CubismBinaryWriter {
+    /**
+     * Constructor
+     */
+    public CubismBinaryWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param initialCapacity initial capacity of the buffer in bytes
+     */
+    public CubismBinaryWriter(int initialCapacity) {
+        buffer = ByteBuffer.allocate(Math.max(initialCapacity, 16)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void writeInt(int value) {
+        ensureRemaining(4);
+        buffer.putInt(value);
+    }
+
+    public void writeFloat(float value) {
+        ensureRemaining(4);
+        buffer.putFloat(value);
+    }
+
+    public void writeLong(long value) {
+        ensureRemaining(8);
+        buffer.putLong(value);
+    }
+
+    public void writeBoolean(boolean value) {
+        ensureRemaining(1);
+        buffer.put(value ? (byte) 1 : (byte) 0);
+    }
+
+    /**
+     * Write a string. null is written as the length -1.
+     *
+     * @param value string
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write a byte array with its length.
+     *
+     * @param values byte array
+     */
+    public void writeBytes(byte[] values) {
+        writeInt(values.length);
+        ensureRemaining(values.length);
+        buffer.put(values);
+    }
+
+    /**
+     * Write the part of a float array with the count.
+     *
+     * @param values float array
+     * @param count number of the elements to write
+     */
+    public void writeFloatArray(float[] values, int count) {
+        writeInt(count);
+        ensureRemaining(count * 4);
+        buffer.asFloatBuffer().put(values, 0, count);
+        buffer.position(buffer.position() + count * 4);
+    }
+
+    /**
+     * Write the part of an int array with the count.
+     *
+     * @param values int array
+     * @param count number of the elements to write
+     */
+    public void writeIntArray(int[] values, int count) {
+        writeInt(count);
+        ensureRemaining(count * 4);
+        buffer.asIntBuffer().put(values, 0, count);
+        buffer.position(buffer.position() + count * 4);
+    }
+
+    /**
+     * Get the number of the written bytes.
+     *
+     * @return number of the written bytes
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Get a copy of the written bytes.
+     *
+     * @return written bytes
+     */
+    public byte[] toByteArray() {
+        final byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    // This is only used by 'write' methods.
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+
+        final int position = buffer.position();
+        final int capacity = Math.max(buffer.capacity() * 2, position + length);
+        final ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+
+        System.arraycopy(buffer.array(), 0, grown.array(), 0, position);
+        grown.position(position);
+        buffer = grown;
+    }
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private ByteBuffer buffer;
+}
@@ -10,10 +10,10 @@ package com.live2d.sdk.cubism.framework.utils.jsonparser;
 import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
 import com.live2d.sdk.cubism.framework.exception.CubismJsonSyntaxErrorException;
 
-import java.io.IOException;
-
 /**
  * This class has some functions related to JSON.
+ * <p>
+ * Each instance has its own lexer, so that different JSON data can be parsed concurrently on different threads.
  */
 public class CubismJson {
     /**
@@ -35,6 +35,30 @@ public class CubismJson {
         return json;
     }
 
+    /**
+     * Creates the JSON object which decodes the values lazily.
+     * <p>
+     * Instead of the tree of values, a compact index of the byte data is built. A value is decoded when it is accessed,
+     * and the same ACubismJsonValue API is offered by lightweight views. This is suitable for the JSON which is read
+     * only once, such as motion3.json and physics3.json. The values of the tree are not cached, so a new value is
+     * returned every time it is accessed.
+     *
+     * @param buffer byte data of the JSON. It is referred by the JSON object and must not be modified.
+     * @return JSON object
+     *
+     * @throws IllegalArgumentException If the argument is null
+     */
+    public static CubismJson createLazy(byte[] buffer) {
+        if (buffer == null || buffer.length == 0) {
+            throw new IllegalArgumentException("Parsed JSON data is empty.");
+        }
+
+        CubismJson json = new CubismJson();
+        json.root = CubismJsonTape.parse(buffer).getRoot();
+
+        return json;
+    }
+
     /**
      * Get a root of a parsed JSON.
      *
@@ -55,15 +79,10 @@ public class CubismJson {
      * @param buffer JSON byte data
      */
     private void parse(byte[] buffer) {
-        try {
-            String json = new String(buffer, "UTF-8");
-            lexer = new CubismJsonLexer(json);
-
-            token = lexer.getNextToken();
-            root = createValue();
-        } catch (IOException e) {
-            throw new CubismJsonParseException("It seems that an error has occured in the input/output processing", e);
-        }
+        lexer = new CubismJsonLexer(buffer);
+
+        token = lexer.getNextToken();
+        root = createValue();
     }
 
     /**
@@ -71,7 +90,7 @@ public class CubismJson {
      *
      * @return JSON Value
      */
-    private ACubismJsonValue createValue() throws CubismJsonParseException, IOException {
+    private ACubismJsonValue createValue() throws CubismJsonParseException {
         // JSON Object
         if (token.getTokenType() == CubismJsonToken.TokenType.LBRACE) {
             objectNestingLevel++;
@@ -139,7 +158,7 @@ public class CubismJson {
      *
      * @return JSON Object
      */
-    private CubismJsonObject createObject() throws CubismJsonParseException, IOException {
+    private CubismJsonObject createObject() throws CubismJsonParseException {
         CubismJsonObject object = new CubismJsonObject();
 
         token = lexer.getNextToken();
@@ -196,7 +215,7 @@ public class CubismJson {
      *
      * @throws CubismJsonParseException an exception related to parsing
      */
-    private CubismJsonArray createArray() throws CubismJsonParseException, IOException {
+    private CubismJsonArray createArray() throws CubismJsonParseException {
         CubismJsonArray array = new CubismJsonArray();
 
         token = lexer.getNextToken();
@@ -10,116 +10,105 @@ package com.live2d.sdk.cubism.framework.utils.jsonparser;
 
 import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
 
-import java.io.IOException;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class offers a function of JSON lexer.
+ * <p>
+ * The lexer reads the UTF-8 bytes of JSON directly without decoding the whole data to a string.
+ * All the states, including the mutable string and number tokens, belong to the instance,
+ * so that different lexers can run concurrently on different threads.
+ * <p>
+ * The byte range of the last string or number token is available from getTokenBegin() and getTokenEnd().
+ * If the lexer does not decode values, the tokens only carry the range and the values are decoded later by
+ * parseNumber() and decodeString().
  */
 class CubismJsonLexer {
     /**
      * Package-private constructor
      *
-     * @param json string of JSON
+     * @param json UTF-8 byte data of JSON
      */
-    public CubismJsonLexer(String json) {
+    public CubismJsonLexer(byte[] json) {
+        this(json, true);
+    }
+
+    /**
+     * Package-private constructor
+     *
+     * @param json UTF-8 byte data of JSON
+     * @param decodesValues whether the values of string and number tokens are decoded
+     */
+    public CubismJsonLexer(byte[] json, boolean decodesValues) {
         // 上位層で、nullだったら例外を出しているため、
         // 引数がnullであることは考えられない
         assert json != null;
 
-        // char配列に変換する
-        jsonChars = json.toCharArray();
-        jsonCharsLength = jsonChars.length;
+        jsonBytes = json;
+        jsonBytesLength = json.length;
 
-        // トークン解析用のバッファを初期化
-        // 初期容量は128。128文字を超えるトークンが出現するならばその都度拡張する。
-        parsedTokonBuffer = new char[MINIMUM_CAPACITY];
+        // UTF-8のBOMがあれば読み飛ばす
+        if (jsonBytesLength >= 3
+            && (jsonBytes[0] & 0xFF) == 0xEF
+            && (jsonBytes[1] & 0xFF) == 0xBB
+            && (jsonBytes[2] & 0xFF) == 0xBF) {
+            byteIndex = 3;
+        }
+        this.decodesValues = decodesValues;
     }
 
     /**
      * Get a next token.
+     * <p>
+     * The string token and the number token are reused by the following calls.
      */
-    public CubismJsonToken getNextToken() throws CubismJsonParseException, IOException {
+    public CubismJsonToken getNextToken() throws CubismJsonParseException {
         // Skip blank characters
         while (isWhiteSpaceChar(nextChar)) {
             updateNextChar();
         }
 
-        // null文字で埋める
-        Arrays.fill(parsedTokonBuffer, 0, bufferIndex, '\0');
-        bufferIndex = 0;
-
         // A Number token
         // A process when beginning at minus sign
         if (nextChar == '-') {
-            append('-');
+            tokenBegin = getCurrentOffset();
             updateNextChar();
 
-            if (Character.isDigit(nextChar)) {
+            if (isDigit(nextChar)) {
                 buildNumber();
-                String numberStr = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-                NUMBER.setNumberValue(Double.parseDouble(numberStr));
 
-                return NUMBER;
+                return numberToken;
             } else {
                 throw new CubismJsonParseException("Number's format is incorrect.", lineNumber);
             }
         }
         // A process when beginning at a number except 0.
-        else if (Character.isDigit(nextChar)) {
+        else if (isDigit(nextChar)) {
+            tokenBegin = getCurrentOffset();
             buildNumber();
-            String numberStr = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            NUMBER.setNumberValue(Double.parseDouble(numberStr));
 
-            return NUMBER;
+            return numberToken;
         }
         // true
         else if (nextChar == 't') {
-            append(nextChar);
-            updateNextChar();
-
-            for (int i = 0; i < 3; i++) {
-                append(nextChar);
-                updateNextChar();
-            }
-
             // If "value" does not create true value, send an exception.
-            String trueString = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            if (!trueString.equals("true")) {
+            if (!readKeyword(TRUE_KEYWORD)) {
                 throw new CubismJsonParseException("Boolean's format or spell is incorrect.", lineNumber);
             }
             return TRUE;
         }
         // false
         else if (nextChar == 'f') {
-            append(nextChar);
-            updateNextChar();
-
-            for (int i = 0; i < 4; i++) {
-                append(nextChar);
-                updateNextChar();
-            }
-
             // If the value does not equals to "false" value, send the exception.
-            String falseString = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            if (!falseString.equals("false")) {
+            if (!readKeyword(FALSE_KEYWORD)) {
                 throw new CubismJsonParseException("Boolean's format or spell is incorrect.", lineNumber);
             }
             return FALSE;
         }
         // null
         else if (nextChar == 'n') {
-            append(nextChar);
-            updateNextChar();
-
-            for (int i = 0; i < 3; i++) {
-                append(nextChar);
-                updateNextChar();
-            }
-
             // If the JSON value does not equal to the "null" value, send an exception.
-            String nullString = String.copyValueOf(parsedTokonBuffer, 0, bufferIndex);
-            if (!nullString.equals("null")) {
+            if (!readKeyword(NULL_KEYWORD)) {
                 throw new CubismJsonParseException("JSON Null's format or spell is incorrect.", lineNumber);
             }
             return NULL;
@@ -139,22 +128,31 @@ class CubismJsonLexer {
         // If next character is double quote, string token is created.
         else if (nextChar == '"') {
             updateNextChar();
+            tokenBegin = getCurrentOffset();
+            hasEscapedCharacter = false;
 
             // Until closing by double quote("), it is continued to read.
+            // The bytes are decoded at once after the string is closed, so that multi-byte characters are not split.
             while (nextChar != '"') {
+                if (nextChar == END_OF_INPUT) {
+                    throw new CubismJsonParseException("The JSON is not closed properly, or there is some other malformed form.", lineNumber);
+                }
+
                 // Consider a escape sequence.
                 if (nextChar == '\\') {
+                    hasEscapedCharacter = true;
                     updateNextChar();
-                    buildEscapedString();
-                } else {
-                    append(nextChar);
+                    checkEscapedString();
                 }
                 updateNextChar();
             }
+            tokenEnd = getCurrentOffset();
             updateNextChar();
-            STRING.setStringValue(String.valueOf(parsedTokonBuffer, 0, bufferIndex));
 
-            return STRING;
+            if (decodesValues) {
+                stringToken.setStringValue(decodeString(jsonBytes, tokenBegin, tokenEnd, hasEscapedCharacter));
+            }
+            return stringToken;
         }
         // Colon(:)
         else if (nextChar == ':') {
@@ -179,34 +177,197 @@ class CubismJsonLexer {
     }
 
     /**
-     * Build number string.
+     * Return the beginning offset of the last string or number token.
+     * The offset of a string token does not include the double quote.
      *
-     * @throws CubismJsonParseException the exception at failing to parse
+     * @return beginning offset in the byte data
      */
-    private void buildNumber() throws CubismJsonParseException {
-        if (nextChar == '0') {
-            append(nextChar);
-            updateNextChar();
-            buildDoubleOrExpNumber();
-        } else {
-            append(nextChar);
-            updateNextChar();
+    public int getTokenBegin() {
+        return tokenBegin;
+    }
 
-            // Repeat processes until appearing a character except dot, exponential expression or number.
-            while (Character.isDigit(nextChar)) {
-                append(nextChar);
-                updateNextChar();
+    /**
+     * Return the end offset(exclusive) of the last string or number token.
+     * The offset of a string token does not include the double quote.
+     *
+     * @return end offset in the byte data
+     */
+    public int getTokenEnd() {
+        return tokenEnd;
+    }
+
+    /**
+     * Return whether the last string token has an escape sequence.
+     *
+     * @return If the string token has an escape sequence, return true
+     */
+    public boolean hasEscapedCharacter() {
+        return hasEscapedCharacter;
+    }
+
+    /**
+     * Parse a number which has been checked by the lexer.
+     * <p>
+     * The significant digits and the decimal exponent are accumulated.
+     * If they are exactly representable, the value is computed by one multiplication or division of doubles,
+     * which is correctly rounded. Otherwise the characters are passed to Double.parseDouble().
+     *
+     * @param bytes byte data of JSON
+     * @param begin beginning offset of the number
+     * @param end end offset(exclusive) of the number
+     * @return number value
+     */
+    static double parseNumber(byte[] bytes, int begin, int end) {
+        int index = begin;
+        final boolean isNegative = bytes[index] == '-';
+        if (isNegative) {
+            index++;
+        }
+
+        long mantissa = 0;
+        int significantDigitCount = 0;
+        int decimalExponent = 0;
+        boolean isFraction = false;
+
+        for (; index < end; index++) {
+            final int c = bytes[index];
+
+            if (c == '.') {
+                isFraction = true;
+                continue;
+            }
+            if (!isDigit(c)) {
+                break;
+            }
+
+            final int digit = c - '0';
+
+            // Leading zeros are not significant.
+            if (significantDigitCount > 0 || digit != 0) {
+                if (significantDigitCount < MAXIMUM_ACCUMULATED_DIGIT_COUNT) {
+                    mantissa = mantissa * 10 + digit;
+                }
+                significantDigitCount++;
+            }
+            if (isFraction) {
+                decimalExponent--;
+            }
+        }
+
+        // Exponential expression
+        if (index < end) {
+            index++;
+
+            boolean isNegativeExponent = false;
+            if (bytes[index] == '+') {
+                index++;
+            } else if (bytes[index] == '-') {
+                isNegativeExponent = true;
+                index++;
+            }
+
+            int exponent = 0;
+            for (; index < end; index++) {
+                // 範囲外の指数はどのみちDouble.parseDouble()に任せるため、それ以上は数えない
+                if (exponent < MAXIMUM_COUNTED_EXPONENT) {
+                    exponent = exponent * 10 + (bytes[index] - '0');
+                }
+            }
+            decimalExponent += isNegativeExponent ? -exponent : exponent;
+        }
+
+        if (significantDigitCount <= MAXIMUM_EXACT_DIGIT_COUNT
+            && decimalExponent >= -MAXIMUM_EXACT_POWER
+            && decimalExponent <= MAXIMUM_EXACT_POWER) {
+            double value = (double) mantissa;
+
+            if (decimalExponent < 0) {
+                value /= POWERS_OF_TEN[-decimalExponent];
+            } else {
+                value *= POWERS_OF_TEN[decimalExponent];
+            }
+            return isNegative ? -value : value;
+        }
+
+        // 正確に計算できない場合のみ文字列を経由する
+        return Double.parseDouble(new String(bytes, begin, end - begin, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a string which has been checked by the lexer.
+     * <p>
+     * The unicode notation(backslash, "u" and 4 hexadecimal digits) is not decoded and left as it is. An unknown escape sequence is removed.
+     *
+     * @param bytes byte data of JSON
+     * @param begin beginning offset of the string, next to the double quote
+     * @param end end offset(exclusive) of the string
+     * @param hasEscapedCharacter whether the string has an escape sequence
+     * @return decoded string
+     */
+    static String decodeString(byte[] bytes, int begin, int end, boolean hasEscapedCharacter) {
+        if (!hasEscapedCharacter) {
+            return new String(bytes, begin, end - begin, StandardCharsets.UTF_8);
+        }
+
+        // エスケープシーケンスを処理した結果は元のバイト列より長くならない
+        final byte[] buffer = new byte[end - begin];
+        int length = 0;
+
+        for (int index = begin; index < end; index++) {
+            final byte c = bytes[index];
+
+            if (c != '\\') {
+                buffer[length++] = c;
+                continue;
+            }
+
+            index++;
+            switch (bytes[index]) {
+                case '"':
+                case '\\':
+                case '/':
+                    buffer[length++] = bytes[index];
+                    break;
+                case 'b':
+                    buffer[length++] = '\b';
+                    break;
+                case 'f':
+                    buffer[length++] = '\f';
+                    break;
+                case 'n':
+                    buffer[length++] = '\n';
+                    break;
+                case 'r':
+                    buffer[length++] = '\r';
+                    break;
+                case 't':
+                    buffer[length++] = '\t';
+                    break;
+                case 'u':
+                    System.arraycopy(bytes, index - 1, buffer, length, 6);
+                    length += 6;
+                    index += 4;
+                    break;
             }
-            buildDoubleOrExpNumber();
         }
+        return new String(buffer, 0, length, StandardCharsets.UTF_8);
     }
 
     /**
-     * Build double or exponential number.
+     * Build a number token. The format of the number is checked and the value is decoded if needed.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
-    private void buildDoubleOrExpNumber() throws CubismJsonParseException {
+    private void buildNumber() throws CubismJsonParseException {
+        if (nextChar == '0') {
+            updateNextChar();
+        } else {
+            // Repeat processes until appearing a character except dot, exponential expression or number.
+            do {
+                updateNextChar();
+            } while (isDigit(nextChar));
+        }
+
         // If the next character is dot, floating point number is created.
         if (nextChar == '.') {
             buildDoubleNumber();
@@ -215,110 +376,93 @@ class CubismJsonLexer {
         if (nextChar == 'e' || nextChar == 'E') {
             buildExponents();
         }
+        tokenEnd = getCurrentOffset();
+
+        if (decodesValues) {
+            numberToken.setNumberValue(parseNumber(jsonBytes, tokenBegin, tokenEnd));
+        }
     }
 
     /**
-     * Return floating point number as strings(StringBuilder).
+     * Read digits after dot sign.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
     private void buildDoubleNumber() throws CubismJsonParseException {
-        append('.');
         updateNextChar();
 
         // If the character following dot sign is not a number, an exception is thrown.
-        if (!Character.isDigit(nextChar)) {
+        if (!isDigit(nextChar)) {
             throw new CubismJsonParseException("Number's format is incorrect.", lineNumber);
         }
         do {
-            append(nextChar);
             updateNextChar();
-        } while (Character.isDigit(nextChar));
+        } while (isDigit(nextChar));
     }
 
     /**
-     * Build a number string used an exponential expression.
+     * Read an exponential expression.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
     private void buildExponents() throws CubismJsonParseException {
-        append(nextChar);
         updateNextChar();
 
         // Handle cases where a number is preceded by a sign.
-        if (nextChar == '+') {
-            append(nextChar);
-            updateNextChar();
-        } else if (nextChar == '-') {
-            append(nextChar);
+        if (nextChar == '+' || nextChar == '-') {
             updateNextChar();
         }
         // If the character is not a number or a sign, an exception is thrown.
-        if (!Character.isDigit(nextChar)) {
-            throw new CubismJsonParseException(String.copyValueOf(parsedTokonBuffer, 0, bufferIndex) + "\n: " + "Exponent value's format is incorrect.", lineNumber);
+        if (!isDigit(nextChar)) {
+            String number = new String(jsonBytes, tokenBegin, getCurrentOffset() - tokenBegin, StandardCharsets.US_ASCII);
+            throw new CubismJsonParseException(number + "\n: " + "Exponent value's format is incorrect.", lineNumber);
         }
 
         do {
-            append(nextChar);
             updateNextChar();
-        } while (Character.isDigit(nextChar));
+        } while (isDigit(nextChar));
     }
 
     /**
-     * Build a string used an escape sequence.
+     * Check an escape sequence.
      *
      * @throws CubismJsonParseException the exception at failing to parse
      */
-    private void buildEscapedString() throws CubismJsonParseException {
-        switch (nextChar) {
-            case '"':
-            case '\\':
-            case '/':
-                append(nextChar);
-                break;
-            case 'b':
-                append('\b');
-                break;
-            case 'f':
-                append('\f');
-                break;
-            case 'n':
-                append('\n');
-                break;
-            case 'r':
-                append('\r');
-                break;
-            case 't':
-                append('\t');
-                break;
-            case 'u': {
-                // バッファをクリアする
-                bufferForHexadecimalString.delete(0, 16);
+    private void checkEscapedString() throws CubismJsonParseException {
+        if (nextChar != 'u') {
+            return;
+        }
 
-                bufferForHexadecimalString.append('\\');
-                bufferForHexadecimalString.append('u');
-                for (int i = 0; i < 4; i++) {
-                    updateNextChar();
-                    bufferForHexadecimalString.append(nextChar);
-                }
-                // Check whether it is hex number. If there is a problem, an exception is thrown.
-                String tmp = bufferForHexadecimalString.toString();
-                if (!tmp.matches("\\\\u[a-fA-F0-9]{4}")) {
-                    throw new CubismJsonParseException(bufferForHexadecimalString + "\n: " + "The unicode notation is incorrect.", lineNumber);
-                }
+        // 16進数表記はデコードせずにそのまま文字列に残す
+        final int beginIndex = getCurrentOffset() - 1;
+        boolean isHexadecimal = true;
 
-                for (int i = 0; i < tmp.length(); i++) {
-                    append(tmp.charAt(i));
-                }
-                break;
-            }
+        for (int i = 0; i < 4; i++) {
+            updateNextChar();
+            isHexadecimal &= isHexadecimalDigit(nextChar);
+        }
+        // Check whether it is hex number. If there is a problem, an exception is thrown.
+        if (!isHexadecimal) {
+            String notation = new String(jsonBytes, beginIndex, byteIndex - beginIndex, StandardCharsets.UTF_8);
+            throw new CubismJsonParseException(notation + "\n: " + "The unicode notation is incorrect.", lineNumber);
         }
     }
 
     /**
-     * {@code buildEscapedString}の16進数の文字コードをパースする箇所で使用されるバッファ。
+     * Read the keyword and check whether the read characters match it.
+     *
+     * @param keyword expected keyword
+     * @return If the read characters match the keyword, return true
      */
-    private static final StringBuffer bufferForHexadecimalString = new StringBuffer();
+    private boolean readKeyword(byte[] keyword) {
+        boolean isMatched = true;
+
+        for (byte b : keyword) {
+            isMatched &= nextChar == b;
+            updateNextChar();
+        }
+        return isMatched;
+    }
 
     /**
      * Whether a character is white space character.
@@ -326,22 +470,30 @@ class CubismJsonLexer {
      * @param c checked character
      * @return If the character is white space character, return true
      */
-    private boolean isWhiteSpaceChar(char c) {
+    private static boolean isWhiteSpaceChar(int c) {
         return (c == ' ' || c == '\r' || c == '\n' || c == '\t');
     }
 
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexadecimalDigit(int c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
     /**
      * Read a next character
      */
     private void updateNextChar() {
-        // 文字を全部読んだら、次の文字をnull文字にセットしてreturnする
-        if (charIndex >= jsonCharsLength) {
-            nextChar = '\0';
+        // 全部読んだら、次の文字を入力の終端にセットしてreturnする
+        if (byteIndex >= jsonBytesLength) {
+            nextChar = END_OF_INPUT;
             return;
         }
 
-        nextChar = jsonChars[charIndex];
-        charIndex++;
+        nextChar = jsonBytes[byteIndex] & 0xFF;
+        byteIndex++;
 
         // 改行コードがあれば行数をインクリメントする
         if (nextChar == '\n') {
@@ -350,24 +502,16 @@ class CubismJsonLexer {
     }
 
     /**
-     * Tokonのパース用の文字列バッファに、引数で指定された文字リテラルを追加する。
+     * Return the offset of the next character.
      *
-     * @param c 追加する文字リテラル
+     * @return offset of the next character. If all the bytes have been read, return the length of the byte data.
      */
-    private void append(char c) {
-        // Tokenをパースするためのバッファがいっぱいになったら、バッファサイズを2倍にする
-        if (bufferLength == bufferIndex) {
-            bufferLength *= 2;
-            char[] tmp = new char[bufferLength];
-            System.arraycopy(parsedTokonBuffer, 0, tmp, 0, bufferIndex);
-
-            parsedTokonBuffer = tmp;
-        }
-        parsedTokonBuffer[bufferIndex] = c;
-        bufferIndex++;
+    private int getCurrentOffset() {
+        return nextChar == END_OF_INPUT ? jsonBytesLength : byteIndex - 1;
     }
 
     // Tokenを都度生成せずに定数として保持する
+    // これらのトークンは不変なので、複数のインスタンスで共有してよい
     /**
      * 左波カッコ'{'のトークン
      */
@@ -381,7 +525,7 @@ class CubismJsonLexer {
      */
     private static final CubismJsonToken LSQUARE_BRACKET = new CubismJsonToken(CubismJsonToken.TokenType.LSQUARE_BRACKET);
     /**
-     * 左角カッコ'['のトークン
+     * 右角カッコ']'のトークン
      */
     private static final CubismJsonToken RSQUARE_BRACKET = new CubismJsonToken(CubismJsonToken.TokenType.RSQUARE_BRACKET);
     /**
@@ -405,54 +549,85 @@ class CubismJsonLexer {
      */
     private static final CubismJsonToken NULL = new CubismJsonToken();
 
-    // 中の値を書き換えて使用する
+    private static final byte[] TRUE_KEYWORD = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE_KEYWORD = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL_KEYWORD = {'n', 'u', 'l', 'l'};
+
     /**
-     * 文字列のトークン
+     * 入力の終端を表す値。どのバイトとも一致しない。
      */
-    private static final CubismJsonToken STRING = new CubismJsonToken("");
+    private static final int END_OF_INPUT = -1;
+
     /**
-     * 数値のトークン
+     * Maximum number of significant digits which is always exactly representable in double
      */
-    private static final CubismJsonToken NUMBER = new CubismJsonToken(0.0);
+    private static final int MAXIMUM_EXACT_DIGIT_COUNT = 15;
+    /**
+     * Maximum power of ten which is exactly representable in double
+     */
+    private static final int MAXIMUM_EXACT_POWER = 22;
+    /**
+     * Maximum number of significant digits accumulated to the mantissa without overflow
+     */
+    private static final int MAXIMUM_ACCUMULATED_DIGIT_COUNT = 18;
+    /**
+     * Exponent from which the digits of the exponent are no longer counted
+     */
+    private static final int MAXIMUM_COUNTED_EXPONENT = 100000;
+    /**
+     * Exactly representable powers of ten
+     */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
 
+    // 中の値を書き換えて使用する
+    /**
+     * 文字列のトークン
+     */
+    private final CubismJsonToken stringToken = new CubismJsonToken("");
     /**
-     * jsonChars配列の初期サイズ。
-     * これを超えるトークンが出現した場合はサイズを2倍に拡張する。
+     * 数値のトークン
      */
-    private static final int MINIMUM_CAPACITY = 128;
+    private final CubismJsonToken numberToken = new CubismJsonToken(0.0);
 
     /**
-     * パースするJSON文字列
+     * パースするJSONのバイト列
      */
-    private final char[] jsonChars;
+    private final byte[] jsonBytes;
     /**
-     * 現在読んでいる文字のインデックス
+     * 次に読むバイトのインデックス
      */
-    private int charIndex;
+    private int byteIndex;
     /**
-     * パースするJSON文字列の文字数
+     * パースするJSONのバイト数
      */
-    private final int jsonCharsLength;
+    private final int jsonBytesLength;
     /**
      * 行数。改行文字が出てくるたびにインクリメントされる。
      */
     private int lineNumber = 1;
 
     /**
-     * the next character
+     * the next character. It is a byte value in the range of [0, 255], or END_OF_INPUT.
      */
-    private char nextChar = ' ';
+    private int nextChar = ' ';
 
     /**
-     * トークンのパース時に使用されるバッファ
+     * Whether the values of string and number tokens are decoded
+     */
+    private final boolean decodesValues;
+    /**
+     * Beginning offset of the last string or number token
      */
-    private char[] parsedTokonBuffer;
+    private int tokenBegin;
     /**
-     * {@code parsedTokonBuffer}の最後尾のインデックス
+     * End offset(exclusive) of the last string or number token
      */
-    private int bufferIndex;
+    private int tokenEnd;
     /**
-     * {@code parsedTokonBuffer}の容量
+     * Whether the last string token has an escape sequence
      */
-    private int bufferLength = MINIMUM_CAPACITY;
+    private boolean hasEscapedCharacter;
 }
@@ -24,6 +24,10 @@ class CubismJsonNumber extends ACubismJsonValue {
 
     @Override
     public String getString(String defaultValue, String indent) {
+        // 文字列表現は必要になったときに作る
+        if (stringBuffer == null) {
+            stringBuffer = String.valueOf(value);
+        }
         return stringBuffer;
     }
 
@@ -76,7 +80,6 @@ class CubismJsonNumber extends ACubismJsonValue {
      */
     private CubismJsonNumber(double value) {
         this.value = value;
-        stringBuffer = String.valueOf(value);
     }
 
     /**
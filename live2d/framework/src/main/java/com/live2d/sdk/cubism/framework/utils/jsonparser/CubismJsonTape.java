@@ -0,0 +1,390 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import com.live2d.sdk.cubism.framework.exception.CubismJsonParseException;
+import com.live2d.sdk.cubism.framework.exception.CubismJsonSyntaxErrorException;
+
+import java.util.Arrays;
+
+/**
+ * This class is a compact index of JSON, called tape, built over the UTF-8 bytes.
+ * <p>
+ * Every JSON value is an entry of 3 ints: the type and 2 operands.
+ * A number or a string has the byte range of its text, and an array or an object has the index of its first child
+ * and the number of its children. The children of a container are stored contiguously, so an element of an array is
+ * accessed by its index directly. The children of an object are pairs of a key entry and a value entry.
+ * <p>
+ * Nothing is decoded while the tape is built. A number or a string is decoded into a new value when it is accessed,
+ * and an array or an object is accessed through a lightweight view.
+ */
+final class CubismJsonTape {
+    /**
+     * Build the tape of JSON.
+     *
+     * @param buffer UTF-8 byte data of JSON. It is referred by the tape and must not be modified.
+     * @return tape of JSON
+     */
+    static CubismJsonTape parse(byte[] buffer) {
+        CubismJsonTape tape = new CubismJsonTape(buffer);
+        tape.build();
+
+        return tape;
+    }
+
+    /**
+     * Get the root value.
+     *
+     * @return root value
+     */
+    ACubismJsonValue getRoot() {
+        return getValue(rootIndex);
+    }
+
+    /**
+     * Get the value of the entry.
+     * A number, a string, a boolean and null are decoded into new values.
+     *
+     * @param index index of the entry
+     * @return value of the entry
+     */
+    ACubismJsonValue getValue(int index) {
+        final int offset = index * ENTRY_SIZE;
+
+        switch (entries[offset] & TYPE_MASK) {
+            case TYPE_NUMBER:
+                return CubismJsonNumber.valueOf(CubismJsonLexer.parseNumber(json, entries[offset + 1], entries[offset + 2]));
+            case TYPE_STRING:
+                return getString(index);
+            case TYPE_TRUE:
+                return CubismJsonBoolean.valueOf(true);
+            case TYPE_FALSE:
+                return CubismJsonBoolean.valueOf(false);
+            case TYPE_ARRAY:
+                return new CubismJsonTapeArray(this, index);
+            case TYPE_OBJECT:
+                return new CubismJsonTapeObject(this, index);
+            default:
+                return new CubismJsonNullValue();
+        }
+    }
+
+    /**
+     * Get the string of the entry.
+     *
+     * @param index index of the string entry
+     * @return string value
+     */
+    CubismJsonString getString(int index) {
+        final int offset = index * ENTRY_SIZE;
+        final boolean hasEscapedCharacter = (entries[offset] & ESCAPED_FLAG) != 0;
+
+        return CubismJsonString.valueOf(CubismJsonLexer.decodeString(json, entries[offset + 1], entries[offset + 2], hasEscapedCharacter));
+    }
+
+    /**
+     * Get the index of the first child of the array or the object.
+     *
+     * @param index index of the container entry
+     * @return index of the first child entry
+     */
+    int getFirstChildIndex(int index) {
+        return entries[index * ENTRY_SIZE + 1];
+    }
+
+    /**
+     * Get the number of the elements of the array, or the number of the pairs of the object.
+     *
+     * @param index index of the container entry
+     * @return number of the elements or the pairs
+     */
+    int getChildCount(int index) {
+        return entries[index * ENTRY_SIZE + 2];
+    }
+
+    /**
+     * Find the value corresponding to the key in the object.
+     * If the key is duplicated, the value defined later is found as CubismJsonObject does.
+     *
+     * @param index index of the object entry
+     * @param key key
+     * @return index of the value entry. -1 if the key is not found.
+     */
+    int findValueIndex(int index, String key) {
+        final int firstChildIndex = getFirstChildIndex(index);
+
+        for (int pair = getChildCount(index) - 1; pair >= 0; pair--) {
+            final int keyIndex = firstChildIndex + pair * 2;
+
+            if (isKeyEqual(keyIndex, key)) {
+                return keyIndex + 1;
+            }
+        }
+        return -1;
+    }
+
+    // This is only used by 'findValueIndex' method.
+    // ASCII keys without escape sequences are compared with the bytes directly.
+    private boolean isKeyEqual(int keyIndex, String key) {
+        final int offset = keyIndex * ENTRY_SIZE;
+        final int begin = entries[offset + 1];
+        final int length = entries[offset + 2] - begin;
+
+        if ((entries[offset] & ESCAPED_FLAG) == 0) {
+            if (length < key.length()) {
+                return false;
+            }
+
+            int i = 0;
+            for (; i < key.length(); i++) {
+                final char c = key.charAt(i);
+
+                if (c >= 0x80) {
+                    break;
+                }
+                if (json[begin + i] != c) {
+                    return false;
+                }
+            }
+            if (i == key.length()) {
+                return length == key.length();
+            }
+        }
+        return getString(keyIndex).getString().equals(key);
+    }
+
+    private CubismJsonTape(byte[] json) {
+        this.json = json;
+        lexer = new CubismJsonLexer(json, false);
+    }
+
+    private void build() {
+        token = lexer.getNextToken();
+        pushValue();
+
+        // The root entry is put at the end of the tape.
+        rootIndex = appendEntries(0, 1);
+        entries = Arrays.copyOf(entries, entrySize);
+        stackSize = 0;
+        stack = null;
+        lexer = null;
+        token = null;
+    }
+
+    /**
+     * Push the entry of a JSON value to the stack. The grammar is the same as CubismJson.
+     */
+    private void pushValue() throws CubismJsonParseException {
+        final CubismJsonToken.TokenType type = token.getTokenType();
+
+        // JSON Object
+        if (type == CubismJsonToken.TokenType.LBRACE) {
+            objectNestingLevel++;
+            pushObject();
+        }
+        // JSON Array
+        else if (type == CubismJsonToken.TokenType.LSQUARE_BRACKET) {
+            arrayNestingLevel++;
+            pushArray();
+        }
+        // JSON Number
+        else if (type == CubismJsonToken.TokenType.NUMBER) {
+            push(TYPE_NUMBER, lexer.getTokenBegin(), lexer.getTokenEnd());
+        }
+        // JSON String
+        else if (type == CubismJsonToken.TokenType.STRING) {
+            pushString();
+        }
+        // JSON Boolean(true or false)
+        else if (type == CubismJsonToken.TokenType.BOOLEAN) {
+            push(token.getBooleanValue() ? TYPE_TRUE : TYPE_FALSE, 0, 0);
+        }
+        // JSON null value
+        else if (type == CubismJsonToken.TokenType.NULL) {
+            push(TYPE_NULL, 0, 0);
+        } else {
+            throw new CubismJsonSyntaxErrorException("Incorrect JSON format.", lexer.getCurrentLineNumber() - 1);
+        }
+
+        // If parsing is midway, the next token is read.
+        if (objectNestingLevel != 0 || arrayNestingLevel != 0) {
+            token = lexer.getNextToken();
+        }
+    }
+
+    private void pushString() {
+        push(TYPE_STRING | (lexer.hasEscapedCharacter() ? ESCAPED_FLAG : 0), lexer.getTokenBegin(), lexer.getTokenEnd());
+    }
+
+    private void pushObject() throws CubismJsonParseException {
+        final int firstChildOffset = stackSize;
+        int pairCount = 0;
+
+        token = lexer.getNextToken();
+
+        // If the next token is braces, this object is regarded as empty object
+        if (token.getTokenType() == CubismJsonToken.TokenType.RBRACE) {
+            objectNestingLevel--;
+        } else {
+            // Continue reading until closed by '}'
+            // If the format is not "string : value (, string : value, ...)", an exception is thrown.
+            while (true) {
+                if (token.getTokenType() != CubismJsonToken.TokenType.STRING) {
+                    throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber());
+                }
+                pushString();
+
+                token = lexer.getNextToken();
+
+                // If it is not divided by colon, an exception is thrown.
+                if (token.getTokenType() != CubismJsonToken.TokenType.COLON) {
+                    throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber());
+                }
+
+                token = lexer.getNextToken();
+                pushValue();
+                pairCount++;
+
+                // If the next token is comma, reading is continued. If the next token is '}', it is done to "break".
+                if (token.getTokenType() == CubismJsonToken.TokenType.RBRACE) {
+                    objectNestingLevel--;
+                    break;
+                } else if (token.getTokenType() == CubismJsonToken.TokenType.COMMA) {
+                    token = lexer.getNextToken();
+                } else {
+                    throw new CubismJsonSyntaxErrorException("JSON Object's format is incorrect.", lexer.getCurrentLineNumber() - 1);
+                }
+            }
+        }
+
+        final int firstChildIndex = appendEntries(firstChildOffset, pairCount * 2);
+        stackSize = firstChildOffset;
+        push(TYPE_OBJECT, firstChildIndex, pairCount);
+    }
+
+    private void pushArray() throws CubismJsonParseException {
+        final int firstChildOffset = stackSize;
+        int elementCount = 0;
+
+        token = lexer.getNextToken();
+
+        // If the next token is square brackets, this array is regarded as empty array.
+        if (token.getTokenType() == CubismJsonToken.TokenType.RSQUARE_BRACKET) {
+            arrayNestingLevel--;
+        } else {
+            // Continue reading until closed by ']'
+            // If the format is not "value (, value, ...)", an exception is thrown.
+            while (true) {
+                pushValue();
+                elementCount++;
+
+                // If the next token is comma, reading is continued. If the next token is ']', it is done to "break".
+                if (token.getTokenType() == CubismJsonToken.TokenType.RSQUARE_BRACKET) {
+                    arrayNestingLevel--;
+                    break;
+                } else if (token.getTokenType() == CubismJsonToken.TokenType.COMMA) {
+                    token = lexer.getNextToken();
+                } else {
+                    throw new CubismJsonSyntaxErrorException("JSON Array's format is incorrect.", lexer.getCurrentLineNumber() - 1);
+                }
+            }
+        }
+
+        final int firstChildIndex = appendEntries(firstChildOffset, elementCount);
+        stackSize = firstChildOffset;
+        push(TYPE_ARRAY, firstChildIndex, elementCount);
+    }
+
+    private void push(int type, int operand1, int operand2) {
+        if (stackSize + ENTRY_SIZE > stack.length) {
+            int[] tmp = new int[stack.length * 2];
+            System.arraycopy(stack, 0, tmp, 0, stackSize);
+            stack = tmp;
+        }
+        stack[stackSize] = type;
+        stack[stackSize + 1] = operand1;
+        stack[stackSize + 2] = operand2;
+        stackSize += ENTRY_SIZE;
+    }
+
+    /**
+     * Move the entries from the stack to the end of the tape.
+     *
+     * @param stackOffset offset of the first entry in the stack
+     * @param count number of the entries
+     * @return index of the first entry in the tape
+     */
+    private int appendEntries(int stackOffset, int count) {
+        final int size = count * ENTRY_SIZE;
+
+        if (entrySize + size > entries.length) {
+            int[] tmp = new int[Math.max(entries.length * 2, entrySize + size)];
+            System.arraycopy(entries, 0, tmp, 0, entrySize);
+            entries = tmp;
+        }
+        System.arraycopy(stack, stackOffset, entries, entrySize, size);
+
+        final int index = entrySize / ENTRY_SIZE;
+        entrySize += size;
+        return index;
+    }
+
+    /**
+     * Number of ints of an entry
+     */
+    private static final int ENTRY_SIZE = 3;
+
+    private static final int TYPE_NULL = 0;
+    private static final int TYPE_TRUE = 1;
+    private static final int TYPE_FALSE = 2;
+    private static final int TYPE_NUMBER = 3;
+    private static final int TYPE_STRING = 4;
+    private static final int TYPE_ARRAY = 5;
+    private static final int TYPE_OBJECT = 6;
+    private static final int TYPE_MASK = 0xFF;
+    /**
+     * Flag of a string entry which has an escape sequence
+     */
+    private static final int ESCAPED_FLAG = 0x100;
+
+    /**
+     * Initial capacity of the stack in ints.
+     */
+    private static final int MINIMUM_CAPACITY = 128 * ENTRY_SIZE;
+
+    /**
+     * UTF-8 byte data of JSON
+     */
+    private final byte[] json;
+    /**
+     * Entries of the tape
+     */
+    private int[] entries = new int[MINIMUM_CAPACITY];
+    /**
+     * Number of the used ints of entries
+     */
+    private int entrySize;
+    /**
+     * Index of the root entry
+     */
+    private int rootIndex;
+
+    // The following fields are used only while the tape is built.
+    /**
+     * Stack of the entries of the containers being built
+     */
+    private int[] stack = new int[MINIMUM_CAPACITY];
+    /**
+     * Number of the used ints of the stack
+     */
+    private int stackSize;
+    private CubismJsonLexer lexer;
+    private CubismJsonToken token;
+    private int objectNestingLevel;
+    private int arrayNestingLevel;
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * This class expresses JSON Array on a tape.
+ * The elements are decoded when they are accessed.
+ */
+class CubismJsonTapeArray extends ACubismJsonValue {
+    /**
+     * Constructor
+     *
+     * @param tape tape of JSON
+     * @param index index of the array entry
+     */
+    CubismJsonTapeArray(CubismJsonTape tape, int index) {
+        this.tape = tape;
+        firstChildIndex = tape.getFirstChildIndex(index);
+        elementCount = tape.getChildCount(index);
+    }
+
+    @Override
+    public ACubismJsonValue get(String key) {
+        return new CubismJsonErrorValue().setErrorNotForClientCall(JsonError.TYPE_MISMATCH.message);
+    }
+
+    @Override
+    public ACubismJsonValue get(int index) {
+        if (index < 0 || elementCount <= index) {
+            return new CubismJsonErrorValue().setErrorNotForClientCall(JsonError.INDEX_OUT_OF_BOUNDS.message);
+        }
+        return tape.getValue(firstChildIndex + index);
+    }
+
+    @Override
+    public String getString(String defaultValue, String indent) {
+        StringBuilder buffer = new StringBuilder(MINIMUM_CAPACITY);
+
+        buffer.append(indent);
+        buffer.append("[\n");
+
+        for (int i = 0; i < elementCount; i++) {
+            buffer.append(indent);
+            buffer.append(" ");
+            buffer.append(get(i).getString(indent + " "));
+            buffer.append("\n");
+        }
+
+        buffer.append(indent);
+        buffer.append("]\n");
+
+        stringBuffer = buffer.toString();
+        return stringBuffer;
+    }
+
+    /**
+     * Returns the list of the elements. It is a read-only view, and the elements are decoded when they are accessed.
+     *
+     * @return the list of the elements
+     */
+    @Override
+    public List<ACubismJsonValue> getList() {
+        if (elements == null) {
+            elements = new AbstractList<ACubismJsonValue>() {
+                @Override
+                public ACubismJsonValue get(int index) {
+                    if (index < 0 || elementCount <= index) {
+                        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elementCount);
+                    }
+                    return tape.getValue(firstChildIndex + index);
+                }
+
+                @Override
+                public int size() {
+                    return elementCount;
+                }
+            };
+        }
+        return elements;
+    }
+
+    @Override
+    public int size() {
+        return elementCount;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CubismJsonTapeArray that = (CubismJsonTapeArray) o;
+
+        return getList().equals(that.getList());
+    }
+
+    @Override
+    public int hashCode() {
+        return getList().hashCode();
+    }
+
+    /**
+     * {@code getString}メソッドで使われる一時的な文字列バッファの最小容量。
+     */
+    private static final int MINIMUM_CAPACITY = 128;
+
+    private final CubismJsonTape tape;
+    /**
+     * Index of the entry of the first element
+     */
+    private final int firstChildIndex;
+    private final int elementCount;
+    /**
+     * View of the elements, created on the first call of getList()
+     */
+    private List<ACubismJsonValue> elements;
+}
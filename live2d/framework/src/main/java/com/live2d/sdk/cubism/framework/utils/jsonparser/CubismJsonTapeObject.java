@@ -0,0 +1,150 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class expresses JSON Object on a tape.
+ * A value is looked up by comparing the key with the bytes of the keys, and decoded when it is accessed.
+ * If duplicate key is put, the value corresponding the key which is defined later is returned as CubismJsonObject does.
+ */
+class CubismJsonTapeObject extends ACubismJsonValue {
+    /**
+     * Constructor
+     *
+     * @param tape tape of JSON
+     * @param index index of the object entry
+     */
+    CubismJsonTapeObject(CubismJsonTape tape, int index) {
+        this.tape = tape;
+        this.index = index;
+    }
+
+    @Override
+    public ACubismJsonValue get(String key) {
+        final int valueIndex = tape.findValueIndex(index, key);
+
+        if (valueIndex < 0) {
+            return new CubismJsonNullValue();
+        }
+        return tape.getValue(valueIndex);
+    }
+
+    @Override
+    public ACubismJsonValue get(int index) {
+        return new CubismJsonErrorValue().setErrorNotForClientCall(JsonError.TYPE_MISMATCH.message);
+    }
+
+    @Override
+    public String getString(String defaultValue, String indent) {
+        StringBuilder buffer = new StringBuilder(MINIMUM_CAPACITY);
+
+        buffer.append(indent);
+        buffer.append("{\n");
+
+        for (CubismJsonString key : getKeys()) {
+            buffer.append(indent);
+            buffer.append(" ");
+            buffer.append(key);
+            buffer.append(" : ");
+            buffer.append(get(key.getString()).getString(indent + " "));
+            buffer.append("\n");
+        }
+
+        buffer.append(indent);
+        buffer.append("}\n");
+
+        stringBuffer = buffer.toString();
+        return stringBuffer;
+    }
+
+    /**
+     * Returns the map of the keys and the values. All the values are decoded on the first call.
+     *
+     * @return the map of strings and values
+     */
+    @Override
+    public Map<CubismJsonString, ACubismJsonValue> getMap() {
+        if (map == null) {
+            final int firstChildIndex = tape.getFirstChildIndex(index);
+            final int pairCount = tape.getChildCount(index);
+
+            map = new HashMap<CubismJsonString, ACubismJsonValue>();
+            for (int pair = 0; pair < pairCount; pair++) {
+                final int keyIndex = firstChildIndex + pair * 2;
+                map.put(tape.getString(keyIndex), tape.getValue(keyIndex + 1));
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public List<CubismJsonString> getKeys() {
+        if (keys == null) {
+            final int firstChildIndex = tape.getFirstChildIndex(index);
+            final int pairCount = tape.getChildCount(index);
+
+            keys = new ArrayList<CubismJsonString>(pairCount);
+            for (int pair = 0; pair < pairCount; pair++) {
+                keys.add(tape.getString(firstChildIndex + pair * 2));
+            }
+        }
+        return keys;
+    }
+
+    @Override
+    public int size() {
+        return getMap().size();
+    }
+
+    @Override
+    public boolean isObject() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CubismJsonTapeObject)) return false;
+
+        CubismJsonTapeObject that = (CubismJsonTapeObject) o;
+
+        if (!getMap().equals(that.getMap())) return false;
+        return getKeys().equals(that.getKeys());
+    }
+
+    @Override
+    public int hashCode() {
+        int result = getMap().hashCode();
+        result = 31 * result + getKeys().hashCode();
+        return result;
+    }
+
+    /**
+     * {@code getString}メソッドで使われる一時的な文字列バッファの最小容量。
+     */
+    private static final int MINIMUM_CAPACITY = 128;
+
+    private final CubismJsonTape tape;
+    /**
+     * Index of the object entry
+     */
+    private final int index;
+    /**
+     * Map of the keys and the values, created on the first call of getMap()
+     */
+    private Map<CubismJsonString, ACubismJsonValue> map;
+    /**
+     * List of the keys, created on the first call of getKeys()
+     */
+    private List<CubismJsonString> keys;
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Helpers of the JVM benchmarks in the unit tests.
+ * <p>
+ * The benchmarks run with the other unit tests and print their timings.
+ * They assert the behavior they measure, but not the timings, which depend on the machine.
+ */
+public final class CubismBenchmarks {
+    /**
+     * Measures the time of one operation.
+     * The batch is run for at least WARMUP_NANOS to let the JIT compile it, and then RUN_COUNT times.
+     *
+     * @param operationsPerBatch number of operations done by one run of the batch
+     * @param batch batch of operations
+     * @return time of one operation in nanoseconds, in the fastest run
+     */
+    public static double measureNanos(int operationsPerBatch, Runnable batch) {
+        final long warmupStartTime = System.nanoTime();
+        for (int i = 0; i < MINIMUM_WARMUP_COUNT || System.nanoTime() - warmupStartTime < WARMUP_NANOS; i++) {
+            batch.run();
+        }
+
+        long bestTime = Long.MAX_VALUE;
+        for (int i = 0; i < RUN_COUNT; i++) {
+            final long startTime = System.nanoTime();
+            batch.run();
+            bestTime = Math.min(bestTime, System.nanoTime() - startTime);
+        }
+        return (double) bestTime / operationsPerBatch;
+    }
+
+    /**
+     * Measures the heap bytes allocated by the calling thread while the operation runs.
+     *
+     * @param operation operation to measure
+     * @return allocated bytes, or -1 if the JVM does not count the allocations per thread
+     */
+    public static long measureAllocatedBytes(Runnable operation) {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            operation.run();
+            return -1L;
+        }
+
+        final com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        final long threadId = Thread.currentThread().getId();
+        final long before = allocationBean.getThreadAllocatedBytes(threadId);
+        operation.run();
+        return allocationBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Measures the heap bytes retained by the objects that the factory creates.
+     * The result is approximate, because it depends on the garbage collector.
+     *
+     * @param instanceCount number of instances to create
+     * @param factory factory of one instance
+     * @return retained bytes per instance
+     */
+    public static long measureRetainedBytes(int instanceCount, Factory factory) {
+        final Object[] instances = new Object[instanceCount];
+        final long before = getUsedHeap();
+        for (int i = 0; i < instanceCount; i++) {
+            instances[i] = factory.create();
+        }
+        final long after = getUsedHeap();
+
+        consume(instances.length);
+        return (after - before) / instanceCount;
+    }
+
+    /**
+     * Prints the result of a benchmark.
+     *
+     * @param benchmark name of the benchmark
+     * @param format format of the result
+     * @param args arguments of the format
+     */
+    public static void report(String benchmark, String format, Object... args) {
+        System.out.println("[benchmark] " + benchmark + ": " + String.format(Locale.ROOT, format, args));
+    }
+
+    /**
+     * Keeps the value alive so that the JIT cannot remove the computation of it.
+     *
+     * @param value result of the measured operation
+     */
+    public static void consume(float value) {
+        sink += value;
+    }
+
+    /**
+     * Factory used by measureRetainedBytes.
+     */
+    public interface Factory {
+        Object create();
+    }
+
+    private static long getUsedHeap() {
+        // A single System.gc() may leave garbage behind, so the smallest of several collections is used.
+        final Runtime runtime = Runtime.getRuntime();
+        long usedHeap = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            usedHeap = Math.min(usedHeap, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return usedHeap;
+    }
+
+    private CubismBenchmarks() {}
+
+    private static final int MINIMUM_WARMUP_COUNT = 10;
+    private static final long WARMUP_NANOS = 300_000_000L;
+    private static final int RUN_COUNT = 15;
+
+    private static volatile float sink;
+}
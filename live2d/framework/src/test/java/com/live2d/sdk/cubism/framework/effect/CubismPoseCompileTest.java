@@ -0,0 +1,109 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.effect;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryFormatAssert;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the pose created from the compiled data switches the parts exactly like the pose created from JSON,
+ * and that broken compiled data only raises CubismBinaryFormatException.
+ */
+public class CubismPoseCompileTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void compiledPoseIsBitIdentical() {
+        final CubismModel expectedModel = createModel();
+        final CubismModel actualModel = createModel();
+        final CubismPose expected = CubismPose.create(POSE_JSON);
+        final CubismPose actual = CubismPose.create(new CubismBinaryReader(compile()));
+
+        for (int frame = 0; frame < 120; frame++) {
+            // Switch the visible part of the groups from time to time.
+            final int visiblePart = (frame / 30) % 3;
+            for (CubismModel model : new CubismModel[]{expectedModel, actualModel}) {
+                for (int i = 0; i < 3; i++) {
+                    model.setParameterValue(i, i == visiblePart ? 1.0f : 0.0f);
+                }
+            }
+            expected.updateParameters(expectedModel, 1.0f / 60.0f);
+            actual.updateParameters(actualModel, 1.0f / 60.0f);
+
+            for (int i = 0; i < PART_IDS.length; i++) {
+                assertEquals(
+                    "frame " + frame + " part " + i,
+                    Float.floatToIntBits(expectedModel.getPartOpacity(i)),
+                    Float.floatToIntBits(actualModel.getPartOpacity(i))
+                );
+            }
+        }
+
+        // Part 0 and its linked part 3 have faded in, and the others have faded out.
+        assertEquals(1.0f, expectedModel.getPartOpacity(0), 0.0f);
+        assertEquals(1.0f, expectedModel.getPartOpacity(3), 0.0f);
+        assertTrue(expectedModel.getPartOpacity(1) < 0.5f);
+        assertTrue(expectedModel.getPartOpacity(4) < 0.5f);
+    }
+
+    @Test
+    public void brokenCompiledPoseOnlyRaisesFormatException() {
+        final int rejectedCount = CubismBinaryFormatAssert.assertOnlyFormatExceptions(compile(), 4000, 4L, CubismPose::create);
+        assertTrue(rejectedCount > 0);
+    }
+
+    private static byte[] compile() {
+        CubismBinaryWriter writer = new CubismBinaryWriter();
+        CubismPose.compile(POSE_JSON, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * The model has one parameter with the ID of each part, which the pose uses to select the visible part.
+     */
+    private static CubismModel createModel() {
+        float[] minimumValues = new float[PART_IDS.length];
+        float[] maximumValues = new float[PART_IDS.length];
+        for (int i = 0; i < PART_IDS.length; i++) {
+            maximumValues[i] = 1.0f;
+        }
+        return CubismModelFixtures.create(PART_IDS, minimumValues, maximumValues, new float[PART_IDS.length], PART_IDS.length, PART_IDS.length);
+    }
+
+    /**
+     * Part IDs of CubismModelFixtures
+     */
+    private static final String[] PART_IDS = {"Part0", "Part1", "Part2", "Part3", "Part4"};
+
+    /**
+     * Parts 0 to 2 form a group, and parts 3 and 4 are linked to parts 0 and 1.
+     */
+    private static final byte[] POSE_JSON = ("{\"Type\":\"Live2D Pose\",\"FadeInTime\":0.3,\"Groups\":["
+        + "[{\"Id\":\"Part0\",\"Link\":[\"Part3\"]},{\"Id\":\"Part1\",\"Link\":[\"Part4\"]},{\"Id\":\"Part2\",\"Link\":[]}]"
+        + "]}").getBytes(StandardCharsets.UTF_8);
+}
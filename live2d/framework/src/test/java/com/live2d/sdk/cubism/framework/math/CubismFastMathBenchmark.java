@@ -0,0 +1,138 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.math;
+
+import com.live2d.sdk.cubism.framework.CubismBenchmarks;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysics;
+import com.live2d.sdk.cubism.framework.physics.CubismPhysicsFixtures;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the speed of CubismMath in the exact mode and in the fast-math mode.
+ * The exact mode calls Math.sin, Math.cos, Math.atan2 and Math.acos.
+ */
+public class CubismFastMathBenchmark {
+    @After
+    public void tearDown() {
+        CubismMath.setFastMathEnabled(false);
+    }
+
+    @Test
+    public void sinAndCos() {
+        final float[] angles = createValues(1, -2.0f * CubismMath.PI, 2.0f * CubismMath.PI);
+
+        compare("sin + cos", () -> {
+            float sum = 0.0f;
+            for (float angle : angles) {
+                sum += CubismMath.sinF(angle) + CubismMath.cosF(angle);
+            }
+            CubismBenchmarks.consume(sum);
+        });
+
+        CubismMath.setFastMathEnabled(true);
+        assertEquals(Math.sin(1.0), CubismMath.sinF(1.0f), 1.0e-6);
+    }
+
+    @Test
+    public void easingSine() {
+        final float[] values = createValues(2, 0.0f, 1.0f);
+
+        compare("easing sine", () -> {
+            float sum = 0.0f;
+            for (float value : values) {
+                sum += CubismMath.getEasingSine(value);
+            }
+            CubismBenchmarks.consume(sum);
+        });
+    }
+
+    @Test
+    public void directionToRadian() {
+        final float[] x = createValues(3, -1.0f, 1.0f);
+        final float[] y = createValues(4, -1.0f, 1.0f);
+
+        compare("directionToRadian (atan2)", () -> {
+            float sum = 0.0f;
+            for (int i = 0; i < VALUE_COUNT - 1; i++) {
+                sum += CubismMath.directionToRadian(x[i], y[i], x[i + 1], y[i + 1]);
+            }
+            CubismBenchmarks.consume(sum);
+        });
+    }
+
+    @Test
+    public void cardanoAlgorithmForBezier() {
+        // Coefficients of motion-style Bezier segments, whose control points are inside the segment.
+        final Random random = new Random(5);
+        final float[][] coefficients = new float[VALUE_COUNT][];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            final float p1 = random.nextFloat();
+            final float p2 = random.nextFloat();
+            final float x = random.nextFloat();
+            coefficients[i] = new float[]{3.0f * p1 - 3.0f * p2 + 1.0f, 3.0f * p2 - 6.0f * p1, 3.0f * p1, -x};
+        }
+
+        compare("cardanoAlgorithmForBezier", () -> {
+            float sum = 0.0f;
+            for (float[] c : coefficients) {
+                sum += CubismMath.cardanoAlgorithmForBezier(c[0], c[1], c[2], c[3]);
+            }
+            CubismBenchmarks.consume(sum);
+        });
+    }
+
+    @Test
+    public void physicsEvaluate() {
+        CubismModelFixtures.initializeFramework();
+        try {
+            final CubismModel model = CubismPhysicsFixtures.createModel(48);
+            final CubismPhysics physics = CubismPhysicsFixtures.createPhysics(48, 8);
+            final int[] frame = {0};
+
+            compare("physics 48 rigs x 8 vertices", 1, () -> {
+                CubismPhysicsFixtures.setInputs(model, frame[0]++);
+                physics.evaluate(model, 1.0f / 60.0f);
+            });
+        } finally {
+            CubismFramework.cleanUp();
+        }
+    }
+
+    private static void compare(String name, Runnable batch) {
+        compare(name, VALUE_COUNT, batch);
+    }
+
+    private static void compare(String name, int callsPerBatch, Runnable batch) {
+        CubismMath.setFastMathEnabled(false);
+        final double exact = CubismBenchmarks.measureNanos(callsPerBatch, batch);
+        CubismMath.setFastMathEnabled(true);
+        final double fast = CubismBenchmarks.measureNanos(callsPerBatch, batch);
+        CubismMath.setFastMathEnabled(false);
+
+        CubismBenchmarks.report(name, "exact %.1f ns/call, fast %.1f ns/call", exact, fast);
+    }
+
+    private static float[] createValues(long seed, float minimum, float maximum) {
+        final Random random = new Random(seed);
+        final float[] values = new float[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = minimum + random.nextFloat() * (maximum - minimum);
+        }
+        return values;
+    }
+
+    private static final int VALUE_COUNT = 4096;
+}
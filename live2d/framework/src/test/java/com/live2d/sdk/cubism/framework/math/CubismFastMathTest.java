@@ -0,0 +1,205 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.math;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the approximations of CubismFastMath against java.lang.Math with the maximum errors documented on each method.
+ */
+public class CubismFastMathTest {
+    @After
+    public void tearDown() {
+        CubismMath.setFastMathEnabled(false);
+    }
+
+    @Test
+    public void sinAndCosStayWithinDocumentedError() {
+        Random random = new Random(1);
+        double sinError = 0.0;
+        double cosError = 0.0;
+        double largeError = 0.0;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            float small = (random.nextFloat() * 2.0f - 1.0f) * 2.0f * CubismMath.PI;
+            sinError = Math.max(sinError, Math.abs(CubismFastMath.sin(small) - Math.sin(small)));
+            cosError = Math.max(cosError, Math.abs(CubismFastMath.cos(small) - Math.cos(small)));
+
+            float large = (random.nextFloat() * 2.0f - 1.0f) * 1.0e4f;
+            largeError = Math.max(largeError, Math.abs(CubismFastMath.sin(large) - Math.sin(large)));
+            largeError = Math.max(largeError, Math.abs(CubismFastMath.cos(large) - Math.cos(large)));
+        }
+
+        assertTrue("sin error for |x| <= 2PI: " + sinError, sinError <= 1.7e-7);
+        assertTrue("cos error for |x| <= 2PI: " + cosError, cosError <= 2.1e-7);
+        assertTrue("sin/cos error for |x| <= 1e4: " + largeError, largeError <= 2.2e-7);
+    }
+
+    @Test
+    public void atan2StaysWithinDocumentedError() {
+        Random random = new Random(2);
+        double error = 0.0;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            // Mix magnitudes so that both the |y| < |x| and |y| > |x| branches are covered with extreme ratios.
+            float y = (random.nextFloat() * 2.0f - 1.0f) * (float) Math.pow(10.0, random.nextInt(8) - 4);
+            float x = (random.nextFloat() * 2.0f - 1.0f) * (float) Math.pow(10.0, random.nextInt(8) - 4);
+            error = Math.max(error, Math.abs(CubismFastMath.atan2(y, x) - Math.atan2(y, x)));
+        }
+
+        assertTrue("atan2 error: " + error, error <= 2.0e-6);
+        assertEquals(Math.atan2(0.0, -1.0), CubismFastMath.atan2(0.0f, -1.0f), 2.0e-6);
+        assertEquals(Math.atan2(-0.0, -1.0), CubismFastMath.atan2(-0.0f, -1.0f), 2.0e-6);
+        assertEquals(Math.atan2(1.0, 0.0), CubismFastMath.atan2(1.0f, 0.0f), 2.0e-6);
+    }
+
+    @Test
+    public void acosStaysWithinDocumentedError() {
+        Random random = new Random(3);
+        double error = 0.0;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            float x = random.nextFloat() * 2.0f - 1.0f;
+            error = Math.max(error, Math.abs(CubismFastMath.acos(x) - Math.acos(x)));
+        }
+        for (float x : new float[]{-1.0f, -0.99999994f, -0.0f, 0.0f, 0.99999994f, 1.0f}) {
+            error = Math.max(error, Math.abs(CubismFastMath.acos(x) - Math.acos(x)));
+        }
+
+        assertTrue("acos error: " + error, error <= 4.1e-7);
+        // The argument is clamped to [-1, 1].
+        assertEquals(0.0f, CubismFastMath.acos(1.5f), 4.1e-7f);
+    }
+
+    @Test
+    public void cbrtStaysWithinDocumentedRelativeError() {
+        Random random = new Random(4);
+        double error = 0.0;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            float x = Float.intBitsToFloat(random.nextInt() & 0x7fffffff);
+            if (!Float.isFinite(x) || x < Float.MIN_NORMAL) {
+                continue;
+            }
+            double expected = Math.cbrt(x);
+            error = Math.max(error, Math.abs((CubismFastMath.cbrt(x) - expected) / expected));
+            error = Math.max(error, Math.abs((CubismFastMath.cbrt(-x) + expected) / expected));
+        }
+
+        assertTrue("cbrt relative error: " + error, error <= 1.6e-7);
+        assertEquals(0.0f, CubismFastMath.cbrt(0.0f), 0.0f);
+        // Subnormal numbers and non-finite values are passed to java.lang.Math.
+        assertEquals((float) Math.cbrt(Float.MIN_VALUE), CubismFastMath.cbrt(Float.MIN_VALUE), 0.0f);
+        assertTrue(Float.isNaN(CubismFastMath.cbrt(Float.NaN)));
+        assertEquals(Float.POSITIVE_INFINITY, CubismFastMath.cbrt(Float.POSITIVE_INFINITY), 0.0f);
+    }
+
+    @Test
+    public void easingSineStaysWithinDocumentedError() {
+        Random random = new Random(5);
+        double error = 0.0;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            float value = random.nextFloat();
+            error = Math.max(error, Math.abs(CubismFastMath.easingSine(value) - (0.5 - 0.5 * Math.cos(value * Math.PI))));
+        }
+
+        assertTrue("easing sine error: " + error, error <= 1.1e-7);
+    }
+
+    @Test
+    public void easingSineEndPointsAreExactInBothModes() {
+        for (boolean isFast : new boolean[]{false, true}) {
+            CubismMath.setFastMathEnabled(isFast);
+
+            assertEquals(0.0f, CubismMath.getEasingSine(0.0f), 0.0f);
+            assertEquals(0.0f, CubismMath.getEasingSine(-0.5f), 0.0f);
+            assertEquals(1.0f, CubismMath.getEasingSine(1.0f), 0.0f);
+            assertEquals(1.0f, CubismMath.getEasingSine(2.0f), 0.0f);
+        }
+    }
+
+    @Test
+    public void fastCardanoMatchesExactOnMotionSegments() {
+        Random random = new Random(6);
+        double exactError = 0.0;
+        double fastError = 0.0;
+
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            // A monotonic Bezier segment in time, as used by the motion curves.
+            float x1 = random.nextFloat() * 10.0f;
+            float length = 0.05f + random.nextFloat() * 3.0f;
+            float cx1 = x1 + random.nextFloat() * length;
+            float cx2 = x1 + random.nextFloat() * length;
+            float x2 = x1 + length;
+            float time = x1 + random.nextFloat() * length;
+
+            float a = x2 - 3.0f * cx2 + 3.0f * cx1 - x1;
+            float b = 3.0f * cx2 - 6.0f * cx1 + 3.0f * x1;
+            float c = 3.0f * cx1 - 3.0f * x1;
+            float d = x1 - time;
+
+            double expected = bisectRoot(a, b, c, d);
+
+            CubismMath.setFastMathEnabled(false);
+            float exact = CubismMath.cardanoAlgorithmForBezier(a, b, c, d);
+            CubismMath.setFastMathEnabled(true);
+            float fast = CubismMath.cardanoAlgorithmForBezier(a, b, c, d);
+
+            // The root selection of the exact version occasionally picks another root. Only the accuracy of the selected root is compared here.
+            if (Math.abs(exact - expected) > CARDANO_TOLERANCE) {
+                continue;
+            }
+            exactError = Math.max(exactError, Math.abs(exact - expected));
+            fastError = Math.max(fastError, Math.abs(fast - expected));
+        }
+
+        assertTrue("fast Cardano error: " + fastError + ", exact: " + exactError, fastError <= exactError + 1.0e-4);
+    }
+
+    @Test
+    public void exactModeMatchesJavaMath() {
+        CubismMath.setFastMathEnabled(false);
+        Random random = new Random(7);
+
+        for (int i = 0; i < 1000; i++) {
+            float x = (random.nextFloat() * 2.0f - 1.0f) * 100.0f;
+            assertEquals((float) Math.sin(x), CubismMath.sinF(x), 0.0f);
+            assertEquals((float) Math.cos(x), CubismMath.cosF(x), 0.0f);
+        }
+    }
+
+    /**
+     * Finds the root of a*t^3 + b*t^2 + c*t + d in [0, 1] by bisection in double precision.
+     * The polynomial is increasing on the segment.
+     */
+    private static double bisectRoot(double a, double b, double c, double d) {
+        double low = 0.0;
+        double high = 1.0;
+
+        for (int i = 0; i < 100; i++) {
+            double middle = (low + high) * 0.5;
+            double value = ((a * middle + b) * middle + c) * middle + d;
+            if (value < 0.0) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) * 0.5;
+    }
+
+    private static final int SAMPLE_COUNT = 200_000;
+    private static final double CARDANO_TOLERANCE = 1.0e-3;
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+import com.live2d.sdk.cubism.core.CubismCanvasInfo;
+import com.live2d.sdk.cubism.core.CubismDrawableView;
+import com.live2d.sdk.cubism.core.CubismDrawables;
+import com.live2d.sdk.cubism.core.CubismParameterView;
+import com.live2d.sdk.cubism.core.CubismParameters;
+import com.live2d.sdk.cubism.core.CubismPartView;
+import com.live2d.sdk.cubism.core.CubismParts;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.id.CubismIdManager;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/**
+ * Builds framework models for unit tests without loading a moc file.
+ * The Core model is filled with plain Java arrays, so no native library is required.
+ */
+public final class CubismModelFixtures {
+    /**
+     * Prepares the framework state used by the models and IDs.
+     * CubismFramework.startUp() queries the native Core version, so the ID manager is installed directly instead.
+     * Call CubismFramework.cleanUp() when the test finishes.
+     */
+    public static void initializeFramework() {
+        setStatic(CubismFramework.class, "s_isStarted", true);
+        setStatic(CubismFramework.class, "s_cubismIdManager", new CubismIdManager());
+        setStatic(CubismFramework.class, "s_isInitialized", true);
+    }
+
+    /**
+     * Creates a model with the given parameters.
+     * Every drawable belongs to part (index % partCount), is fully opaque and has no vertices.
+     * The canvas is 100x100 pixels with the origin at its center and 50 pixels per unit.
+     *
+     * @param parameterIds parameter IDs
+     * @param minimumValues minimum values of the parameters
+     * @param maximumValues maximum values of the parameters
+     * @param defaultValues default values of the parameters
+     * @param partCount number of parts
+     * @param drawableCount number of drawables
+     * @return initialized model
+     */
+    public static CubismModel create(
+        String[] parameterIds,
+        float[] minimumValues,
+        float[] maximumValues,
+        float[] defaultValues,
+        int partCount,
+        int drawableCount
+    ) {
+        final int parameterCount = parameterIds.length;
+        CubismParameters parameters = new CubismParameters(parameterCount);
+        System.arraycopy(parameterIds, 0, parameters.getIds(), 0, parameterCount);
+        System.arraycopy(minimumValues, 0, parameters.getMinimumValues(), 0, parameterCount);
+        System.arraycopy(maximumValues, 0, parameters.getMaximumValues(), 0, parameterCount);
+        System.arraycopy(defaultValues, 0, parameters.getDefaultValues(), 0, parameterCount);
+        System.arraycopy(defaultValues, 0, parameters.getValues(), 0, parameterCount);
+
+        CubismParameterView[] parameterViews = new CubismParameterView[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            parameterViews[i] = newInstance(CubismParameterView.class, i, parameters);
+        }
+
+        CubismParts parts = newInstance(CubismParts.class, partCount);
+        CubismPartView[] partViews = new CubismPartView[partCount];
+        for (int i = 0; i < partCount; i++) {
+            parts.getIds()[i] = "Part" + i;
+            parts.getParentPartIndices()[i] = -1;
+            parts.getOpacities()[i] = 1.0f;
+            partViews[i] = newInstance(CubismPartView.class, i, parts);
+        }
+
+        CubismDrawables drawables = new CubismDrawables(drawableCount);
+        CubismDrawableView[] drawableViews = new CubismDrawableView[drawableCount];
+        for (int i = 0; i < drawableCount; i++) {
+            drawables.getIds()[i] = "Drawable" + i;
+            drawables.getParentPartIndices()[i] = partCount == 0 ? -1 : i % partCount;
+            drawables.getOpacities()[i] = 1.0f;
+            drawables.getRenderOrders()[i] = i;
+            drawables.getMasks()[i] = new int[0];
+            drawables.getVertexPositions()[i] = new float[0];
+            drawables.getVertexUvs()[i] = new float[0];
+            drawables.getIndices()[i] = new short[0];
+            drawables.getMultiplyColors()[i] = new float[]{1.0f, 1.0f, 1.0f, 1.0f};
+            drawables.getScreenColors()[i] = new float[]{0.0f, 0.0f, 0.0f, 1.0f};
+            drawableViews[i] = newInstance(CubismDrawableView.class, i, drawables);
+        }
+
+        com.live2d.sdk.cubism.core.CubismModel coreModel = new com.live2d.sdk.cubism.core.CubismModel();
+        setField(coreModel, "parameters", parameters);
+        setField(coreModel, "parameterViews", parameterViews);
+        setField(coreModel, "parts", parts);
+        setField(coreModel, "partViews", partViews);
+        setField(coreModel, "drawables", drawables);
+        setField(coreModel, "drawableViews", drawableViews);
+        setField(coreModel, "canvasInfo", newInstance(CubismCanvasInfo.class, new float[]{100.0f, 100.0f}, new float[]{50.0f, 50.0f}, 50.0f));
+
+        CubismModel model = new CubismModel(coreModel);
+        model.initialize();
+        return model;
+    }
+
+    /**
+     * Returns the Core drawables of the model so that tests can set vertices, masks and flags.
+     *
+     * @param model model created by this class
+     * @return drawables of the Core model
+     */
+    public static CubismDrawables getDrawables(CubismModel model) {
+        return model.getModel().getDrawables();
+    }
+
+    private static <T> T newInstance(Class<T> type, Object... args) {
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() != args.length) {
+                continue;
+            }
+            try {
+                constructor.setAccessible(true);
+                return type.cast(constructor.newInstance(args));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create " + type.getSimpleName(), e);
+            }
+        }
+        throw new IllegalStateException("No constructor of " + type.getSimpleName() + " takes " + args.length + " arguments");
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to set " + name, e);
+        }
+    }
+
+    private static void setStatic(Class<?> type, String name, Object value) {
+        try {
+            Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(null, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to set " + name, e);
+        }
+    }
+
+    private CubismModelFixtures() {}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+import com.live2d.sdk.cubism.framework.CubismBenchmarks;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the packed override state of CubismModel with the per-object lists used before.
+ * The lists are rebuilt here from the deprecated data classes, the same way CubismModel.initialize() created them.
+ */
+@SuppressWarnings("deprecation")
+public class CubismModelOverrideBenchmark {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void overrideCheckAndColorRead() {
+        final CubismModel model = createModel();
+        final ObjectLayout objectLayout = new ObjectLayout(PARAMETER_COUNT, PART_COUNT, DRAWABLE_COUNT);
+        for (int i = 0; i < DRAWABLE_COUNT; i += 3) {
+            model.setOverrideFlagForDrawableMultiplyColors(i, true);
+            model.setMultiplyColor(i, 0.5f, 0.5f, 0.5f, 1.0f);
+            objectLayout.multiplyColors.get(i).isOverridden = true;
+        }
+
+        final double packed = CubismBenchmarks.measureNanos(DRAWABLE_COUNT, () -> {
+            float sum = 0.0f;
+            for (int i = 0; i < DRAWABLE_COUNT; i++) {
+                sum += model.getMultiplyColor(i).r;
+            }
+            CubismBenchmarks.consume(sum);
+        });
+        final double objects = CubismBenchmarks.measureNanos(DRAWABLE_COUNT, () -> {
+            float sum = 0.0f;
+            for (int i = 0; i < DRAWABLE_COUNT; i++) {
+                sum += objectLayout.getMultiplyColor(model, i).r;
+            }
+            CubismBenchmarks.consume(sum);
+        });
+
+        CubismBenchmarks.report(
+            "override check + color read",
+            "%d drawables, objects %.2f ns/drawable, packed %.2f ns/drawable",
+            DRAWABLE_COUNT,
+            objects,
+            packed
+        );
+
+        assertEquals(0.5f, model.getMultiplyColor(0).r, 0.0f);
+        assertEquals(1.0f, model.getMultiplyColor(1).r, 0.0f);
+    }
+
+    @Test
+    public void retainedOverrideState() {
+        final long objects = CubismBenchmarks.measureRetainedBytes(
+            INSTANCE_COUNT,
+            () -> new ObjectLayout(PARAMETER_COUNT, PART_COUNT, DRAWABLE_COUNT)
+        );
+        // Only the override fields are kept, the rest of the model is collected.
+        final long packed = CubismBenchmarks.measureRetainedBytes(
+            INSTANCE_COUNT,
+            () -> getOverrideState(createModel())
+        );
+
+        CubismBenchmarks.report(
+            "retained override state",
+            "%d drawables, %d parts, %d parameters, objects %d bytes/model, packed %d bytes/model",
+            DRAWABLE_COUNT,
+            PART_COUNT,
+            PARAMETER_COUNT,
+            objects,
+            packed
+        );
+
+        assertTrue(packed > 0);
+    }
+
+    /**
+     * Override state of the model before it was packed into arrays.
+     */
+    private static class ObjectLayout {
+        ObjectLayout(int parameterCount, int partCount, int drawableCount) {
+            for (int i = 0; i < parameterCount; i++) {
+                parameterRepeats.add(new CubismModel.ParameterRepeatData(false, false));
+            }
+
+            CubismModel.DrawableColorData drawableMultiplyColor = new CubismModel.DrawableColorData(
+                false,
+                new CubismRenderer.CubismTextureColor(1.0f, 1.0f, 1.0f, 1.0f)
+            );
+            CubismModel.DrawableColorData drawableScreenColor = new CubismModel.DrawableColorData(
+                false,
+                new CubismRenderer.CubismTextureColor(0.0f, 0.0f, 0.0f, 1.0f)
+            );
+            CubismModel.PartColorData partMultiplyColor = new CubismModel.PartColorData(
+                false,
+                new CubismRenderer.CubismTextureColor(1.0f, 1.0f, 1.0f, 1.0f)
+            );
+            CubismModel.PartColorData partScreenColor = new CubismModel.PartColorData(
+                false,
+                new CubismRenderer.CubismTextureColor(0.0f, 0.0f, 0.0f, 1.0f)
+            );
+
+            partChildDrawables = new HashMap<Integer, List<Integer>>(partCount);
+            for (int i = 0; i < drawableCount; i++) {
+                multiplyColors.add(new CubismModel.DrawableColorData(drawableMultiplyColor));
+                screenColors.add(new CubismModel.DrawableColorData(drawableScreenColor));
+                cullings.add(new CubismModel.DrawableCullingData(false, false));
+
+                final int parentIndex = i % partCount;
+                List<Integer> childDrawables = partChildDrawables.get(parentIndex);
+                if (childDrawables == null) {
+                    childDrawables = new ArrayList<Integer>();
+                    partChildDrawables.put(parentIndex, childDrawables);
+                }
+                childDrawables.add(i);
+            }
+
+            for (int i = 0; i < partCount; i++) {
+                partMultiplyColors.add(new CubismModel.PartColorData(partMultiplyColor));
+                partScreenColors.add(new CubismModel.PartColorData(partScreenColor));
+            }
+        }
+
+        CubismRenderer.CubismTextureColor getMultiplyColor(CubismModel model, int drawableIndex) {
+            if (multiplyColors.get(drawableIndex).isOverridden) {
+                return multiplyColors.get(drawableIndex).color;
+            }
+
+            float[] color = model.getDrawableMultiplyColor(drawableIndex);
+            readColor.r = color[0];
+            readColor.g = color[1];
+            readColor.b = color[2];
+            readColor.a = color[3];
+            return readColor;
+        }
+
+        final List<CubismModel.DrawableColorData> multiplyColors = new ArrayList<>();
+        final List<CubismModel.DrawableColorData> screenColors = new ArrayList<>();
+        final List<CubismModel.PartColorData> partMultiplyColors = new ArrayList<>();
+        final List<CubismModel.PartColorData> partScreenColors = new ArrayList<>();
+        final List<CubismModel.DrawableCullingData> cullings = new ArrayList<>();
+        final List<CubismModel.ParameterRepeatData> parameterRepeats = new ArrayList<>();
+        final Map<Integer, List<Integer>> partChildDrawables;
+        final CubismRenderer.CubismTextureColor readColor = new CubismRenderer.CubismTextureColor();
+    }
+
+    private static CubismModel createModel() {
+        String[] ids = new String[PARAMETER_COUNT];
+        float[] minimumValues = new float[PARAMETER_COUNT];
+        float[] maximumValues = new float[PARAMETER_COUNT];
+        float[] defaultValues = new float[PARAMETER_COUNT];
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            ids[i] = "Param" + i;
+            maximumValues[i] = 1.0f;
+        }
+        return CubismModelFixtures.create(ids, minimumValues, maximumValues, defaultValues, PART_COUNT, DRAWABLE_COUNT);
+    }
+
+    private static Object[] getOverrideState(CubismModel model) {
+        Object[] state = new Object[OVERRIDE_FIELDS.length];
+        try {
+            for (int i = 0; i < OVERRIDE_FIELDS.length; i++) {
+                Field field = CubismModel.class.getDeclaredField(OVERRIDE_FIELDS[i]);
+                field.setAccessible(true);
+                state[i] = field.get(model);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+        return state;
+    }
+
+    private static final String[] OVERRIDE_FIELDS = {
+        "userDrawableMultiplyColors",
+        "userDrawableScreenColors",
+        "drawableMultiplyColorOverrideFlags",
+        "drawableScreenColorOverrideFlags",
+        "userPartMultiplyColors",
+        "userPartScreenColors",
+        "partMultiplyColorOverrideFlags",
+        "partScreenColorOverrideFlags",
+        "partChildDrawableOffsets",
+        "partChildDrawableIndices",
+        "userCullingOverrideFlags",
+        "userCullingFlags",
+        "userParameterRepeatOverrideFlags",
+        "userParameterRepeatFlags"
+    };
+
+    private static final int DRAWABLE_COUNT = 1500;
+    private static final int PART_COUNT = 300;
+    private static final int PARAMETER_COUNT = 400;
+    private static final int INSTANCE_COUNT = 50;
+}
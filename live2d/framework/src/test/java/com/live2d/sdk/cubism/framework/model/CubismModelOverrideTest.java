@@ -0,0 +1,193 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.model;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the SDK overrides of the colors, the culling and the parameter repeat, which are kept in packed arrays and bit sets.
+ * <p>
+ * The model has PART_COUNT parts and DRAWABLE_COUNT drawables. Drawable i belongs to part (i % PART_COUNT).
+ */
+public class CubismModelOverrideTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+
+        model = CubismModelFixtures.create(
+            new String[]{"ParamA", "ParamB", "ParamC"},
+            new float[]{-10.0f, 0.0f, 0.0f},
+            new float[]{10.0f, 1.0f, 1.0f},
+            new float[]{0.0f, 0.0f, 0.0f},
+            PART_COUNT,
+            DRAWABLE_COUNT
+        );
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void drawableColorsComeFromTheModelUntilOverridden() {
+        CubismModelFixtures.getDrawables(model).getMultiplyColors()[2] = new float[]{0.5f, 0.25f, 0.125f, 1.0f};
+
+        assertColor(0.5f, 0.25f, 0.125f, 1.0f, model.getMultiplyColor(2));
+        assertColor(0.0f, 0.0f, 0.0f, 1.0f, model.getScreenColor(2));
+
+        model.setMultiplyColor(2, 0.1f, 0.2f, 0.3f, 0.4f);
+        // The color is stored, but is not used until the override flag is set.
+        assertColor(0.5f, 0.25f, 0.125f, 1.0f, model.getMultiplyColor(2));
+
+        model.setOverrideFlagForDrawableMultiplyColors(2, true);
+        assertTrue(model.getOverrideFlagForDrawableMultiplyColors(2));
+        assertColor(0.1f, 0.2f, 0.3f, 0.4f, model.getMultiplyColor(2));
+    }
+
+    @Test
+    public void drawableOverridesAreIndependent() {
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            model.setOverrideFlagForDrawableScreenColors(i, true);
+            model.setScreenColor(i, i * 0.01f, 0.0f, 0.0f, 1.0f);
+        }
+
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            assertColor(i * 0.01f, 0.0f, 0.0f, 1.0f, model.getScreenColor(i));
+        }
+
+        model.setOverrideFlagForDrawableScreenColors(5, false);
+        assertFalse(model.getOverrideFlagForDrawableScreenColors(5));
+        assertTrue(model.getOverrideFlagForDrawableScreenColors(6));
+        assertColor(0.0f, 0.0f, 0.0f, 1.0f, model.getScreenColor(5));
+    }
+
+    @Test
+    public void modelOverrideAppliesToEveryDrawable() {
+        model.setMultiplyColor(3, 0.2f, 0.2f, 0.2f, 1.0f);
+        model.setOverrideFlagForModelMultiplyColors(true);
+
+        assertColor(0.2f, 0.2f, 0.2f, 1.0f, model.getMultiplyColor(3));
+        // The other drawables keep the default multiply color.
+        assertColor(1.0f, 1.0f, 1.0f, 1.0f, model.getMultiplyColor(4));
+    }
+
+    @Test
+    public void partColorIsCopiedToItsChildDrawables() {
+        final int part = 1;
+
+        model.setPartMultiplyColor(part, 0.3f, 0.6f, 0.9f, 1.0f);
+        model.setOverrideColorForPartMultiplyColors(part, true);
+
+        assertTrue(model.getOverrideColorForPartMultiplyColors(part));
+        assertColor(0.3f, 0.6f, 0.9f, 1.0f, model.getPartMultiplyColor(part));
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            CubismRenderer.CubismTextureColor color = model.getMultiplyColor(i);
+            if (i % PART_COUNT == part) {
+                assertTrue(model.getOverrideFlagForDrawableMultiplyColors(i));
+                assertColor(0.3f, 0.6f, 0.9f, 1.0f, color);
+            } else {
+                assertFalse(model.getOverrideFlagForDrawableMultiplyColors(i));
+                assertColor(1.0f, 1.0f, 1.0f, 1.0f, color);
+            }
+        }
+
+        // While the part is overridden, a new part color is copied to the children at once.
+        model.setPartMultiplyColor(part, 0.0f, 0.5f, 0.0f, 1.0f);
+        assertColor(0.0f, 0.5f, 0.0f, 1.0f, model.getMultiplyColor(part));
+        assertColor(0.0f, 0.5f, 0.0f, 1.0f, model.getMultiplyColor(part + PART_COUNT));
+
+        model.setOverrideColorForPartMultiplyColors(part, false);
+        assertColor(1.0f, 1.0f, 1.0f, 1.0f, model.getMultiplyColor(part));
+    }
+
+    @Test
+    public void cullingOverride() {
+        // The fixture drawables are not double-sided, so they are culled by default.
+        assertTrue(model.getDrawableCulling(4));
+
+        model.setDrawableCulling(4, false);
+        assertTrue(model.getDrawableCulling(4));
+
+        model.setOverrideFlagForDrawableCullings(4, true);
+        assertFalse(model.getDrawableCulling(4));
+        assertTrue(model.getDrawableCulling(5));
+
+        model.setOverrideFlagForDrawableCullings(4, false);
+        model.setOverrideFlagForModelCullings(true);
+        assertFalse(model.getDrawableCulling(4));
+        assertFalse(model.getDrawableCulling(5));
+    }
+
+    @Test
+    public void parameterRepeatOverride() {
+        // The SDK settings are used for the whole model by default.
+        assertTrue(model.getOverrideFlagForModelParameterRepeat());
+        model.setRepeatFlagForParameterRepeat(1, true);
+        assertTrue(model.isRepeat(1));
+        model.setRepeatFlagForParameterRepeat(1, false);
+
+        model.setOverrideFlagForModelParameterRepeat(false);
+        assertFalse(model.isRepeat(0));
+
+        model.setRepeatFlagForParameterRepeat(0, true);
+        assertFalse(model.isRepeat(0));
+
+        model.setOverrideFlagForParameterRepeat(0, true);
+        assertTrue(model.isRepeat(0));
+        assertTrue(model.getRepeatFlagForParameterRepeat(0));
+        assertFalse(model.isRepeat(1));
+
+        // A repeated parameter wraps around its range instead of being clamped.
+        model.setParameterValue(0, 12.0f);
+        assertEquals(-8.0f, model.getParameterValue(0), 1.0e-5f);
+
+        model.setOverrideFlagForParameterRepeat(0, false);
+        model.setParameterValue(0, 12.0f);
+        assertEquals(10.0f, model.getParameterValue(0), 0.0f);
+    }
+
+    @Test
+    public void parameterRepeatOfNonExistentParameterIsOff() {
+        final int index = model.getParameterIndex(CubismFramework.getIdManager().getId("ParamMissing"));
+
+        assertEquals(3, index);
+        assertFalse(model.isRepeat(index));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void parameterRepeatRejectsNegativeIndex() {
+        model.isRepeat(-1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void parameterRepeatRejectsIndexOutOfRange() {
+        // No parameter has been registered at this index, even as a non-existent parameter.
+        model.isRepeat(3);
+    }
+
+    private static void assertColor(float r, float g, float b, float a, CubismRenderer.CubismTextureColor color) {
+        assertEquals(r, color.r, 0.0f);
+        assertEquals(g, color.g, 0.0f);
+        assertEquals(b, color.b, 0.0f);
+        assertEquals(a, color.a, 0.0f);
+    }
+
+    private static final int PART_COUNT = 4;
+    private static final int DRAWABLE_COUNT = 20;
+
+    private CubismModel model;
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Builds the model and the expressions used by the expression unit tests and benchmarks.
+ * The model has PARAMETER_COUNT parameters "Param{i}" in [-2, 2].
+ */
+final class CubismExpressionFixtures {
+    static final int PARAMETER_COUNT = 120;
+    static final int REFERENCE_COUNT = 40;
+    static final int EXPRESSION_COUNT = 10;
+
+    static CubismModel createModel() {
+        String[] ids = new String[PARAMETER_COUNT];
+        float[] minimumValues = new float[PARAMETER_COUNT];
+        float[] maximumValues = new float[PARAMETER_COUNT];
+        float[] defaultValues = new float[PARAMETER_COUNT];
+
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            ids[i] = "Param" + i;
+            minimumValues[i] = -2.0f;
+            maximumValues[i] = 2.0f;
+        }
+        return CubismModelFixtures.create(ids, minimumValues, maximumValues, defaultValues, 1, 1);
+    }
+
+    static CubismExpressionMotion[] createExpressions(String[] jsons) {
+        CubismExpressionMotion[] expressions = new CubismExpressionMotion[jsons.length];
+        for (int i = 0; i < jsons.length; i++) {
+            expressions[i] = CubismExpressionMotion.create(jsons[i].getBytes(StandardCharsets.UTF_8));
+        }
+        return expressions;
+    }
+
+    /**
+     * Creates exp3.json data of 40 parameters with all blend types.
+     * Some IDs do not exist in the model and some are referenced twice by the same expression.
+     */
+    static String[] createExpressionJsons(Random random, int count) {
+        final String[] blends = {"Add", "Multiply", "Overwrite"};
+        String[] jsons = new String[count];
+
+        for (int e = 0; e < count; e++) {
+            StringBuilder json = new StringBuilder();
+            json.append("{\"Type\":\"Live2D Expression\",\"FadeInTime\":").append(0.3f + random.nextFloat())
+                .append(",\"FadeOutTime\":").append(0.3f + random.nextFloat()).append(",\"Parameters\":[");
+
+            for (int i = 0; i < REFERENCE_COUNT; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                final int parameter = random.nextInt(PARAMETER_COUNT + 4);
+                json.append("{\"Id\":\"Param").append(parameter).append("\",\"Value\":").append(random.nextFloat() * 2.0f - 0.5f)
+                    .append(",\"Blend\":\"").append(blends[random.nextInt(blends.length)]).append("\"}");
+            }
+            jsons[e] = json.append("]}").toString();
+        }
+        return jsons;
+    }
+
+    private CubismExpressionFixtures() {}
+}
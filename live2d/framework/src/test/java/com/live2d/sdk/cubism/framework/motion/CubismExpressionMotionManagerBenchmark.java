@@ -0,0 +1,104 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.CubismBenchmarks;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the expression blending with 10 stacked expressions, against the per-parameter list path it replaced.
+ */
+public class CubismExpressionMotionManagerBenchmark {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void tenStackedExpressions() {
+        final String[] expressionJsons = CubismExpressionFixtures.createExpressionJsons(new Random(10), EXPRESSION_COUNT);
+
+        final CubismModel model = CubismExpressionFixtures.createModel();
+        final CubismExpressionMotionManager manager = new CubismExpressionMotionManager();
+        startAll(CubismExpressionFixtures.createExpressions(expressionJsons), manager::startMotionPriority);
+
+        final CubismModel referenceModel = CubismExpressionFixtures.createModel();
+        final ListExpressionMotionManager referenceManager = new ListExpressionMotionManager();
+        startAll(CubismExpressionFixtures.createExpressions(expressionJsons), (expression, priority) -> referenceManager.startMotion(expression));
+
+        final double arrays = CubismBenchmarks.measureNanos(FRAME_COUNT, () -> update(model, manager));
+        final double lists = CubismBenchmarks.measureNanos(FRAME_COUNT, () -> update(referenceModel, referenceManager));
+        final long arrayBytes = CubismBenchmarks.measureAllocatedBytes(() -> update(model, manager));
+        final long listBytes = CubismBenchmarks.measureAllocatedBytes(() -> update(referenceModel, referenceManager));
+
+        CubismBenchmarks.report(
+            "10 stacked expressions",
+            "%d parameters, lists %.2f us/frame %d B/frame, arrays %.2f us/frame %d B/frame",
+            CubismExpressionFixtures.PARAMETER_COUNT,
+            lists / 1000.0,
+            listBytes / FRAME_COUNT,
+            arrays / 1000.0,
+            arrayBytes / FRAME_COUNT
+        );
+
+        // Every expression is still active. CubismExpressionMotionManagerTest checks that both paths give the same values.
+        assertEquals(EXPRESSION_COUNT, manager.getCubismMotionQueueEntries().size());
+        assertEquals(EXPRESSION_COUNT, referenceManager.getCubismMotionQueueEntries().size());
+    }
+
+    private interface Starter {
+        void start(CubismExpressionMotion expression, int priority);
+    }
+
+    private static void startAll(CubismExpressionMotion[] expressions, Starter starter) {
+        // A fade long enough to keep every expression active during the whole benchmark.
+        for (CubismExpressionMotion expression : expressions) {
+            expression.setFadeInTime(1.0e6f);
+            starter.start(expression, 2);
+        }
+    }
+
+    private static void update(CubismModel model, CubismExpressionMotionManager manager) {
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            resetParameters(model);
+            manager.updateMotion(model, FRAME_TIME);
+        }
+    }
+
+    private static void update(CubismModel model, ListExpressionMotionManager manager) {
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            resetParameters(model);
+            manager.updateMotion(model, FRAME_TIME);
+        }
+    }
+
+    // The app restores the parameters before the expressions are applied in every frame.
+    private static void resetParameters(CubismModel model) {
+        for (int i = 0; i < CubismExpressionFixtures.PARAMETER_COUNT; i++) {
+            model.setParameterValue(i, 0.5f);
+        }
+    }
+
+    private static final int EXPRESSION_COUNT = CubismExpressionFixtures.EXPRESSION_COUNT;
+    private static final int FRAME_COUNT = 100;
+    private static final float FRAME_TIME = 1.0f / 60.0f;
+}
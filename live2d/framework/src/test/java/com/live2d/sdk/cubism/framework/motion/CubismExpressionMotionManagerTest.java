@@ -0,0 +1,118 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares CubismExpressionMotionManager with the per-parameter list path it replaced.
+ * The parameter values must be bit-identical.
+ */
+public class CubismExpressionMotionManagerTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void staggeredExpressionsMatchListPath() {
+        Random random = new Random(7);
+        String[] expressionJsons = CubismExpressionFixtures.createExpressionJsons(random, EXPRESSION_COUNT);
+
+        CubismModel model = CubismExpressionFixtures.createModel();
+        CubismModel referenceModel = CubismExpressionFixtures.createModel();
+        CubismExpressionMotion[] expressions = CubismExpressionFixtures.createExpressions(expressionJsons);
+        CubismExpressionMotion[] referenceExpressions = CubismExpressionFixtures.createExpressions(expressionJsons);
+        CubismExpressionMotionManager manager = new CubismExpressionMotionManager();
+        ListExpressionMotionManager referenceManager = new ListExpressionMotionManager();
+
+        for (int frame = 0; frame < 4000; frame++) {
+            if (frame % 37 == 0) {
+                // Start an expression while the previous ones are still fading.
+                final int index = random.nextInt(EXPRESSION_COUNT);
+                manager.startMotionPriority(expressions[index], 2);
+                referenceManager.startMotion(referenceExpressions[index]);
+            }
+            final float deltaTime = (1.0f / 60.0f) * (0.5f + random.nextFloat());
+
+            updateBoth(frame, model, manager, referenceModel, referenceManager, deltaTime);
+        }
+    }
+
+    @Test
+    public void tenStackedExpressionsMatchListPath() {
+        Random random = new Random(10);
+        String[] expressionJsons = CubismExpressionFixtures.createExpressionJsons(random, EXPRESSION_COUNT);
+
+        CubismModel model = CubismExpressionFixtures.createModel();
+        CubismModel referenceModel = CubismExpressionFixtures.createModel();
+        CubismExpressionMotion[] expressions = CubismExpressionFixtures.createExpressions(expressionJsons);
+        CubismExpressionMotion[] referenceExpressions = CubismExpressionFixtures.createExpressions(expressionJsons);
+        CubismExpressionMotionManager manager = new CubismExpressionMotionManager();
+        ListExpressionMotionManager referenceManager = new ListExpressionMotionManager();
+
+        // Slow fades keep all of the 10 expressions active.
+        for (int i = 0; i < EXPRESSION_COUNT; i++) {
+            expressions[i].setFadeInTime(30.0f);
+            referenceExpressions[i].setFadeInTime(30.0f);
+            manager.startMotionPriority(expressions[i], 2);
+            referenceManager.startMotion(referenceExpressions[i]);
+        }
+
+        for (int frame = 0; frame < 600; frame++) {
+            updateBoth(frame, model, manager, referenceModel, referenceManager, 1.0f / 60.0f);
+        }
+        assertEquals(EXPRESSION_COUNT, manager.getCubismMotionQueueEntries().size());
+    }
+
+    /**
+     * Sets the same base values to both models, updates both managers and compares every parameter.
+     */
+    private static void updateBoth(
+        int frame,
+        CubismModel model,
+        CubismExpressionMotionManager manager,
+        CubismModel referenceModel,
+        ListExpressionMotionManager referenceManager,
+        float deltaTime
+    ) {
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            final float value = (float) Math.sin(frame * 0.01 + i);
+            model.setParameterValue(i, value);
+            referenceModel.setParameterValue(i, value);
+        }
+
+        manager.updateMotion(model, deltaTime);
+        referenceManager.updateMotion(referenceModel, deltaTime);
+
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            assertEquals(
+                "frame " + frame + " parameter " + i,
+                Float.floatToIntBits(referenceModel.getParameterValue(i)),
+                Float.floatToIntBits(model.getParameterValue(i))
+            );
+        }
+    }
+
+    private static final int PARAMETER_COUNT = CubismExpressionFixtures.PARAMETER_COUNT;
+    private static final int EXPRESSION_COUNT = CubismExpressionFixtures.EXPRESSION_COUNT;
+}
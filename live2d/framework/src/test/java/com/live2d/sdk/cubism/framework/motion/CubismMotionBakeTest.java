@@ -0,0 +1,212 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that a baked motion plays like the same motion evaluated from the segments, within the tolerance of the bake.
+ */
+public class CubismMotionBakeTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void errorStaysWithinToleranceBetweenTheSamples() {
+        for (boolean areBeziersRestricted : new boolean[]{true, false}) {
+            for (float tolerance : TOLERANCES) {
+                final byte[] json = createMotionJson(10.0f, 300, areBeziersRestricted);
+                final CubismMotion.BakeReport report = CubismMotion.create(json).bake(SAMPLE_RATE, tolerance);
+
+                final String label = "restricted beziers: " + areBeziersRestricted + ", tolerance " + tolerance;
+                assertEquals(label, CURVE_COUNT, report.getBakedCurveCount());
+                // The parameter curves stay in [-30, 30].
+                assertTrue(label + " max error " + report.getMaxError(),
+                    report.getMaxError() <= tolerance * PARAMETER_RANGE + ROUNDING_ERROR);
+            }
+        }
+    }
+
+    @Test
+    public void bakedCurvesAreStillCompressed() {
+        // One segment per second, which is smoother than the fixtures of the other tests.
+        final byte[] json = createMotionJson(10.0f, 10, true);
+        final CubismMotion.BakeReport report = CubismMotion.create(json).bake(SAMPLE_RATE, 0.001f);
+
+        assertTrue(report.getKnotCount() + " knots of " + report.getSampleCount() + " samples",
+            report.getKnotCount() < report.getSampleCount());
+        assertTrue(report.getMemorySize() < report.getUncompressedMemorySize());
+    }
+
+    @Test
+    public void bakedMotionPlaysLikeUnbakedMotion() {
+        // The unrestricted Bezier segments of the fixture have nearly vertical ends, which the measured points cannot follow.
+        final byte[] json = createMotionJson(2.0f, 12, true);
+
+        for (float tolerance : PLAYBACK_TOLERANCES) {
+            final CubismMotion bakedMotion = CubismMotion.create(json);
+            bakedMotion.bake(SAMPLE_RATE, tolerance);
+            assertTrue(bakedMotion.isBaked());
+
+            final Playback expected = play(CubismMotion.create(json));
+            final Playback actual = play(bakedMotion);
+
+            final String label = "tolerance " + tolerance;
+            assertSameEvents(label, expected, actual);
+            assertSameFramesWithin(label, expected, actual, tolerance);
+            // The playback has looped several times and faded out.
+            assertTrue(label, expected.firedEvents.size() > 10);
+            assertEquals(label, 0.0f, expected.frames.get(expected.frames.size() - 1)[CURVE_COUNT], 0.0f);
+        }
+    }
+
+    @Test
+    public void clearedMotionPlaysFromTheSegments() {
+        final byte[] json = createMotionJson(2.0f, 12, true);
+        final CubismMotion motion = CubismMotion.create(json);
+        motion.bake(SAMPLE_RATE, 0.01f);
+        motion.clearBakedCurves();
+
+        assertFalse(motion.isBaked());
+        final Playback expected = play(CubismMotion.create(json));
+        final Playback actual = play(motion);
+        assertSameEvents("cleared", expected, actual);
+        assertSameFramesWithin("cleared", expected, actual, 0.0f);
+    }
+
+    private static byte[] createMotionJson(float duration, int segmentCount, boolean areBeziersRestricted) {
+        final float[] eventTimes = {0.0f, 0.1f, 0.5f, 0.5f, 1.2f, 1.9f};
+        return CubismMotionFixtures.createMotionJson(new Random(7), duration, segmentCount, areBeziersRestricted, eventTimes)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Plays the looping motion with its fades, a fade-out in the middle and jittered frames.
+     */
+    private static Playback play(CubismMotion motion) {
+        final CubismModel model = CubismMotionFixtures.createModel();
+        final Playback playback = new Playback();
+        final int[] frame = {0};
+
+        motion.setLoop(true);
+        CubismMotionManager manager = new CubismMotionManager();
+        manager.setEventCallback((caller, eventValue, customData) -> {
+            playback.firedEvents.add(eventValue);
+            playback.firedFrames.add(frame[0]);
+        }, null);
+        manager.startMotionPriority(motion, 2);
+
+        Random random = new Random(8);
+        float userTimeSeconds = 0.0f;
+        for (frame[0] = 0; frame[0] < FRAME_COUNT; frame[0]++) {
+            final float deltaTime = (1.0f / 60.0f) * (0.5f + random.nextFloat());
+            userTimeSeconds += deltaTime;
+            if (frame[0] == FADE_OUT_FRAME) {
+                manager.getCubismMotionQueueEntries().get(0).startFadeOut(0.5f, userTimeSeconds);
+            }
+            manager.updateMotion(model, deltaTime);
+
+            float[] values = new float[CubismMotionFixtures.PARAMETER_COUNT + CubismMotionFixtures.PART_COUNT + 1];
+            for (int i = 0; i < CubismMotionFixtures.PARAMETER_COUNT; i++) {
+                values[i] = model.getParameterValue(i);
+            }
+            for (int i = 0; i < CubismMotionFixtures.PART_COUNT; i++) {
+                values[CubismMotionFixtures.PARAMETER_COUNT + i] = model.getPartOpacity(i);
+            }
+            // 1 while the motion is playing, 0 after it has faded out
+            values[values.length - 1] = manager.isFinished() ? 0.0f : 1.0f;
+            playback.frames.add(values);
+        }
+        return playback;
+    }
+
+    private static void assertSameEvents(String label, Playback expected, Playback actual) {
+        assertEquals(label, expected.firedEvents, actual.firedEvents);
+        assertEquals(label, expected.firedFrames, actual.firedFrames);
+    }
+
+    /**
+     * Asserts that every value is within the tolerance times the value range of its curve.
+     * The frames fall between the points where the bake measures the error, so twice the tolerance is allowed.
+     */
+    private static void assertSameFramesWithin(String label, Playback expected, Playback actual, float tolerance) {
+        assertEquals(expected.frames.size(), actual.frames.size());
+        for (int frame = 0; frame < expected.frames.size(); frame++) {
+            final float[] expectedValues = expected.frames.get(frame);
+            final float[] actualValues = actual.frames.get(frame);
+
+            for (int i = 0; i < expectedValues.length; i++) {
+                final float range = i < CubismMotionFixtures.PARAMETER_COUNT ? PARAMETER_RANGE : PART_RANGE;
+                assertEquals(
+                    label + " frame " + frame + " value " + i,
+                    expectedValues[i],
+                    actualValues[i],
+                    2.0f * tolerance * range + ROUNDING_ERROR
+                );
+            }
+        }
+    }
+
+    /**
+     * Values and events recorded during a playback
+     */
+    private static class Playback {
+        /**
+         * Parameters, part opacities and whether the motion is playing, at each frame
+         */
+        final List<float[]> frames = new ArrayList<>();
+        /**
+         * Values of the fired events in the order of firing
+         */
+        final List<String> firedEvents = new ArrayList<>();
+        /**
+         * Frames in which the events were fired
+         */
+        final List<Integer> firedFrames = new ArrayList<>();
+    }
+
+    private static final float SAMPLE_RATE = 60.0f;
+    private static final float[] TOLERANCES = {0.0f, 0.001f, 0.01f};
+    /**
+     * Tolerances of the playback test. With a tolerance of 0, the curvature between the measured points is larger than the tolerance.
+     */
+    private static final float[] PLAYBACK_TOLERANCES = {0.001f, 0.01f};
+    private static final int CURVE_COUNT = CubismMotionFixtures.PARAMETER_COUNT + CubismMotionFixtures.PART_COUNT;
+    /**
+     * Largest value ranges of the parameter curves and the part opacity curves of the fixture
+     */
+    private static final float PARAMETER_RANGE = 60.0f;
+    private static final float PART_RANGE = 1.0f;
+    /**
+     * Rounding error of the baked curves
+     */
+    private static final float ROUNDING_ERROR = 1.0e-4f;
+    private static final int FRAME_COUNT = 600;
+    private static final int FADE_OUT_FRAME = 450;
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryFormatAssert;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the motions and expressions created from the compiled data play exactly like the ones created from JSON,
+ * and that broken compiled data only raises CubismBinaryFormatException.
+ */
+public class CubismMotionCompileTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void compiledMotionPlaysLikeJsonMotion() {
+        for (boolean areBeziersRestricted : new boolean[]{true, false}) {
+            final byte[] json = createMotionJson(areBeziersRestricted);
+
+            final List<float[]> expected = play(CubismMotion.create(json));
+            final List<float[]> actual = play(CubismMotion.create(new CubismBinaryReader(compileMotion(json)), null, null));
+
+            assertSameFrames("restricted beziers: " + areBeziersRestricted, expected, actual);
+            // The events of several loops have fired.
+            assertTrue(expected.get(expected.size() - 1)[CubismMotionFixtures.PARAMETER_COUNT + CubismMotionFixtures.PART_COUNT] > 10.0f);
+        }
+    }
+
+    @Test
+    public void compiledExpressionPlaysLikeJsonExpression() {
+        final String[] jsons = CubismExpressionFixtures.createExpressionJsons(new Random(5), 3);
+
+        for (String json : jsons) {
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            CubismBinaryWriter writer = new CubismBinaryWriter();
+            CubismExpressionMotion.compile(bytes, writer);
+
+            final List<float[]> expected = playExpression(CubismExpressionMotion.create(bytes));
+            final List<float[]> actual = playExpression(CubismExpressionMotion.create(new CubismBinaryReader(writer.toByteArray())));
+
+            assertSameFrames("expression", expected, actual);
+        }
+    }
+
+    @Test
+    public void brokenCompiledMotionOnlyRaisesFormatException() {
+        final byte[] compiled = compileMotion(createMotionJson(true));
+
+        final int rejectedCount = CubismBinaryFormatAssert.assertOnlyFormatExceptions(compiled, 4000, 1L,
+            reader -> CubismMotion.create(reader, null, null));
+        assertTrue(rejectedCount > 0);
+    }
+
+    @Test
+    public void brokenCompiledExpressionOnlyRaisesFormatException() {
+        final byte[] json = CubismExpressionFixtures.createExpressionJsons(new Random(6), 1)[0].getBytes(StandardCharsets.UTF_8);
+        CubismBinaryWriter writer = new CubismBinaryWriter();
+        CubismExpressionMotion.compile(json, writer);
+
+        final int rejectedCount = CubismBinaryFormatAssert.assertOnlyFormatExceptions(writer.toByteArray(), 4000, 2L,
+            CubismExpressionMotion::create);
+        assertTrue(rejectedCount > 0);
+    }
+
+    private static byte[] createMotionJson(boolean areBeziersRestricted) {
+        final float[] eventTimes = {0.1f, 0.5f, 0.5f, 1.2f, 1.9f};
+        return CubismMotionFixtures.createMotionJson(new Random(3), 2.0f, 12, areBeziersRestricted, eventTimes)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compileMotion(byte[] json) {
+        CubismBinaryWriter writer = new CubismBinaryWriter();
+        CubismMotion.compile(json, writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Plays the looping motion with fades and jittered frames, and records the parameters, the part opacities and the number of fired events of every frame.
+     */
+    private static List<float[]> play(CubismMotion motion) {
+        final CubismModel model = CubismMotionFixtures.createModel();
+        final List<float[]> frames = new ArrayList<>();
+        final List<String> events = new ArrayList<>();
+
+        motion.setLoop(true);
+        CubismMotionManager manager = new CubismMotionManager();
+        manager.setEventCallback((caller, eventValue, customData) -> events.add(eventValue), null);
+        manager.startMotionPriority(motion, 2);
+
+        Random random = new Random(4);
+        for (int frame = 0; frame < 600; frame++) {
+            if (frame == 450) {
+                manager.getCubismMotionQueueEntries().get(0).startFadeOut(0.5f, frame / 60.0f);
+            }
+            manager.updateMotion(model, (1.0f / 60.0f) * (0.5f + random.nextFloat()));
+
+            float[] values = new float[CubismMotionFixtures.PARAMETER_COUNT + CubismMotionFixtures.PART_COUNT + 1];
+            for (int i = 0; i < CubismMotionFixtures.PARAMETER_COUNT; i++) {
+                values[i] = model.getParameterValue(i);
+            }
+            for (int i = 0; i < CubismMotionFixtures.PART_COUNT; i++) {
+                values[CubismMotionFixtures.PARAMETER_COUNT + i] = model.getPartOpacity(i);
+            }
+            values[values.length - 1] = events.size();
+            frames.add(values);
+        }
+        return frames;
+    }
+
+    private static List<float[]> playExpression(CubismExpressionMotion expression) {
+        final CubismModel model = CubismExpressionFixtures.createModel();
+        final List<float[]> frames = new ArrayList<>();
+
+        CubismExpressionMotionManager manager = new CubismExpressionMotionManager();
+        manager.startMotionPriority(expression, 2);
+        for (int frame = 0; frame < 120; frame++) {
+            for (int i = 0; i < CubismExpressionFixtures.PARAMETER_COUNT; i++) {
+                model.setParameterValue(i, 0.5f);
+            }
+            manager.updateMotion(model, 1.0f / 60.0f);
+
+            float[] values = new float[CubismExpressionFixtures.PARAMETER_COUNT];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = model.getParameterValue(i);
+            }
+            frames.add(values);
+        }
+        return frames;
+    }
+
+    private static void assertSameFrames(String label, List<float[]> expected, List<float[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int frame = 0; frame < expected.size(); frame++) {
+            for (int i = 0; i < expected.get(frame).length; i++) {
+                assertEquals(
+                    label + " frame " + frame + " value " + i,
+                    Float.floatToIntBits(expected.get(frame)[i]),
+                    Float.floatToIntBits(actual.get(frame)[i])
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the timing of the user-triggered events over the variable delta times seen on devices.
+ * The motions are driven through CubismMotionManager, which calls updateParameters and fireEvents every frame.
+ */
+public class CubismMotionEventTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+        model = CubismModelFixtures.create(
+            new String[]{"ParamAngleX"},
+            new float[]{-30.0f},
+            new float[]{30.0f},
+            new float[]{0.0f},
+            1,
+            1
+        );
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void eventsFireOnceInOrderInTheFrameThatReachesThem() {
+        // Two events share 0.5 s to check that ties keep the order of motion3.json.
+        final float[] eventTimes = {0.0f, 0.031f, 0.047f, 0.2f, 0.5f, 0.5f, 0.52f, 0.77f, 0.81f, 0.93f, 1.4f, 1.95f};
+        // Small deltas, a 250 ms stall that skips several events, and a 400 ms stall.
+        final float[] deltaTimes = {
+            1.0f / 60.0f, 1.0f / 120.0f, 1.0f / 60.0f, 0.25f, 1.0f / 60.0f, 1.0f / 30.0f, 1.0f / 60.0f,
+            0.4f, 1.0f / 90.0f, 1.0f / 60.0f, 0.1f, 0.3f, 1.0f / 60.0f, 0.2f, 0.33f, 1.0f / 60.0f, 1.0f / 60.0f, 0.22f
+        };
+
+        for (CubismMotion.MotionBehavior behavior : CubismMotion.MotionBehavior.values()) {
+            CubismMotion motion = createMotion(2.0f, eventTimes, false, behavior);
+            Recording recording = play(motion, deltaTimes);
+
+            assertFiredInOrder(behavior, recording.firedEvents, eventTimes.length, eventTimes.length);
+
+            for (int i = 0; i < recording.firedEvents.size(); i++) {
+                final int eventIndex = recording.firedEvents.get(i);
+                final int frame = recording.firedFrames.get(i);
+                final float eventTime = eventTimes[eventIndex];
+
+                assertTrue(behavior + " event " + eventIndex + " fired before its time",
+                    recording.motionTimes[frame] >= eventTime);
+                assertTrue(behavior + " event " + eventIndex + " fired later than the frame which reached it",
+                    frame == 0 || recording.motionTimes[frame - 1] < eventTime);
+            }
+        }
+    }
+
+    @Test
+    public void loopingEventsFireOncePerLoopInOrderWithVariableDeltas() {
+        // Events at both ends of the loop as well as dense events in the middle.
+        final float[] eventTimes = {0.0f, 0.05f, 0.1f, 0.11f, 0.12f, 0.3f, 0.45f, 0.6f, 0.61f, 0.75f, 0.9f, 0.99f, 1.0f};
+
+        for (CubismMotion.MotionBehavior behavior : CubismMotion.MotionBehavior.values()) {
+            for (long seed = 1; seed <= 3; seed++) {
+                CubismMotion motion = createMotion(1.0f, eventTimes, true, behavior);
+                Recording recording = play(motion, createDeltaTimes(seed, 3000));
+
+                // Every loop that started has fired all of the events of the loops before it.
+                final int startedLoopCount = recording.loopCount;
+                assertTrue(behavior + " seed " + seed + " did not loop often enough: " + startedLoopCount, startedLoopCount > 100);
+                assertFiredInOrder(
+                    behavior + " seed " + seed,
+                    recording.firedEvents,
+                    eventTimes.length,
+                    (startedLoopCount - 1) * eventTimes.length + 1
+                );
+                assertTrue(behavior + " seed " + seed + " fired events of loops which did not start",
+                    recording.firedEvents.size() <= startedLoopCount * eventTimes.length);
+            }
+        }
+    }
+
+    @Test
+    public void deltaLongerThanTheLoopFiresTheTailAndTheHead() {
+        final float[] eventTimes = {0.1f, 0.5f, 0.9f};
+        CubismMotion motion = createMotion(1.0f, eventTimes, true, CubismMotion.MotionBehavior.MOTION_BEHAVIOR_V2);
+
+        // 0.6 s, then a 0.7 s stall crosses the loop boundary at 1.0 s.
+        Recording recording = play(motion, new float[]{0.0f, 0.6f, 0.7f});
+
+        assertEquals(2, recording.loopCount);
+        // 0.1 and 0.5 in the first loop; 0.9 of the first loop and 0.1 of the second loop after the stall.
+        assertEquals(4, recording.firedEvents.size());
+        assertFiredInOrder("stall", recording.firedEvents, eventTimes.length, 4);
+        assertEquals(Integer.valueOf(2), recording.firedFrames.get(2));
+        assertEquals(Integer.valueOf(2), recording.firedFrames.get(3));
+    }
+
+    /**
+     * Asserts that the fired events are 0, 1, ..., eventCount - 1 repeated, which means that no event was skipped,
+     * fired twice, or fired out of order.
+     */
+    private static void assertFiredInOrder(Object label, List<Integer> firedEvents, int eventCount, int minimumFiredCount) {
+        assertTrue(label + " fired " + firedEvents.size() + " events, expected at least " + minimumFiredCount,
+            firedEvents.size() >= minimumFiredCount);
+
+        for (int i = 0; i < firedEvents.size(); i++) {
+            assertEquals(label + " event #" + i, i % eventCount, firedEvents.get(i).intValue());
+        }
+    }
+
+    /**
+     * Creates frame deltas of 60 fps with jitter, 50-300 ms stalls, and stalls of most of the loop.
+     */
+    private static float[] createDeltaTimes(long seed, int frameCount) {
+        Random random = new Random(seed);
+        float[] deltaTimes = new float[frameCount];
+
+        for (int i = 0; i < frameCount; i++) {
+            final int kind = random.nextInt(20);
+            if (kind == 0) {
+                deltaTimes[i] = 0.6f + random.nextFloat() * 0.35f;
+            } else if (kind < 4) {
+                deltaTimes[i] = 0.05f + random.nextFloat() * 0.25f;
+            } else {
+                deltaTimes[i] = (1.0f / 60.0f) * (0.5f + random.nextFloat());
+            }
+        }
+        return deltaTimes;
+    }
+
+    private Recording play(CubismMotion motion, float[] deltaTimes) {
+        final Recording recording = new Recording(deltaTimes.length);
+        final int[] frame = {0};
+
+        CubismMotionManager motionManager = new CubismMotionManager();
+        motionManager.setEventCallback(new ICubismMotionEventFunction() {
+            @Override
+            public void apply(CubismMotionQueueManager caller, String eventValue, Object customData) {
+                recording.firedEvents.add(Integer.parseInt(eventValue));
+                recording.firedFrames.add(frame[0]);
+            }
+        }, null);
+        motionManager.startMotionPriority(motion, 2);
+
+        // Accumulated in float in the same way as CubismMotionManager.
+        float userTimeSeconds = 0.0f;
+        float lastStartTime = Float.NaN;
+
+        for (int i = 0; i < deltaTimes.length; i++) {
+            frame[0] = i;
+            userTimeSeconds += deltaTimes[i];
+            motionManager.updateMotion(model, deltaTimes[i]);
+
+            final float startTime = motionManager.getCubismMotionQueueEntries().get(0).getStartTime();
+            if (startTime != lastStartTime) {
+                recording.loopCount++;
+                lastStartTime = startTime;
+            }
+            recording.motionTimes[i] = userTimeSeconds - startTime;
+        }
+        return recording;
+    }
+
+    /**
+     * Creates a motion whose user data are the given events. The value of each event is its index.
+     */
+    private static CubismMotion createMotion(float duration, float[] eventTimes, boolean isLoop, CubismMotion.MotionBehavior behavior) {
+        StringBuilder userData = new StringBuilder();
+        for (int i = 0; i < eventTimes.length; i++) {
+            if (i > 0) {
+                userData.append(',');
+            }
+            userData.append("{\"Time\":").append(eventTimes[i]).append(",\"Value\":\"").append(i).append("\"}");
+        }
+
+        String json = "{\"Version\":3,\"Meta\":{\"Duration\":" + duration + ",\"Fps\":30.0,\"Loop\":" + isLoop
+            + ",\"AreBeziersRestricted\":true,\"CurveCount\":1,\"TotalSegmentCount\":1,\"TotalPointCount\":2"
+            + ",\"UserDataCount\":" + eventTimes.length + ",\"TotalUserDataSize\":" + (eventTimes.length * 4) + "},"
+            + "\"Curves\":[{\"Target\":\"Parameter\",\"Id\":\"ParamAngleX\",\"Segments\":[0,0,0," + duration + ",1]}],"
+            + "\"UserData\":[" + userData + "]}";
+
+        CubismMotion motion = CubismMotion.create(json.getBytes(StandardCharsets.UTF_8));
+        motion.setMotionBehavior(behavior);
+        motion.setLoop(isLoop);
+        return motion;
+    }
+
+    /**
+     * Events fired during a playback.
+     */
+    private static class Recording {
+        Recording(int frameCount) {
+            motionTimes = new float[frameCount];
+        }
+
+        /**
+         * Indices of the fired events in the order of firing
+         */
+        final List<Integer> firedEvents = new ArrayList<>();
+        /**
+         * Frames in which the events were fired
+         */
+        final List<Integer> firedFrames = new ArrayList<>();
+        /**
+         * Playback time of the motion at each frame, measured from the start of the current loop
+         */
+        final float[] motionTimes;
+        /**
+         * Number of loops which started
+         */
+        int loopCount;
+    }
+
+    private CubismModel model;
+}
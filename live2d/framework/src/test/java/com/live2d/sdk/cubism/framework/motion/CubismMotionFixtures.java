@@ -0,0 +1,115 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+
+import java.util.Random;
+
+/**
+ * Builds the model and the motion3.json data used by the motion unit tests and benchmarks.
+ * <p>
+ * The model has PARAMETER_COUNT parameters "Param{i}" in [-30, 30] and PART_COUNT parts "Part{i}".
+ */
+final class CubismMotionFixtures {
+    static final int PARAMETER_COUNT = 40;
+    static final int PART_COUNT = 4;
+
+    static CubismModel createModel() {
+        String[] ids = new String[PARAMETER_COUNT];
+        float[] minimumValues = new float[PARAMETER_COUNT];
+        float[] maximumValues = new float[PARAMETER_COUNT];
+        float[] defaultValues = new float[PARAMETER_COUNT];
+
+        for (int i = 0; i < PARAMETER_COUNT; i++) {
+            ids[i] = "Param" + i;
+            minimumValues[i] = -30.0f;
+            maximumValues[i] = 30.0f;
+        }
+        return CubismModelFixtures.create(ids, minimumValues, maximumValues, defaultValues, PART_COUNT, PART_COUNT);
+    }
+
+    /**
+     * Creates a motion3.json with one curve per parameter and per part, and the given events.
+     * The curves mix the four segment types. Their values stay in the range of the targets.
+     *
+     * @param random random numbers deciding the curves
+     * @param duration duration of the motion[s]
+     * @param segmentCount number of segments of each curve
+     * @param areBeziersRestricted whether the Bezier handles are restricted, which selects the Bezier evaluator
+     * @param eventTimes times of the events. The value of each event is its index.
+     * @return motion3.json
+     */
+    static String createMotionJson(Random random, float duration, int segmentCount, boolean areBeziersRestricted, float[] eventTimes) {
+        final int curveCount = PARAMETER_COUNT + PART_COUNT;
+        int totalSegmentCount = 0;
+        int totalPointCount = 0;
+
+        StringBuilder curves = new StringBuilder();
+        for (int c = 0; c < curveCount; c++) {
+            final boolean isPart = c >= PARAMETER_COUNT;
+            final float amplitude = isPart ? 0.5f : 30.0f;
+            final float center = isPart ? 0.5f : 0.0f;
+
+            if (c > 0) {
+                curves.append(',');
+            }
+            if (isPart) {
+                curves.append("{\"Target\":\"PartOpacity\",\"Id\":\"Part").append(c - PARAMETER_COUNT).append('"');
+            } else {
+                curves.append("{\"Target\":\"Parameter\",\"Id\":\"Param").append(c).append('"');
+            }
+            // Some curves have their own fade times.
+            if (c % 5 == 0) {
+                curves.append(",\"FadeInTime\":0.2,\"FadeOutTime\":0.4");
+            }
+            curves.append(",\"Segments\":[0,").append(center + amplitude * (random.nextFloat() * 2.0f - 1.0f));
+            totalPointCount++;
+
+            for (int s = 0; s < segmentCount; s++) {
+                final float startTime = duration * s / segmentCount;
+                final float endTime = duration * (s + 1) / segmentCount;
+                final float value = center + amplitude * (random.nextFloat() * 2.0f - 1.0f);
+                final int type = random.nextInt(8) < 5 ? 1 : random.nextInt(4);
+
+                curves.append(',').append(type);
+                if (type == 1) {
+                    final float length = endTime - startTime;
+                    curves.append(',').append(startTime + length * random.nextFloat() * 0.5f)
+                        .append(',').append(center + amplitude * (random.nextFloat() * 2.0f - 1.0f))
+                        .append(',').append(endTime - length * random.nextFloat() * 0.5f)
+                        .append(',').append(center + amplitude * (random.nextFloat() * 2.0f - 1.0f));
+                    totalPointCount += 2;
+                }
+                curves.append(',').append(endTime).append(',').append(value);
+                totalPointCount++;
+                totalSegmentCount++;
+            }
+            curves.append("]}");
+        }
+
+        StringBuilder userData = new StringBuilder();
+        for (int i = 0; i < eventTimes.length; i++) {
+            if (i > 0) {
+                userData.append(',');
+            }
+            userData.append("{\"Time\":").append(eventTimes[i]).append(",\"Value\":\"").append(i).append("\"}");
+        }
+
+        return "{\"Version\":3,\"Meta\":{\"Duration\":" + duration + ",\"Fps\":30.0,\"Loop\":true"
+            + ",\"AreBeziersRestricted\":" + areBeziersRestricted
+            + ",\"FadeInTime\":0.5,\"FadeOutTime\":0.5"
+            + ",\"CurveCount\":" + curveCount + ",\"TotalSegmentCount\":" + totalSegmentCount + ",\"TotalPointCount\":" + totalPointCount
+            + ",\"UserDataCount\":" + eventTimes.length + ",\"TotalUserDataSize\":" + (eventTimes.length * 4) + "},"
+            + "\"Curves\":[" + curves + "],"
+            + "\"UserData\":[" + userData + "]}";
+    }
+
+    private CubismMotionFixtures() {}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.motion;
+
+import com.live2d.sdk.cubism.framework.math.CubismMath;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The previous implementation of CubismExpressionMotionManager.updateMotion.
+ * It searches a list of ExpressionParameterValue by ID and keeps the fade weights in a list.
+ */
+class ListExpressionMotionManager extends CubismMotionQueueManager {
+    boolean updateMotion(CubismModel model, float deltaTimeSeconds) {
+        userTimeSeconds += deltaTimeSeconds;
+        boolean isUpdated = false;
+        List<CubismMotionQueueEntry> motions = getCubismMotionQueueEntries();
+
+        float expressionWeight = 0.0f;
+        int expressionIndex = 0;
+
+        motions.removeAll(nullSet);
+
+        while (fadeWeights.size() < motions.size()) {
+            fadeWeights.add(0.0f);
+        }
+
+        for (int i = 0; i < motions.size(); i++) {
+            CubismMotionQueueEntry motionQueueEntry = motions.get(i);
+            CubismExpressionMotion expressionMotion = (CubismExpressionMotion) motionQueueEntry.getCubismMotion();
+            List<CubismExpressionMotion.ExpressionParameter> expressionParameters = expressionMotion.getExpressionParameters();
+
+            if (motionQueueEntry.isAvailable()) {
+                for (int paramIndex = 0; paramIndex < expressionParameters.size(); paramIndex++) {
+                    if (expressionParameters.get(paramIndex).parameterId == null) {
+                        continue;
+                    }
+
+                    int index = -1;
+                    for (int j = 0; j < expressionParameterValues.size(); j++) {
+                        if (expressionParameterValues.get(j).parameterId != expressionParameters.get(paramIndex).parameterId) {
+                            continue;
+                        }
+
+                        index = j;
+                        break;
+                    }
+
+                    if (index >= 0) {
+                        continue;
+                    }
+
+                    CubismExpressionMotionManager.ExpressionParameterValue item = new CubismExpressionMotionManager.ExpressionParameterValue();
+                    item.parameterId = expressionParameters.get(paramIndex).parameterId;
+                    item.additiveValue = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
+                    item.multiplyValue = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
+                    item.overwriteValue = model.getParameterValue(item.parameterId);
+                    expressionParameterValues.add(item);
+                }
+            }
+
+            expressionMotion.setupMotionQueueEntry(motionQueueEntry, userTimeSeconds);
+            fadeWeights.set(expressionIndex, expressionMotion.updateFadeWeight(motionQueueEntry, userTimeSeconds));
+            expressionMotion.calculateExpressionParameters(
+                model,
+                userTimeSeconds,
+                motionQueueEntry,
+                expressionParameterValues,
+                expressionIndex,
+                fadeWeights.get(expressionIndex)
+            );
+
+            final float easingSine = expressionMotion.getFadeInTime() == 0.0f
+                ? 1.0f
+                : CubismMath.getEasingSine((userTimeSeconds - motionQueueEntry.getFadeInStartTime()) / expressionMotion.getFadeInTime());
+            expressionWeight += easingSine;
+
+            isUpdated = true;
+
+            if (motionQueueEntry.isTriggeredFadeOut()) {
+                motionQueueEntry.startFadeOut(motionQueueEntry.getFadeOutSeconds(), userTimeSeconds);
+            }
+
+            expressionIndex++;
+        }
+
+        if (motions.size() > 1) {
+            float latestFadeWeight = fadeWeights.get(fadeWeights.size() - 1);
+
+            if (latestFadeWeight >= 1.0f) {
+                for (int i = motions.size() - 2; i >= 0; i--) {
+                    motions.set(i, null);
+                    fadeWeights.remove(i);
+                }
+                motions.removeAll(nullSet);
+            }
+        }
+
+        if (expressionWeight > 1.0f) {
+            expressionWeight = 1.0f;
+        }
+
+        for (int i = 0; i < expressionParameterValues.size(); i++) {
+            CubismExpressionMotionManager.ExpressionParameterValue v = expressionParameterValues.get(i);
+
+            model.setParameterValue(
+                v.parameterId,
+                (v.overwriteValue + v.additiveValue) * v.multiplyValue,
+                expressionWeight);
+            v.additiveValue = CubismExpressionMotion.DEFAULT_ADDITIVE_VALUE;
+            v.multiplyValue = CubismExpressionMotion.DEFAULT_MULTIPLY_VALUE;
+        }
+
+        return isUpdated;
+    }
+
+    private static final Set<Object> nullSet = Collections.singleton(null);
+
+    private final List<CubismExpressionMotionManager.ExpressionParameterValue> expressionParameterValues = new ArrayList<>();
+    private final List<Float> fadeWeights = new ArrayList<>();
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.CubismBenchmarks;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures CubismPhysics.evaluate() on synthetic hair rigs of several sizes.
+ */
+public class CubismPhysicsBenchmark {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void evaluate() {
+        for (int[] size : RIG_SIZES) {
+            final int strandCount = size[0];
+            final int vertexCount = size[1];
+            final CubismModel[] models = new CubismModel[MODEL_COUNT];
+            final CubismPhysics[] physics = new CubismPhysics[MODEL_COUNT];
+            for (int i = 0; i < MODEL_COUNT; i++) {
+                models[i] = CubismPhysicsFixtures.createModel(strandCount);
+                physics[i] = CubismPhysicsFixtures.createPhysics(strandCount, vertexCount);
+            }
+
+            final int[] frame = {0};
+            final double nanos = CubismBenchmarks.measureNanos(1, () -> {
+                for (int i = 0; i < MODEL_COUNT; i++) {
+                    CubismPhysicsFixtures.setInputs(models[i], frame[0] + i * 7);
+                    physics[i].evaluate(models[i], 1.0f / 60.0f);
+                }
+                frame[0]++;
+            });
+
+            CubismBenchmarks.report(
+                "physics evaluate",
+                "%d rigs x %d vertices, %d models: %.1f us/frame",
+                strandCount,
+                vertexCount,
+                MODEL_COUNT,
+                nanos / 1000.0
+            );
+
+            for (int i = 0; i < strandCount; i++) {
+                assertTrue(Float.isFinite(CubismPhysicsFixtures.getOutput(models[0], i)));
+            }
+
+            // The strands have been moved by the inputs.
+            // The number of frames measured above depends on the timing, so a fresh rig is run for a fixed number of frames.
+            final CubismModel model = CubismPhysicsFixtures.createModel(strandCount);
+            final CubismPhysics checkedPhysics = CubismPhysicsFixtures.createPhysics(strandCount, vertexCount);
+            for (int i = 1; i <= CHECKED_FRAME_COUNT; i++) {
+                CubismPhysicsFixtures.setInputs(model, i);
+                checkedPhysics.evaluate(model, 1.0f / 60.0f);
+            }
+            for (int i = 0; i < strandCount; i++) {
+                assertNotEquals(0.0f, CubismPhysicsFixtures.getOutput(model, i), 0.0f);
+            }
+        }
+    }
+
+    @Test
+    public void evaluateWithLod() {
+        final int strandCount = 48;
+        final int vertexCount = 8;
+
+        for (float coverage : LOD_COVERAGES) {
+            final CubismModel[] models = new CubismModel[MODEL_COUNT];
+            final CubismPhysics[] physics = new CubismPhysics[MODEL_COUNT];
+            for (int i = 0; i < MODEL_COUNT; i++) {
+                models[i] = CubismPhysicsFixtures.createModel(strandCount);
+                physics[i] = CubismPhysicsFixtures.createPhysics(strandCount, vertexCount);
+                physics[i].setLodEnabled(true);
+                physics[i].setScreenCoverage(coverage);
+            }
+
+            final int[] frame = {0};
+            final int[] evaluatedSteps = {0};
+            final double nanos = CubismBenchmarks.measureNanos(1, () -> {
+                for (int i = 0; i < MODEL_COUNT; i++) {
+                    CubismPhysicsFixtures.setInputs(models[i], frame[0] + i * 7);
+                    physics[i].evaluate(models[i], 1.0f / 60.0f);
+                    evaluatedSteps[0] += physics[i].getLodMetrics().getEvaluatedSubRigSteps();
+                }
+                frame[0]++;
+            });
+
+            CubismBenchmarks.report(
+                "physics evaluate with LOD",
+                "%d rigs x %d vertices, %d models, coverage %.2f: %.1f us/frame, %.1f sub-rig updates/model/frame",
+                strandCount,
+                vertexCount,
+                MODEL_COUNT,
+                coverage,
+                nanos / 1000.0,
+                (float) evaluatedSteps[0] / (frame[0] * MODEL_COUNT)
+            );
+
+            assertTrue(evaluatedSteps[0] > 0);
+        }
+    }
+
+    @Test
+    public void retainedBytesPerParticle() {
+        for (int[] size : RIG_SIZES) {
+            final int strandCount = size[0];
+            final int vertexCount = size[1];
+            final long bytes = CubismBenchmarks.measureRetainedBytes(
+                INSTANCE_COUNT,
+                () -> CubismPhysicsFixtures.createPhysics(strandCount, vertexCount)
+            );
+
+            CubismBenchmarks.report(
+                "physics retained",
+                "%d rigs x %d vertices: %d bytes/rig, %d bytes/particle",
+                strandCount,
+                vertexCount,
+                bytes,
+                bytes / (strandCount * vertexCount)
+            );
+        }
+    }
+
+    /**
+     * Numbers of strands and vertices per strand
+     */
+    private static final int[][] RIG_SIZES = {{12, 4}, {48, 8}, {64, 32}};
+    /**
+     * Number of models evaluated per frame
+     */
+    private static final int MODEL_COUNT = 8;
+    /**
+     * Screen coverages of the level-of-detail benchmark
+     */
+    private static final float[] LOD_COVERAGES = {1.0f, 0.5f, 0.2f};
+    private static final int INSTANCE_COUNT = 100;
+    /**
+     * Number of frames run before the outputs are checked
+     */
+    private static final int CHECKED_FRAME_COUNT = 60;
+}
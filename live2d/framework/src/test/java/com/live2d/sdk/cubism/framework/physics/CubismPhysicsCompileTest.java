@@ -0,0 +1,83 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryFormatAssert;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryReader;
+import com.live2d.sdk.cubism.framework.utils.CubismBinaryWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the physics created from the compiled data moves the model exactly like the physics created from JSON,
+ * and that broken compiled data only raises CubismBinaryFormatException.
+ */
+public class CubismPhysicsCompileTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void compiledPhysicsIsBitIdentical() {
+        final byte[] json = CubismPhysicsFixtures.createPhysicsJson(STRAND_COUNT, VERTEX_COUNT).getBytes(StandardCharsets.UTF_8);
+
+        final CubismModel expectedModel = CubismPhysicsFixtures.createModel(STRAND_COUNT);
+        final CubismModel actualModel = CubismPhysicsFixtures.createModel(STRAND_COUNT);
+        final CubismPhysics expected = CubismPhysics.create(json);
+        final CubismPhysics actual = CubismPhysics.create(new CubismBinaryReader(compile(json)));
+
+        expected.stabilization(expectedModel);
+        actual.stabilization(actualModel);
+        for (int frame = 0; frame < 500; frame++) {
+            CubismPhysicsFixtures.setInputs(expectedModel, frame);
+            CubismPhysicsFixtures.setInputs(actualModel, frame);
+            expected.evaluate(expectedModel, 1.0f / 60.0f);
+            actual.evaluate(actualModel, 1.0f / 60.0f);
+
+            for (int i = 0; i < STRAND_COUNT; i++) {
+                assertEquals(
+                    "frame " + frame + " strand " + i,
+                    Float.floatToIntBits(CubismPhysicsFixtures.getOutput(expectedModel, i)),
+                    Float.floatToIntBits(CubismPhysicsFixtures.getOutput(actualModel, i))
+                );
+            }
+        }
+    }
+
+    @Test
+    public void brokenCompiledPhysicsOnlyRaisesFormatException() {
+        final byte[] json = CubismPhysicsFixtures.createPhysicsJson(4, 4).getBytes(StandardCharsets.UTF_8);
+
+        final int rejectedCount = CubismBinaryFormatAssert.assertOnlyFormatExceptions(compile(json), 4000, 3L, CubismPhysics::create);
+        assertTrue(rejectedCount > 0);
+    }
+
+    private static byte[] compile(byte[] json) {
+        CubismBinaryWriter writer = new CubismBinaryWriter();
+        CubismPhysics.compile(json, writer);
+        return writer.toByteArray();
+    }
+
+    private static final int STRAND_COUNT = 12;
+    private static final int VERTEX_COUNT = 6;
+}
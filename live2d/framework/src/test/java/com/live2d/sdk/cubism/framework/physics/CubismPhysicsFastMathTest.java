@@ -0,0 +1,92 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.math.CubismMath;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the physics output with and without the fast math on a synthetic hair rig of independent strands.
+ */
+public class CubismPhysicsFastMathTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void fastMathOutputStaysCloseToExactOutput() {
+        float[][] exact = simulate(false);
+        float[][] fast = simulate(true);
+
+        double maxError = 0.0;
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            for (int i = 0; i < exact[frame].length; i++) {
+                maxError = Math.max(maxError, Math.abs(exact[frame][i] - fast[frame][i]));
+            }
+        }
+
+        // The outputs are normalized to [-1, 1].
+        assertTrue("max output deviation: " + maxError, maxError <= MAX_OUTPUT_DEVIATION);
+    }
+
+    @Test
+    public void exactModeIsDeterministic() {
+        float[][] first = simulate(false);
+        float[][] second = simulate(false);
+
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            for (int i = 0; i < first[frame].length; i++) {
+                assertEquals(first[frame][i], second[frame][i], 0.0f);
+            }
+        }
+    }
+
+    /**
+     * Runs the rig with the given math mode and returns the hair outputs of every frame.
+     */
+    private static float[][] simulate(boolean isFastMathEnabled) {
+        CubismMath.setFastMathEnabled(isFastMathEnabled);
+        try {
+            CubismModel model = CubismPhysicsFixtures.createModel(SUB_RIG_COUNT);
+            CubismPhysics physics = CubismPhysicsFixtures.createPhysics(SUB_RIG_COUNT, VERTEX_COUNT);
+            physics.stabilization(model);
+
+            float[][] outputs = new float[FRAME_COUNT][SUB_RIG_COUNT];
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                CubismPhysicsFixtures.setInputs(model, frame);
+                physics.evaluate(model, 1.0f / 60.0f);
+
+                for (int i = 0; i < SUB_RIG_COUNT; i++) {
+                    outputs[frame][i] = CubismPhysicsFixtures.getOutput(model, i);
+                }
+            }
+            return outputs;
+        } finally {
+            CubismMath.setFastMathEnabled(false);
+        }
+    }
+
+    private static final int SUB_RIG_COUNT = 48;
+    private static final int VERTEX_COUNT = 8;
+    private static final int FRAME_COUNT = 600;
+    private static final double MAX_OUTPUT_DEVIATION = 2.0e-4;
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds synthetic hair rigs for the physics unit tests and benchmarks.
+ * <p>
+ * The model has INPUT_PARAMETER_COUNT input parameters followed by one output parameter "ParamHair{i}" per strand.
+ * Every strand reads the three inputs and outputs the angle of its last vertex.
+ * No strand reads the output of another one: chained strands amplify any rounding difference,
+ * so their deviation would measure the sensitivity of the rig rather than the error of the code under test.
+ */
+public final class CubismPhysicsFixtures {
+    /**
+     * Number of input parameters, which come before the output parameters
+     */
+    public static final int INPUT_PARAMETER_COUNT = 3;
+
+    /**
+     * Creates the model moved by the rig.
+     *
+     * @param strandCount number of strands
+     * @return model with the input and output parameters
+     */
+    public static CubismModel createModel(int strandCount) {
+        final int parameterCount = INPUT_PARAMETER_COUNT + strandCount;
+        String[] ids = new String[parameterCount];
+        float[] minimumValues = new float[parameterCount];
+        float[] maximumValues = new float[parameterCount];
+        float[] defaultValues = new float[parameterCount];
+
+        ids[0] = "ParamAngleX";
+        ids[1] = "ParamAngleZ";
+        ids[2] = "ParamBodyAngleX";
+        for (int i = 0; i < INPUT_PARAMETER_COUNT; i++) {
+            minimumValues[i] = -30.0f;
+            maximumValues[i] = 30.0f;
+        }
+        for (int i = 0; i < strandCount; i++) {
+            ids[INPUT_PARAMETER_COUNT + i] = "ParamHair" + i;
+            minimumValues[INPUT_PARAMETER_COUNT + i] = -1.0f;
+            maximumValues[INPUT_PARAMETER_COUNT + i] = 1.0f;
+        }
+
+        return CubismModelFixtures.create(ids, minimumValues, maximumValues, defaultValues, 1, 1);
+    }
+
+    /**
+     * Creates the rig.
+     *
+     * @param strandCount number of strands, which is the number of sub-rigs
+     * @param vertexCount number of vertices of each strand
+     * @return physics
+     */
+    public static CubismPhysics createPhysics(int strandCount, int vertexCount) {
+        return createPhysics(strandCount, vertexCount, 60.0f);
+    }
+
+    /**
+     * Creates the rig updated at the given rate.
+     *
+     * @param strandCount number of strands, which is the number of sub-rigs
+     * @param vertexCount number of vertices of each strand
+     * @param fps pendulum steps per second
+     * @return physics
+     */
+    public static CubismPhysics createPhysics(int strandCount, int vertexCount, float fps) {
+        return CubismPhysics.create(createPhysicsJson(strandCount, vertexCount, fps).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the physics3.json of the rig updated at 60 steps per second.
+     *
+     * @param strandCount number of strands, which is the number of sub-rigs
+     * @param vertexCount number of vertices of each strand
+     * @return physics3.json
+     */
+    public static String createPhysicsJson(int strandCount, int vertexCount) {
+        return createPhysicsJson(strandCount, vertexCount, 60.0f);
+    }
+
+    /**
+     * Builds the physics3.json of the rig.
+     *
+     * @param strandCount number of strands, which is the number of sub-rigs
+     * @param vertexCount number of vertices of each strand
+     * @param fps pendulum steps per second
+     * @return physics3.json
+     */
+    public static String createPhysicsJson(int strandCount, int vertexCount, float fps) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"Version\":3,\"Meta\":{\"PhysicsSettingCount\":").append(strandCount)
+            .append(",\"TotalInputCount\":").append(strandCount * 3)
+            .append(",\"TotalOutputCount\":").append(strandCount)
+            .append(",\"VertexCount\":").append(strandCount * vertexCount)
+            .append(",\"EffectiveForces\":{\"Gravity\":{\"X\":0,\"Y\":-1},\"Wind\":{\"X\":0,\"Y\":0}},\"Fps\":").append(fps)
+            .append("},\"PhysicsSettings\":[");
+
+        for (int i = 0; i < strandCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"Id\":\"PhysicsSetting").append(i).append("\",\"Input\":[")
+                .append("{\"Source\":{\"Target\":\"Parameter\",\"Id\":\"ParamAngleX\"},\"Weight\":60,\"Type\":\"X\",\"Reflect\":false},")
+                .append("{\"Source\":{\"Target\":\"Parameter\",\"Id\":\"ParamAngleZ\"},\"Weight\":60,\"Type\":\"Angle\",\"Reflect\":false},")
+                .append("{\"Source\":{\"Target\":\"Parameter\",\"Id\":\"ParamBodyAngleX\"},\"Weight\":40,\"Type\":\"X\",\"Reflect\":false}],")
+                .append("\"Output\":[{\"Destination\":{\"Target\":\"Parameter\",\"Id\":\"ParamHair").append(i)
+                .append("\"},\"VertexIndex\":").append(vertexCount - 1)
+                .append(",\"Scale\":1.5,\"Weight\":100,\"Type\":\"Angle\",\"Reflect\":false}],\"Vertices\":[");
+
+            for (int v = 0; v < vertexCount; v++) {
+                if (v > 0) {
+                    json.append(',');
+                }
+                json.append("{\"Position\":{\"X\":0,\"Y\":").append(v * 3)
+                    .append("},\"Mobility\":0.95,\"Delay\":0.9,\"Acceleration\":1.5,\"Radius\":").append(v == 0 ? 0 : 3).append('}');
+            }
+
+            json.append("],\"Normalization\":{\"Position\":{\"Minimum\":-10,\"Default\":0,\"Maximum\":10},")
+                .append("\"Angle\":{\"Minimum\":-10,\"Default\":0,\"Maximum\":10}}}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    /**
+     * Sets the input parameters of the frame. The head and the body sway on two periods.
+     *
+     * @param model model created by createModel
+     * @param frame frame number
+     */
+    public static void setInputs(CubismModel model, int frame) {
+        float angleX = (float) Math.sin(frame * 0.05) * 30.0f;
+        float angleZ = (float) Math.cos(frame * 0.031) * 20.0f;
+        model.setParameterValue(0, angleX);
+        model.setParameterValue(1, angleZ);
+        model.setParameterValue(2, angleX * 0.3f);
+    }
+
+    /**
+     * Gets the output of the strand.
+     *
+     * @param model model created by createModel
+     * @param strandIndex index of the strand
+     * @return angle output of the strand
+     */
+    public static float getOutput(CubismModel model, int strandIndex) {
+        return model.getParameterValue(INPUT_PARAMETER_COUNT + strandIndex);
+    }
+
+    private CubismPhysicsFixtures() {}
+}
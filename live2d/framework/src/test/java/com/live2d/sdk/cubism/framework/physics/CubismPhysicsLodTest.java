@@ -0,0 +1,301 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.physics;
+
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the tier switching of the physics level-of-detail governor.
+ */
+public class CubismPhysicsLodTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+        model = CubismPhysicsFixtures.createModel(SUB_RIG_COUNT);
+        physics = CubismPhysicsFixtures.createPhysics(SUB_RIG_COUNT, VERTEX_COUNT);
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void disabledModeUpdatesEverySubRig() {
+        assertFalse(physics.isLodEnabled());
+        physics.setScreenCoverage(0.0f);
+        physics.evaluate(model, FRAME_TIME);
+
+        CubismPhysics.LodMetrics metrics = physics.getLodMetrics();
+        assertEquals(0, metrics.getDegradationLevel());
+        assertEquals(SUB_RIG_COUNT, metrics.getFullRateSubRigCount());
+        assertEquals(SUB_RIG_COUNT, metrics.getEvaluatedSubRigSteps());
+        assertEquals(0, metrics.getDeferredSubRigSteps());
+    }
+
+    @Test
+    public void coverageSelectsTheLevel() {
+        physics.setLodEnabled(true);
+
+        float[] coverages = {1.0f, 0.6f, 0.59f, 0.3f, 0.29f, 0.15f, 0.14f, 0.0f};
+        int[] levels = {0, 0, 1, 1, 2, 2, 3, 3};
+        for (int i = 0; i < coverages.length; i++) {
+            physics.setScreenCoverage(coverages[i]);
+            physics.evaluate(model, FRAME_TIME);
+
+            CubismPhysics.LodMetrics metrics = physics.getLodMetrics();
+            assertEquals("coverage " + coverages[i], levels[i], metrics.getCoverageLevel());
+            assertEquals(levels[i], metrics.getDegradationLevel());
+        }
+    }
+
+    @Test
+    public void levelSetsTheUpdateInterval() {
+        physics.setLodEnabled(true);
+        physics.setScreenCoverage(0.2f);
+
+        // Level 2: every sub-rig is updated once every 4 steps, staggered across the sub-rigs.
+        int evaluatedSteps = 0;
+        for (int frame = 0; frame < 8; frame++) {
+            physics.evaluate(model, FRAME_TIME);
+
+            CubismPhysics.LodMetrics metrics = physics.getLodMetrics();
+            assertEquals(0, metrics.getFullRateSubRigCount());
+            assertEquals(SUB_RIG_COUNT, metrics.getReducedRateSubRigCount());
+            assertEquals(SUB_RIG_COUNT / 4, metrics.getEvaluatedSubRigSteps());
+            assertEquals(SUB_RIG_COUNT, metrics.getEvaluatedSubRigSteps() + metrics.getDeferredSubRigSteps());
+            evaluatedSteps += metrics.getEvaluatedSubRigSteps();
+        }
+        assertEquals(SUB_RIG_COUNT * 2, evaluatedSteps);
+    }
+
+    @Test
+    public void priorityKeepsTheRateOfASubRig() {
+        physics.setLodEnabled(true);
+        physics.setScreenCoverage(0.0f);
+        physics.setSubRigPriority(0, 3);
+        physics.setSubRigPriority(1, 1);
+
+        physics.evaluate(model, FRAME_TIME);
+
+        // Level 3: sub-rig 0 stays at the full rate, sub-rig 1 runs every 4 steps, and the others every 8 steps.
+        CubismPhysics.LodMetrics metrics = physics.getLodMetrics();
+        assertEquals(1, metrics.getFullRateSubRigCount());
+        assertEquals(SUB_RIG_COUNT - 1, metrics.getReducedRateSubRigCount());
+        assertEquals(0, metrics.getSkippedSubRigCount());
+    }
+
+    @Test
+    public void pressureRaisesAndReleasesTheLevel() {
+        physics.evaluate(model, FRAME_TIME);
+        CubismPhysicsLodGovernor governor = new CubismPhysicsLodGovernor();
+        CubismPhysics.LodMetrics metrics = new CubismPhysics.LodMetrics();
+        governor.reset(SUB_RIG_COUNT);
+        governor.setEnabled(true);
+        governor.setFrameTimeBudget(0.001f);
+
+        // The moving average crosses the budget after a few frames, then the level rises every 30 frames.
+        int frame = 0;
+        while (getPressureLevel(governor) == 0) {
+            governor.recordEvaluateTime(0.002f, metrics);
+            frame++;
+        }
+        assertTrue("frames until the first raise: " + frame, frame >= 30 && frame < 40);
+
+        for (int i = 0; i < 29; i++) {
+            governor.recordEvaluateTime(0.002f, metrics);
+        }
+        assertEquals(1, getPressureLevel(governor));
+        governor.recordEvaluateTime(0.002f, metrics);
+        assertEquals(2, getPressureLevel(governor));
+
+        // The level does not go over the maximum.
+        for (int i = 0; i < 300; i++) {
+            governor.recordEvaluateTime(0.002f, metrics);
+        }
+        assertEquals(3, getPressureLevel(governor));
+
+        // Between half the budget and the budget, the level is held.
+        for (int i = 0; i < 500; i++) {
+            governor.recordEvaluateTime(0.0008f, metrics);
+        }
+        assertEquals(3, getPressureLevel(governor));
+
+        // Well under the budget, the level is released every 120 frames once the moving average has fallen.
+        frame = 0;
+        while (getPressureLevel(governor) == 3) {
+            governor.recordEvaluateTime(0.0001f, metrics);
+            frame++;
+        }
+        assertTrue("frames until the first release: " + frame, frame >= 120 && frame < 130);
+        for (int i = 0; i < 120; i++) {
+            governor.recordEvaluateTime(0.0001f, metrics);
+        }
+        assertEquals(1, getPressureLevel(governor));
+
+        // A new budget starts over.
+        governor.setFrameTimeBudget(0.01f);
+        assertEquals(0, getPressureLevel(governor));
+    }
+
+    @Test
+    public void pressureAndCoverageLevelsAreAddedAndSkipSubRigs() {
+        // Resolves the output parameters of the rig.
+        physics.evaluate(model, FRAME_TIME);
+        CubismPhysicsLodGovernor governor = new CubismPhysicsLodGovernor();
+        CubismPhysics.LodMetrics metrics = new CubismPhysics.LodMetrics();
+        governor.reset(SUB_RIG_COUNT);
+        governor.setEnabled(true);
+        governor.setFrameTimeBudget(0.001f);
+        governor.setScreenCoverage(0.2f);
+        governor.setPriority(0, 2);
+
+        for (int i = 0; i < 40; i++) {
+            governor.recordEvaluateTime(0.002f, metrics);
+        }
+        for (int i = 0; i < 30; i++) {
+            governor.recordEvaluateTime(0.002f, metrics);
+        }
+        governor.decide(getPhysicsRig(), model.getParameterCount(), metrics);
+
+        assertEquals(2, metrics.getCoverageLevel());
+        assertEquals(2, metrics.getPressureLevel());
+        assertEquals(4, metrics.getDegradationLevel());
+        // Level 4 skips the sub-rigs, except the one whose priority lowers its level to 2.
+        assertEquals(SUB_RIG_COUNT - 1, metrics.getSkippedSubRigCount());
+        assertEquals(1, metrics.getReducedRateSubRigCount());
+        assertEquals(4, governor.getInterval(0));
+        assertEquals(CubismPhysicsLodGovernor.SKIPPED_INTERVAL, governor.getInterval(1));
+    }
+
+    @Test
+    public void invisibleSubRigsAreSkipped() {
+        physics.setLodEnabled(true);
+        physics.setOutputParameterVisible(CubismFramework.getIdManager().getId("ParamHair0"), false);
+        physics.setOutputParameterVisible(CubismFramework.getIdManager().getId("ParamHair1"), false);
+
+        physics.evaluate(model, FRAME_TIME);
+
+        CubismPhysics.LodMetrics metrics = physics.getLodMetrics();
+        assertEquals(2, metrics.getSkippedSubRigCount());
+        assertEquals(SUB_RIG_COUNT - 2, metrics.getFullRateSubRigCount());
+
+        physics.setOutputParameterVisible(CubismFramework.getIdManager().getId("ParamHair1"), true);
+        physics.evaluate(model, FRAME_TIME);
+        assertEquals(1, physics.getLodMetrics().getSkippedSubRigCount());
+    }
+
+    @Test
+    public void fullCoverageMatchesDisabledMode() {
+        float[][] disabled = simulate(false, 1.0f, 60.0f, null);
+        float[][] enabled = simulate(true, 1.0f, 60.0f, null);
+
+        assertEquals(0.0, getRmsDeviation(disabled, enabled), 0.0);
+    }
+
+    @Test
+    public void reducedRateSubRigsFollowTheRigAtTheReducedRate() {
+        // Level 1 updates every sub-rig every 2 steps, integrating both steps at once.
+        // The rig then behaves like the rig at half the rate, apart from the staggering and the interpolation.
+        // It is not compared to the full rate, because the pendulum integration depends on the step size.
+        float[][] halfRate = simulate(false, 1.0f, 30.0f, null);
+        float[][] reduced = simulate(true, 0.5f, 60.0f, null);
+
+        final double deviation = getRmsDeviation(halfRate, reduced);
+        assertTrue("rms deviation: " + deviation, deviation < MAX_RMS_DEVIATION);
+    }
+
+    @Test
+    public void parallelEvaluationMatchesSerialEvaluationUnderLod() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            float[][] serial = simulate(true, 0.2f, 60.0f, null);
+            float[][] parallel = simulate(true, 0.2f, 60.0f, pool);
+
+            for (int frame = 0; frame < FRAME_COUNT; frame++) {
+                for (int i = 0; i < SUB_RIG_COUNT; i++) {
+                    assertEquals(serial[frame][i], parallel[frame][i], 0.0f);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private int getPressureLevel(CubismPhysicsLodGovernor governor) {
+        CubismPhysics.LodMetrics metrics = new CubismPhysics.LodMetrics();
+        governor.decide(getPhysicsRig(), model.getParameterCount(), metrics);
+        return metrics.getPressureLevel();
+    }
+
+    private CubismPhysicsInternal.CubismPhysicsRig getPhysicsRig() {
+        try {
+            Field field = CubismPhysics.class.getDeclaredField("physicsRig");
+            field.setAccessible(true);
+            return (CubismPhysicsInternal.CubismPhysicsRig) field.get(physics);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static float[][] simulate(boolean isLodEnabled, float coverage, float fps, ForkJoinPool pool) {
+        CubismModel model = CubismPhysicsFixtures.createModel(SUB_RIG_COUNT);
+        CubismPhysics physics = CubismPhysicsFixtures.createPhysics(SUB_RIG_COUNT, VERTEX_COUNT, fps);
+        physics.setParallelPool(pool);
+        physics.setLodEnabled(isLodEnabled);
+        physics.setScreenCoverage(coverage);
+
+        float[][] outputs = new float[FRAME_COUNT][SUB_RIG_COUNT];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            CubismPhysicsFixtures.setInputs(model, frame);
+            physics.evaluate(model, FRAME_TIME);
+
+            for (int i = 0; i < SUB_RIG_COUNT; i++) {
+                outputs[frame][i] = CubismPhysicsFixtures.getOutput(model, i);
+            }
+        }
+        return outputs;
+    }
+
+    private static double getRmsDeviation(float[][] expected, float[][] actual) {
+        double sum = 0.0;
+        int count = 0;
+        for (int frame = 0; frame < expected.length; frame++) {
+            for (int i = 0; i < expected[frame].length; i++) {
+                final double difference = expected[frame][i] - actual[frame][i];
+                sum += difference * difference;
+                count++;
+            }
+        }
+        return Math.sqrt(sum / count);
+    }
+
+    private static final int SUB_RIG_COUNT = 48;
+    private static final int VERTEX_COUNT = 8;
+    private static final int FRAME_COUNT = 600;
+    private static final float FRAME_TIME = 1.0f / 60.0f;
+    /**
+     * Outputs are normalized to [-1, 1].
+     */
+    private static final double MAX_RMS_DEVIATION = 0.02;
+
+    private CubismModel model;
+    private CubismPhysics physics;
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import com.live2d.sdk.cubism.core.CubismDrawables;
+import com.live2d.sdk.cubism.framework.CubismBenchmarks;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measures the setup of the clipping manager on large synthetic mask graphs.
+ * <p>
+ * Each masked drawable has 1 to 8 masks from a pool of MASK_POOL_SIZE drawables, in shuffled order.
+ * The lookup of the contexts is compared with the linear scan that findSameClip used before.
+ */
+public class CubismClippingManagerAndroidBenchmark {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+    }
+
+    @After
+    public void tearDown() {
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void initialize() {
+        for (int drawableCount : DRAWABLE_COUNTS) {
+            final CubismModel model = createModel(drawableCount);
+            final int[][] masks = model.getDrawableMasks();
+            final int[] maskCounts = model.getDrawableMaskCounts();
+
+            final double initializeNanos = CubismBenchmarks.measureNanos(1, () -> {
+                CubismClippingManagerAndroid manager = new CubismClippingManagerAndroid();
+                manager.initialize(CubismRenderer.RendererType.ANDROID, model, 1);
+                manager.close();
+            });
+
+            // The context assignment of the old initialize(), which scanned the contexts created so far for each drawable.
+            final int[] linearContextCount = new int[1];
+            final double linearNanos = CubismBenchmarks.measureNanos(1, () -> {
+                List<int[]> contexts = new ArrayList<>();
+                for (int i = 0; i < drawableCount; i++) {
+                    if (maskCounts[i] > 0 && findSameClipLinearly(contexts, masks[i], maskCounts[i]) == null) {
+                        contexts.add(masks[i]);
+                    }
+                }
+                linearContextCount[0] = contexts.size();
+            });
+
+            CubismClippingManagerAndroid manager = new CubismClippingManagerAndroid();
+            manager.initialize(CubismRenderer.RendererType.ANDROID, model, 1);
+            final int contextCount = countDistinctContexts(manager.getClippingContextListForDraw());
+            manager.close();
+
+            CubismBenchmarks.report(
+                "clipping setup",
+                "%d drawables, %d contexts: initialize %.3f ms, linear context assignment alone %.3f ms",
+                drawableCount,
+                contextCount,
+                initializeNanos / 1.0e6,
+                linearNanos / 1.0e6
+            );
+
+            assertEquals(linearContextCount[0], contextCount);
+        }
+    }
+
+    /**
+     * The linear scan that findSameClip used before the mask sets were put in a map.
+     */
+    private static int[] findSameClipLinearly(List<int[]> contexts, int[] drawableMasks, int drawableMaskCounts) {
+        for (int[] clippingIdList : contexts) {
+            final int count = clippingIdList.length;
+            if (count != drawableMaskCounts) {
+                continue;
+            }
+            int sameCount = 0;
+
+            for (int j = 0; j < count; j++) {
+                final int clipId = clippingIdList[j];
+                for (int k = 0; k < count; k++) {
+                    if (drawableMasks[k] == clipId) {
+                        sameCount++;
+                        break;
+                    }
+                }
+            }
+            if (sameCount == count) {
+                return clippingIdList;
+            }
+        }
+        return null;
+    }
+
+    private static CubismModel createModel(int drawableCount) {
+        CubismModel model = CubismModelFixtures.create(new String[]{"ParamAngleX"}, new float[]{-30.0f}, new float[]{30.0f}, new float[]{0.0f}, 1, drawableCount);
+        CubismDrawables drawables = CubismModelFixtures.getDrawables(model);
+
+        Random random = new Random(drawableCount);
+        int[] pool = new int[MASK_POOL_SIZE];
+        for (int i = 0; i < MASK_POOL_SIZE; i++) {
+            pool[i] = i;
+        }
+        for (int i = MASK_POOL_SIZE; i < drawableCount; i++) {
+            // A third of the drawables reuse the masks of an earlier drawable in another order.
+            final int[] masks;
+            if (i > MASK_POOL_SIZE && random.nextInt(3) == 0) {
+                final int source = MASK_POOL_SIZE + random.nextInt(i - MASK_POOL_SIZE);
+                masks = drawables.getMasks()[source].clone();
+            } else {
+                masks = new int[1 + random.nextInt(MAX_MASK_COUNT)];
+                shuffle(random, pool);
+                System.arraycopy(pool, 0, masks, 0, masks.length);
+            }
+            shuffle(random, masks);
+            drawables.getMaskCounts()[i] = masks.length;
+            drawables.getMasks()[i] = masks;
+        }
+        return model;
+    }
+
+    private static int countDistinctContexts(List<CubismClippingContextAndroid> contextsForDraw) {
+        Set<CubismClippingContextAndroid> contexts = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CubismClippingContextAndroid context : contextsForDraw) {
+            if (context != null) {
+                contexts.add(context);
+            }
+        }
+        return contexts.size();
+    }
+
+    private static void shuffle(Random random, int[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static final int[] DRAWABLE_COUNTS = {500, 2000, 5000};
+    private static final int MASK_POOL_SIZE = 64;
+    private static final int MAX_MASK_COUNT = 8;
+}
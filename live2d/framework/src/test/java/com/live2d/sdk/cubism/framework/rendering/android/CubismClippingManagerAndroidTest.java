@@ -0,0 +1,241 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import com.live2d.sdk.cubism.core.CubismDrawables;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import com.live2d.sdk.cubism.framework.rendering.CubismRenderer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that findSameClip, which looks up the mask ID set in a map, returns the same clipping contexts as the linear scan it replaced.
+ * <p>
+ * The synthetic model has DRAWABLE_COUNT drawables. Most of them are masked by 1 to MAX_MASK_COUNT drawables from a small pool,
+ * so the same set of masks appears many times in different orders.
+ */
+public class CubismClippingManagerAndroidTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+
+        model = CubismModelFixtures.create(new String[]{"ParamAngleX"}, new float[]{-30.0f}, new float[]{30.0f}, new float[]{0.0f}, 1, DRAWABLE_COUNT);
+        CubismDrawables drawables = CubismModelFixtures.getDrawables(model);
+
+        Random random = new Random(20240607L);
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            if (random.nextInt(5) == 0) {
+                continue;
+            }
+
+            int[] masks;
+            if (i % 7 == 6) {
+                // The masks of the previous drawable in reverse order.
+                masks = reversed(drawables.getMasks()[i - 1], drawables.getMaskCounts()[i - 1]);
+            } else {
+                masks = randomMaskSet(random, 1 + random.nextInt(MAX_MASK_COUNT));
+            }
+            drawables.getMaskCounts()[i] = masks.length;
+            drawables.getMasks()[i] = masks;
+        }
+
+        manager = new CubismClippingManagerAndroid();
+        manager.initialize(CubismRenderer.RendererType.ANDROID, model, 1);
+        contexts = distinctContexts(manager.getClippingContextListForDraw());
+    }
+
+    @After
+    public void tearDown() {
+        manager.close();
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void oneContextIsCreatedForEachMaskSet() {
+        Set<List<Integer>> maskSets = new HashSet<>();
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            int count = model.getDrawableMaskCounts()[i];
+            if (count > 0) {
+                maskSets.add(sortedList(model.getDrawableMasks()[i], count));
+            }
+        }
+
+        assertEquals(maskSets.size(), contexts.size());
+    }
+
+    @Test
+    public void drawableMasksFindTheSameContextAsTheLinearScan() {
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            int[] masks = model.getDrawableMasks()[i];
+            int count = model.getDrawableMaskCounts()[i];
+            if (count <= 0) {
+                continue;
+            }
+
+            CubismClippingContextAndroid found = manager.findSameClip(masks, count);
+            assertNotNull(found);
+            assertSame(findSameClipLinearly(masks, count), found);
+            assertSame(manager.getClippingContextListForDraw().get(i), found);
+        }
+    }
+
+    @Test
+    public void permutedMaskIdsFindTheSameContextAsTheLinearScan() {
+        Random random = new Random(7L);
+        for (CubismClippingContextAndroid context : contexts) {
+            for (int n = 0; n < 10; n++) {
+                // The array is longer than the count, as an array that is reused between queries would be.
+                int[] masks = Arrays.copyOf(context.clippingIdList, context.clippingIdCount + 2);
+                shuffle(random, masks, context.clippingIdCount);
+                masks[context.clippingIdCount] = MASK_POOL_SIZE + 1;
+                masks[context.clippingIdCount + 1] = MASK_POOL_SIZE + 2;
+
+                assertSame(context, findSameClipLinearly(masks, context.clippingIdCount));
+                assertSame(context, manager.findSameClip(masks, context.clippingIdCount));
+            }
+        }
+    }
+
+    @Test
+    public void arbitraryMaskSetsFindTheSameContextAsTheLinearScan() {
+        Random random = new Random(11L);
+        int foundCount = 0;
+        int notFoundCount = 0;
+        for (int n = 0; n < 20000; n++) {
+            int[] masks = randomMaskSet(random, 1 + random.nextInt(MAX_MASK_COUNT + 1));
+
+            CubismClippingContextAndroid expected = findSameClipLinearly(masks, masks.length);
+            assertSame(expected, manager.findSameClip(masks, masks.length));
+
+            if (expected != null) {
+                foundCount++;
+            } else {
+                notFoundCount++;
+            }
+        }
+
+        // Both existing and missing sets have been queried.
+        assertTrue(foundCount > 100);
+        assertTrue(notFoundCount > 100);
+    }
+
+    @Test
+    public void unknownMaskSetIsNotFound() {
+        int[] masks = {MASK_POOL_SIZE + 1, MASK_POOL_SIZE + 2};
+
+        assertNull(findSameClipLinearly(masks, masks.length));
+        assertNull(manager.findSameClip(masks, masks.length));
+    }
+
+    /**
+     * The linear scan that findSameClip used before the mask sets were put in a map.
+     */
+    private CubismClippingContextAndroid findSameClipLinearly(int[] drawableMasks, int drawableMaskCounts) {
+        for (int i = 0; i < contexts.size(); i++) {
+            CubismClippingContextAndroid clipContext = contexts.get(i);
+
+            final int count = clipContext.clippingIdCount;
+            if (count != drawableMaskCounts) {
+                continue;
+            }
+            int sameCount = 0;
+
+            for (int j = 0; j < count; j++) {
+                final int clipId = clipContext.clippingIdList[j];
+                for (int k = 0; k < count; k++) {
+                    if (drawableMasks[k] == clipId) {
+                        sameCount++;
+                        break;
+                    }
+                }
+            }
+            if (sameCount == count) {
+                return clipContext;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * The contexts in the order they were created, which is the order of the clippingContextListForMask.
+     */
+    private static List<CubismClippingContextAndroid> distinctContexts(List<CubismClippingContextAndroid> contextsForDraw) {
+        List<CubismClippingContextAndroid> result = new ArrayList<>();
+        for (CubismClippingContextAndroid context : contextsForDraw) {
+            if (context != null && !result.contains(context)) {
+                result.add(context);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Distinct IDs from the mask pool. The linear scan assumes that a drawable is not masked twice by the same drawable.
+     */
+    private static int[] randomMaskSet(Random random, int count) {
+        int[] pool = new int[MASK_POOL_SIZE];
+        for (int i = 0; i < MASK_POOL_SIZE; i++) {
+            pool[i] = i;
+        }
+        shuffle(random, pool, MASK_POOL_SIZE);
+        return Arrays.copyOf(pool, count);
+    }
+
+    private static void shuffle(Random random, int[] array, int count) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private static int[] reversed(int[] array, int count) {
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = array[count - 1 - i];
+        }
+        return result;
+    }
+
+    private static List<Integer> sortedList(int[] array, int count) {
+        int[] sorted = Arrays.copyOf(array, count);
+        Arrays.sort(sorted);
+
+        List<Integer> result = new ArrayList<>();
+        for (int id : sorted) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private static final int DRAWABLE_COUNT = 400;
+    private static final int MASK_POOL_SIZE = 8;
+    private static final int MAX_MASK_COUNT = 3;
+
+    private CubismModel model;
+    private CubismClippingManagerAndroid manager;
+    private List<CubismClippingContextAndroid> contexts;
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.rendering.android;
+
+import com.live2d.sdk.cubism.core.CubismDrawables;
+import com.live2d.sdk.cubism.framework.CubismFramework;
+import com.live2d.sdk.cubism.framework.math.CubismMatrix44;
+import com.live2d.sdk.cubism.framework.model.CubismModel;
+import com.live2d.sdk.cubism.framework.model.CubismModelFixtures;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static android.opengl.GLES20.*;
+import static com.live2d.sdk.cubism.core.CubismDrawableFlag.DynamicFlag.IS_VISIBLE;
+import static com.live2d.sdk.cubism.core.CubismDrawableFlag.DynamicFlag.OPACITY_DID_CHANGE;
+import static com.live2d.sdk.cubism.core.CubismDrawableFlag.DynamicFlag.VERTEX_POSITIONS_DID_CHANGE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Draws a model of quads through CubismRecordingGL and checks the recorded GL calls of each frame.
+ * <p>
+ * The model has DRAWABLE_COUNT quads drawn in index order. Drawables 0-5 use texture 0 and 6-11 use texture 1.
+ * Drawables 3 and 4 are masked by drawable 7.
+ */
+public class CubismRendererAndroidTest {
+    @Before
+    public void setUp() {
+        CubismModelFixtures.initializeFramework();
+
+        gl = new CubismRecordingGL();
+        CubismRendererAndroid.setGL(gl);
+
+        model = CubismModelFixtures.create(new String[]{"ParamAngleX"}, new float[]{-30.0f}, new float[]{30.0f}, new float[]{0.0f}, 1, DRAWABLE_COUNT);
+        drawables = CubismModelFixtures.getDrawables(model);
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            drawables.getVertexCounts()[i] = 4;
+            drawables.getIndexCounts()[i] = 6;
+            drawables.getVertexPositions()[i] = new float[]{-1.0f, -1.0f, 1.0f, -1.0f, -1.0f, 1.0f, 1.0f, 1.0f};
+            drawables.getVertexUvs()[i] = new float[8];
+            drawables.getIndices()[i] = new short[]{0, 1, 2, 2, 1, 3};
+            drawables.getTextureIndices()[i] = i < 6 ? 0 : 1;
+            drawables.getDynamicFlags()[i] = IS_VISIBLE | VERTEX_POSITIONS_DID_CHANGE;
+        }
+        drawables.getMaskCounts()[3] = 1;
+        drawables.getMasks()[3] = new int[]{7};
+        drawables.getMaskCounts()[4] = 1;
+        drawables.getMasks()[4] = new int[]{7};
+    }
+
+    // The renderer is not closed, because closing it also closes the model, which has no native moc here.
+    @After
+    public void tearDown() {
+        CubismRendererAndroid.staticRelease();
+        CubismRendererAndroid.setGL(new CubismGLES20());
+        CubismFramework.cleanUp();
+    }
+
+    @Test
+    public void drawCallsPerFrameStayWithinBudget() {
+        createRenderer(false, false);
+
+        for (int frame = 0; frame < 3; frame++) {
+            CubismRecordingGL.FrameProfile profile = drawFrame();
+
+            // One draw call for each drawable and one for the shared mask.
+            assertEquals(DRAWABLE_COUNT + 1, profile.getDrawCallCount());
+            assertEquals((DRAWABLE_COUNT + 1) * 6, profile.getDrawnCount());
+            assertEquals(profile.getDrawCallCount(), renderer.getFrameStatistics().getDrawCallCount());
+            assertEquals(DRAWABLE_COUNT, renderer.getFrameStatistics().getDrawnDrawableCount());
+            // The vertices are in buffer objects, so nothing is read from client memory.
+            assertEquals(0L, profile.getClientArrayBytes());
+        }
+    }
+
+    @Test
+    public void maskIsDrawnOffscreenBeforeTheScreen() {
+        createRenderer(false, false);
+
+        List<CubismRecordingGL.DrawCall> drawCalls = drawFrame().getDrawCalls();
+
+        // The mask is drawn into the offscreen surface, and then every drawable is drawn to the screen.
+        assertNotEquals(0, drawCalls.get(0).getFramebuffer());
+        for (int i = 1; i < drawCalls.size(); i++) {
+            assertEquals(0, drawCalls.get(i).getFramebuffer());
+        }
+        assertEquals(TEXTURE_0, drawCalls.get(1).getTexture0());
+        assertEquals(TEXTURE_1, drawCalls.get(drawCalls.size() - 1).getTexture0());
+    }
+
+    @Test
+    public void hiddenDrawablesAreNotDrawn() {
+        createRenderer(false, false);
+        drawFrame();
+
+        drawables.getDynamicFlags()[9] = 0;
+        drawables.getDynamicFlags()[10] = 0;
+
+        assertEquals(DRAWABLE_COUNT - 2 + 1, drawFrame().getDrawCallCount());
+        assertEquals(DRAWABLE_COUNT - 2, renderer.getFrameStatistics().getDrawnDrawableCount());
+    }
+
+    @Test
+    public void onlyChangedPositionsAreUploaded() {
+        createRenderer(false, false);
+        drawFrame();
+
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            drawables.getDynamicFlags()[i] = IS_VISIBLE;
+        }
+        drawables.getDynamicFlags()[2] = IS_VISIBLE | VERTEX_POSITIONS_DID_CHANGE;
+
+        CubismRecordingGL.FrameProfile profile = drawFrame();
+
+        // 4 vertices of 2 floats for drawable 2 only.
+        assertEquals(4 * 2 * 4, profile.getUploadedBytes());
+        assertEquals(profile.getUploadedBytes(), renderer.getFrameStatistics().getUploadedBytes());
+    }
+
+    @Test
+    public void batchingMergesDrawablesWithTheSameState() {
+        createRenderer(false, false);
+        CubismRecordingGL.FrameProfile unbatched = drawFrame();
+
+        createRenderer(true, false);
+        CubismRecordingGL.FrameProfile batched = drawFrame();
+
+        // The masked drawables 3 and 4 split the texture 0 run: [0-2], [3-4], [5], [6-11], and the mask itself.
+        assertEquals(5, batched.getDrawCallCount());
+        assertEquals(4, renderer.getFrameStatistics().getBatchCount());
+        assertEquals(unbatched.getDrawnCount(), batched.getDrawnCount());
+
+        // A drawable whose opacity differs from its neighbors leaves the batch.
+        drawables.getOpacities()[1] = 0.5f;
+        drawables.getDynamicFlags()[1] |= OPACITY_DID_CHANGE;
+        CubismRecordingGL.FrameProfile split = drawFrame();
+        assertEquals(7, split.getDrawCallCount());
+        assertEquals(unbatched.getDrawnCount(), split.getDrawnCount());
+    }
+
+    @Test
+    public void clippingMaskCacheSkipsUnchangedMasks() {
+        createRenderer(false, true);
+        drawFrame();
+
+        // Nothing has moved: the mask buffer is reused.
+        for (int i = 0; i < DRAWABLE_COUNT; i++) {
+            drawables.getDynamicFlags()[i] = IS_VISIBLE;
+        }
+        CubismRecordingGL.FrameProfile profile = drawFrame();
+        assertEquals(0, renderer.getFrameStatistics().getMaskRebuildCount());
+        assertEquals(0, profile.getCallCount("glBindFramebuffer"));
+        assertEquals(DRAWABLE_COUNT, profile.getDrawCallCount());
+
+        // The mask drawable has moved: the mask is drawn again.
+        drawables.getDynamicFlags()[7] = IS_VISIBLE | VERTEX_POSITIONS_DID_CHANGE;
+        profile = drawFrame();
+        assertEquals(1, renderer.getFrameStatistics().getMaskRebuildCount());
+        assertEquals(DRAWABLE_COUNT + 1, profile.getDrawCallCount());
+    }
+
+    @Test
+    public void savedGLStateIsRestored() {
+        createRenderer(false, false);
+        renderer.isSavingGLState(true);
+
+        // The state of the application before drawing the model.
+        gl.glUseProgram(77);
+        gl.glActiveTexture(GL_TEXTURE0);
+        gl.glBindTexture(GL_TEXTURE_2D, 55);
+        gl.glBindBuffer(GL_ARRAY_BUFFER, 33);
+        gl.glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 44);
+        gl.glBlendFuncSeparate(GL_ONE, GL_ZERO, GL_ONE, GL_ZERO);
+        gl.glEnable(GL_DEPTH_TEST);
+        int[] before = queryState();
+
+        drawFrame();
+
+        assertArrayEquals(before, queryState());
+        assertTrue(gl.glIsEnabled(GL_DEPTH_TEST));
+    }
+
+    private void createRenderer(boolean isUsingBatching, boolean isUsingClippingMaskCache) {
+        renderer = (CubismRendererAndroid) CubismRendererAndroid.create();
+        renderer.initialize(model);
+        renderer.bindTexture(0, TEXTURE_0);
+        renderer.bindTexture(1, TEXTURE_1);
+        renderer.isUsingVertexBufferObject(true);
+        renderer.isSavingGLState(false);
+        renderer.isUsingBatching(isUsingBatching);
+        renderer.isUsingClippingMaskCache(isUsingClippingMaskCache);
+        renderer.setMvpMatrix(CubismMatrix44.create());
+    }
+
+    private CubismRecordingGL.FrameProfile drawFrame() {
+        gl.beginFrame();
+        renderer.drawModel();
+        return gl.endFrame();
+    }
+
+    private int[] queryState() {
+        final int[] pnames = {
+            GL_CURRENT_PROGRAM,
+            GL_ACTIVE_TEXTURE,
+            GL_TEXTURE_BINDING_2D,
+            GL_ARRAY_BUFFER_BINDING,
+            GL_ELEMENT_ARRAY_BUFFER_BINDING,
+            GL_BLEND_SRC_RGB,
+            GL_BLEND_DST_RGB,
+            GL_BLEND_SRC_ALPHA,
+            GL_BLEND_DST_ALPHA,
+            GL_FRAMEBUFFER_BINDING,
+            GL_FRONT_FACE
+        };
+        int[] state = new int[pnames.length + 4];
+        for (int i = 0; i < pnames.length; i++) {
+            gl.glGetIntegerv(pnames[i], state, i);
+        }
+        gl.glGetIntegerv(GL_VIEWPORT, state, pnames.length);
+        return state;
+    }
+
+    private static final int DRAWABLE_COUNT = 12;
+    private static final int TEXTURE_0 = 101;
+    private static final int TEXTURE_1 = 102;
+
+    private CubismRecordingGL gl;
+    private CubismModel model;
+    private CubismDrawables drawables;
+    private CubismRendererAndroid renderer;
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils;
+
+import com.live2d.sdk.cubism.framework.exception.CubismBinaryFormatException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Feeds truncated and corrupted copies of compiled data to a reader of it.
+ */
+public final class CubismBinaryFormatAssert {
+    /**
+     * Reader of compiled data under test
+     */
+    public interface Reader {
+        void read(CubismBinaryReader reader);
+    }
+
+    /**
+     * Asserts that broken copies of the data are either read or rejected with CubismBinaryFormatException.
+     * Any other exception or error, including an OutOfMemoryError caused by a broken count, fails the test.
+     *
+     * @param data valid compiled data
+     * @param corruptionCount number of corrupted copies, in addition to the truncated ones
+     * @param seed seed of the corruptions
+     * @param reader reader of the data
+     * @return number of copies rejected with CubismBinaryFormatException
+     */
+    public static int assertOnlyFormatExceptions(byte[] data, int corruptionCount, long seed, Reader reader) {
+        int rejectedCount = 0;
+
+        // Every truncation of short data, and about 1000 truncations of long data.
+        final int truncationStep = Math.max(1, data.length / 1000);
+        for (int length = 0; length < data.length; length += truncationStep) {
+            rejectedCount += read(Arrays.copyOf(data, length), reader, "truncated to " + length + " bytes");
+        }
+
+        final Random random = new Random(seed);
+        for (int i = 0; i < corruptionCount; i++) {
+            final byte[] corrupted = data.clone();
+            final int byteCount = 1 + random.nextInt(4);
+            for (int j = 0; j < byteCount; j++) {
+                final int position = random.nextInt(corrupted.length);
+                // Small numbers, negative numbers and random bits.
+                switch (random.nextInt(3)) {
+                    case 0:
+                        corrupted[position] ^= (byte) (1 << random.nextInt(8));
+                        break;
+                    case 1:
+                        corrupted[position] = (byte) 0xff;
+                        break;
+                    default:
+                        corrupted[position] = (byte) random.nextInt(256);
+                        break;
+                }
+            }
+            rejectedCount += read(corrupted, reader, "corruption #" + i);
+        }
+        return rejectedCount;
+    }
+
+    private static int read(byte[] data, Reader reader, String label) {
+        try {
+            reader.read(new CubismBinaryReader(data));
+            return 0;
+        } catch (CubismBinaryFormatException e) {
+            return 1;
+        } catch (RuntimeException | Error e) {
+            fail(label + " raised " + e);
+            return 0;
+        }
+    }
+
+    private CubismBinaryFormatAssert() {}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright(c) Live2D Inc. All rights reserved.
+ *
+ * Use of this source code is governed by the Live2D Open Software license
+ * that can be found at http://live2d.com/eula/live2d-open-software-license-agreement_en.html.
+ */
+
+package com.live2d.sdk.cubism.framework.utils.jsonparser;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Parses many model files on several threads at once and compares every result with the single-threaded parse.
+ */
+public class CubismJsonConcurrencyTest {
+    @Test
+    public void concurrentParsesMatchSequentialParses() throws Exception {
+        runStressTest(false);
+    }
+
+    @Test
+    public void concurrentLazyParsesMatchSequentialParses() throws Exception {
+        runStressTest(true);
+    }
+
+    @Test
+    public void stringsAndNumbersAreParsed() {
+        String json = "{\"Name\":\"\\u30e2\\u30c7\\u30eb\\n\\\"q\\\"\",\"Raw\":\"モデル\",\"Numbers\":[-1.5e2,0.125,3,-0,1E-3]}";
+        ACubismJsonValue root = CubismJson.create(json.getBytes(StandardCharsets.UTF_8)).getRoot();
+
+        // Unicode escapes are validated and kept as written, as the lexer has always done.
+        assertEquals("\\u30e2\\u30c7\\u30eb\n\"q\"", root.get("Name").getString());
+        assertEquals("モデル", root.get("Raw").getString());
+        assertEquals(-150.0f, root.get("Numbers").get(0).toFloat(), 0.0f);
+        assertEquals(0.125f, root.get("Numbers").get(1).toFloat(), 0.0f);
+        assertEquals(3, root.get("Numbers").get(2).toInt());
+        assertEquals(0.0f, root.get("Numbers").get(3).toFloat(), 0.0f);
+        assertEquals(0.001f, root.get("Numbers").get(4).toFloat(), 0.0f);
+    }
+
+    private static void runStressTest(final boolean isLazy) throws Exception {
+        final List<byte[]> documents = createDocuments();
+        final String[] expected = new String[documents.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = parseToCanonicalString(documents.get(i), isLazy);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            // All threads start parsing at the same time so that the lexers actually overlap.
+            final CountDownLatch startSignal = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+
+            for (int t = 0; t < THREAD_COUNT; t++) {
+                final long seed = t;
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        startSignal.await();
+
+                        Random random = new Random(seed);
+                        int mismatchCount = 0;
+                        for (int i = 0; i < PARSE_COUNT_PER_THREAD; i++) {
+                            int index = random.nextInt(documents.size());
+                            if (!expected[index].equals(parseToCanonicalString(documents.get(index), isLazy))) {
+                                mismatchCount++;
+                            }
+                        }
+                        return mismatchCount;
+                    }
+                }));
+            }
+            startSignal.countDown();
+
+            int mismatchCount = 0;
+            for (Future<Integer> result : results) {
+                mismatchCount += result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            assertEquals("parses that differ from the sequential result", 0, mismatchCount);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String parseToCanonicalString(byte[] document, boolean isLazy) {
+        CubismJson json = isLazy ? CubismJson.createLazy(document) : CubismJson.create(document);
+        StringBuilder builder = new StringBuilder();
+        appendCanonical(json.getRoot(), builder);
+        return builder.toString();
+    }
+
+    /**
+     * Writes the value with its type, the exact bits of the numbers and the order of the keys.
+     */
+    private static void appendCanonical(ACubismJsonValue value, StringBuilder builder) {
+        if (value.isObject()) {
+            builder.append('{');
+            for (CubismJsonString key : value.getKeys()) {
+                builder.append(key.getString()).append('=');
+                appendCanonical(value.get(key.getString()), builder);
+                builder.append(';');
+            }
+            builder.append('}');
+        } else if (value.isArray()) {
+            builder.append('[');
+            for (int i = 0; i < value.size(); i++) {
+                appendCanonical(value.get(i), builder);
+                builder.append(';');
+            }
+            builder.append(']');
+        } else if (value.isNumber()) {
+            builder.append('N').append(Float.floatToRawIntBits(value.toFloat())).append('/').append(value.toInt());
+        } else if (value.isString()) {
+            builder.append('S').append(value.getString());
+        } else if (value.isBoolean()) {
+            builder.append('B').append(value.toBoolean());
+        } else if (value.isNull()) {
+            builder.append("null");
+        } else {
+            builder.append('?');
+        }
+    }
+
+    /**
+     * Creates model3, motion3 and physics3 shaped documents with escaped and multibyte strings and various number formats.
+     */
+    private static List<byte[]> createDocuments() {
+        Random random = new Random(33);
+        List<byte[]> documents = new ArrayList<>();
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            StringBuilder json = new StringBuilder();
+            switch (i % 3) {
+                case 0:
+                    appendModelSetting(json, i);
+                    break;
+                case 1:
+                    appendMotion(json, random, 50 + random.nextInt(400));
+                    break;
+                default:
+                    appendPhysics(json, random, 1 + random.nextInt(20));
+                    break;
+            }
+            documents.add(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertTrue(documents.size() > THREAD_COUNT);
+        return documents;
+    }
+
+    private static void appendModelSetting(StringBuilder json, int index) {
+        json.append("{\"Version\":3,\"FileReferences\":{\"Moc\":\"model").append(index).append(".moc3\",\"Textures\":[");
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"textures/texture_0").append(i).append(".png\"");
+        }
+        json.append("],\"Motions\":{\"Idle\":[{\"File\":\"motions/idle\\u005f").append(index).append(".motion3.json\",\"FadeInTime\":0.5}]}},")
+            .append("\"Groups\":[{\"Target\":\"Parameter\",\"Name\":\"EyeBlink\",\"Ids\":[\"ParamEyeLOpen\",\"ParamEyeROpen\"]}],")
+            .append("\"HitAreas\":[{\"Id\":\"HitArea\",\"Name\":\"\\u982d\\u30a8\\u30ea\\u30a2\"},{\"Id\":\"HitArea2\",\"Name\":\"体\\t\\\\\\/\"}],")
+            .append("\"Layout\":{\"CenterX\":0,\"Width\":2.0e0},\"UserData\":null,\"Enabled\":true,\"Disabled\":false}");
+    }
+
+    private static void appendMotion(StringBuilder json, Random random, int pointCount) {
+        json.append("{\"Version\":3,\"Meta\":{\"Duration\":").append(pointCount / 30.0f)
+            .append(",\"Fps\":30.0,\"Loop\":true,\"CurveCount\":1},\"Curves\":[{\"Target\":\"Parameter\",\"Id\":\"ParamAngleX\",\"Segments\":[0,0");
+        for (int i = 1; i < pointCount; i++) {
+            json.append(",0,").append(i / 30.0f).append(',').append(formatNumber(random));
+        }
+        json.append("]}],\"UserData\":[{\"Time\":0.5,\"Value\":\"\\u97f3\\u58f0 ").append(pointCount).append("\"}]}");
+    }
+
+    private static void appendPhysics(StringBuilder json, Random random, int settingCount) {
+        json.append("{\"Version\":3,\"Meta\":{\"PhysicsSettingCount\":").append(settingCount)
+            .append(",\"EffectiveForces\":{\"Gravity\":{\"X\":0,\"Y\":-1},\"Wind\":{\"X\":0,\"Y\":0}}},\"PhysicsSettings\":[");
+        for (int i = 0; i < settingCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"Id\":\"PhysicsSetting").append(i).append("\",\"Vertices\":[");
+            for (int v = 0; v < 4; v++) {
+                if (v > 0) {
+                    json.append(',');
+                }
+                json.append("{\"Position\":{\"X\":").append(formatNumber(random)).append(",\"Y\":").append(v * 3)
+                    .append("},\"Mobility\":0.95,\"Delay\":").append(formatNumber(random)).append('}');
+            }
+            json.append("]}");
+        }
+        json.append("]}");
+    }
+
+    private static String formatNumber(Random random) {
+        float value = (random.nextFloat() * 2.0f - 1.0f) * 100.0f;
+        switch (random.nextInt(4)) {
+            case 0:
+                return Integer.toString((int) value);
+            case 1:
+                return String.format(Locale.US, "%.6e", value);
+            case 2:
+                return String.format(Locale.US, "%.3E", value);
+            default:
+                return Float.toString(value);
+        }
+    }
+
+    private static final int DOCUMENT_COUNT = 60;
+    private static final int THREAD_COUNT = 8;
+    private static final int PARSE_COUNT_PER_THREAD = 500;
+    private static final long TIMEOUT_SECONDS = 60;
+}